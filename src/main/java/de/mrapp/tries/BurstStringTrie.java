@@ -0,0 +1,1661 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.node.AbstractReadOnlyNode;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An unsorted trie for storing character sequences, which is implemented as a burst trie (also
+ * referred to as HAT-trie). Instead of using a node per character, the suffixes of keys are stored
+ * in containers, which are array hash tables. Each slot of such a hash table stores the suffixes,
+ * which are hashed to the slot, consecutively in a single char array. Looking up a key therefore
+ * only requires to descend a few nodes and to scan a contiguous region of memory, rather than
+ * following a reference per character. Once the number of keys in a container exceeds a threshold,
+ * the container is burst, i.e. it is replaced by a node, which references a new container for
+ * each distinct first character of the suffixes.
+ * <p>
+ * As this trie does not consist of nodes of the type {@link Node}, the method {@link
+ * #getRootNode()} returns a read-only view, whose nodes are created on demand. The entries of the trie are not
+ * iterated in any particular order.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class BurstStringTrie<ValueType> extends AbstractMap<String, ValueType>
+        implements StringTrie<ValueType> {
+
+    /**
+     * A container, which stores the suffixes of keys and their values in an array hash table.
+     * Each suffix is preceded by its length, which is encoded in one character, if it is less than
+     * 2^15, or in two characters otherwise.
+     */
+    private static final class Container implements Serializable {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = -2375120987654213384L;
+
+        /**
+         * The initial number of slots. It must be a power of two.
+         */
+        private static final int INITIAL_SLOT_COUNT = 8;
+
+        /**
+         * The average number of suffixes per slot, which causes the number of slots to be
+         * doubled, when exceeded.
+         */
+        private static final int MAX_LOAD = 4;
+
+        /**
+         * The suffixes, which are stored in each slot, or null, if a slot is empty.
+         */
+        private char[][] slots;
+
+        /**
+         * The values, which correspond to the suffixes in each slot, or null, if a slot is empty.
+         */
+        private Object[][] values;
+
+        /**
+         * The number of suffixes, which are stored by the container.
+         */
+        private int size;
+
+        /**
+         * Spreads the bits of a hash code in order to reduce collisions.
+         *
+         * @param hash The hash code as an {@link Integer} value
+         * @return The spread hash code as an {@link Integer} value
+         */
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Returns the hash code of a specific region of a character sequence. It is computed in
+         * the same way as the hash code of a {@link String}.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The hash code of the given region as an {@link Integer} value
+         */
+        private static int hash(@NotNull final CharSequence key, final int start, final int end) {
+            int hash = 0;
+
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + key.charAt(i);
+            }
+
+            return hash;
+        }
+
+        /**
+         * Returns the number of characters, which are used to encode a specific length.
+         *
+         * @param length The length as an {@link Integer} value
+         * @return The number of characters, which are used to encode the given length, as an
+         * {@link Integer} value
+         */
+        private static int headerLength(final int length) {
+            return length < 0x8000 ? 1 : 2;
+        }
+
+        /**
+         * Returns the length of the suffix, which is stored at a specific offset of a slot.
+         *
+         * @param slot   The slot as a {@link Character} array. The array may not be null
+         * @param offset The offset of the suffix as an {@link Integer} value
+         * @return The length of the suffix as an {@link Integer} value
+         */
+        private static int readLength(@NotNull final char[] slot, final int offset) {
+            char header = slot[offset];
+            return header < 0x8000 ? header : ((header & 0x7FFF) << 16) | slot[offset + 1];
+        }
+
+        /**
+         * Returns, whether the suffix, which is stored at a specific offset of a slot, is equal to
+         * a specific region of a character sequence.
+         *
+         * @param slot   The slot as a {@link Character} array. The array may not be null
+         * @param offset The offset of the suffix's first character as an {@link Integer} value
+         * @param length The length of the suffix as an {@link Integer} value
+         * @param key    The character sequence as an instance of the type {@link CharSequence}.
+         *               The character sequence may not be null
+         * @param start  The index of the first character of the region (inclusive) as an {@link
+         *               Integer} value
+         * @return True, if the suffix is equal to the given region, false otherwise
+         */
+        private static boolean regionMatches(@NotNull final char[] slot, final int offset,
+                                             final int length, @NotNull final CharSequence key,
+                                             final int start) {
+            for (int i = 0; i < length; i++) {
+                if (slot[offset + i] != key.charAt(start + i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns the offset of the suffix, which is equal to a specific region of a character
+         * sequence, within a slot.
+         *
+         * @param slot  The slot as a {@link Character} array or null
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The offset of the suffix's header as an {@link Integer} value or -1, if the slot
+         * does not contain the given region
+         */
+        private static int offsetOf(@Nullable final char[] slot, @NotNull final CharSequence key,
+                                    final int start, final int end) {
+            if (slot != null) {
+                int length = end - start;
+                int offset = 0;
+
+                while (offset < slot.length) {
+                    int suffixLength = readLength(slot, offset);
+                    int suffixOffset = offset + headerLength(suffixLength);
+
+                    if (suffixLength == length &&
+                            regionMatches(slot, suffixOffset, length, key, start)) {
+                        return offset;
+                    }
+
+                    offset = suffixOffset + suffixLength;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Returns the index of the suffix, which is stored at a specific offset of a slot.
+         *
+         * @param slot   The slot as a {@link Character} array. The array may not be null
+         * @param offset The offset of the suffix's header as an {@link Integer} value
+         * @return The index of the suffix as an {@link Integer} value
+         */
+        private static int indexOf(@NotNull final char[] slot, final int offset) {
+            int index = 0;
+            int currentOffset = 0;
+
+            while (currentOffset < offset) {
+                int suffixLength = readLength(slot, currentOffset);
+                currentOffset += headerLength(suffixLength) + suffixLength;
+                index++;
+            }
+
+            return index;
+        }
+
+        /**
+         * Creates a new, empty container.
+         */
+        Container() {
+            this.slots = new char[INITIAL_SLOT_COUNT][];
+            this.values = new Object[INITIAL_SLOT_COUNT][];
+            this.size = 0;
+        }
+
+        /**
+         * Returns the value of the suffix, which is equal to a specific region of a character
+         * sequence.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The value of the given region as an {@link Object} or {@link #NOT_FOUND}, if the
+         * container does not contain the given region
+         */
+        Object get(@NotNull final CharSequence key, final int start, final int end) {
+            int slotIndex = spread(hash(key, start, end)) & (slots.length - 1);
+            char[] slot = slots[slotIndex];
+            int offset = offsetOf(slot, key, start, end);
+            return offset != -1 ? values[slotIndex][indexOf(slot, offset)] : NOT_FOUND;
+        }
+
+        /**
+         * Returns the length of the longest suffix, which is a prefix of a specific region of a
+         * character sequence.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The length of the longest suffix, which is a prefix of the given region, as an
+         * {@link Integer} value or -1, if no such suffix is contained by the container
+         */
+        int longestPrefixLength(@NotNull final CharSequence key, final int start, final int end) {
+            int result = -1;
+            int hash = 0;
+
+            for (int i = start; i <= end; i++) {
+                if (i > start) {
+                    hash = 31 * hash + key.charAt(i - 1);
+                }
+
+                if (offsetOf(slots[spread(hash) & (slots.length - 1)], key, start, i) != -1) {
+                    result = i - start;
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Returns the number of suffixes, which start with a specific region of a character
+         * sequence.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The number of suffixes, which start with the given region, as an {@link Integer}
+         * value
+         */
+        int countWithPrefix(@NotNull final CharSequence key, final int start, final int end) {
+            int length = end - start;
+            int count = 0;
+
+            for (char[] slot : slots) {
+                int offset = 0;
+
+                while (slot != null && offset < slot.length) {
+                    int suffixLength = readLength(slot, offset);
+                    int suffixOffset = offset + headerLength(suffixLength);
+
+                    if (suffixLength >= length &&
+                            regionMatches(slot, suffixOffset, length, key, start)) {
+                        count++;
+                    }
+
+                    offset = suffixOffset + suffixLength;
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Returns the distinct characters, which follow a specific region of a character sequence
+         * in the suffixes that start with this region.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return A {@link Character} array, which contains the characters in ascending order. The
+         * array may not be null
+         */
+        @NotNull
+        char[] successorCharacters(@NotNull final CharSequence key, final int start,
+                                   final int end) {
+            int length = end - start;
+            char[] characters = new char[size];
+            int count = 0;
+
+            for (char[] slot : slots) {
+                int offset = 0;
+
+                while (slot != null && offset < slot.length) {
+                    int suffixLength = readLength(slot, offset);
+                    int suffixOffset = offset + headerLength(suffixLength);
+
+                    if (suffixLength > length &&
+                            regionMatches(slot, suffixOffset, length, key, start)) {
+                        characters[count++] = slot[suffixOffset + length];
+                    }
+
+                    offset = suffixOffset + suffixLength;
+                }
+            }
+
+            Arrays.sort(characters, 0, count);
+            int distinct = 0;
+
+            for (int i = 0; i < count; i++) {
+                if (distinct == 0 || characters[distinct - 1] != characters[i]) {
+                    characters[distinct++] = characters[i];
+                }
+            }
+
+            return Arrays.copyOf(characters, distinct);
+        }
+
+        /**
+         * Associates a specific region of a character sequence with a value.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @param value The value as an {@link Object} or null
+         * @return The previous value of the given region as an {@link Object} or {@link
+         * #NOT_FOUND}, if the container did not contain the given region
+         */
+        Object put(@NotNull final CharSequence key, final int start, final int end,
+                   @Nullable final Object value) {
+            int hash = hash(key, start, end);
+            int slotIndex = spread(hash) & (slots.length - 1);
+            char[] slot = slots[slotIndex];
+            int offset = offsetOf(slot, key, start, end);
+
+            if (offset != -1) {
+                int index = indexOf(slot, offset);
+                Object previous = values[slotIndex][index];
+                values[slotIndex][index] = value;
+                return previous;
+            }
+
+            if (size + 1 > slots.length * MAX_LOAD) {
+                rehash(slots.length * 2);
+                slotIndex = spread(hash) & (slots.length - 1);
+            }
+
+            append(slotIndex, key, start, end, value);
+            size++;
+            return NOT_FOUND;
+        }
+
+        /**
+         * Appends a specific region of a character sequence and its value to a slot.
+         *
+         * @param slotIndex The index of the slot as an {@link Integer} value
+         * @param key       The character sequence as an instance of the type {@link
+         *                  CharSequence}. The character sequence may not be null
+         * @param start     The index of the first character of the region (inclusive) as an
+         *                  {@link Integer} value
+         * @param end       The index of the last character of the region (exclusive) as an
+         *                  {@link Integer} value
+         * @param value     The value as an {@link Object} or null
+         */
+        private void append(final int slotIndex, @NotNull final CharSequence key, final int start,
+                            final int end, @Nullable final Object value) {
+            char[] slot = slots[slotIndex];
+            Object[] slotValues = values[slotIndex];
+            int length = end - start;
+            int offset = slot != null ? slot.length : 0;
+            int count = slotValues != null ? slotValues.length : 0;
+            slot = slot != null ? Arrays.copyOf(slot, offset + headerLength(length) + length) :
+                    new char[headerLength(length) + length];
+            slotValues = slotValues != null ? Arrays.copyOf(slotValues, count + 1) :
+                    new Object[1];
+
+            if (length < 0x8000) {
+                slot[offset++] = (char) length;
+            } else {
+                slot[offset++] = (char) ((length >>> 16) | 0x8000);
+                slot[offset++] = (char) length;
+            }
+
+            for (int i = start; i < end; i++) {
+                slot[offset++] = key.charAt(i);
+            }
+
+            slotValues[count] = value;
+            slots[slotIndex] = slot;
+            values[slotIndex] = slotValues;
+        }
+
+        /**
+         * Distributes all suffixes among a specific number of slots.
+         *
+         * @param slotCount The number of slots as an {@link Integer} value. It must be a power of
+         *                  two
+         */
+        private void rehash(final int slotCount) {
+            char[][] oldSlots = slots;
+            Object[][] oldValues = values;
+            slots = new char[slotCount][];
+            values = new Object[slotCount][];
+
+            for (int i = 0; i < oldSlots.length; i++) {
+                char[] slot = oldSlots[i];
+                int offset = 0;
+                int index = 0;
+
+                while (slot != null && offset < slot.length) {
+                    int suffixLength = readLength(slot, offset);
+                    int suffixOffset = offset + headerLength(suffixLength);
+                    CharBuffer suffix = CharBuffer.wrap(slot, suffixOffset, suffixLength);
+                    int slotIndex = spread(hash(suffix, 0, suffixLength)) & (slotCount - 1);
+                    append(slotIndex, suffix, 0, suffixLength, oldValues[i][index]);
+                    offset = suffixOffset + suffixLength;
+                    index++;
+                }
+            }
+        }
+
+        /**
+         * Removes a specific region of a character sequence.
+         *
+         * @param key   The character sequence as an instance of the type {@link CharSequence}.
+         *              The character sequence may not be null
+         * @param start The index of the first character of the region (inclusive) as an {@link
+         *              Integer} value
+         * @param end   The index of the last character of the region (exclusive) as an {@link
+         *              Integer} value
+         * @return The value of the removed region as an {@link Object} or {@link #NOT_FOUND}, if
+         * the container did not contain the given region
+         */
+        Object remove(@NotNull final CharSequence key, final int start, final int end) {
+            int slotIndex = spread(hash(key, start, end)) & (slots.length - 1);
+            char[] slot = slots[slotIndex];
+            int offset = offsetOf(slot, key, start, end);
+
+            if (offset != -1) {
+                Object[] slotValues = values[slotIndex];
+                int index = indexOf(slot, offset);
+                Object previous = slotValues[index];
+                int length = end - start;
+                int entryLength = headerLength(length) + length;
+
+                if (slotValues.length == 1) {
+                    slots[slotIndex] = null;
+                    values[slotIndex] = null;
+                } else {
+                    char[] newSlot = new char[slot.length - entryLength];
+                    System.arraycopy(slot, 0, newSlot, 0, offset);
+                    System.arraycopy(slot, offset + entryLength, newSlot, offset,
+                            slot.length - offset - entryLength);
+                    Object[] newValues = new Object[slotValues.length - 1];
+                    System.arraycopy(slotValues, 0, newValues, 0, index);
+                    System.arraycopy(slotValues, index + 1, newValues, index,
+                            slotValues.length - index - 1);
+                    slots[slotIndex] = newSlot;
+                    values[slotIndex] = newValues;
+                }
+
+                size--;
+                return previous;
+            }
+
+            return NOT_FOUND;
+        }
+
+    }
+
+    /**
+     * A node of a burst trie, which references its successors by a single character. The
+     * successors are either containers or further nodes.
+     */
+    private static final class AccessNode implements Serializable {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 5024773105419861427L;
+
+        /**
+         * The initial capacity of the arrays, which store the characters and successors.
+         */
+        private static final int INITIAL_CAPACITY = 4;
+
+        /**
+         * The characters, which correspond to the node's successors, in ascending order.
+         */
+        private char[] characters;
+
+        /**
+         * The node's successors, which are either of the type {@link Container} or {@link
+         * AccessNode}.
+         */
+        private Object[] successors;
+
+        /**
+         * The number of the node's successors.
+         */
+        private int size;
+
+        /**
+         * True, if a value is associated with the key, which ends at this node, false otherwise.
+         */
+        private boolean valueSet;
+
+        /**
+         * The value, which is associated with the key that ends at this node.
+         */
+        private Object value;
+
+        /**
+         * The number of keys, which start with the key that ends at this node, including this key
+         * itself.
+         */
+        private int count;
+
+        /**
+         * Creates a new node without any successors.
+         */
+        AccessNode() {
+            this.characters = new char[INITIAL_CAPACITY];
+            this.successors = new Object[INITIAL_CAPACITY];
+            this.size = 0;
+            this.valueSet = false;
+            this.value = null;
+            this.count = 0;
+        }
+
+        /**
+         * Returns the index of the successor, which corresponds to a specific character.
+         *
+         * @param character The character as a {@link Character} value
+         * @return The index of the successor as an {@link Integer} value or (-(insertion point) -
+         * 1), if no such successor is available
+         */
+        int indexOf(final char character) {
+            return Arrays.binarySearch(characters, 0, size, character);
+        }
+
+        /**
+         * Returns the successor, which corresponds to a specific character.
+         *
+         * @param character The character as a {@link Character} value
+         * @return The successor as an {@link Object} or null, if no such successor is available
+         */
+        @Nullable
+        Object getSuccessor(final char character) {
+            int index = indexOf(character);
+            return index >= 0 ? successors[index] : null;
+        }
+
+        /**
+         * Adds a new container as the successor, which corresponds to a specific character.
+         *
+         * @param insertionPoint The index, the successor should be inserted at, as an {@link
+         *                       Integer} value
+         * @param character      The character as a {@link Character} value
+         * @return The container, which has been added, as an instance of the class {@link
+         * Container}. The container may not be null
+         */
+        @NotNull
+        Container addContainer(final int insertionPoint, final char character) {
+            if (size == characters.length) {
+                characters = Arrays.copyOf(characters, size * 2);
+                successors = Arrays.copyOf(successors, size * 2);
+            }
+
+            System.arraycopy(characters, insertionPoint, characters, insertionPoint + 1,
+                    size - insertionPoint);
+            System.arraycopy(successors, insertionPoint, successors, insertionPoint + 1,
+                    size - insertionPoint);
+            Container container = new Container();
+            characters[insertionPoint] = character;
+            successors[insertionPoint] = container;
+            size++;
+            return container;
+        }
+
+        /**
+         * Removes the successor at a specific index.
+         *
+         * @param index The index of the successor, which should be removed, as an {@link Integer}
+         *              value
+         */
+        void removeSuccessor(final int index) {
+            int numMoved = size - index - 1;
+            System.arraycopy(characters, index + 1, characters, index, numMoved);
+            System.arraycopy(successors, index + 1, successors, index, numMoved);
+            size--;
+            successors[size] = null;
+        }
+
+    }
+
+    /**
+     * A read-only view on a node of a burst trie, which is either an {@link AccessNode} or a
+     * prefix of the suffixes, which are stored by a {@link Container}. Each successor of such a
+     * node corresponds to a single character. A container is presented as if each character of its
+     * suffixes was stored in a node of its own.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class NodeView<V> extends AbstractReadOnlyNode<String, V> implements
+            RandomAccess {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = -6128392305474951086L;
+
+        /**
+         * The node of the trie, which is either of the type {@link AccessNode} or {@link
+         * Container}.
+         */
+        private final Object node;
+
+        /**
+         * The prefix of the container's suffixes, which corresponds to the view, or an empty
+         * string, if the view corresponds to an access node or to a container as a whole.
+         */
+        private final String prefix;
+
+        /**
+         * Creates a new read-only view on a node of a burst trie.
+         *
+         * @param predecessor The view on the predecessor as an instance of the type {@link Node}
+         *                    or null, if the view corresponds to the root
+         * @param key         The key, the view is referenced by in its predecessor, as a {@link
+         *                    String} or null, if the view corresponds to the root
+         * @param node        The node of the trie as an {@link Object}, which is either of the type
+         *                    {@link AccessNode} or {@link Container}. The node may not be null
+         * @param prefix      The prefix of the container's suffixes, which corresponds to the
+         *                    view, as a {@link String}. The prefix may not be null
+         */
+        NodeView(@Nullable final Node<String, V> predecessor, @Nullable final String key,
+                 @NotNull final Object node, @NotNull final String prefix) {
+            super(predecessor, key);
+            this.node = node;
+            this.prefix = prefix;
+        }
+
+        /**
+         * Returns the characters, which correspond to the view's successors.
+         *
+         * @return A {@link Character} array, which contains the characters in ascending order. The
+         * array may not be null
+         */
+        @NotNull
+        private char[] characters() {
+            if (node instanceof AccessNode) {
+                AccessNode accessNode = (AccessNode) node;
+                return Arrays.copyOf(accessNode.characters, accessNode.size);
+            }
+
+            return ((Container) node).successorCharacters(prefix, 0, prefix.length());
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        @Override
+        public NodeValue<V> getNodeValue() {
+            if (node instanceof AccessNode) {
+                AccessNode accessNode = (AccessNode) node;
+                return accessNode.valueSet ? new NodeValue<>((V) accessNode.value) : null;
+            }
+
+            Object value = ((Container) node).get(prefix, 0, prefix.length());
+            return value != NOT_FOUND ? new NodeValue<>((V) value) : null;
+        }
+
+        @Override
+        public int getSuccessorCount() {
+            return node instanceof AccessNode ? ((AccessNode) node).size : characters().length;
+        }
+
+        @Nullable
+        @Override
+        public Node<String, V> getSuccessor(@NotNull final String key) {
+            if (key.length() != 1) {
+                return null;
+            }
+
+            if (node instanceof AccessNode) {
+                Object successor = ((AccessNode) node).getSuccessor(key.charAt(0));
+                return successor != null ? new NodeView<>(this, key, successor, "") : null;
+            }
+
+            String successorPrefix = prefix + key;
+            return ((Container) node).countWithPrefix(successorPrefix, 0,
+                    successorPrefix.length()) > 0 ?
+                    new NodeView<>(this, key, node, successorPrefix) : null;
+        }
+
+        @NotNull
+        @Override
+        public String getSuccessorKey(final int index) {
+            if (node instanceof AccessNode) {
+                AccessNode accessNode = (AccessNode) node;
+
+                if (index < 0 || index >= accessNode.size) {
+                    throw new IndexOutOfBoundsException("Invalid index: " + index);
+                }
+
+                return String.valueOf(accessNode.characters[index]);
+            }
+
+            return String.valueOf(characters()[index]);
+        }
+
+        @NotNull
+        @Override
+        public Node<String, V> getSuccessor(final int index) {
+            String key = getSuccessorKey(index);
+            return node instanceof AccessNode ?
+                    new NodeView<>(this, key, ((AccessNode) node).successors[index], "") :
+                    new NodeView<>(this, key, node, prefix + key);
+        }
+
+        @Override
+        public int indexOf(@NotNull final String key) {
+            if (key.length() != 1) {
+                return -1;
+            }
+
+            int index = node instanceof AccessNode ? ((AccessNode) node).indexOf(key.charAt(0)) :
+                    Arrays.binarySearch(characters(), key.charAt(0));
+            return Math.max(index, -1);
+        }
+
+        @Override
+        public int getSuccessorValueCount() {
+            return node instanceof AccessNode ? ((AccessNode) node).count :
+                    ((Container) node).countWithPrefix(prefix, 0, prefix.length());
+        }
+
+        @NotNull
+        @Override
+        public Iterator<String> iterator() {
+            char[] characters = characters();
+            List<String> keys = new ArrayList<>(characters.length);
+
+            for (char character : characters) {
+                keys.add(String.valueOf(character));
+            }
+
+            return Collections.unmodifiableList(keys).iterator();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(node) + prefix.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null)
+                return false;
+            if (this == obj)
+                return true;
+            if (obj.getClass() != getClass())
+                return false;
+            NodeView<?> other = (NodeView<?>) obj;
+            return node == other.node && prefix.equals(other.prefix);
+        }
+
+    }
+
+    /**
+     * An iterator, which allows to iterate the entries of a burst trie, which start with a specific
+     * prefix. The trie is traversed in depth-first order by using a stack of nodes.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class EntryIterator<V> implements Iterator<Map.Entry<String, V>> {
+
+        /**
+         * The trie, which is traversed by the iterator.
+         */
+        private final BurstStringTrie<V> trie;
+
+        /**
+         * The region of the suffixes, which must be matched by the entries of the first visited
+         * container, if the prefix ends within a container, or null, if all entries should be
+         * iterated.
+         */
+        private final String filter;
+
+        /**
+         * The nodes, which are currently traversed.
+         */
+        private AccessNode[] nodes;
+
+        /**
+         * The index of the next successor of each traversed node, which should be visited, or -1,
+         * if the value of the node has not been visited yet.
+         */
+        private int[] indices;
+
+        /**
+         * The number of nodes, which are currently traversed.
+         */
+        private int depth;
+
+        /**
+         * The container, which is currently traversed, or null, if no container is traversed.
+         */
+        private Container container;
+
+        /**
+         * The index of the slot of the {@link #container}, which is currently traversed.
+         */
+        private int slotIndex;
+
+        /**
+         * The offset of the next suffix in the current slot.
+         */
+        private int offset;
+
+        /**
+         * The index of the next suffix in the current slot.
+         */
+        private int index;
+
+        /**
+         * The key of the currently traversed node or container.
+         */
+        private final StringBuilder prefix;
+
+        /**
+         * The entry, which is returned next, or null, if all entries have been iterated.
+         */
+        private Map.Entry<String, V> next;
+
+        /**
+         * The entry, which has been returned last.
+         */
+        private Map.Entry<String, V> lastReturned;
+
+        /**
+         * The modification count of the {@link #trie}, which is expected by the iterator.
+         */
+        private long expectedModificationCount;
+
+        /**
+         * Starts to traverse a specific node or container.
+         *
+         * @param node The node or container, which should be traversed, as an {@link Object}. The
+         *             object may not be null
+         * @param nodeIndex The index of the node's first successor, which should be visited, as an
+         *                  {@link Integer} value, or -1, if the node's value should be visited
+         */
+        private void push(@NotNull final Object node, final int nodeIndex) {
+            if (node instanceof AccessNode) {
+                if (depth == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, depth * 2);
+                    indices = Arrays.copyOf(indices, depth * 2);
+                }
+
+                nodes[depth] = (AccessNode) node;
+                indices[depth] = nodeIndex;
+                depth++;
+            } else {
+                container = (Container) node;
+                slotIndex = 0;
+                offset = 0;
+                index = 0;
+            }
+        }
+
+        /**
+         * Creates and returns an entry, which corresponds to a specific suffix of the current
+         * {@link #prefix}.
+         *
+         * @param suffix The suffix as a {@link Character} array. The array may not be null
+         * @param suffixOffset The offset of the suffix's first character as an {@link Integer}
+         *                     value
+         * @param length The length of the suffix as an {@link Integer} value
+         * @param value  The value of the entry as an {@link Object} or null
+         * @return The entry, which has been created, as an instance of the type {@link Map.Entry}.
+         * The entry may not be null
+         */
+        @SuppressWarnings("unchecked")
+        @NotNull
+        private Map.Entry<String, V> createEntry(@NotNull final char[] suffix,
+                                                 final int suffixOffset, final int length,
+                                                 @Nullable final Object value) {
+            int prefixLength = prefix.length();
+            String key = null;
+
+            if (prefixLength + length > 0) {
+                prefix.append(suffix, suffixOffset, length);
+                key = prefix.toString();
+                prefix.setLength(prefixLength);
+            }
+
+            return new AbstractMap.SimpleImmutableEntry<>(key, (V) value);
+        }
+
+        /**
+         * Returns the next entry of the current {@link #container}.
+         *
+         * @return The next entry as an instance of the type {@link Map.Entry} or null, if all
+         * entries of the container have been visited
+         */
+        @Nullable
+        private Map.Entry<String, V> nextInContainer() {
+            while (slotIndex < container.slots.length) {
+                char[] slot = container.slots[slotIndex];
+
+                while (slot != null && offset < slot.length) {
+                    int suffixLength = Container.readLength(slot, offset);
+                    int suffixOffset = offset + Container.headerLength(suffixLength);
+                    Object value = container.values[slotIndex][index];
+                    offset = suffixOffset + suffixLength;
+                    index++;
+
+                    if (filter == null || (suffixLength >= filter.length() && Container
+                            .regionMatches(slot, suffixOffset, filter.length(), filter, 0))) {
+                        return createEntry(slot, suffixOffset, suffixLength, value);
+                    }
+                }
+
+                slotIndex++;
+                offset = 0;
+                index = 0;
+            }
+
+            return null;
+        }
+
+        /**
+         * Returns the next entry, which should be returned by the iterator.
+         *
+         * @return The next entry as an instance of the type {@link Map.Entry} or null, if all
+         * entries have been visited
+         */
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private Map.Entry<String, V> fetchNext() {
+            while (true) {
+                if (container != null) {
+                    Map.Entry<String, V> entry = nextInContainer();
+
+                    if (entry != null) {
+                        return entry;
+                    }
+
+                    container = null;
+
+                    if (depth > 0) {
+                        prefix.setLength(prefix.length() - 1);
+                    }
+                } else if (depth > 0) {
+                    AccessNode node = nodes[depth - 1];
+                    int successorIndex = indices[depth - 1]++;
+
+                    if (successorIndex < 0) {
+                        if (node.valueSet) {
+                            return new AbstractMap.SimpleImmutableEntry<>(
+                                    prefix.length() > 0 ? prefix.toString() : null,
+                                    (V) node.value);
+                        }
+                    } else if (successorIndex < node.size) {
+                        prefix.append(node.characters[successorIndex]);
+                        push(node.successors[successorIndex], -1);
+                    } else {
+                        nodes[--depth] = null;
+
+                        if (depth > 0) {
+                            prefix.setLength(prefix.length() - 1);
+                        }
+                    }
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Positions the iterator at a specific key, which is contained by the trie, such that the
+         * key is returned by the next call of the method {@link #fetchNext()}.
+         *
+         * @param key The key as a {@link String}. The key may not be null
+         */
+        private void seek(@NotNull final String key) {
+            depth = 0;
+            container = null;
+            prefix.setLength(0);
+            Object node = trie.root;
+            int position = 0;
+
+            while (node instanceof AccessNode && position < key.length()) {
+                AccessNode accessNode = (AccessNode) node;
+                char character = key.charAt(position++);
+                int successorIndex = accessNode.indexOf(character);
+                push(accessNode, successorIndex + 1);
+                prefix.append(character);
+                node = accessNode.successors[successorIndex];
+            }
+
+            push(node, -1);
+
+            if (container != null) {
+                char[] slot;
+
+                do {
+                    slot = container.slots[slotIndex];
+                    offset = Container.offsetOf(slot, key, position, key.length());
+
+                    if (offset == -1) {
+                        slotIndex++;
+                    }
+                } while (offset == -1);
+
+                index = Container.indexOf(slot, offset);
+            }
+        }
+
+        /**
+         * Creates a new iterator, which allows to iterate the entries of a specific trie, which
+         * start with a specific prefix.
+         *
+         * @param trie     The trie as an instance of the class {@link BurstStringTrie}. The trie
+         *                 may not be null
+         * @param node     The node or container, the prefix corresponds to, as an {@link Object}
+         *                 or null, if no entries should be iterated
+         * @param prefix   The prefix as a {@link String}. The prefix may not be null
+         * @param filter   The region of the suffixes, which must be matched by the entries of the
+         *                 given container, as a {@link String} or null, if all entries should be
+         *                 iterated
+         */
+        EntryIterator(@NotNull final BurstStringTrie<V> trie, @Nullable final Object node,
+                      @NotNull final String prefix, @Nullable final String filter) {
+            this.trie = trie;
+            this.filter = filter;
+            this.nodes = new AccessNode[8];
+            this.indices = new int[8];
+            this.depth = 0;
+            this.container = null;
+            this.prefix = new StringBuilder(prefix);
+            this.lastReturned = null;
+            this.expectedModificationCount = trie.modificationCount;
+
+            if (node != null) {
+                push(node, -1);
+            }
+
+            this.next = fetchNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, trie.modificationCount, null,
+                    ConcurrentModificationException.class);
+            Condition.INSTANCE.ensureTrue(hasNext(), null, NoSuchElementException.class);
+            lastReturned = next;
+            next = fetchNext();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            Condition.INSTANCE.ensureNotNull(lastReturned, null, IllegalStateException.class);
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, trie.modificationCount, null,
+                    ConcurrentModificationException.class);
+            trie.remove(lastReturned.getKey());
+            lastReturned = null;
+            expectedModificationCount = trie.modificationCount;
+
+            if (next != null) {
+                seek(next.getKey() != null ? next.getKey() : "");
+                next = fetchNext();
+            }
+        }
+
+    }
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 8313405675429003764L;
+
+    /**
+     * The default number of keys, a container may contain before it is burst.
+     */
+    public static final int DEFAULT_BURST_THRESHOLD = 1024;
+
+    /**
+     * The object, which is returned by the methods of a {@link Container}, if a key is not
+     * contained. It is never stored by a trie.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * The number of keys, a container may contain before it is burst.
+     */
+    private final int burstThreshold;
+
+    /**
+     * The root of the trie, which is either of the type {@link Container} or {@link AccessNode},
+     * or null, if the trie is empty.
+     */
+    private Object root;
+
+    /**
+     * The number of keys, which are contained by the trie.
+     */
+    private int size;
+
+    /**
+     * A counter, which is increased whenever the trie is modified. It is used to fast-fail
+     * iterators by throwing a {@link ConcurrentModificationException}.
+     */
+    private transient long modificationCount;
+
+    /**
+     * The entry set of the trie.
+     */
+    private transient Set<Map.Entry<String, ValueType>> entrySet;
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific region of a character sequence is
+     * invalid.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     */
+    private static void ensureValidRegion(@NotNull final CharSequence key, final int start,
+                                          final int end) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+
+        if (start < 0 || end > key.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + key.length());
+        }
+    }
+
+    /**
+     * Returns the value of the key, which corresponds to a specific region of a character
+     * sequence.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @return The value of the given key as an {@link Object} or {@link #NOT_FOUND}, if the trie
+     * does not contain the key
+     */
+    private Object lookup(@NotNull final CharSequence key, final int start, final int end) {
+        Object node = root;
+        int position = start;
+
+        while (node instanceof AccessNode) {
+            AccessNode accessNode = (AccessNode) node;
+
+            if (position == end) {
+                return accessNode.valueSet ? accessNode.value : NOT_FOUND;
+            }
+
+            node = accessNode.getSuccessor(key.charAt(position++));
+        }
+
+        return node != null ? ((Container) node).get(key, position, end) : NOT_FOUND;
+    }
+
+    /**
+     * Replaces a container by a node, which references a new container for each distinct first
+     * character of the container's suffixes.
+     *
+     * @param container The container, which should be burst, as an instance of the class {@link
+     *                  Container}. The container may not be null
+     * @return The node, which replaces the container, as an instance of the class {@link
+     * AccessNode}. The node may not be null
+     */
+    @NotNull
+    private static AccessNode burst(@NotNull final Container container) {
+        AccessNode accessNode = new AccessNode();
+
+        for (int i = 0; i < container.slots.length; i++) {
+            char[] slot = container.slots[i];
+            int offset = 0;
+            int index = 0;
+
+            while (slot != null && offset < slot.length) {
+                int suffixLength = Container.readLength(slot, offset);
+                int suffixOffset = offset + Container.headerLength(suffixLength);
+                Object value = container.values[i][index];
+
+                if (suffixLength == 0) {
+                    accessNode.valueSet = true;
+                    accessNode.value = value;
+                } else {
+                    char character = slot[suffixOffset];
+                    int successorIndex = accessNode.indexOf(character);
+                    Container successor = successorIndex >= 0 ?
+                            (Container) accessNode.successors[successorIndex] :
+                            accessNode.addContainer(-successorIndex - 1, character);
+                    CharBuffer suffix = CharBuffer.wrap(slot, suffixOffset, suffixLength);
+                    successor.put(suffix, 1, suffixLength, value);
+                }
+
+                offset = suffixOffset + suffixLength;
+                index++;
+            }
+        }
+
+        accessNode.count = container.size;
+        return accessNode;
+    }
+
+    /**
+     * Creates a new, empty burst trie.
+     *
+     * @param burstThreshold The number of keys, a container may contain before it is burst, as an
+     *                       {@link Integer} value. The threshold must be at least 1
+     */
+    public BurstStringTrie(final int burstThreshold) {
+        Condition.INSTANCE.ensureAtLeast(burstThreshold, 1, "The threshold must be at least 1");
+        this.burstThreshold = burstThreshold;
+        this.root = null;
+        this.size = 0;
+        this.modificationCount = 0;
+    }
+
+    /**
+     * Creates a new, empty burst trie, which uses the {@link #DEFAULT_BURST_THRESHOLD}.
+     */
+    public BurstStringTrie() {
+        this(DEFAULT_BURST_THRESHOLD);
+    }
+
+    /**
+     * Creates a new burst trie, which uses the {@link #DEFAULT_BURST_THRESHOLD} and contains all
+     * key-value pairs that are contained by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public BurstStringTrie(@NotNull final Map<String, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    /**
+     * Returns the number of keys, a container may contain before it is burst.
+     *
+     * @return The number of keys, a container may contain before it is burst, as an {@link
+     * Integer} value
+     */
+    public final int getBurstThreshold() {
+        return burstThreshold;
+    }
+
+    /**
+     * Returns a read-only view on the root of the trie, or null, if the trie is empty. As a burst
+     * trie does not consist of nodes of the type {@link Node}, the nodes of the view are created on
+     * demand. Each of their successors corresponds to a single character.
+     */
+    @Nullable
+    @Override
+    public final Node<String, ValueType> getRootNode() {
+        return size > 0 ? new NodeView<>(null, null, root, "") : null;
+    }
+
+    @NotNull
+    @Override
+    public final BurstStringTrie<ValueType> subTrie(@Nullable final String sequence) {
+        String prefix = sequence != null ? sequence : "";
+
+        if (countWithPrefix(prefix) == 0) {
+            throw new NoSuchElementException();
+        }
+
+        BurstStringTrie<ValueType> subTrie = new BurstStringTrie<>(burstThreshold);
+        forEachWithPrefix(prefix, (key, value) -> {
+            if (key != null && key.length() > prefix.length()) {
+                subTrie.put(key, value);
+            }
+        });
+        return subTrie;
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        String key = prefix != null ? prefix : "";
+        Object node = root;
+        int position = 0;
+
+        while (node instanceof AccessNode) {
+            AccessNode accessNode = (AccessNode) node;
+
+            if (position == key.length()) {
+                return accessNode.count;
+            }
+
+            node = accessNode.getSuccessor(key.charAt(position++));
+        }
+
+        return node != null ? ((Container) node).countWithPrefix(key, position, key.length()) : 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return countWithPrefix(prefix) > 0;
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        String key = prefix != null ? prefix : "";
+        Object node = root;
+        int position = 0;
+
+        while (node instanceof AccessNode && position < key.length()) {
+            node = ((AccessNode) node).getSuccessor(key.charAt(position++));
+        }
+
+        String filter = node instanceof Container ? key.substring(position) : null;
+        Iterator<Map.Entry<String, ValueType>> iterator =
+                new EntryIterator<>(this, node, key.substring(0, position), filter);
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, ValueType> entry = iterator.next();
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        ensureValidRegion(key, start, end);
+        Object value = lookup(key, start, end);
+        return value != NOT_FOUND ? (ValueType) value : null;
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        ensureValidRegion(key, start, end);
+        return lookup(key, start, end) != NOT_FOUND;
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        ensureValidRegion(key, start, end);
+        Object node = root;
+        int position = start;
+        int result = -1;
+
+        while (node instanceof AccessNode) {
+            AccessNode accessNode = (AccessNode) node;
+
+            if (accessNode.valueSet) {
+                result = position - start;
+            }
+
+            if (position == end) {
+                return result;
+            }
+
+            node = accessNode.getSuccessor(key.charAt(position++));
+        }
+
+        if (node != null) {
+            int length = ((Container) node).longestPrefixLength(key, position, end);
+            result = length != -1 ? position - start + length : result;
+        }
+
+        return result;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            return lookup(string, 0, string.length()) != NOT_FOUND;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            Object value = lookup(string, 0, string.length());
+            return value != NOT_FOUND ? (ValueType) value : null;
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType put(final String key, final ValueType value) {
+        String string = key != null ? key : "";
+
+        if (root == null) {
+            root = new Container();
+        }
+
+        AccessNode parent = null;
+        int parentIndex = -1;
+        Object node = root;
+        int position = 0;
+        Object previous;
+
+        while (true) {
+            if (node instanceof AccessNode) {
+                AccessNode accessNode = (AccessNode) node;
+
+                if (position == string.length()) {
+                    previous = accessNode.valueSet ? accessNode.value : NOT_FOUND;
+                    accessNode.valueSet = true;
+                    accessNode.value = value;
+                    break;
+                }
+
+                char character = string.charAt(position++);
+                int index = accessNode.indexOf(character);
+
+                if (index < 0) {
+                    index = -index - 1;
+                    accessNode.addContainer(index, character);
+                }
+
+                parent = accessNode;
+                parentIndex = index;
+                node = accessNode.successors[index];
+            } else {
+                Container container = (Container) node;
+                previous = container.put(string, position, string.length(), value);
+
+                if (previous == NOT_FOUND && container.size > burstThreshold) {
+                    AccessNode accessNode = burst(container);
+
+                    if (parent == null) {
+                        root = accessNode;
+                    } else {
+                        parent.successors[parentIndex] = accessNode;
+                    }
+
+                    // The count of the new node is updated below
+                    accessNode.count--;
+                }
+
+                break;
+            }
+        }
+
+        if (previous == NOT_FOUND) {
+            updateCounts(string, 1);
+            size++;
+            modificationCount++;
+            return null;
+        }
+
+        return (ValueType) previous;
+    }
+
+    /**
+     * Adjusts the number of keys, which are stored by the nodes along the path of a specific key.
+     * If the count of a node or the size of a container becomes 0, it is removed from the trie.
+     *
+     * @param key   The key as a {@link String}. The key may not be null
+     * @param delta The value, which should be added to the number of keys, as an {@link Integer}
+     *              value
+     */
+    private void updateCounts(@NotNull final String key, final int delta) {
+        AccessNode parent = null;
+        int parentIndex = -1;
+        Object node = root;
+        int position = 0;
+
+        while (node != null) {
+            boolean empty;
+
+            if (node instanceof AccessNode) {
+                AccessNode accessNode = (AccessNode) node;
+                accessNode.count += delta;
+                empty = accessNode.count == 0;
+            } else {
+                empty = ((Container) node).size == 0;
+            }
+
+            if (empty) {
+                if (parent == null) {
+                    root = null;
+                } else {
+                    parent.removeSuccessor(parentIndex);
+                }
+
+                return;
+            } else if (!(node instanceof AccessNode) || position == key.length()) {
+                return;
+            }
+
+            parent = (AccessNode) node;
+            parentIndex = parent.indexOf(key.charAt(position++));
+            node = parent.successors[parentIndex];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType remove(final Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+
+        String string = key != null ? (String) key : "";
+        Object node = root;
+        int position = 0;
+        Object previous = NOT_FOUND;
+
+        while (node instanceof AccessNode) {
+            AccessNode accessNode = (AccessNode) node;
+
+            if (position == string.length()) {
+                if (accessNode.valueSet) {
+                    previous = accessNode.value;
+                    accessNode.valueSet = false;
+                    accessNode.value = null;
+                }
+
+                break;
+            }
+
+            node = accessNode.getSuccessor(string.charAt(position++));
+        }
+
+        if (node instanceof Container) {
+            previous = ((Container) node).remove(string, position, string.length());
+        }
+
+        if (previous != NOT_FOUND) {
+            updateCounts(string, -1);
+            size--;
+            modificationCount++;
+            return (ValueType) previous;
+        }
+
+        return null;
+    }
+
+    @Override
+    public final void putAll(@NotNull final Map<? extends String, ? extends ValueType> map) {
+        Condition.INSTANCE.ensureNotNull(map, "The map may not be null");
+        map.forEach(this::put);
+    }
+
+    @Override
+    public final void clear() {
+        root = null;
+        size = 0;
+        modificationCount++;
+    }
+
+    @NotNull
+    @Override
+    public final Set<Map.Entry<String, ValueType>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, ValueType>>() {
+
+                @NotNull
+                @Override
+                public Iterator<Map.Entry<String, ValueType>> iterator() {
+                    return new EntryIterator<>(BurstStringTrie.this, root, "", null);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+            };
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public final String toString() {
+        return "BurstStringTrie " + entrySet().toString();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.SortedByteTrieWrapper;
+import de.mrapp.tries.datastructure.node.ByteIndexedNode;
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A sorted trie, which uses sequences of bytes as keys. Each edge corresponds to a single byte
+ * and the successors of nodes are indexed by the unsigned value of that byte (see {@link
+ * ByteIndexedNode}). This allows to look up successors without comparing keys to each other. The
+ * keys are sorted lexicographically by treating their bytes as unsigned values.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class ByteIndexedTrie<ValueType> extends SortedByteTrieWrapper<ValueType> {
+
+    /**
+     * A {@link SortedListTrie}, which uses instances of the class {@link ByteIndexedNode} as nodes.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class BackingSortedListTrie<V> extends SortedListTrie<ByteSequence, V> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = -8012433563870236735L;
+
+        @NotNull
+        @Override
+        protected Node<ByteSequence, V> createRootNode() {
+            return new ByteIndexedNode<>();
+        }
+
+    }
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 7371398180599734501L;
+
+    /**
+     * Creates a new empty, sorted trie for storing byte sequences, which indexes the successors of
+     * nodes by the first byte of their keys.
+     */
+    public ByteIndexedTrie() {
+        super(new BackingSortedListTrie<>());
+    }
+
+    /**
+     * Creates a new sorted trie for storing byte sequences, which indexes the successors of nodes
+     * by the first byte of their keys and contains all key-value pairs that are contained by a
+     * map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public ByteIndexedTrie(@NotNull final Map<ByteSequence, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public final String toString() {
+        return "ByteIndexedTrie " + entrySet().toString();
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a trie, which uses sequences of bytes, represented by the class {@link
+ * ByteSequence}, as keys. This allows to store binary keys, such as hashes, IP addresses or encoded
+ * composite keys, without having to convert them to strings.
+ * <p>
+ * In addition to the methods of the interface {@link Trie}, this interface provides methods, which
+ * accept byte arrays. The arrays are not copied, but wrapped by a {@link ByteSequence}. Therefore,
+ * arrays, which are passed to the method {@link #put(byte[], Object)}, must not be modified
+ * afterwards.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface ByteTrie<ValueType> extends Trie<ByteSequence, ValueType> {
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    @Override
+    ByteTrie<ValueType> subTrie(@Nullable ByteSequence sequence);
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    default ByteTrie<ValueType> subTrie(@Nullable final byte[] sequence) {
+        return subTrie(ByteSequence.convertFromByteArray(sequence));
+    }
+
+    /**
+     * @see java.util.Map#get(Object)
+     */
+    default ValueType get(@Nullable final byte[] key) {
+        return get((Object) ByteSequence.convertFromByteArray(key));
+    }
+
+    /**
+     * @see java.util.Map#containsKey(Object)
+     */
+    default boolean containsKey(@Nullable final byte[] key) {
+        return containsKey((Object) ByteSequence.convertFromByteArray(key));
+    }
+
+    /**
+     * @see java.util.Map#put(Object, Object)
+     */
+    default ValueType put(@Nullable final byte[] key, final ValueType value) {
+        return put(ByteSequence.convertFromByteArray(key), value);
+    }
+
+    /**
+     * @see java.util.Map#remove(Object)
+     */
+    default ValueType remove(@Nullable final byte[] key) {
+        return remove((Object) ByteSequence.convertFromByteArray(key));
+    }
+
+    /**
+     * @see Trie#countWithPrefix(Sequence)
+     */
+    default int countWithPrefix(@Nullable final byte[] prefix) {
+        return countWithPrefix(ByteSequence.convertFromByteArray(prefix));
+    }
+
+    /**
+     * @see Trie#containsPrefix(Sequence)
+     */
+    default boolean containsPrefix(@Nullable final byte[] prefix) {
+        return containsPrefix(ByteSequence.convertFromByteArray(prefix));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A difference between two tries, which is associated with a single key. A difference specifies,
+ * how the entry, which corresponds to the key, must be modified in order to transform the first
+ * trie into the second one. Differences are serializable in order to allow sending them to a
+ * replica of a trie instead of sending the whole trie.
+ *
+ * @param <KeyType>   The type of the key, the difference is associated with
+ * @param <ValueType> The type of the values of the tries
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class Difference<KeyType, ValueType> implements Serializable {
+
+    /**
+     * Contains all possible types of differences.
+     */
+    public enum Type {
+
+        /**
+         * If the key is only contained by the second trie.
+         */
+        ADDED,
+
+        /**
+         * If the key is only contained by the first trie.
+         */
+        REMOVED,
+
+        /**
+         * If the key is contained by both tries, but associated with different values.
+         */
+        CHANGED
+
+    }
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 4518360735412078645L;
+
+    /**
+     * The type of the difference.
+     */
+    private final Type type;
+
+    /**
+     * The key, the difference is associated with.
+     */
+    private final KeyType key;
+
+    /**
+     * The value, the key is associated with in the first trie.
+     */
+    private final ValueType oldValue;
+
+    /**
+     * The value, the key is associated with in the second trie.
+     */
+    private final ValueType newValue;
+
+    /**
+     * Creates a new difference between two tries.
+     *
+     * @param type     The type of the difference as a value of the enum {@link Type}. The type may
+     *                 not be null
+     * @param key      The key, the difference is associated with, as an instance of the generic
+     *                 type {@link KeyType} or null, if the difference is associated with the empty
+     *                 key
+     * @param oldValue The value, the key is associated with in the first trie, as an instance of
+     *                 the generic type {@link ValueType} or null, if the type of the difference is
+     *                 {@link Type#ADDED} or if the value is null
+     * @param newValue The value, the key is associated with in the second trie, as an instance of
+     *                 the generic type {@link ValueType} or null, if the type of the difference is
+     *                 {@link Type#REMOVED} or if the value is null
+     */
+    public Difference(@NotNull final Type type, @Nullable final KeyType key,
+                      @Nullable final ValueType oldValue, @Nullable final ValueType newValue) {
+        Condition.INSTANCE.ensureNotNull(type, "The type may not be null");
+        this.type = type;
+        this.key = key;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Returns the type of the difference.
+     *
+     * @return The type of the difference as a value of the enum {@link Type}. The type may not be
+     * null
+     */
+    @NotNull
+    public final Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the key, the difference is associated with.
+     *
+     * @return The key, the difference is associated with, as an instance of the generic type
+     * {@link KeyType} or null, if the difference is associated with the empty key
+     */
+    @Nullable
+    public final KeyType getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the value, the key is associated with in the first trie.
+     *
+     * @return The value, the key is associated with in the first trie, as an instance of the
+     * generic type {@link ValueType} or null, if the type of the difference is {@link Type#ADDED}
+     * or if the value is null
+     */
+    @Nullable
+    public final ValueType getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Returns the value, the key is associated with in the second trie.
+     *
+     * @return The value, the key is associated with in the second trie, as an instance of the
+     * generic type {@link ValueType} or null, if the type of the difference is {@link
+     * Type#REMOVED} or if the value is null
+     */
+    @Nullable
+    public final ValueType getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public final String toString() {
+        return type + " " + key + " [" + oldValue + " -> " + newValue + "]";
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + type.hashCode();
+        result = prime * result + Objects.hashCode(key);
+        result = prime * result + Objects.hashCode(oldValue);
+        result = prime * result + Objects.hashCode(newValue);
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (obj.getClass() != getClass())
+            return false;
+        Difference<?, ?> other = (Difference<?, ?>) obj;
+        return type == other.type && Objects.equals(key, other.key) &&
+                Objects.equals(oldValue, other.oldValue) &&
+                Objects.equals(newValue, other.newValue);
+    }
+
+}
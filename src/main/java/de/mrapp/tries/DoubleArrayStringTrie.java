@@ -0,0 +1,950 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.node.AbstractReadOnlyNode;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable trie for storing character sequences, which is implemented as a double-array trie.
+ * The transitions between the states of the trie are encoded by two int arrays: The transition of
+ * a state s for a character c leads to the state t = base[s] + code(c), if check[t] = s. The codes
+ * of the characters are dense, i.e. the characters, which occur in the keys, are numbered in
+ * ascending order starting at 1, regardless of their actual values. This keeps the arrays small,
+ * even if the keys contain characters outside of the ASCII range. The end of a key is encoded by
+ * an additional transition for the code 0, whose target stores the index of the key's value.
+ * Looking up a key therefore only requires a few array reads per character and does not involve
+ * any objects.
+ * <p>
+ * A double-array trie is compiled from an existing map, e.g. another {@link StringTrie}, and
+ * cannot be modified afterwards. All methods, which attempt to change the trie's state, throw an
+ * {@link UnsupportedOperationException}. The keys are stored in lexicographical order, which is
+ * also the order, in which the entries of the trie are iterated. As the trie does not consist of
+ * nodes of the type {@link Node}, the method {@link #getRootNode()} returns a read-only view, whose
+ * nodes are created on demand.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class DoubleArrayStringTrie<ValueType> extends AbstractMap<String, ValueType>
+        implements StringTrie<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -5390217747851203361L;
+
+    /**
+     * The value of the check array, which marks a slot as unused.
+     */
+    private static final int FREE = -1;
+
+    /**
+     * The ratio of occupied slots, which causes the position, where the search for free slots
+     * starts, to be advanced when compiling the trie.
+     */
+    private static final double DENSITY_THRESHOLD = 0.95;
+
+    /**
+     * The base values of the states. If a state marks the end of a key, its base value is the
+     * negative index of the key, decreased by one.
+     */
+    private final int[] base;
+
+    /**
+     * The predecessors of the states or {@link #FREE}, if a slot is unused.
+     */
+    private final int[] check;
+
+    /**
+     * The distinct characters, which occur in the keys, in ascending order. The code of a
+     * character is its index in this array, increased by one.
+     */
+    private final char[] alphabet;
+
+    /**
+     * The characters of all keys in lexicographical order.
+     */
+    private final char[] keyData;
+
+    /**
+     * The offsets of the keys in the array {@link #keyData}. The array contains one more element
+     * than the trie contains keys.
+     */
+    private final int[] keyOffsets;
+
+    /**
+     * The values of the keys in lexicographical order of the keys.
+     */
+    private final Object[] values;
+
+    /**
+     * The entry set of the trie.
+     */
+    private transient Set<Map.Entry<String, ValueType>> entrySet;
+
+    /**
+     * Compiles the base and check arrays of a double-array trie, which contains specific keys.
+     */
+    private static final class Compiler {
+
+        /**
+         * The keys in lexicographical order.
+         */
+        private final String[] keys;
+
+        /**
+         * The distinct characters, which occur in the keys, in ascending order.
+         */
+        private final char[] alphabet;
+
+        /**
+         * The base values of the states, which have been created so far.
+         */
+        private int[] base;
+
+        /**
+         * The predecessors of the states, which have been created so far.
+         */
+        private int[] check;
+
+        /**
+         * The largest index of a slot, which is in use.
+         */
+        private int maxIndex;
+
+        /**
+         * The index of the slot, where the search for free slots starts.
+         */
+        private int nextCheckPosition;
+
+        /**
+         * Ensures, that the arrays provide at least a specific number of slots.
+         *
+         * @param capacity The number of slots as an {@link Integer} value
+         */
+        private void ensureCapacity(final int capacity) {
+            if (capacity > check.length) {
+                int newCapacity = Math.max(capacity, check.length * 2);
+                int oldCapacity = check.length;
+                base = Arrays.copyOf(base, newCapacity);
+                check = Arrays.copyOf(check, newCapacity);
+                Arrays.fill(check, oldCapacity, newCapacity, FREE);
+            }
+        }
+
+        /**
+         * Returns the code of the character at a specific position of a key.
+         *
+         * @param index    The index of the key as an {@link Integer} value
+         * @param position The position of the character as an {@link Integer} value
+         * @return The code of the character as an {@link Integer} value or 0, if the key is not
+         * longer than the given position
+         */
+        private int code(final int index, final int position) {
+            String key = keys[index];
+            return position < key.length() ?
+                    DoubleArrayStringTrie.code(alphabet, key.charAt(position)) : 0;
+        }
+
+        /**
+         * Returns a base value, for which the slots of specific codes are unused.
+         *
+         * @param codes The codes in ascending order as an {@link Integer} array. The array may not
+         *              be empty
+         * @param count The number of codes as an {@link Integer} value
+         * @return The base value as an {@link Integer} value
+         */
+        private int findBase(@NotNull final int[] codes, final int count) {
+            int position = Math.max(codes[0] + 1, nextCheckPosition) - 1;
+            int occupied = 0;
+            boolean first = true;
+            int start = 0;
+
+            while (true) {
+                position++;
+                ensureCapacity(position + 1);
+
+                if (check[position] != FREE) {
+                    occupied++;
+                    continue;
+                } else if (first) {
+                    nextCheckPosition = position;
+                    start = position;
+                    first = false;
+                }
+
+                int candidate = position - codes[0];
+                ensureCapacity(candidate + codes[count - 1] + 1);
+                boolean suitable = true;
+
+                for (int i = 1; i < count && suitable; i++) {
+                    suitable = check[candidate + codes[i]] == FREE;
+                }
+
+                if (suitable) {
+                    if ((double) occupied / (position - start + 1) >= DENSITY_THRESHOLD) {
+                        nextCheckPosition = position;
+                    }
+
+                    return candidate;
+                }
+            }
+        }
+
+        /**
+         * Creates a new compiler.
+         *
+         * @param keys     The keys in lexicographical order as a {@link String} array. The array
+         *                 may not be null
+         * @param alphabet The distinct characters, which occur in the keys, in ascending order as
+         *                 a {@link Character} array. The array may not be null
+         */
+        Compiler(@NotNull final String[] keys, @NotNull final char[] alphabet) {
+            this.keys = keys;
+            this.alphabet = alphabet;
+            this.base = new int[Math.max(16, keys.length * 2)];
+            this.check = new int[base.length];
+            Arrays.fill(check, FREE);
+            this.maxIndex = 0;
+            this.nextCheckPosition = 1;
+        }
+
+        /**
+         * Compiles the trie. The states are created in a depth-first manner by using an explicit
+         * stack.
+         */
+        void compile() {
+            base[0] = 1;
+
+            if (keys.length == 0) {
+                return;
+            }
+
+            int[] stack = new int[64];
+            int depth = 0;
+            stack[depth++] = 0;
+            stack[depth++] = 0;
+            stack[depth++] = keys.length;
+            stack[depth++] = 0;
+            int[] codes = new int[16];
+            int[] ranges = new int[17];
+
+            while (depth > 0) {
+                int position = stack[--depth];
+                int to = stack[--depth];
+                int from = stack[--depth];
+                int state = stack[--depth];
+                int count = 0;
+
+                for (int i = from; i < to; i++) {
+                    int code = code(i, position);
+
+                    if (count == 0 || codes[count - 1] != code) {
+                        if (count == codes.length) {
+                            codes = Arrays.copyOf(codes, count * 2);
+                            ranges = Arrays.copyOf(ranges, count * 2 + 1);
+                        }
+
+                        codes[count] = code;
+                        ranges[count] = i;
+                        count++;
+                    }
+                }
+
+                ranges[count] = to;
+                int stateBase = findBase(codes, count);
+                base[state] = stateBase;
+
+                for (int i = 0; i < count; i++) {
+                    int successor = stateBase + codes[i];
+                    check[successor] = state;
+                    maxIndex = Math.max(maxIndex, successor);
+
+                    if (codes[i] == 0) {
+                        base[successor] = -ranges[i] - 1;
+                    } else {
+                        if (depth + 4 > stack.length) {
+                            stack = Arrays.copyOf(stack, stack.length * 2);
+                        }
+
+                        stack[depth++] = successor;
+                        stack[depth++] = ranges[i];
+                        stack[depth++] = ranges[i + 1];
+                        stack[depth++] = position + 1;
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A read-only view on a state of a double-array trie. Each successor of such a node
+     * corresponds to a single character, i.e. to a transition of the state for a code other than
+     * 0.
+     */
+    private final class NodeView extends AbstractReadOnlyNode<String, ValueType> implements
+            RandomAccess {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 4526381739517236810L;
+
+        /**
+         * The state, which corresponds to the view.
+         */
+        private final int state;
+
+        /**
+         * The characters of the transitions, which lead from the initial state to the state that
+         * corresponds to the view.
+         */
+        private final String prefix;
+
+        /**
+         * Creates a new read-only view on a state of a double-array trie.
+         *
+         * @param predecessor The view on the predecessor as an instance of the type {@link Node}
+         *                    or null, if the view corresponds to the initial state
+         * @param key         The key, the view is referenced by in its predecessor, as a {@link
+         *                    String} or null, if the view corresponds to the initial state
+         * @param state       The state, which corresponds to the view, as an {@link Integer}
+         *                    value
+         * @param prefix      The characters of the transitions, which lead from the initial state
+         *                    to the given state, as a {@link String}. The prefix may not be null
+         */
+        NodeView(@Nullable final Node<String, ValueType> predecessor, @Nullable final String key,
+                 final int state, @NotNull final String prefix) {
+            super(predecessor, key);
+            this.state = state;
+            this.prefix = prefix;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        @Override
+        public NodeValue<ValueType> getNodeValue() {
+            int terminal = transition(state, 0);
+            return terminal != -1 ? new NodeValue<>((ValueType) values[-base[terminal] - 1]) :
+                    null;
+        }
+
+        @Override
+        public int getSuccessorCount() {
+            return successorCharacters(prefix).length;
+        }
+
+        @Nullable
+        @Override
+        public Node<String, ValueType> getSuccessor(@NotNull final String key) {
+            if (key.length() != 1) {
+                return null;
+            }
+
+            int successor = transition(state, key.charAt(0));
+            return successor != -1 ? new NodeView(this, key, successor, prefix + key) : null;
+        }
+
+        @NotNull
+        @Override
+        public String getSuccessorKey(final int index) {
+            return String.valueOf(successorCharacters(prefix)[index]);
+        }
+
+        @NotNull
+        @Override
+        public Node<String, ValueType> getSuccessor(final int index) {
+            String key = getSuccessorKey(index);
+            return new NodeView(this, key, transition(state, key.charAt(0)), prefix + key);
+        }
+
+        @Override
+        public int indexOf(@NotNull final String key) {
+            return key.length() == 1 ?
+                    Math.max(Arrays.binarySearch(successorCharacters(prefix), key.charAt(0)), -1) :
+                    -1;
+        }
+
+        @Override
+        public int getSuccessorValueCount() {
+            return countWithPrefix(prefix);
+        }
+
+        @NotNull
+        @Override
+        public Iterator<String> iterator() {
+            char[] characters = successorCharacters(prefix);
+            List<String> keys = new ArrayList<>(characters.length);
+
+            for (char character : characters) {
+                keys.add(String.valueOf(character));
+            }
+
+            return Collections.unmodifiableList(keys).iterator();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(DoubleArrayStringTrie.this) + state;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null)
+                return false;
+            if (this == obj)
+                return true;
+            if (obj.getClass() != getClass())
+                return false;
+            NodeView other = (NodeView) obj;
+            return getTrie() == other.getTrie() && state == other.state;
+        }
+
+        /**
+         * Returns the trie, the view belongs to.
+         *
+         * @return The trie, the view belongs to, as an instance of the class {@link
+         * DoubleArrayStringTrie}. The trie may not be null
+         */
+        @NotNull
+        private DoubleArrayStringTrie<ValueType> getTrie() {
+            return DoubleArrayStringTrie.this;
+        }
+
+    }
+
+    /**
+     * Creates a new double-array trie, which contains specific keys and values.
+     *
+     * @param keys   The keys in lexicographical order as a {@link String} array. The keys may not
+     *               be null and must be unique
+     * @param values The values of the keys as an {@link Object} array. The array may not be null
+     */
+    private DoubleArrayStringTrie(@NotNull final String[] keys, @NotNull final Object[] values) {
+        this.values = values;
+        this.keyOffsets = new int[keys.length + 1];
+        int length = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            keyOffsets[i] = length;
+            length += keys[i].length();
+        }
+
+        keyOffsets[keys.length] = length;
+        this.keyData = new char[length];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i].getChars(0, keys[i].length(), keyData, keyOffsets[i]);
+        }
+
+        this.alphabet = alphabetOf(keyData);
+        Compiler compiler = new Compiler(keys, alphabet);
+        compiler.compile();
+        this.base = Arrays.copyOf(compiler.base, compiler.maxIndex + 1);
+        this.check = Arrays.copyOf(compiler.check, compiler.maxIndex + 1);
+    }
+
+    /**
+     * Returns the distinct characters, which occur in specific keys.
+     *
+     * @param keyData The characters of the keys as a {@link Character} array. The array may not
+     *                be null
+     * @return An array, which contains the distinct characters in ascending order, as a {@link
+     * Character} array. The array may not be null
+     */
+    @NotNull
+    private static char[] alphabetOf(@NotNull final char[] keyData) {
+        BitSet characters = new BitSet();
+
+        for (char character : keyData) {
+            characters.set(character);
+        }
+
+        char[] alphabet = new char[characters.cardinality()];
+        int count = 0;
+
+        for (int i = characters.nextSetBit(0); i >= 0; i = characters.nextSetBit(i + 1)) {
+            alphabet[count++] = (char) i;
+        }
+
+        return alphabet;
+    }
+
+    /**
+     * Returns the code of a specific character.
+     *
+     * @param alphabet  The distinct characters, which occur in the keys of the trie, in ascending
+     *                  order as a {@link Character} array. The array may not be null
+     * @param character The character as a {@link Character} value
+     * @return The code of the character as an {@link Integer} value or -1, if the character does
+     * not occur in the keys of the trie
+     */
+    private static int code(@NotNull final char[] alphabet, final char character) {
+        int index = Arrays.binarySearch(alphabet, character);
+        return index >= 0 ? index + 1 : -1;
+    }
+
+    /**
+     * Returns the entries of a map in lexicographical order of their keys. Null keys are treated as
+     * empty strings.
+     *
+     * @param map The map as an instance of the type {@link Map}. The map may not be null
+     * @return An array, which contains the sorted entries, as an array of the type {@link
+     * Map.Entry}. The array may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static Map.Entry<String, ?>[] sort(@NotNull final Map<String, ?> map) {
+        Condition.INSTANCE.ensureNotNull(map, "The map may not be null");
+        Map.Entry<String, ?>[] entries = map.entrySet().toArray(
+                (Map.Entry<String, ?>[]) new Map.Entry<?, ?>[0]);
+        Arrays.sort(entries, Comparator.comparing(
+                entry -> entry.getKey() != null ? entry.getKey() : ""));
+        return entries;
+    }
+
+    /**
+     * Returns the keys of specific entries. Null keys are converted to empty strings.
+     *
+     * @param entries The entries in lexicographical order of their keys as an array of the type
+     *                {@link Map.Entry}. The array may not be null
+     * @return An array, which contains the keys, as a {@link String} array. The array may not be
+     * null
+     */
+    @NotNull
+    private static String[] keysOf(@NotNull final Map.Entry<String, ?>[] entries) {
+        String[] keys = new String[entries.length];
+
+        for (int i = 0; i < entries.length; i++) {
+            String key = entries[i].getKey();
+            keys[i] = key != null ? key : "";
+
+            if (i > 0 && keys[i].equals(keys[i - 1])) {
+                throw new IllegalArgumentException("Key \"" + keys[i] + "\" is not unique");
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * Returns the values of specific entries.
+     *
+     * @param entries The entries as an array of the type {@link Map.Entry}. The array may not be
+     *                null
+     * @return An array, which contains the values, as an {@link Object} array. The array may not
+     * be null
+     */
+    @NotNull
+    private static Object[] valuesOf(@NotNull final Map.Entry<String, ?>[] entries) {
+        Object[] values = new Object[entries.length];
+
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = entries[i].getValue();
+        }
+
+        return values;
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific region of a character sequence is
+     * invalid.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     */
+    private static void ensureValidRegion(@NotNull final CharSequence key, final int start,
+                                          final int end) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+
+        if (start < 0 || end > key.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + key.length());
+        }
+    }
+
+    /**
+     * Returns the state, which is reached by a transition from a specific state for a specific
+     * code.
+     *
+     * @param state The state as an {@link Integer} value
+     * @param code  The code as an {@link Integer} value
+     * @return The state, which is reached, as an {@link Integer} value or -1, if no such
+     * transition exists
+     */
+    private int transition(final int state, final int code) {
+        int successor = base[state] + code;
+        return successor < check.length && check[successor] == state ? successor : -1;
+    }
+
+    /**
+     * Returns the state, which is reached by a transition from a specific state for a specific
+     * character.
+     *
+     * @param state     The state as an {@link Integer} value
+     * @param character The character as a {@link Character} value
+     * @return The state, which is reached, as an {@link Integer} value or -1, if no such
+     * transition exists
+     */
+    private int transition(final int state, final char character) {
+        int code = code(alphabet, character);
+        return code != -1 ? transition(state, code) : -1;
+    }
+
+    /**
+     * Returns the index of the key, which corresponds to a specific region of a character
+     * sequence.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @return The index of the key as an {@link Integer} value or -1, if the trie does not
+     * contain the key
+     */
+    private int indexOf(@NotNull final CharSequence key, final int start, final int end) {
+        int state = 0;
+
+        for (int i = start; i < end && state != -1; i++) {
+            state = transition(state, key.charAt(i));
+        }
+
+        if (state != -1) {
+            int terminal = transition(state, 0);
+            return terminal != -1 ? -base[terminal] - 1 : -1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the key at a specific index.
+     *
+     * @param index The index of the key as an {@link Integer} value
+     * @return The key at the given index as a {@link String} or null, if the key is empty
+     */
+    @Nullable
+    private String keyAt(final int index) {
+        int offset = keyOffsets[index];
+        int length = keyOffsets[index + 1] - offset;
+        return length > 0 ? new String(keyData, offset, length) : null;
+    }
+
+    /**
+     * Returns the index of the first key, which is greater than or equal to a specific prefix. If
+     * the prefix should be truncated, only as many characters as the prefix contains are compared,
+     * i.e. the index of the first key, which neither starts with the prefix, nor is smaller than
+     * the prefix, is returned.
+     *
+     * @param prefix   The prefix as a {@link String}. The prefix may not be null
+     * @param truncate True, if the keys should be truncated to the length of the prefix, false
+     *                 otherwise
+     * @return The index of the key as an {@link Integer} value
+     */
+    private int lowerBound(@NotNull final String prefix, final boolean truncate) {
+        int low = 0;
+        int high = values.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int offset = keyOffsets[mid];
+            int length = keyOffsets[mid + 1] - offset;
+            int comparableLength = truncate ? Math.min(length, prefix.length()) : length;
+            int minLength = Math.min(comparableLength, prefix.length());
+            int order = 0;
+
+            for (int i = 0; i < minLength && order == 0; i++) {
+                order = keyData[offset + i] - prefix.charAt(i);
+            }
+
+            if (order == 0) {
+                order = comparableLength - prefix.length();
+            }
+
+            if (truncate ? order <= 0 : order < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the distinct characters, which follow a specific prefix in the keys that start with
+     * the prefix.
+     *
+     * @param prefix The prefix as a {@link String}. The prefix may not be null
+     * @return A {@link Character} array, which contains the characters in ascending order. The
+     * array may not be null
+     */
+    @NotNull
+    private char[] successorCharacters(@NotNull final String prefix) {
+        int index = lowerBound(prefix, false);
+        int to = lowerBound(prefix, true);
+        char[] characters = new char[Math.min(to - index, Character.MAX_VALUE + 1)];
+        int count = 0;
+
+        if (index < to && keyOffsets[index + 1] - keyOffsets[index] == prefix.length()) {
+            index++;
+        }
+
+        while (index < to) {
+            char character = keyData[keyOffsets[index] + prefix.length()];
+            characters[count++] = character;
+            index = lowerBound(prefix + character, true);
+        }
+
+        return Arrays.copyOf(characters, count);
+    }
+
+    /**
+     * Creates a new immutable double-array trie, which contains specific entries.
+     *
+     * @param entries The entries in lexicographical order of their keys as an array of the type
+     *                {@link Map.Entry}. The array may not be null
+     */
+    private DoubleArrayStringTrie(@NotNull final Map.Entry<String, ?>[] entries) {
+        this(keysOf(entries), valuesOf(entries));
+    }
+
+    /**
+     * Creates a new immutable double-array trie, which contains all key-value pairs that are
+     * contained by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}, e.g. a {@link StringTrie}. The map may not
+     *            be null
+     */
+    public DoubleArrayStringTrie(@NotNull final Map<String, ? extends ValueType> map) {
+        this(sort(map));
+    }
+
+    /**
+     * Returns a read-only view on the initial state of the trie, or null, if the trie is empty. As
+     * a double-array trie does not consist of nodes of the type {@link Node}, the nodes of the view
+     * are created on demand. Each of their successors corresponds to a single character.
+     */
+    @Nullable
+    @Override
+    public final Node<String, ValueType> getRootNode() {
+        return !isEmpty() ? new NodeView(null, null, 0, "") : null;
+    }
+
+    @NotNull
+    @Override
+    public final DoubleArrayStringTrie<ValueType> subTrie(@Nullable final String sequence) {
+        String prefix = sequence != null ? sequence : "";
+        int from = lowerBound(prefix, false);
+        int to = lowerBound(prefix, true);
+
+        if (from == to) {
+            throw new NoSuchElementException();
+        }
+
+        if (keyOffsets[from + 1] - keyOffsets[from] == prefix.length()) {
+            from++;
+        }
+
+        String[] keys = new String[to - from];
+
+        for (int i = from; i < to; i++) {
+            keys[i - from] = new String(keyData, keyOffsets[i], keyOffsets[i + 1] - keyOffsets[i]);
+        }
+
+        return new DoubleArrayStringTrie<>(keys, Arrays.copyOfRange(values, from, to));
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        String key = prefix != null ? prefix : "";
+        return lowerBound(key, true) - lowerBound(key, false);
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return countWithPrefix(prefix) > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        String key = prefix != null ? prefix : "";
+        int to = lowerBound(key, true);
+
+        for (int i = lowerBound(key, false); i < to; i++) {
+            action.accept(keyAt(i), (ValueType) values[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        ensureValidRegion(key, start, end);
+        int index = indexOf(key, start, end);
+        return index != -1 ? (ValueType) values[index] : null;
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        ensureValidRegion(key, start, end);
+        return indexOf(key, start, end) != -1;
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        ensureValidRegion(key, start, end);
+        int state = 0;
+        int result = -1;
+        int position = start;
+
+        while (true) {
+            if (transition(state, 0) != -1) {
+                result = position - start;
+            }
+
+            if (position == end) {
+                return result;
+            }
+
+            state = transition(state, key.charAt(position++));
+
+            if (state == -1) {
+                return result;
+            }
+        }
+    }
+
+    @Override
+    public final int size() {
+        return values.length;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            return indexOf(string, 0, string.length()) != -1;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            int index = indexOf(string, 0, string.length());
+            return index != -1 ? (ValueType) values[index] : null;
+        }
+
+        return null;
+    }
+
+    @Override
+    public final ValueType put(final String key, final ValueType value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final ValueType remove(final Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void putAll(@NotNull final Map<? extends String, ? extends ValueType> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @NotNull
+    @Override
+    public final Set<Map.Entry<String, ValueType>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, ValueType>>() {
+
+                @NotNull
+                @Override
+                public Iterator<Map.Entry<String, ValueType>> iterator() {
+                    return new Iterator<Map.Entry<String, ValueType>>() {
+
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < values.length;
+                        }
+
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public Map.Entry<String, ValueType> next() {
+                            Condition.INSTANCE.ensureTrue(hasNext(), null,
+                                    NoSuchElementException.class);
+                            Map.Entry<String, ValueType> entry =
+                                    new AbstractMap.SimpleImmutableEntry<>(keyAt(index),
+                                            (ValueType) values[index]);
+                            index++;
+                            return entry;
+                        }
+
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+            };
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public final String toString() {
+        return "DoubleArrayStringTrie " + entrySet().toString();
+    }
+
+}
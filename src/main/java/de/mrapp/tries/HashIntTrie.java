@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.IntTrieWrapper;
+import de.mrapp.tries.sequence.IntSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * An unsorted trie, which uses sequences of integer values as keys. It is the pendant of the class
+ * {@link HashTrie} for using integer sequences as keys, i.e. the successors of nodes are stored
+ * in hash maps, which allows to look them up in constant time.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class HashIntTrie<ValueType> extends IntTrieWrapper<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -5127604319981637742L;
+
+    /**
+     * Creates a new empty, unsorted trie for storing integer sequences.
+     */
+    public HashIntTrie() {
+        super(new HashTrie<>());
+    }
+
+    /**
+     * Creates a new unsorted trie for storing integer sequences, which contains all key-value pairs
+     * that are contained by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public HashIntTrie(@NotNull final Map<IntSequence, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public final String toString() {
+        return "HashIntTrie " + entrySet().toString();
+    }
+
+}
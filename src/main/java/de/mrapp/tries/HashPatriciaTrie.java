@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.AbstractTrie;
+import de.mrapp.tries.datastructure.node.FirstElementHashNode;
+import de.mrapp.tries.structure.PatriciaStructure;
+import de.mrapp.tries.structure.Structure;
+import de.mrapp.util.datastructure.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An unsorted trie, which looks up the successors of nodes by the first element of their keys
+ * using hash tables. In contrast to a {@link HashTrie}, the edges between nodes do not always
+ * correspond to a single element of a sequence. Instead, subsequent nodes that only have a single
+ * successor are merged to a single node to reduce space complexity. As the successors of a node
+ * can be looked up in constant time, this implementation should be preferred over a {@link
+ * PatriciaTrie}, if the order of keys is irrelevant.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the trie's keys
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class HashPatriciaTrie<SequenceType extends Sequence, ValueType>
+        extends AbstractTrie<Structure<SequenceType, ValueType>, SequenceType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -6613504286718396215L;
+
+    /**
+     * Creates a new unsorted Patricia trie, which looks up the successors of nodes using hash
+     * tables.
+     *
+     * @param rootNode The root node of the trie as an instance of the type {@link Node} or null, if
+     *                 the trie should be empty
+     */
+    private HashPatriciaTrie(@Nullable final Node<SequenceType, ValueType> rootNode) {
+        super(rootNode);
+    }
+
+    /**
+     * Creates a new empty, unsorted Patricia trie, which looks up the successors of nodes using
+     * hash tables.
+     */
+    public HashPatriciaTrie() {
+        super();
+    }
+
+    /**
+     * Creates a new unsorted Patricia trie, which contains all key-value pairs that are contained
+     * by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public HashPatriciaTrie(@NotNull final Map<SequenceType, ValueType> map) {
+        super(map);
+    }
+
+    @NotNull
+    @Override
+    protected final Node<SequenceType, ValueType> createRootNode() {
+        return new FirstElementHashNode<>();
+    }
+
+    @NotNull
+    @Override
+    protected final Structure<SequenceType, ValueType> createStructure() {
+        return new PatriciaStructure<>();
+    }
+
+    @NotNull
+    @Override
+    public final HashPatriciaTrie<SequenceType, ValueType> subTrie(
+            @Nullable final SequenceType sequence) {
+        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getPrefixNode(sequence);
+
+        if (pair != null) {
+            Node<SequenceType, ValueType> node = pair.getFirst();
+            boolean hasSuccessors = node.hasSuccessors();
+            boolean includeNodeValue =
+                    (sequence != null && pair.getSecond() != null &&
+                            pair.getSecond().length() > sequence.length());
+
+            if (hasSuccessors || includeNodeValue) {
+                Node<SequenceType, ValueType> rootNode =
+                        structure.getSubTrie(pair.getSecond(), createRootNode(), node,
+                                includeNodeValue && !hasSuccessors);
+                return new HashPatriciaTrie<>(rootNode);
+            } else {
+                return new HashPatriciaTrie<>((Node<SequenceType, ValueType>) null);
+            }
+        }
+
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public final String toString() {
+        return "HashPatriciaTrie " + entrySet().toString();
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.IntSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a trie, which uses sequences of integer values, represented by the class
+ * {@link IntSequence}, as keys. This allows to store numeric paths, such as object identifiers or
+ * chains of category identifiers, without having to convert them to strings. The elements of the
+ * keys are compared as primitive values.
+ * <p>
+ * In addition to the methods of the interface {@link Trie}, this interface provides methods, which
+ * accept int arrays. The arrays are not copied, but wrapped by an {@link IntSequence}.
+ * Therefore, arrays, which are passed to the method {@link #put(int[], Object)}, must not be
+ * modified afterwards.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface IntTrie<ValueType> extends Trie<IntSequence, ValueType> {
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    @Override
+    IntTrie<ValueType> subTrie(@Nullable IntSequence sequence);
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    default IntTrie<ValueType> subTrie(@Nullable final int[] sequence) {
+        return subTrie(IntSequence.convertFromIntArray(sequence));
+    }
+
+    /**
+     * @see java.util.Map#get(Object)
+     */
+    default ValueType get(@Nullable final int[] key) {
+        return get((Object) IntSequence.convertFromIntArray(key));
+    }
+
+    /**
+     * @see java.util.Map#containsKey(Object)
+     */
+    default boolean containsKey(@Nullable final int[] key) {
+        return containsKey((Object) IntSequence.convertFromIntArray(key));
+    }
+
+    /**
+     * @see java.util.Map#put(Object, Object)
+     */
+    default ValueType put(@Nullable final int[] key, final ValueType value) {
+        return put(IntSequence.convertFromIntArray(key), value);
+    }
+
+    /**
+     * @see java.util.Map#remove(Object)
+     */
+    default ValueType remove(@Nullable final int[] key) {
+        return remove((Object) IntSequence.convertFromIntArray(key));
+    }
+
+    /**
+     * @see Trie#countWithPrefix(Sequence)
+     */
+    default int countWithPrefix(@Nullable final int[] prefix) {
+        return countWithPrefix(IntSequence.convertFromIntArray(prefix));
+    }
+
+    /**
+     * @see Trie#containsPrefix(Sequence)
+     */
+    default boolean containsPrefix(@Nullable final int[] prefix) {
+        return containsPrefix(IntSequence.convertFromIntArray(prefix));
+    }
+
+}
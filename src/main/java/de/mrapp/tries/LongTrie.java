@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.LongSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a trie, which uses sequences of long values, represented by the class
+ * {@link LongSequence}, as keys. This allows to store numeric paths, such as object identifiers or
+ * chains of category identifiers, without having to convert them to strings. The elements of the
+ * keys are compared as primitive values.
+ * <p>
+ * In addition to the methods of the interface {@link Trie}, this interface provides methods, which
+ * accept long arrays. The arrays are not copied, but wrapped by a {@link LongSequence}.
+ * Therefore, arrays, which are passed to the method {@link #put(long[], Object)}, must not be
+ * modified afterwards.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface LongTrie<ValueType> extends Trie<LongSequence, ValueType> {
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    @Override
+    LongTrie<ValueType> subTrie(@Nullable LongSequence sequence);
+
+    /**
+     * @see Trie#subTrie(Sequence)
+     */
+    @NotNull
+    default LongTrie<ValueType> subTrie(@Nullable final long[] sequence) {
+        return subTrie(LongSequence.convertFromLongArray(sequence));
+    }
+
+    /**
+     * @see java.util.Map#get(Object)
+     */
+    default ValueType get(@Nullable final long[] key) {
+        return get((Object) LongSequence.convertFromLongArray(key));
+    }
+
+    /**
+     * @see java.util.Map#containsKey(Object)
+     */
+    default boolean containsKey(@Nullable final long[] key) {
+        return containsKey((Object) LongSequence.convertFromLongArray(key));
+    }
+
+    /**
+     * @see java.util.Map#put(Object, Object)
+     */
+    default ValueType put(@Nullable final long[] key, final ValueType value) {
+        return put(LongSequence.convertFromLongArray(key), value);
+    }
+
+    /**
+     * @see java.util.Map#remove(Object)
+     */
+    default ValueType remove(@Nullable final long[] key) {
+        return remove((Object) LongSequence.convertFromLongArray(key));
+    }
+
+    /**
+     * @see Trie#countWithPrefix(Sequence)
+     */
+    default int countWithPrefix(@Nullable final long[] prefix) {
+        return countWithPrefix(LongSequence.convertFromLongArray(prefix));
+    }
+
+    /**
+     * @see Trie#containsPrefix(Sequence)
+     */
+    default boolean containsPrefix(@Nullable final long[] prefix) {
+        return containsPrefix(LongSequence.convertFromLongArray(prefix));
+    }
+
+}
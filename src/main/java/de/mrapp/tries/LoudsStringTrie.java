@@ -0,0 +1,1413 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.node.AbstractReadOnlyNode;
+import de.mrapp.tries.util.EntryUtil;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable trie for storing character sequences, which uses a succinct representation based
+ * on the level-order unary degree sequence (LOUDS). The nodes of the trie are numbered in
+ * level-order, i.e. breadth-first, and the number of successors of each node is encoded in unary
+ * by a bit vector. Together with a second bit vector, which marks the nodes that correspond to
+ * keys, and the labels of the edges, the trie requires about three bits per node in addition to
+ * the labels. The successors of a node are found by using select queries on the bit vector,
+ * whereas the values of keys are found by using rank queries.
+ * <p>
+ * A LOUDS trie is built from an existing map, e.g. another {@link StringTrie}, and cannot be
+ * modified afterwards. All methods, which attempt to change the trie's state, throw an {@link
+ * UnsupportedOperationException}. The entries of the trie are iterated in lexicographical order
+ * of their keys, where the empty key, which is represented by null, precedes all other keys. The
+ * trie can be navigated, e.g. by using the method {@link #ceilingEntry(String)}, by walking down
+ * the path of a key and backtracking to the next adjacent successor. As the trie is immutable, the
+ * maps, which are returned by the methods {@link #subMap(String, boolean, String, boolean)},
+ * {@link #headMap(String, boolean)} and {@link #tailMap(String, boolean)}, are LOUDS tries
+ * themselves, which contain the entries within the given range. The navigable key sets and the
+ * descending map of the trie are unmodifiable copies. As the trie does not consist of nodes of the
+ * type {@link Node}, the method {@link #getRootNode()} returns a read-only view, whose nodes are
+ * created on demand.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class LoudsStringTrie<ValueType> extends AbstractMap<String, ValueType>
+        implements SortedStringTrie<ValueType> {
+
+    /**
+     * An immutable bit vector, which supports rank and select queries. The number of set bits
+     * before each block of 512 bits is stored in an additional array, which increases the size of
+     * the bit vector by 6.25 percent.
+     */
+    private static final class BitVector implements Serializable {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 2417706291855416907L;
+
+        /**
+         * The number of words per block.
+         */
+        private static final int WORDS_PER_BLOCK = 8;
+
+        /**
+         * The number of bits per block.
+         */
+        private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+
+        /**
+         * The words, which store the bits. The bit at index i is stored in the word at index i /
+         * 64 at the position i % 64, starting at the least significant bit.
+         */
+        private final long[] words;
+
+        /**
+         * The number of bits.
+         */
+        private final int length;
+
+        /**
+         * The number of set bits before each block.
+         */
+        private final int[] blockRanks;
+
+        /**
+         * Creates a new bit vector.
+         *
+         * @param words  The words, which store the bits, as a {@link Long} array. The array may
+         *               not be null
+         * @param length The number of bits as an {@link Integer} value
+         */
+        BitVector(@NotNull final long[] words, final int length) {
+            this.words = Arrays.copyOf(words, (length + Long.SIZE - 1) / Long.SIZE);
+            this.length = length;
+            this.blockRanks = new int[this.words.length / WORDS_PER_BLOCK + 1];
+            int rank = 0;
+
+            for (int i = 0; i < this.words.length; i++) {
+                if (i % WORDS_PER_BLOCK == 0) {
+                    blockRanks[i / WORDS_PER_BLOCK] = rank;
+                }
+
+                rank += Long.bitCount(this.words[i]);
+            }
+
+            if (this.words.length % WORDS_PER_BLOCK == 0) {
+                blockRanks[blockRanks.length - 1] = rank;
+            }
+        }
+
+        /**
+         * Returns the bit at a specific index.
+         *
+         * @param index The index as an {@link Integer} value
+         * @return True, if the bit is set, false otherwise
+         */
+        boolean get(final int index) {
+            return (words[index >>> 6] & (1L << index)) != 0;
+        }
+
+        /**
+         * Returns the number of set bits before a specific index.
+         *
+         * @param index The index as an {@link Integer} value. It must be at least 0 and at maximum
+         *              the length of the bit vector
+         * @return The number of set bits before the given index as an {@link Integer} value
+         */
+        int rank1(final int index) {
+            int wordIndex = index >>> 6;
+            int rank = blockRanks[wordIndex / WORDS_PER_BLOCK];
+
+            for (int i = wordIndex - wordIndex % WORDS_PER_BLOCK; i < wordIndex; i++) {
+                rank += Long.bitCount(words[i]);
+            }
+
+            int remainder = index & 63;
+            return remainder > 0 ? rank + Long.bitCount(words[wordIndex] << (64 - remainder)) :
+                    rank;
+        }
+
+        /**
+         * Returns the index of the unset bit with a specific rank.
+         *
+         * @param rank The rank of the unset bit, starting at 0, as an {@link Integer} value. It
+         *             must be less than the number of unset bits
+         * @return The index of the unset bit as an {@link Integer} value
+         */
+        int select0(final int rank) {
+            int low = 0;
+            int high = blockRanks.length - 1;
+
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+
+                if ((long) mid * BITS_PER_BLOCK - blockRanks[mid] <= rank) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            int remaining = rank - (low * BITS_PER_BLOCK - blockRanks[low]);
+            int wordIndex = low * WORDS_PER_BLOCK;
+
+            while (true) {
+                long inverted = ~words[wordIndex];
+                int zeros = Long.bitCount(inverted);
+
+                if (remaining < zeros) {
+                    for (int i = 0; i < remaining; i++) {
+                        inverted &= inverted - 1;
+                    }
+
+                    return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(inverted);
+                }
+
+                remaining -= zeros;
+                wordIndex++;
+            }
+        }
+
+    }
+
+    /**
+     * A builder, which allows to create a {@link BitVector} by appending bits.
+     */
+    private static final class BitVectorBuilder {
+
+        /**
+         * The words, which store the bits.
+         */
+        private long[] words = new long[16];
+
+        /**
+         * The number of bits, which have been appended.
+         */
+        private int length = 0;
+
+        /**
+         * Appends a bit.
+         *
+         * @param bit True, if the bit is set, false otherwise
+         */
+        void append(final boolean bit) {
+            if (length >>> 6 == words.length) {
+                words = Arrays.copyOf(words, words.length * 2);
+            }
+
+            if (bit) {
+                words[length >>> 6] |= 1L << length;
+            }
+
+            length++;
+        }
+
+        /**
+         * Creates and returns the bit vector.
+         *
+         * @return The bit vector, which has been created, as an instance of the class {@link
+         * BitVector}. The bit vector may not be null
+         */
+        @NotNull
+        BitVector build() {
+            return new BitVector(words, length);
+        }
+
+    }
+
+    /**
+     * An iterator, which allows to iterate the entries of a subtree in lexicographical order of
+     * their keys.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class EntryIterator<V> implements Iterator<Map.Entry<String, V>> {
+
+        /**
+         * The trie, which is traversed by the iterator.
+         */
+        private final LoudsStringTrie<V> trie;
+
+        /**
+         * The nodes, which are currently traversed.
+         */
+        private int[] nodes;
+
+        /**
+         * The position of the next successor of each traversed node in the LOUDS bit vector.
+         */
+        private int[] positions;
+
+        /**
+         * The position after the last successor of each traversed node in the LOUDS bit vector.
+         */
+        private int[] ends;
+
+        /**
+         * The number of nodes, which are currently traversed.
+         */
+        private int depth;
+
+        /**
+         * The key of the currently traversed node.
+         */
+        private final StringBuilder key;
+
+        /**
+         * The entry, which is returned next, or null, if all entries have been iterated.
+         */
+        private Map.Entry<String, V> next;
+
+        /**
+         * Starts to traverse a specific node.
+         *
+         * @param node The node as an {@link Integer} value
+         */
+        private void push(final int node) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                positions = Arrays.copyOf(positions, depth * 2);
+                ends = Arrays.copyOf(ends, depth * 2);
+            }
+
+            nodes[depth] = node;
+            positions[depth] = trie.start(node);
+            ends[depth] = trie.louds.select0(node);
+            depth++;
+        }
+
+        /**
+         * Creates and returns an entry for a specific node.
+         *
+         * @param node The node as an {@link Integer} value
+         * @return The entry, which has been created, as an instance of the type {@link Map.Entry}
+         * or null, if the node does not correspond to a key
+         */
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private Map.Entry<String, V> entry(final int node) {
+            if (trie.terminals.get(node)) {
+                return new AbstractMap.SimpleImmutableEntry<>(
+                        key.length() > 0 ? key.toString() : null,
+                        (V) trie.values[trie.terminals.rank1(node)]);
+            }
+
+            return null;
+        }
+
+        /**
+         * Returns the next entry, which should be returned by the iterator.
+         *
+         * @return The next entry as an instance of the type {@link Map.Entry} or null, if all
+         * entries have been visited
+         */
+        @Nullable
+        private Map.Entry<String, V> fetchNext() {
+            while (depth > 0) {
+                int top = depth - 1;
+
+                if (positions[top] < ends[top]) {
+                    int successor = positions[top]++ - nodes[top] + 1;
+                    key.append(trie.labels[successor - 1]);
+                    push(successor);
+                    Map.Entry<String, V> entry = entry(successor);
+
+                    if (entry != null) {
+                        return entry;
+                    }
+                } else {
+                    depth--;
+
+                    if (depth > 0) {
+                        key.setLength(key.length() - 1);
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Creates a new iterator, which allows to iterate the entries of a specific subtree.
+         *
+         * @param trie   The trie as an instance of the class {@link LoudsStringTrie}. The trie may
+         *               not be null
+         * @param node   The root of the subtree as an {@link Integer} value or -1, if no entries
+         *               should be iterated
+         * @param prefix The key of the root of the subtree as a {@link String}. The key may not be
+         *               null
+         */
+        EntryIterator(@NotNull final LoudsStringTrie<V> trie, final int node,
+                      @NotNull final String prefix) {
+            this.trie = trie;
+            this.nodes = new int[16];
+            this.positions = new int[16];
+            this.ends = new int[16];
+            this.depth = 0;
+            this.key = new StringBuilder(prefix);
+
+            if (node != -1) {
+                push(node);
+                Map.Entry<String, V> entry = entry(node);
+                this.next = entry != null ? entry : fetchNext();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            Condition.INSTANCE.ensureTrue(hasNext(), null, NoSuchElementException.class);
+            Map.Entry<String, V> result = next;
+            next = fetchNext();
+            return result;
+        }
+
+    }
+
+    /**
+     * A read-only view on a node of a LOUDS trie. Each successor of such a node corresponds to a
+     * single character, i.e. to the label of the edge, which leads to the successor.
+     */
+    private final class NodeView extends AbstractReadOnlyNode<String, ValueType> implements
+            RandomAccess {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = -2950842713562970184L;
+
+        /**
+         * The index of the node, which corresponds to the view, in level-order.
+         */
+        private final int node;
+
+        /**
+         * Creates a new read-only view on a node of a LOUDS trie.
+         *
+         * @param predecessor The view on the predecessor as an instance of the type {@link Node}
+         *                    or null, if the view corresponds to the root node
+         * @param key         The key, the view is referenced by in its predecessor, as a {@link
+         *                    String} or null, if the view corresponds to the root node
+         * @param node        The index of the node, which corresponds to the view, in level-order
+         *                    as an {@link Integer} value
+         */
+        NodeView(@Nullable final Node<String, ValueType> predecessor, @Nullable final String key,
+                 final int node) {
+            super(predecessor, key);
+            this.node = node;
+        }
+
+        /**
+         * Returns the index of the label of the node's first successor.
+         *
+         * @return The index of the label as an {@link Integer} value
+         */
+        private int firstLabel() {
+            return start(node) - node;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        @Override
+        public NodeValue<ValueType> getNodeValue() {
+            int index = valueIndex(node);
+            return index != -1 ? new NodeValue<>((ValueType) values[index]) : null;
+        }
+
+        @Override
+        public int getSuccessorCount() {
+            return louds.select0(node) - start(node);
+        }
+
+        @Nullable
+        @Override
+        public Node<String, ValueType> getSuccessor(@NotNull final String key) {
+            if (key.length() != 1) {
+                return null;
+            }
+
+            int successor = LoudsStringTrie.this.getSuccessor(node, key.charAt(0));
+            return successor != -1 ? new NodeView(this, key, successor) : null;
+        }
+
+        @NotNull
+        @Override
+        public String getSuccessorKey(final int index) {
+            if (index < 0 || index >= getSuccessorCount()) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+
+            return String.valueOf(labels[firstLabel() + index]);
+        }
+
+        @NotNull
+        @Override
+        public Node<String, ValueType> getSuccessor(final int index) {
+            String key = getSuccessorKey(index);
+            return new NodeView(this, key, firstLabel() + index + 1);
+        }
+
+        @Override
+        public int indexOf(@NotNull final String key) {
+            if (key.length() != 1) {
+                return -1;
+            }
+
+            int successor = LoudsStringTrie.this.getSuccessor(node, key.charAt(0));
+            return successor != -1 ? successor - firstLabel() - 1 : -1;
+        }
+
+        @Override
+        public int getSuccessorValueCount() {
+            return count(node);
+        }
+
+        @NotNull
+        @Override
+        public Iterator<String> iterator() {
+            int firstLabel = firstLabel();
+            int successorCount = getSuccessorCount();
+            List<String> keys = new ArrayList<>(successorCount);
+
+            for (int i = 0; i < successorCount; i++) {
+                keys.add(String.valueOf(labels[firstLabel + i]));
+            }
+
+            return Collections.unmodifiableList(keys).iterator();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(LoudsStringTrie.this) + node;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null)
+                return false;
+            if (this == obj)
+                return true;
+            if (obj.getClass() != getClass())
+                return false;
+            NodeView other = (NodeView) obj;
+            return getTrie() == other.getTrie() && node == other.node;
+        }
+
+        /**
+         * Returns the trie, the view belongs to.
+         *
+         * @return The trie, the view belongs to, as an instance of the class {@link
+         * LoudsStringTrie}. The trie may not be null
+         */
+        @NotNull
+        private LoudsStringTrie<ValueType> getTrie() {
+            return LoudsStringTrie.this;
+        }
+
+    }
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -7125584950185236498L;
+
+    /**
+     * The comparator, which is used to compare keys, which may be null, when creating copies of
+     * the trie's keys.
+     */
+    private static final Comparator<String> NULLS_FIRST_COMPARATOR =
+            Comparator.nullsFirst(Comparator.naturalOrder());
+
+    /**
+     * The LOUDS bit vector. For each node in level-order, it contains a set bit per successor,
+     * followed by an unset bit.
+     */
+    private final BitVector louds;
+
+    /**
+     * The bit vector, which marks the nodes that correspond to keys.
+     */
+    private final BitVector terminals;
+
+    /**
+     * The labels of the edges, which lead to the nodes. The label of the node with index i is
+     * stored at index i - 1, as the root node does not have a label.
+     */
+    private final char[] labels;
+
+    /**
+     * The values of the keys in level-order of the nodes, the keys correspond to.
+     */
+    private final Object[] values;
+
+    /**
+     * The entry set of the trie.
+     */
+    private transient Set<Map.Entry<String, ValueType>> entrySet;
+
+    /**
+     * Returns the entries of a map in lexicographical order of their keys. Null keys are treated
+     * as empty strings.
+     *
+     * @param map The map as an instance of the type {@link Map}. The map may not be null
+     * @return An array, which contains the sorted entries, as an array of the type {@link
+     * Map.Entry}. The array may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static Map.Entry<String, ?>[] sort(@NotNull final Map<String, ?> map) {
+        Condition.INSTANCE.ensureNotNull(map, "The map may not be null");
+        Map.Entry<String, ?>[] entries = map.entrySet().toArray(
+                (Map.Entry<String, ?>[]) new Map.Entry<?, ?>[0]);
+        Arrays.sort(entries, Comparator.comparing(
+                entry -> entry.getKey() != null ? entry.getKey() : ""));
+        return entries;
+    }
+
+    /**
+     * Returns the key of a specific entry. Null keys are converted to empty strings.
+     *
+     * @param entry The entry as an instance of the type {@link Map.Entry}. The entry may not be
+     *              null
+     * @return The key of the given entry as a {@link String}. The key may not be null
+     */
+    @NotNull
+    private static String keyOf(@NotNull final Map.Entry<String, ?> entry) {
+        return entry.getKey() != null ? entry.getKey() : "";
+    }
+
+    /**
+     * Returns the position of the first successor of a specific node in the LOUDS bit vector.
+     *
+     * @param node The node as an {@link Integer} value
+     * @return The position of the first successor as an {@link Integer} value
+     */
+    private int start(final int node) {
+        return node > 0 ? louds.select0(node - 1) + 1 : 0;
+    }
+
+    /**
+     * Returns the node, which corresponds to a specific region of a character sequence.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @return The node as an {@link Integer} value or -1, if no such node is available
+     */
+    private int getNode(@NotNull final CharSequence key, final int start, final int end) {
+        if (values.length == 0) {
+            return -1;
+        }
+
+        int node = 0;
+
+        for (int i = start; i < end && node != -1; i++) {
+            node = getSuccessor(node, key.charAt(i));
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the successor of a specific node, which corresponds to a specific character. The
+     * successor is searched by using binary search on the labels of the node's successors.
+     *
+     * @param node      The node as an {@link Integer} value
+     * @param character The character as a {@link Character} value
+     * @return The successor as an {@link Integer} value or -1, if no such successor is available
+     */
+    private int getSuccessor(final int node, final char character) {
+        int startPosition = start(node);
+        int low = startPosition - node;
+        int high = louds.select0(node) - node - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+
+            if (label < character) {
+                low = mid + 1;
+            } else if (label > character) {
+                high = mid - 1;
+            } else {
+                return mid + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of keys, which start with the key that corresponds to a specific node.
+     * The keys are counted level by level, as the successors of consecutive nodes are
+     * consecutive as well.
+     *
+     * @param node The node as an {@link Integer} value
+     * @return The number of keys as an {@link Integer} value
+     */
+    private int count(final int node) {
+        int count = 0;
+        int from = node;
+        int to = node + 1;
+
+        while (from < to) {
+            count += terminals.rank1(to) - terminals.rank1(from);
+            from = start(from) - from + 1;
+            to = start(to) - to + 1;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the index of the value of a specific node.
+     *
+     * @param node The node as an {@link Integer} value or -1
+     * @return The index of the value as an {@link Integer} value or -1, if the given node does not
+     * correspond to a key
+     */
+    private int valueIndex(final int node) {
+        return node != -1 && terminals.get(node) ? terminals.rank1(node) : -1;
+    }
+
+    /**
+     * Returns the successor of a specific node, whose label is adjacent to a specific character,
+     * i.e. the successor with the smallest label greater than the character or the successor with
+     * the largest label less than the character.
+     *
+     * @param node      The node as an {@link Integer} value
+     * @param character The character as a {@link Character} value
+     * @param higher    True, if the successor with the smallest label greater than the given
+     *                  character should be returned, false, if the successor with the largest
+     *                  label less than the character should be returned
+     * @return The successor as an {@link Integer} value or -1, if no such successor is available
+     */
+    private int getAdjacentSuccessor(final int node, final char character, final boolean higher) {
+        int first = start(node) - node;
+        int low = first;
+        int high = louds.select0(node) - node;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+
+            if (label < character || (higher && label == character)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (higher) {
+            return low < louds.select0(node) - node ? low + 1 : -1;
+        }
+
+        return low > first ? low : -1;
+    }
+
+    /**
+     * Returns the entry of a specific node.
+     *
+     * @param node The node as an {@link Integer} value. The node must correspond to a key
+     * @param key  The key, which corresponds to the node, as an instance of the type {@link
+     *             CharSequence}. The key may not be null
+     * @return The entry as an instance of the type {@link Map.Entry}. The entry may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private Map.Entry<String, ValueType> entry(final int node, @NotNull final CharSequence key) {
+        return new AbstractMap.SimpleImmutableEntry<>(key.length() > 0 ? key.toString() : null,
+                (ValueType) values[terminals.rank1(node)]);
+    }
+
+    /**
+     * Returns the entry with the smallest key within the subtree of a specific node.
+     *
+     * @param node   The root of the subtree as an {@link Integer} value
+     * @param prefix The key, which corresponds to the root of the subtree, as an instance of the
+     *               class {@link StringBuilder}. The builder may not be null
+     * @return The entry as an instance of the type {@link Map.Entry}. The entry may not be null
+     */
+    @NotNull
+    private Map.Entry<String, ValueType> getFirstEntry(final int node,
+                                                       @NotNull final StringBuilder prefix) {
+        int current = node;
+
+        while (!terminals.get(current)) {
+            current = start(current) - current + 1;
+            prefix.append(labels[current - 1]);
+        }
+
+        return entry(current, prefix);
+    }
+
+    /**
+     * Returns the entry with the largest key within the subtree of a specific node.
+     *
+     * @param node   The root of the subtree as an {@link Integer} value
+     * @param prefix The key, which corresponds to the root of the subtree, as an instance of the
+     *               class {@link StringBuilder}. The builder may not be null
+     * @return The entry as an instance of the type {@link Map.Entry}. The entry may not be null
+     */
+    @NotNull
+    private Map.Entry<String, ValueType> getLastEntry(final int node,
+                                                      @NotNull final StringBuilder prefix) {
+        int current = node;
+        int end = louds.select0(current);
+
+        while (start(current) < end) {
+            current = end - current;
+            prefix.append(labels[current - 1]);
+            end = louds.select0(current);
+        }
+
+        return entry(current, prefix);
+    }
+
+    /**
+     * Walks down the path of a specific key as far as possible.
+     *
+     * @param key  The key as a {@link String}. The key may not be null
+     * @param path An {@link Integer} array, the nodes along the path should be stored in. Its
+     *             length must be greater than the length of the key
+     * @return The number of characters of the key, which have been matched, as an {@link Integer}
+     * value
+     */
+    private int walk(@NotNull final String key, @NotNull final int[] path) {
+        int depth = 0;
+        path[0] = 0;
+
+        while (depth < key.length()) {
+            int successor = getSuccessor(path[depth], key.charAt(depth));
+
+            if (successor == -1) {
+                break;
+            }
+
+            path[++depth] = successor;
+        }
+
+        return depth;
+    }
+
+    /**
+     * Returns the entry with the smallest key, which is greater than, or equal to, a specific key.
+     *
+     * @param key       The key as a {@link String} or null
+     * @param inclusive True, if an entry with the given key may be returned, false otherwise
+     * @return The entry as an instance of the type {@link Map.Entry} or null, if no such entry is
+     * available
+     */
+    @Nullable
+    private Map.Entry<String, ValueType> getCeilingEntry(@Nullable final String key,
+                                                         final boolean inclusive) {
+        if (isEmpty()) {
+            return null;
+        }
+
+        String string = key != null ? key : "";
+        int[] path = new int[string.length() + 1];
+        int depth = walk(string, path);
+        int node = path[depth];
+
+        if (depth == string.length()) {
+            if (inclusive && terminals.get(node)) {
+                return entry(node, string);
+            } else if (start(node) < louds.select0(node)) {
+                int successor = start(node) - node + 1;
+                return getFirstEntry(successor,
+                        new StringBuilder(string).append(labels[successor - 1]));
+            }
+        } else {
+            int successor = getAdjacentSuccessor(node, string.charAt(depth), true);
+
+            if (successor != -1) {
+                return getFirstEntry(successor, new StringBuilder(depth + 1)
+                        .append(string, 0, depth).append(labels[successor - 1]));
+            }
+        }
+
+        for (int i = depth; i > 0; i--) {
+            int successor = getAdjacentSuccessor(path[i - 1], string.charAt(i - 1), true);
+
+            if (successor != -1) {
+                return getFirstEntry(successor, new StringBuilder(i)
+                        .append(string, 0, i - 1).append(labels[successor - 1]));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the entry with the largest key, which is less than, or equal to, a specific key.
+     *
+     * @param key       The key as a {@link String} or null
+     * @param inclusive True, if an entry with the given key may be returned, false otherwise
+     * @return The entry as an instance of the type {@link Map.Entry} or null, if no such entry is
+     * available
+     */
+    @Nullable
+    private Map.Entry<String, ValueType> getFloorEntry(@Nullable final String key,
+                                                       final boolean inclusive) {
+        if (isEmpty()) {
+            return null;
+        }
+
+        String string = key != null ? key : "";
+        int[] path = new int[string.length() + 1];
+        int depth = walk(string, path);
+        int node = path[depth];
+
+        if (depth == string.length()) {
+            if (inclusive && terminals.get(node)) {
+                return entry(node, string);
+            }
+        } else {
+            int successor = getAdjacentSuccessor(node, string.charAt(depth), false);
+
+            if (successor != -1) {
+                return getLastEntry(successor, new StringBuilder(string.substring(0, depth))
+                        .append(labels[successor - 1]));
+            } else if (terminals.get(node)) {
+                return entry(node, string.substring(0, depth));
+            }
+        }
+
+        for (int i = depth; i > 0; i--) {
+            int predecessor = path[i - 1];
+            int successor = getAdjacentSuccessor(predecessor, string.charAt(i - 1), false);
+
+            if (successor != -1) {
+                return getLastEntry(successor, new StringBuilder(string.substring(0, i - 1))
+                        .append(labels[successor - 1]));
+            } else if (terminals.get(predecessor)) {
+                return entry(predecessor, string.substring(0, i - 1));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a trie, which contains all entries of this trie, whose keys are within a specific
+     * range.
+     *
+     * @param fromStart     True, if the range should not be bounded by a lowest key, false
+     *                      otherwise
+     * @param fromKey       The lowest key of the range as a {@link String} or null
+     * @param fromInclusive True, if the lowest key should be included in the range, false
+     *                      otherwise
+     * @param toEnd         True, if the range should not be bounded by a highest key, false
+     *                      otherwise
+     * @param toKey         The highest key of the range as a {@link String} or null
+     * @param toInclusive   True, if the highest key should be included in the range, false
+     *                      otherwise
+     * @return The trie, which has been created, as an instance of the class {@link
+     * LoudsStringTrie}. The trie may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private LoudsStringTrie<ValueType> range(final boolean fromStart,
+                                             @Nullable final String fromKey,
+                                             final boolean fromInclusive, final boolean toEnd,
+                                             @Nullable final String toKey,
+                                             final boolean toInclusive) {
+        String from = fromKey != null ? fromKey : "";
+        String to = toKey != null ? toKey : "";
+
+        if (!fromStart && !toEnd && from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+
+        List<Map.Entry<String, ?>> entries = new ArrayList<>();
+        Map.Entry<String, ValueType> entry =
+                fromStart ? firstEntry() : getCeilingEntry(from, fromInclusive);
+
+        while (entry != null) {
+            String key = entry.getKey() != null ? entry.getKey() : "";
+
+            if (!toEnd) {
+                int order = key.compareTo(to);
+
+                if (order > 0 || (order == 0 && !toInclusive)) {
+                    break;
+                }
+            }
+
+            entries.add(entry);
+            entry = getCeilingEntry(key, false);
+        }
+
+        return new LoudsStringTrie<>(
+                entries.toArray((Map.Entry<String, ?>[]) new Map.Entry<?, ?>[0]));
+    }
+
+    /**
+     * Returns an unmodifiable copy of the trie, whose keys are sorted in descending order.
+     *
+     * @return The copy as an instance of the type {@link NavigableMap}. The copy may not be null
+     */
+    @NotNull
+    private NavigableMap<String, ValueType> descendingCopy() {
+        NavigableMap<String, ValueType> copy = new TreeMap<>(NULLS_FIRST_COMPARATOR.reversed());
+        copy.putAll(this);
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific region of a character sequence is
+     * invalid.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     */
+    private static void ensureValidRegion(@NotNull final CharSequence key, final int start,
+                                          final int end) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+
+        if (start < 0 || end > key.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + key.length());
+        }
+    }
+
+    /**
+     * Creates a new immutable LOUDS trie, which contains specific entries. The nodes are created
+     * in level-order by using a queue of ranges of the sorted entries, which share a common
+     * prefix.
+     *
+     * @param entries The entries in lexicographical order of their keys as an array of the type
+     *                {@link Map.Entry}. The array may not be null
+     */
+    private LoudsStringTrie(@NotNull final Map.Entry<String, ?>[] entries) {
+        BitVectorBuilder loudsBuilder = new BitVectorBuilder();
+        BitVectorBuilder terminalsBuilder = new BitVectorBuilder();
+        char[] labels = new char[16];
+        int labelCount = 0;
+        Object[] values = new Object[entries.length];
+        int valueCount = 0;
+
+        if (entries.length > 0) {
+            int[] queue = new int[48];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = 0;
+            queue[tail++] = entries.length;
+            queue[tail++] = 0;
+
+            while (head < tail) {
+                int from = queue[head++];
+                int to = queue[head++];
+                int depth = queue[head++];
+                String firstKey = keyOf(entries[from]);
+                boolean terminal = firstKey.length() == depth;
+                terminalsBuilder.append(terminal);
+
+                if (terminal) {
+                    values[valueCount++] = entries[from].getValue();
+                    from++;
+
+                    if (from < to && keyOf(entries[from]).length() == depth) {
+                        throw new IllegalArgumentException(
+                                "Key \"" + firstKey + "\" is not unique");
+                    }
+                }
+
+                int i = from;
+
+                while (i < to) {
+                    char label = keyOf(entries[i]).charAt(depth);
+                    int j = i + 1;
+
+                    while (j < to && keyOf(entries[j]).charAt(depth) == label) {
+                        j++;
+                    }
+
+                    if (labelCount == labels.length) {
+                        labels = Arrays.copyOf(labels, labelCount * 2);
+                    }
+
+                    if (tail + 3 > queue.length) {
+                        System.arraycopy(queue, head, queue, 0, tail - head);
+                        tail -= head;
+                        head = 0;
+
+                        if (tail + 3 > queue.length) {
+                            queue = Arrays.copyOf(queue, queue.length * 2);
+                        }
+                    }
+
+                    labels[labelCount++] = label;
+                    queue[tail++] = i;
+                    queue[tail++] = j;
+                    queue[tail++] = depth + 1;
+                    loudsBuilder.append(true);
+                    i = j;
+                }
+
+                loudsBuilder.append(false);
+            }
+        }
+
+        this.louds = loudsBuilder.build();
+        this.terminals = terminalsBuilder.build();
+        this.labels = Arrays.copyOf(labels, labelCount);
+        this.values = values;
+    }
+
+    /**
+     * Creates a new immutable LOUDS trie, which contains all key-value pairs that are contained by
+     * a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}, e.g. a {@link SortedStringTrie}. The map may
+     *            not be null
+     */
+    public LoudsStringTrie(@NotNull final Map<String, ? extends ValueType> map) {
+        this(sort(map));
+    }
+
+    /**
+     * Returns a read-only view on the root node of the trie, or null, if the trie is empty. As a
+     * LOUDS trie does not consist of nodes of the type {@link Node}, the nodes of the view are
+     * created on demand. Each of their successors corresponds to a single character.
+     */
+    @Nullable
+    @Override
+    public final Node<String, ValueType> getRootNode() {
+        return !isEmpty() ? new NodeView(null, null, 0) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    public final LoudsStringTrie<ValueType> subTrie(@Nullable final String sequence) {
+        String prefix = sequence != null ? sequence : "";
+        int node = getNode(prefix, 0, prefix.length());
+
+        if (node == -1) {
+            throw new NoSuchElementException();
+        }
+
+        List<Map.Entry<String, ?>> entries = new ArrayList<>();
+        Iterator<Map.Entry<String, ValueType>> iterator = new EntryIterator<>(this, node, prefix);
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, ValueType> entry = iterator.next();
+
+            if (entry.getKey() != null && entry.getKey().length() > prefix.length()) {
+                entries.add(entry);
+            }
+        }
+
+        return new LoudsStringTrie<>(
+                entries.toArray((Map.Entry<String, ?>[]) new Map.Entry<?, ?>[0]));
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        String key = prefix != null ? prefix : "";
+        int node = getNode(key, 0, key.length());
+        return node != -1 ? count(node) : 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return countWithPrefix(prefix) > 0;
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        String key = prefix != null ? prefix : "";
+        Iterator<Map.Entry<String, ValueType>> iterator =
+                new EntryIterator<>(this, getNode(key, 0, key.length()), key);
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, ValueType> entry = iterator.next();
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        ensureValidRegion(key, start, end);
+        int index = valueIndex(getNode(key, start, end));
+        return index != -1 ? (ValueType) values[index] : null;
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        ensureValidRegion(key, start, end);
+        return valueIndex(getNode(key, start, end)) != -1;
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        ensureValidRegion(key, start, end);
+        int node = values.length > 0 ? 0 : -1;
+        int result = -1;
+        int position = start;
+
+        while (node != -1) {
+            if (terminals.get(node)) {
+                result = position - start;
+            }
+
+            node = position < end ? getSuccessor(node, key.charAt(position++)) : -1;
+        }
+
+        return result;
+    }
+
+    @Override
+    public final int size() {
+        return values.length;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            return valueIndex(getNode(string, 0, string.length())) != -1;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            int index = valueIndex(getNode(string, 0, string.length()));
+            return index != -1 ? (ValueType) values[index] : null;
+        }
+
+        return null;
+    }
+
+    @Override
+    public final ValueType put(final String key, final ValueType value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final ValueType remove(final Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void putAll(@NotNull final Map<? extends String, ? extends ValueType> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> pollFirstEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> pollLastEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> lowerEntry(final String key) {
+        return getFloorEntry(key, false);
+    }
+
+    @Override
+    public final String lowerKey(final String key) {
+        return EntryUtil.getKey(lowerEntry(key));
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> floorEntry(final String key) {
+        return getFloorEntry(key, true);
+    }
+
+    @Override
+    public final String floorKey(final String key) {
+        return EntryUtil.getKey(floorEntry(key));
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> ceilingEntry(final String key) {
+        return getCeilingEntry(key, true);
+    }
+
+    @Override
+    public final String ceilingKey(final String key) {
+        return EntryUtil.getKey(ceilingEntry(key));
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> higherEntry(final String key) {
+        return getCeilingEntry(key, false);
+    }
+
+    @Override
+    public final String higherKey(final String key) {
+        return EntryUtil.getKey(higherEntry(key));
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> firstEntry() {
+        return !isEmpty() ? getFirstEntry(0, new StringBuilder()) : null;
+    }
+
+    @Override
+    public final Map.Entry<String, ValueType> lastEntry() {
+        return !isEmpty() ? getLastEntry(0, new StringBuilder()) : null;
+    }
+
+    @Override
+    public final String firstKey() {
+        return EntryUtil.getKeyOrThrowException(firstEntry());
+    }
+
+    @Override
+    public final String lastKey() {
+        return EntryUtil.getKeyOrThrowException(lastEntry());
+    }
+
+    @Override
+    public final Comparator<? super String> comparator() {
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public final NavigableMap<String, ValueType> descendingMap() {
+        return descendingCopy();
+    }
+
+    @NotNull
+    @Override
+    public final NavigableSet<String> navigableKeySet() {
+        return descendingCopy().descendingKeySet();
+    }
+
+    @NotNull
+    @Override
+    public final NavigableSet<String> descendingKeySet() {
+        return descendingCopy().navigableKeySet();
+    }
+
+    @NotNull
+    @Override
+    public final NavigableMap<String, ValueType> subMap(final String fromKey,
+                                                        final boolean fromInclusive,
+                                                        final String toKey,
+                                                        final boolean toInclusive) {
+        return range(false, fromKey, fromInclusive, false, toKey, toInclusive);
+    }
+
+    @NotNull
+    @Override
+    public final NavigableMap<String, ValueType> headMap(final String toKey,
+                                                         final boolean inclusive) {
+        return range(true, null, false, false, toKey, inclusive);
+    }
+
+    @NotNull
+    @Override
+    public final NavigableMap<String, ValueType> tailMap(final String fromKey,
+                                                         final boolean inclusive) {
+        return range(false, fromKey, inclusive, true, null, false);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> subMap(final String fromKey, final String toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> headMap(final String toKey) {
+        return headMap(toKey, false);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> tailMap(final String fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    @NotNull
+    @Override
+    public final Set<Map.Entry<String, ValueType>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, ValueType>>() {
+
+                @NotNull
+                @Override
+                public Iterator<Map.Entry<String, ValueType>> iterator() {
+                    return new EntryIterator<>(LoudsStringTrie.this, isEmpty() ? -1 : 0, "");
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+            };
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public final String toString() {
+        return "LoudsStringTrie " + entrySet().toString();
+    }
+
+}
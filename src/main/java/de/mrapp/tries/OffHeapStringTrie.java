@@ -0,0 +1,1280 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.node.AbstractReadOnlyNode;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * A mutable trie for storing character sequences, whose nodes are stored outside of the Java heap.
+ * The trie is implemented as a ternary search tree, whose nodes are fixed-size records of int
+ * values. The records are allocated in chunks of direct byte buffers and are addressed by their
+ * index. Each record contains the character of the node, the indices of its lower, higher and
+ * equal children, the index of its value and the number of keys, which start with the key that
+ * corresponds to the node. The values are kept in an array on the heap. Records and value slots,
+ * which are no longer used, are reused by subsequent insertions.
+ * <p>
+ * Regardless of the number of keys, the garbage collector therefore only has to deal with a few
+ * large objects. The entries of the trie are iterated in lexicographical order of their keys. As
+ * the trie does not consist of nodes of the type {@link Node}, the method {@link #getRootNode()}
+ * returns a read-only view, whose nodes are created on demand. When being serialized, the entries of the trie are
+ * written one after another.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class OffHeapStringTrie<ValueType> extends AbstractMap<String, ValueType>
+        implements StringTrie<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 4506823491737015295L;
+
+    /**
+     * The index, which is used to indicate that a record or value slot does not exist.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The offset of the character of a node within its record.
+     */
+    private static final int LABEL = 0;
+
+    /**
+     * The offset of the index of a node's lower child within its record.
+     */
+    private static final int LOW = 1;
+
+    /**
+     * The offset of the index of a node's higher child within its record.
+     */
+    private static final int HIGH = 2;
+
+    /**
+     * The offset of the index of a node's equal child within its record.
+     */
+    private static final int EQUAL = 3;
+
+    /**
+     * The offset of the index of a node's value within its record.
+     */
+    private static final int VALUE = 4;
+
+    /**
+     * The offset of the number of keys, which start with the key of a node, within its record.
+     */
+    private static final int COUNT = 5;
+
+    /**
+     * The number of int values per record.
+     */
+    private static final int RECORD_SIZE = 6;
+
+    /**
+     * The binary logarithm of the number of records per chunk.
+     */
+    private static final int CHUNK_BITS = 16;
+
+    /**
+     * The number of records per chunk.
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /**
+     * The initial number of value slots.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * An iterator, which allows to iterate the entries of an {@link OffHeapStringTrie} in
+     * lexicographical order of their keys. The ternary search tree is traversed in-order by using
+     * a stack of records and their traversal states.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class EntryIterator<V> implements Iterator<Map.Entry<String, V>> {
+
+        /**
+         * The state of a record, whose lower child must be visited next.
+         */
+        private static final int VISIT_LOW = 0;
+
+        /**
+         * The state of a record, whose character must be appended to the key next.
+         */
+        private static final int VISIT_NODE = 1;
+
+        /**
+         * The state of a record, whose equal child must be visited next.
+         */
+        private static final int VISIT_EQUAL = 2;
+
+        /**
+         * The state of a record, whose higher child must be visited next.
+         */
+        private static final int VISIT_HIGH = 3;
+
+        /**
+         * The state of a record, which has been visited completely.
+         */
+        private static final int DONE = 4;
+
+        /**
+         * The trie, which is traversed by the iterator.
+         */
+        private final OffHeapStringTrie<V> trie;
+
+        /**
+         * The records, which are currently traversed.
+         */
+        private int[] records;
+
+        /**
+         * The traversal states of the records, which are currently traversed.
+         */
+        private int[] states;
+
+        /**
+         * The number of records, which are currently traversed.
+         */
+        private int depth;
+
+        /**
+         * The key of the currently traversed record.
+         */
+        private final StringBuilder key;
+
+        /**
+         * The entry, which is returned next, or null, if all entries have been iterated.
+         */
+        private Map.Entry<String, V> next;
+
+        /**
+         * The entry, which has been returned last.
+         */
+        private Map.Entry<String, V> lastReturned;
+
+        /**
+         * The modification count of the {@link #trie}, which is expected by the iterator.
+         */
+        private long expectedModificationCount;
+
+        /**
+         * Pushes a record with a specific traversal state on the stack.
+         *
+         * @param record The index of the record as an {@link Integer} value
+         * @param state  The traversal state as an {@link Integer} value
+         */
+        private void push(final int record, final int state) {
+            if (depth == records.length) {
+                records = Arrays.copyOf(records, depth * 2);
+                states = Arrays.copyOf(states, depth * 2);
+            }
+
+            records[depth] = record;
+            states[depth] = state;
+            depth++;
+        }
+
+        /**
+         * Returns the next entry, which should be returned by the iterator.
+         *
+         * @return The next entry as an instance of the type {@link Map.Entry} or null, if all
+         * entries have been visited
+         */
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private Map.Entry<String, V> fetchNext() {
+            while (depth > 0) {
+                int top = depth - 1;
+                int record = records[top];
+
+                switch (states[top]) {
+                    case VISIT_LOW:
+                        states[top] = VISIT_NODE;
+                        int low = trie.read(record, LOW);
+
+                        if (low != NONE) {
+                            push(low, VISIT_LOW);
+                        }
+
+                        break;
+                    case VISIT_NODE:
+                        states[top] = VISIT_EQUAL;
+                        key.append((char) trie.read(record, LABEL));
+                        int value = trie.read(record, VALUE);
+
+                        if (value != NONE) {
+                            return new AbstractMap.SimpleImmutableEntry<>(key.toString(),
+                                    (V) trie.values[value]);
+                        }
+
+                        break;
+                    case VISIT_EQUAL:
+                        states[top] = VISIT_HIGH;
+                        int equal = trie.read(record, EQUAL);
+
+                        if (equal != NONE) {
+                            push(equal, VISIT_LOW);
+                        }
+
+                        break;
+                    case VISIT_HIGH:
+                        states[top] = DONE;
+                        key.setLength(key.length() - 1);
+                        int high = trie.read(record, HIGH);
+
+                        if (high != NONE) {
+                            push(high, VISIT_LOW);
+                        }
+
+                        break;
+                    default:
+                        depth--;
+                        break;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Positions the iterator at a specific key, which is contained by the trie, such that the
+         * subsequent entries are returned by the method {@link #fetchNext()}.
+         *
+         * @param target The key as a {@link String}. The key may not be empty
+         */
+        private void seek(@NotNull final String target) {
+            depth = 0;
+            key.setLength(0);
+            int record = trie.root;
+            int position = 0;
+
+            while (true) {
+                char character = target.charAt(position);
+                int label = trie.read(record, LABEL);
+
+                if (character < label) {
+                    push(record, VISIT_NODE);
+                    record = trie.read(record, LOW);
+                } else if (character > label) {
+                    push(record, DONE);
+                    record = trie.read(record, HIGH);
+                } else {
+                    key.append(character);
+
+                    if (++position == target.length()) {
+                        push(record, VISIT_EQUAL);
+                        return;
+                    }
+
+                    push(record, VISIT_HIGH);
+                    record = trie.read(record, EQUAL);
+                }
+            }
+        }
+
+        /**
+         * Creates a new iterator, which allows to iterate the entries of a specific trie, which
+         * start with a specific prefix.
+         *
+         * @param trie   The trie as an instance of the class {@link OffHeapStringTrie}. The trie
+         *               may not be null
+         * @param prefix The prefix as a {@link String}. The prefix may not be null
+         */
+        @SuppressWarnings("unchecked")
+        EntryIterator(@NotNull final OffHeapStringTrie<V> trie, @NotNull final String prefix) {
+            this.trie = trie;
+            this.records = new int[16];
+            this.states = new int[16];
+            this.depth = 0;
+            this.key = new StringBuilder(prefix);
+            this.expectedModificationCount = trie.modificationCount;
+
+            if (prefix.isEmpty()) {
+                if (trie.root != NONE) {
+                    push(trie.root, VISIT_LOW);
+                }
+
+                this.next = trie.emptyKeyValue != NONE ? new AbstractMap.SimpleImmutableEntry<>(
+                        null, (V) trie.values[trie.emptyKeyValue]) : fetchNext();
+            } else {
+                int record = trie.getRecord(prefix, 0, prefix.length());
+
+                if (record != NONE) {
+                    int equal = trie.read(record, EQUAL);
+
+                    if (equal != NONE) {
+                        push(equal, VISIT_LOW);
+                    }
+
+                    int value = trie.read(record, VALUE);
+                    this.next = value != NONE ?
+                            new AbstractMap.SimpleImmutableEntry<>(prefix, (V) trie.values[value]) :
+                            fetchNext();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, trie.modificationCount, null,
+                    ConcurrentModificationException.class);
+            Condition.INSTANCE.ensureTrue(hasNext(), null, NoSuchElementException.class);
+            lastReturned = next;
+            next = fetchNext();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            Condition.INSTANCE.ensureNotNull(lastReturned, null, IllegalStateException.class);
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, trie.modificationCount, null,
+                    ConcurrentModificationException.class);
+            trie.remove(lastReturned.getKey());
+            lastReturned = null;
+            expectedModificationCount = trie.modificationCount;
+
+            if (next != null) {
+                seek(next.getKey());
+            }
+        }
+
+    }
+
+    /**
+     * A read-only view on a record of an off-heap trie. Each successor of such a node corresponds
+     * to a single character, i.e. to a record of the binary search tree, which is referenced by
+     * the equal child of the view's record.
+     */
+    private final class NodeView extends AbstractReadOnlyNode<String, ValueType> implements
+            RandomAccess {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 7384025991364821675L;
+
+        /**
+         * The index of the record, which corresponds to the view, or {@link #NONE}, if the view
+         * corresponds to the root.
+         */
+        private final int record;
+
+        /**
+         * Creates a new read-only view on a record of an off-heap trie.
+         *
+         * @param predecessor The view on the predecessor as an instance of the type {@link Node}
+         *                    or null, if the view corresponds to the root
+         * @param key         The key, the view is referenced by in its predecessor, as a {@link
+         *                    String} or null, if the view corresponds to the root
+         * @param record      The index of the record, which corresponds to the view, as an {@link
+         *                    Integer} value or {@link #NONE}, if the view corresponds to the root
+         */
+        NodeView(@Nullable final Node<String, ValueType> predecessor, @Nullable final String key,
+                 final int record) {
+            super(predecessor, key);
+            this.record = record;
+        }
+
+        /**
+         * Returns the records, which correspond to the view's successors, in ascending order of
+         * their characters. The binary search tree of the successors is traversed in-order by
+         * using an explicit stack.
+         *
+         * @return An {@link Integer} array, which contains the indices of the records. The array
+         * may not be null
+         */
+        @NotNull
+        private int[] successors() {
+            int[] successors = new int[INITIAL_CAPACITY];
+            int[] stack = new int[INITIAL_CAPACITY];
+            int count = 0;
+            int depth = 0;
+            int current = record != NONE ? read(record, EQUAL) : root;
+
+            while (current != NONE || depth > 0) {
+                while (current != NONE) {
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+
+                    stack[depth++] = current;
+                    current = read(current, LOW);
+                }
+
+                current = stack[--depth];
+
+                if (count == successors.length) {
+                    successors = Arrays.copyOf(successors, count * 2);
+                }
+
+                successors[count++] = current;
+                current = read(current, HIGH);
+            }
+
+            return Arrays.copyOf(successors, count);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        @Override
+        public NodeValue<ValueType> getNodeValue() {
+            int slot = record != NONE ? read(record, VALUE) : emptyKeyValue;
+            return slot != NONE ? new NodeValue<>((ValueType) values[slot]) : null;
+        }
+
+        @Override
+        public int getSuccessorCount() {
+            return successors().length;
+        }
+
+        @Nullable
+        @Override
+        public Node<String, ValueType> getSuccessor(@NotNull final String key) {
+            if (key.length() != 1) {
+                return null;
+            }
+
+            char character = key.charAt(0);
+            int current = record != NONE ? read(record, EQUAL) : root;
+
+            while (current != NONE) {
+                int label = read(current, LABEL);
+
+                if (character < label) {
+                    current = read(current, LOW);
+                } else if (character > label) {
+                    current = read(current, HIGH);
+                } else {
+                    return new NodeView(this, key, current);
+                }
+            }
+
+            return null;
+        }
+
+        @NotNull
+        @Override
+        public String getSuccessorKey(final int index) {
+            return String.valueOf((char) read(successors()[index], LABEL));
+        }
+
+        @NotNull
+        @Override
+        public Node<String, ValueType> getSuccessor(final int index) {
+            int successor = successors()[index];
+            return new NodeView(this, String.valueOf((char) read(successor, LABEL)), successor);
+        }
+
+        @Override
+        public int indexOf(@NotNull final String key) {
+            if (key.length() == 1) {
+                int[] successors = successors();
+
+                for (int i = 0; i < successors.length; i++) {
+                    if (read(successors[i], LABEL) == key.charAt(0)) {
+                        return i;
+                    }
+                }
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int getSuccessorValueCount() {
+            return record != NONE ? read(record, COUNT) : size;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<String> iterator() {
+            int[] successors = successors();
+            List<String> keys = new ArrayList<>(successors.length);
+
+            for (int successor : successors) {
+                keys.add(String.valueOf((char) read(successor, LABEL)));
+            }
+
+            return Collections.unmodifiableList(keys).iterator();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(OffHeapStringTrie.this) + record;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null)
+                return false;
+            if (this == obj)
+                return true;
+            if (obj.getClass() != getClass())
+                return false;
+            NodeView other = (NodeView) obj;
+            return getTrie() == other.getTrie() && record == other.record;
+        }
+
+        /**
+         * Returns the trie, the view belongs to.
+         *
+         * @return The trie, the view belongs to, as an instance of the class {@link
+         * OffHeapStringTrie}. The trie may not be null
+         */
+        @NotNull
+        private OffHeapStringTrie<ValueType> getTrie() {
+            return OffHeapStringTrie.this;
+        }
+
+    }
+
+    /**
+     * The chunks, which contain the records.
+     */
+    private transient IntBuffer[] chunks;
+
+    /**
+     * The number of records, which have been allocated so far.
+     */
+    private transient int recordCount;
+
+    /**
+     * The index of the first record, which can be reused, or {@link #NONE}. Reusable records are
+     * linked via their lower children.
+     */
+    private transient int freeRecord;
+
+    /**
+     * The index of the root record or {@link #NONE}, if the trie does not contain any non-empty
+     * keys.
+     */
+    private transient int root;
+
+    /**
+     * The values of the keys.
+     */
+    private transient Object[] values;
+
+    /**
+     * The indices of the value slots, which can be reused.
+     */
+    private transient int[] freeValues;
+
+    /**
+     * The number of value slots, which can be reused.
+     */
+    private transient int freeValueCount;
+
+    /**
+     * The number of value slots, which have been used so far.
+     */
+    private transient int valueCount;
+
+    /**
+     * The index of the value of the empty key or {@link #NONE}, if the trie does not contain the
+     * empty key.
+     */
+    private transient int emptyKeyValue;
+
+    /**
+     * The number of keys, which are contained by the trie.
+     */
+    private transient int size;
+
+    /**
+     * A counter, which is increased whenever the trie is modified. It is used to fast-fail
+     * iterators by throwing a {@link ConcurrentModificationException}.
+     */
+    private transient long modificationCount;
+
+    /**
+     * The records, whose characters have been matched by the most recent insertion. When removing
+     * a key, each matched record is preceded by the record, which references it.
+     */
+    private transient int[] path;
+
+    /**
+     * The entry set of the trie.
+     */
+    private transient Set<Map.Entry<String, ValueType>> entrySet;
+
+    /**
+     * Initializes the trie to be empty.
+     */
+    private void initialize() {
+        chunks = new IntBuffer[0];
+        recordCount = 0;
+        freeRecord = NONE;
+        root = NONE;
+        values = new Object[INITIAL_CAPACITY];
+        freeValues = new int[INITIAL_CAPACITY];
+        freeValueCount = 0;
+        valueCount = 0;
+        emptyKeyValue = NONE;
+        size = 0;
+        path = new int[16];
+    }
+
+    /**
+     * Reads a field of a specific record.
+     *
+     * @param record The index of the record as an {@link Integer} value
+     * @param field  The offset of the field within the record as an {@link Integer} value
+     * @return The value of the field as an {@link Integer} value
+     */
+    private int read(final int record, final int field) {
+        return chunks[record >>> CHUNK_BITS]
+                .get((record & (CHUNK_SIZE - 1)) * RECORD_SIZE + field);
+    }
+
+    /**
+     * Writes a field of a specific record.
+     *
+     * @param record The index of the record as an {@link Integer} value
+     * @param field  The offset of the field within the record as an {@link Integer} value
+     * @param value  The value, which should be written, as an {@link Integer} value
+     */
+    private void write(final int record, final int field, final int value) {
+        chunks[record >>> CHUNK_BITS].put((record & (CHUNK_SIZE - 1)) * RECORD_SIZE + field, value);
+    }
+
+    /**
+     * Allocates a new record for a node, which corresponds to a specific character. If possible, a
+     * record, which is no longer used, is reused. Otherwise, a new chunk is allocated, if
+     * necessary.
+     *
+     * @param character The character as a {@link Character} value
+     * @return The index of the record as an {@link Integer} value
+     */
+    private int allocateRecord(final char character) {
+        int record;
+
+        if (freeRecord != NONE) {
+            record = freeRecord;
+            freeRecord = read(record, LOW);
+        } else {
+            if (recordCount == chunks.length * CHUNK_SIZE) {
+                chunks = Arrays.copyOf(chunks, chunks.length + 1);
+                chunks[chunks.length - 1] =
+                        ByteBuffer.allocateDirect(CHUNK_SIZE * RECORD_SIZE * Integer.BYTES)
+                                .order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+
+            record = recordCount++;
+        }
+
+        write(record, LABEL, character);
+        write(record, LOW, NONE);
+        write(record, HIGH, NONE);
+        write(record, EQUAL, NONE);
+        write(record, VALUE, NONE);
+        write(record, COUNT, 0);
+        return record;
+    }
+
+    /**
+     * Releases a specific record in order to be reused.
+     *
+     * @param record The index of the record as an {@link Integer} value
+     */
+    private void releaseRecord(final int record) {
+        write(record, LOW, freeRecord);
+        freeRecord = record;
+    }
+
+    /**
+     * Stores a value in a new value slot.
+     *
+     * @param value The value as an {@link Object} or null
+     * @return The index of the value slot as an {@link Integer} value
+     */
+    private int allocateValue(@Nullable final Object value) {
+        int slot;
+
+        if (freeValueCount > 0) {
+            slot = freeValues[--freeValueCount];
+        } else {
+            if (valueCount == values.length) {
+                values = Arrays.copyOf(values, valueCount * 2);
+            }
+
+            slot = valueCount++;
+        }
+
+        values[slot] = value;
+        return slot;
+    }
+
+    /**
+     * Releases a specific value slot in order to be reused.
+     *
+     * @param slot The index of the value slot as an {@link Integer} value
+     * @return The value, which has been stored in the slot, as an {@link Object} or null
+     */
+    private Object releaseValue(final int slot) {
+        Object value = values[slot];
+        values[slot] = null;
+
+        if (freeValueCount == freeValues.length) {
+            freeValues = Arrays.copyOf(freeValues, freeValueCount * 2);
+        }
+
+        freeValues[freeValueCount++] = slot;
+        return value;
+    }
+
+    /**
+     * Appends a record to the {@link #path}.
+     *
+     * @param length The number of records, which are currently contained by the path, as an
+     *               {@link Integer} value
+     * @param record The index of the record as an {@link Integer} value
+     */
+    private void appendToPath(final int length, final int record) {
+        if (length == path.length) {
+            path = Arrays.copyOf(path, length * 2);
+        }
+
+        path[length] = record;
+    }
+
+    /**
+     * Returns the record, which corresponds to the last character of a specific region of a
+     * character sequence.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value. It must be greater than the start index
+     * @return The index of the record as an {@link Integer} value or {@link #NONE}, if no such
+     * record is available
+     */
+    private int getRecord(@NotNull final CharSequence key, final int start, final int end) {
+        int record = root;
+        int position = start;
+
+        while (record != NONE) {
+            char character = key.charAt(position);
+            int label = read(record, LABEL);
+
+            if (character < label) {
+                record = read(record, LOW);
+            } else if (character > label) {
+                record = read(record, HIGH);
+            } else if (++position == end) {
+                return record;
+            } else {
+                record = read(record, EQUAL);
+            }
+        }
+
+        return NONE;
+    }
+
+    /**
+     * Returns the index of the value slot of the key, which corresponds to a specific region of a
+     * character sequence.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @return The index of the value slot as an {@link Integer} value or {@link #NONE}, if the
+     * trie does not contain the key
+     */
+    private int getValueSlot(@NotNull final CharSequence key, final int start, final int end) {
+        if (start == end) {
+            return emptyKeyValue;
+        }
+
+        int record = getRecord(key, start, end);
+        return record != NONE ? read(record, VALUE) : NONE;
+    }
+
+    /**
+     * Removes a specific record from the binary search tree of its siblings by replacing it with
+     * its lower and higher children.
+     *
+     * @param parent The index of the record, which references the record to be removed, as an
+     *               {@link Integer} value or {@link #NONE}, if the record is the root
+     * @param record The index of the record, which should be removed, as an {@link Integer} value
+     */
+    private void unlink(final int parent, final int record) {
+        int low = read(record, LOW);
+        int high = read(record, HIGH);
+        int replacement;
+
+        if (low == NONE) {
+            replacement = high;
+        } else {
+            replacement = low;
+
+            if (high != NONE) {
+                int rightmost = low;
+                int next;
+
+                while ((next = read(rightmost, HIGH)) != NONE) {
+                    rightmost = next;
+                }
+
+                write(rightmost, HIGH, high);
+            }
+        }
+
+        if (parent == NONE) {
+            root = replacement;
+        } else if (read(parent, LOW) == record) {
+            write(parent, LOW, replacement);
+        } else if (read(parent, HIGH) == record) {
+            write(parent, HIGH, replacement);
+        } else {
+            write(parent, EQUAL, replacement);
+        }
+
+        releaseRecord(record);
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific region of a character sequence is
+     * invalid.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     */
+    private static void ensureValidRegion(@NotNull final CharSequence key, final int start,
+                                          final int end) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+
+        if (start < 0 || end > key.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + key.length());
+        }
+    }
+
+    /**
+     * Creates a new, empty trie, whose nodes are stored outside of the Java heap.
+     */
+    public OffHeapStringTrie() {
+        initialize();
+        this.modificationCount = 0;
+    }
+
+    /**
+     * Creates a new trie, whose nodes are stored outside of the Java heap and which contains all
+     * key-value pairs that are contained by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public OffHeapStringTrie(@NotNull final Map<String, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    /**
+     * Returns a read-only view on the root of the trie, or null, if the trie is empty. As an
+     * off-heap trie does not consist of nodes of the type {@link Node}, the nodes of the view are
+     * created on demand. Each of their successors corresponds to a single character. As records
+     * are reused, the view must not be used anymore once the trie has been modified.
+     */
+    @Nullable
+    @Override
+    public final Node<String, ValueType> getRootNode() {
+        return size > 0 ? new NodeView(null, null, NONE) : null;
+    }
+
+    @NotNull
+    @Override
+    public final OffHeapStringTrie<ValueType> subTrie(@Nullable final String sequence) {
+        String prefix = sequence != null ? sequence : "";
+
+        if (countWithPrefix(prefix) == 0) {
+            throw new NoSuchElementException();
+        }
+
+        OffHeapStringTrie<ValueType> subTrie = new OffHeapStringTrie<>();
+        forEachWithPrefix(prefix, (key, value) -> {
+            if (key != null && key.length() > prefix.length()) {
+                subTrie.put(key, value);
+            }
+        });
+        return subTrie;
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return size;
+        }
+
+        int record = getRecord(prefix, 0, prefix.length());
+        return record != NONE ? read(record, COUNT) : 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return countWithPrefix(prefix) > 0;
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        Iterator<Map.Entry<String, ValueType>> iterator =
+                new EntryIterator<>(this, prefix != null ? prefix : "");
+
+        while (iterator.hasNext()) {
+            Map.Entry<String, ValueType> entry = iterator.next();
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        ensureValidRegion(key, start, end);
+        int slot = getValueSlot(key, start, end);
+        return slot != NONE ? (ValueType) values[slot] : null;
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        ensureValidRegion(key, start, end);
+        return getValueSlot(key, start, end) != NONE;
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        ensureValidRegion(key, start, end);
+        int result = emptyKeyValue != NONE ? 0 : -1;
+        int record = root;
+        int position = start;
+
+        while (record != NONE && position < end) {
+            char character = key.charAt(position);
+            int label = read(record, LABEL);
+
+            if (character < label) {
+                record = read(record, LOW);
+            } else if (character > label) {
+                record = read(record, HIGH);
+            } else {
+                position++;
+
+                if (read(record, VALUE) != NONE) {
+                    result = position - start;
+                }
+
+                record = read(record, EQUAL);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            return getValueSlot(string, 0, string.length()) != NONE;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType get(final Object key) {
+        if (key == null || key instanceof String) {
+            String string = key != null ? (String) key : "";
+            int slot = getValueSlot(string, 0, string.length());
+            return slot != NONE ? (ValueType) values[slot] : null;
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType put(final String key, final ValueType value) {
+        if (key == null || key.isEmpty()) {
+            if (emptyKeyValue != NONE) {
+                ValueType previous = (ValueType) values[emptyKeyValue];
+                values[emptyKeyValue] = value;
+                return previous;
+            }
+
+            emptyKeyValue = allocateValue(value);
+            size++;
+            modificationCount++;
+            return null;
+        }
+
+        int parent = NONE;
+        int link = NONE;
+        int record = root;
+        int position = 0;
+        int matched = 0;
+
+        while (true) {
+            char character = key.charAt(position);
+
+            if (record == NONE) {
+                record = allocateRecord(character);
+
+                if (parent == NONE) {
+                    root = record;
+                } else {
+                    write(parent, link, record);
+                }
+            }
+
+            int label = read(record, LABEL);
+
+            if (character < label) {
+                parent = record;
+                link = LOW;
+                record = read(record, LOW);
+            } else if (character > label) {
+                parent = record;
+                link = HIGH;
+                record = read(record, HIGH);
+            } else {
+                appendToPath(matched++, record);
+
+                if (++position == key.length()) {
+                    break;
+                }
+
+                parent = record;
+                link = EQUAL;
+                record = read(record, EQUAL);
+            }
+        }
+
+        int slot = read(record, VALUE);
+
+        if (slot != NONE) {
+            ValueType previous = (ValueType) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        write(record, VALUE, allocateValue(value));
+
+        for (int i = 0; i < matched; i++) {
+            write(path[i], COUNT, read(path[i], COUNT) + 1);
+        }
+
+        size++;
+        modificationCount++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValueType remove(final Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+
+        String string = key != null ? (String) key : "";
+
+        if (string.isEmpty()) {
+            if (emptyKeyValue != NONE) {
+                ValueType previous = (ValueType) releaseValue(emptyKeyValue);
+                emptyKeyValue = NONE;
+                size--;
+                modificationCount++;
+                return previous;
+            }
+
+            return null;
+        }
+
+        int length = 0;
+        int parent = NONE;
+        int record = root;
+        int position = 0;
+
+        while (record != NONE) {
+            char character = string.charAt(position);
+            int label = read(record, LABEL);
+
+            if (character < label) {
+                parent = record;
+                record = read(record, LOW);
+            } else if (character > label) {
+                parent = record;
+                record = read(record, HIGH);
+            } else {
+                appendToPath(length++, parent);
+                appendToPath(length++, record);
+
+                if (++position == string.length()) {
+                    break;
+                }
+
+                parent = record;
+                record = read(record, EQUAL);
+            }
+        }
+
+        int slot = record != NONE ? read(record, VALUE) : NONE;
+
+        if (slot == NONE) {
+            return null;
+        }
+
+        ValueType previous = (ValueType) releaseValue(slot);
+        write(record, VALUE, NONE);
+        boolean prune = true;
+
+        for (int i = length - 1; i > 0; i -= 2) {
+            int current = path[i];
+            int count = read(current, COUNT) - 1;
+            write(current, COUNT, count);
+
+            if (prune && count == 0) {
+                unlink(path[i - 1], current);
+            } else {
+                prune = false;
+            }
+        }
+
+        size--;
+        modificationCount++;
+        return previous;
+    }
+
+    @Override
+    public final void putAll(@NotNull final Map<? extends String, ? extends ValueType> map) {
+        Condition.INSTANCE.ensureNotNull(map, "The map may not be null");
+        map.forEach(this::put);
+    }
+
+    @Override
+    public final void clear() {
+        initialize();
+        modificationCount++;
+    }
+
+    @NotNull
+    @Override
+    public final Set<Map.Entry<String, ValueType>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, ValueType>>() {
+
+                @NotNull
+                @Override
+                public Iterator<Map.Entry<String, ValueType>> iterator() {
+                    return new EntryIterator<>(OffHeapStringTrie.this, "");
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+            };
+        }
+
+        return entrySet;
+    }
+
+    /**
+     * Writes the entries of the trie to a stream.
+     *
+     * @param outputStream The stream, the entries should be written to, as an instance of the
+     *                     class {@link ObjectOutputStream}. The stream may not be null
+     * @throws IOException If an error occurs while writing to the stream
+     */
+    private void writeObject(@NotNull final ObjectOutputStream outputStream)
+            throws IOException {
+        outputStream.defaultWriteObject();
+        outputStream.writeInt(size);
+
+        for (Map.Entry<String, ValueType> entry : entrySet()) {
+            outputStream.writeObject(entry.getKey());
+            outputStream.writeObject(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads the entries of the trie from a stream.
+     *
+     * @param inputStream The stream, the entries should be read from, as an instance of the class
+     *                    {@link ObjectInputStream}. The stream may not be null
+     * @throws IOException            If an error occurs while reading from the stream
+     * @throws ClassNotFoundException If the class of a key or value cannot be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(@NotNull final ObjectInputStream inputStream)
+            throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        initialize();
+        int count = inputStream.readInt();
+
+        for (int i = 0; i < count; i++) {
+            put((String) inputStream.readObject(), (ValueType) inputStream.readObject());
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return "OffHeapStringTrie " + entrySet().toString();
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.SortedIntTrieWrapper;
+import de.mrapp.tries.sequence.IntSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A sorted trie, which uses sequences of integer values as keys. It is the pendant of the class
+ * {@link PatriciaTrie} for using integer sequences as keys, i.e. subsequent nodes that only have a
+ * single successor are merged to a single node to reduce space complexity. The keys are sorted
+ * lexicographically by comparing their elements as primitive values.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class PatriciaIntTrie<ValueType> extends SortedIntTrieWrapper<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 3817249902715525418L;
+
+    /**
+     * Creates a new empty, sorted trie for storing integer sequences, which merges subsequent nodes
+     * that only have a single successor.
+     */
+    public PatriciaIntTrie() {
+        super(new PatriciaTrie<>());
+    }
+
+    /**
+     * Creates a new sorted trie for storing integer sequences, which merges subsequent nodes that
+     * only have a single successor, and contains all key-value pairs that are contained by a map.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public PatriciaIntTrie(@NotNull final Map<IntSequence, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public final String toString() {
+        return "PatriciaIntTrie " + entrySet().toString();
+    }
+
+}
@@ -17,8 +17,6 @@ import de.mrapp.tries.datastructure.AbstractSortedTrie;
 import de.mrapp.tries.datastructure.node.SortedListNode;
 import de.mrapp.tries.structure.PatriciaStructure;
 import de.mrapp.tries.structure.SortedStructure;
-import de.mrapp.tries.structure.Structure.Operation;
-import de.mrapp.tries.util.SequenceUtil;
 import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -48,75 +46,6 @@ public class PatriciaTrie<SequenceType extends Sequence, ValueType>
      */
     private static final long serialVersionUID = 3229102065205655196L;
 
-    /**
-     * Traverses the trie in order to return the node, which corresponds to a specific sequence. If
-     * the sequence does not correspond to a node, the next higher node with the same prefix is
-     * returned.
-     *
-     * @param sequence The sequence, the node, which should be returned, corresponds to, as an
-     *                 instance of the generic type {@link SequenceType} or null
-     * @return A pair, which contains the node, which corresponds to the given sequence,
-     * respectively the next higher node, as well as the key, the returned node corresponds to, as
-     * an instance of the class {@link Pair} or null, if the given sequence does not match any node
-     */
-    @Nullable
-    private Pair<Node<SequenceType, ValueType>, SequenceType> getSubTrieRootNode(
-            @Nullable final SequenceType sequence) {
-        if (rootNode != null) {
-            Node<SequenceType, ValueType> currentNode = rootNode;
-            SequenceType matchedPrefix = null;
-            SequenceType suffix = sequence;
-
-            while (suffix != null && !suffix.isEmpty()) {
-                Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                        structure.onGetSuccessor(currentNode, suffix, Operation.SUB_TRIE);
-
-                if (pair == null) {
-                    suffix = null;
-
-                    if (matchedPrefix == null || matchedPrefix.isEmpty()) {
-                        return null;
-                    }
-                } else {
-                    currentNode = pair.getFirst();
-                    suffix = pair.getSecond();
-
-                    if (suffix != null && !suffix.isEmpty()) {
-                        if (matchedPrefix != null &&
-                                matchedPrefix.length() + suffix.length() > sequence.length() ||
-                                suffix.length() > sequence.length()) {
-                            matchedPrefix = SequenceUtil.concat(matchedPrefix, suffix);
-                            suffix = null;
-                        } else {
-                            matchedPrefix = SequenceUtil
-                                    .subsequence(sequence, 0, sequence.length() - suffix.length());
-                        }
-                    } else {
-                        matchedPrefix = sequence;
-                    }
-                }
-            }
-
-            if (sequence != null && !sequence.isEmpty() && matchedPrefix != null &&
-                    matchedPrefix.length() < sequence.length()) {
-                SequenceType unmatchedSuffix = SequenceUtil
-                        .subsequence(sequence, matchedPrefix.length());
-                int index = currentNode.indexOfFirstElement(unmatchedSuffix);
-
-                if (index != -1) {
-                    SequenceType successorKey = currentNode.getSuccessorKey(index);
-                    currentNode = currentNode.getSuccessor(index);
-                    matchedPrefix = SequenceUtil.concat(matchedPrefix, successorKey);
-                    return Pair.Companion.create(currentNode, matchedPrefix);
-                }
-            } else {
-                return Pair.Companion.create(currentNode, matchedPrefix);
-            }
-        }
-
-        return null;
-    }
-
     /**
      * Creates a new Patricia trie.
      *
@@ -176,7 +105,7 @@ public class PatriciaTrie<SequenceType extends Sequence, ValueType>
 
     @NotNull
     @Override
-    protected final Node<SequenceType, ValueType> createRootNode() {
+    protected Node<SequenceType, ValueType> createRootNode() {
         return new SortedListNode<>(comparator);
     }
 
@@ -190,7 +119,7 @@ public class PatriciaTrie<SequenceType extends Sequence, ValueType>
     @Override
     public final SortedTrie<SequenceType, ValueType> subTrie(
             @Nullable final SequenceType sequence) {
-        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getSubTrieRootNode(sequence);
+        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getPrefixNode(sequence);
 
         if (pair != null) {
             Node<SequenceType, ValueType> node = pair.getFirst();
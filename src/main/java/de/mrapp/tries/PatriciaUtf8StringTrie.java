@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.SortedUtf8StringTrieWrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A sorted trie, which uses character sequences as keys, but stores them as UTF-8 encoded bytes.
+ * It has the same properties as a {@link PatriciaStringTrie}, i.e. subsequent nodes that only have
+ * a single successor are merged to a single node to reduce space complexity. However, as the edges
+ * between nodes are stored as UTF-8 encoded bytes, rather than as UTF-16 encoded strings, they
+ * require only half of the memory for keys, which mostly consist of ASCII characters. The keys are
+ * sorted by their Unicode code points. The method {@link #asByteTrie()} allows to look up keys,
+ * which are available as UTF-8 encoded bytes, without decoding them.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class PatriciaUtf8StringTrie<ValueType> extends SortedUtf8StringTrieWrapper<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 2270815931568724563L;
+
+    /**
+     * Creates a new empty, sorted trie for storing character sequences as UTF-8 encoded bytes.
+     * Subsequent nodes that only have a single successor are merged to a single node to reduce
+     * space complexity.
+     */
+    public PatriciaUtf8StringTrie() {
+        super(new PatriciaByteTrie<>());
+    }
+
+    /**
+     * Creates a new sorted trie for storing character sequences as UTF-8 encoded bytes, which
+     * contains all key-value pairs that are contained by a map. Subsequent nodes that only have a
+     * single successor are merged to a single node to reduce space complexity.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public PatriciaUtf8StringTrie(@NotNull final Map<String, ValueType> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public final String toString() {
+        return "PatriciaUtf8StringTrie " + entrySet().toString();
+    }
+
+}
@@ -13,6 +13,7 @@
  */
 package de.mrapp.tries;
 
+import de.mrapp.tries.sequence.DefaultSequenceBuilder;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
@@ -85,6 +86,76 @@ public interface Sequence extends Serializable {
         return !(length() > 0);
     }
 
+    /**
+     * Returns the length of the longest common prefix of this sequence and the region of another
+     * sequence, which starts at a specific offset. The default implementation compares
+     * subsequences of length 1. Implementations should override this method in order to compare
+     * their elements without creating any objects.
+     *
+     * @param sequence The other sequence as an instance of the type {@link Sequence}. The sequence
+     *                 may not be null and its class must be the same as the class of this
+     *                 sequence
+     * @param offset   The index of the first element of the other sequence, which should be
+     *                 compared, as an {@link Integer} value. The offset must be at least 0 and at
+     *                 maximum the length of the other sequence
+     * @return The length of the longest common prefix as an {@link Integer} value
+     */
+    default int getCommonPrefixLength(@NotNull final Sequence sequence, final int offset) {
+        int maxLength = Math.min(length(), sequence.length() - offset);
+        int length = 0;
+
+        while (length < maxLength && subsequence(length, length + 1)
+                .equals(sequence.subsequence(offset + length, offset + length + 1))) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Returns a hash code of the element at a specific index. Sequences, whose elements at the
+     * given indices are equal, must return the same hash code. The default implementation returns
+     * the hash code of a subsequence of length 1. Implementations should override this method in
+     * order to compute the hash code without creating any objects.
+     *
+     * @param index The index of the element as an {@link Integer} value. If the index is invalid,
+     *              an {@link IndexOutOfBoundsException} may be thrown
+     * @return The hash code of the element at the given index as an {@link Integer} value
+     */
+    default int hashCodeAt(final int index) {
+        return subsequence(index, index + 1).hashCode();
+    }
+
+    /**
+     * Returns a canonical representation of the sequence. Tries invoke this method before using a
+     * sequence as the key of an edge. Implementations may therefore override this method in order
+     * to let edges with equal keys share a single instance, e.g. if the sequence consists of a
+     * single element. The default implementation returns the sequence itself.
+     *
+     * @return A sequence, which is equal to this sequence, as an instance of the type {@link
+     * Sequence}. The sequence may not be null and its class must be the same as the class of this
+     * sequence
+     */
+    @NotNull
+    default Sequence intern() {
+        return this;
+    }
+
+    /**
+     * Creates and returns a new builder, which allows to incrementally create sequences of the same
+     * type as this sequence. The default implementation returns a builder, which concatenates the
+     * appended sequences by using the method {@link #concat(Sequence)}. Implementations should
+     * override this method in order to provide a mutable builder, which does not create a new
+     * sequence per appended one.
+     *
+     * @return The builder, which has been created, as an instance of the type {@link
+     * SequenceBuilder}. The builder may not be null
+     */
+    @NotNull
+    default SequenceBuilder<? extends Sequence> createBuilder() {
+        return new DefaultSequenceBuilder<>();
+    }
+
     /**
      * Returns the length of the sequence.
      *
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a builder, which allows to incrementally create sequences. Unlike a
+ * {@link Sequence}, a builder is mutable, i.e. sequences can be appended to it or it can be
+ * truncated without creating new objects. This allows to efficiently create the keys of a trie's
+ * nodes while traversing the trie, as the builder can be reused for all nodes. Immutable sequences
+ * are only created when the method {@link #toSequence()} is invoked.
+ *
+ * @param <SequenceType> The type of the sequences, which are created by the builder
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface SequenceBuilder<SequenceType extends Sequence> {
+
+    /**
+     * Appends a specific sequence to the end of the builder.
+     *
+     * @param sequence The sequence, which should be appended, as an instance of the generic type
+     *                 {@link SequenceType}. The sequence may not be null
+     * @return The builder, this method has been invoked on, as an instance of the type {@link
+     * SequenceBuilder}. The builder may not be null
+     */
+    @NotNull SequenceBuilder<SequenceType> append(@NotNull SequenceType sequence);
+
+    /**
+     * Truncates the builder to a specific length, i.e. all elements at subsequent positions are
+     * removed. If the given length is greater than the current length, an {@link
+     * IndexOutOfBoundsException} will be thrown.
+     *
+     * @param length The length, the builder should be truncated to, as an {@link Integer} value.
+     *               The length must be at least 0
+     * @return The builder, this method has been invoked on, as an instance of the type {@link
+     * SequenceBuilder}. The builder may not be null
+     */
+    @NotNull SequenceBuilder<SequenceType> truncate(int length);
+
+    /**
+     * Returns the current length of the builder.
+     *
+     * @return The current length of the builder as an {@link Integer} value. The length must be at
+     * least 0
+     */
+    int length();
+
+    /**
+     * Returns, whether the builder is empty, i.e. its length is 0, or not.
+     *
+     * @return True, if the builder is empty, false otherwise
+     */
+    default boolean isEmpty() {
+        return length() == 0;
+    }
+
+    /**
+     * Creates and returns an immutable sequence, which consists of the elements, which are
+     * currently contained by the builder. As the root node of a trie corresponds to the key null,
+     * null is returned, if the builder is empty.
+     *
+     * @return The sequence, which has been created, as an instance of the generic type {@link
+     * SequenceType} or null, if the builder is empty
+     */
+    @Nullable SequenceType toSequence();
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a sorted trie, which uses sequences of bytes, represented by the class
+ * {@link ByteSequence}, as keys. This is the byte-oriented pendant of the interface {@link
+ * SortedStringTrie}. The keys are sorted lexicographically by treating their bytes as unsigned
+ * values.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface SortedByteTrie<ValueType>
+        extends SortedTrie<ByteSequence, ValueType>, ByteTrie<ValueType> {
+
+    /**
+     * @see ByteTrie#subTrie(ByteSequence)
+     */
+    @NotNull
+    @Override
+    SortedByteTrie<ValueType> subTrie(@Nullable ByteSequence sequence);
+
+    /**
+     * @see ByteTrie#subTrie(byte[])
+     */
+    @NotNull
+    @Override
+    default SortedByteTrie<ValueType> subTrie(@Nullable final byte[] sequence) {
+        return subTrie(ByteSequence.convertFromByteArray(sequence));
+    }
+
+}
@@ -108,7 +108,7 @@ public class SortedListTrie<SequenceType extends Sequence, ValueType>
 
     @NotNull
     @Override
-    protected final Node<SequenceType, ValueType> createRootNode() {
+    protected Node<SequenceType, ValueType> createRootNode() {
         return new SortedListNode<>(comparator);
     }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.LongSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines the interface of a sorted trie, which uses sequences of long values, represented by the
+ * class {@link LongSequence}, as keys. The keys are sorted lexicographically by comparing their
+ * elements as primitive values, i.e. "1.10" is sorted after "1.9".
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public interface SortedLongTrie<ValueType>
+        extends SortedTrie<LongSequence, ValueType>, LongTrie<ValueType> {
+
+    /**
+     * @see LongTrie#subTrie(LongSequence)
+     */
+    @NotNull
+    @Override
+    SortedLongTrie<ValueType> subTrie(@Nullable LongSequence sequence);
+
+    /**
+     * @see LongTrie#subTrie(long[])
+     */
+    @NotNull
+    @Override
+    default SortedLongTrie<ValueType> subTrie(@Nullable final long[] sequence) {
+        return subTrie(LongSequence.convertFromLongArray(sequence));
+    }
+
+}
@@ -19,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Defines the interface of a trie, which allows to use character sequences, represented by the
@@ -46,4 +47,78 @@ public interface StringTrie<ValueType> extends Map<String, ValueType>, Serializa
      */
     @NotNull StringTrie<ValueType> subTrie(@Nullable String sequence);
 
+    /**
+     * @see Trie#countWithPrefix(Sequence)
+     */
+    int countWithPrefix(@Nullable String prefix);
+
+    /**
+     * @see Trie#containsPrefix(Sequence)
+     */
+    boolean containsPrefix(@Nullable String prefix);
+
+    /**
+     * @see Trie#forEachWithPrefix(Sequence, BiConsumer)
+     */
+    void forEachWithPrefix(@Nullable String prefix,
+                           @NotNull BiConsumer<? super String, ? super ValueType> action);
+
+    /**
+     * Returns the value of the key, which corresponds to a specific region of a character
+     * sequence. In contrast to the method {@link #get(Object)}, the region does not have to be
+     * converted into a {@link String} beforehand. If supported by the trie, the characters of the
+     * region are directly compared to the edges of the trie's nodes, which avoids creating any
+     * temporary objects. This is useful, if the keys are obtained from reused buffers, e.g. a
+     * {@link java.nio.CharBuffer}.
+     *
+     * @param key   The character sequence, which contains the key, as an instance of the type
+     *              {@link CharSequence}. The character sequence may not be null
+     * @param start The index of the first character of the key (inclusive) as an {@link Integer}
+     *              value
+     * @param end   The index of the last character of the key (exclusive) as an {@link Integer}
+     *              value
+     * @return The value of the given key as an instance of the generic type {@link ValueType} or
+     * null, if the trie does not contain the key
+     * @throws IndexOutOfBoundsException The exception, which is thrown, if the given region is not
+     *                                   valid
+     */
+    ValueType get(@NotNull CharSequence key, int start, int end);
+
+    /**
+     * Returns, whether the trie contains the key, which corresponds to a specific region of a
+     * character sequence, or not. Like the method {@link #get(CharSequence, int, int)}, this
+     * method does not require the region to be converted into a {@link String}.
+     *
+     * @param key   The character sequence, which contains the key, as an instance of the type
+     *              {@link CharSequence}. The character sequence may not be null
+     * @param start The index of the first character of the key (inclusive) as an {@link Integer}
+     *              value
+     * @param end   The index of the last character of the key (exclusive) as an {@link Integer}
+     *              value
+     * @return True, if the trie contains the given key, false otherwise
+     * @throws IndexOutOfBoundsException The exception, which is thrown, if the given region is not
+     *                                   valid
+     */
+    boolean containsKey(@NotNull CharSequence key, int start, int end);
+
+    /**
+     * Returns the length of the longest key of the trie, which is a prefix of a specific region of
+     * a character sequence. The value of the key can be obtained by passing the returned length to
+     * the method {@link #get(CharSequence, int, int)}, e.g. when matching request paths against
+     * routes. Like the method {@link #get(CharSequence, int, int)}, this method does not require
+     * the region to be converted into a {@link String}.
+     *
+     * @param key   The character sequence, which should be matched, as an instance of the type
+     *              {@link CharSequence}. The character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @return The length of the longest key, which is a prefix of the given region, as an {@link
+     * Integer} value or -1, if the trie does not contain such a key
+     * @throws IndexOutOfBoundsException The exception, which is thrown, if the given region is not
+     *                                   valid
+     */
+    int longestPrefixLength(@NotNull CharSequence key, int start, int end);
+
 }
\ No newline at end of file
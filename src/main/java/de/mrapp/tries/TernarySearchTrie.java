@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.datastructure.AbstractSortedTrie;
+import de.mrapp.tries.datastructure.node.TernarySearchNode;
+import de.mrapp.tries.structure.SortedStructure;
+import de.mrapp.tries.structure.UncompressedSortedStructure;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted trie, which is implemented as a ternary search tree. Each node holds the key of the
+ * edge, which leads to it, as well as a lower, an equal and a higher child. The successors of a
+ * node are organized as a balanced binary search tree, which is formed by the lower and higher
+ * children of the successors. Compared to a {@link SortedListTrie}, this trie does not require any arrays to
+ * store the successors of nodes, which reduces the memory footprint for large alphabets, e.g.
+ * Unicode characters or integer values. Successors are still looked up with logarithmic
+ * complexity. The edges between nodes always correspond to exactly one element of a sequence.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the trie's keys
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class TernarySearchTrie<SequenceType extends Sequence, ValueType>
+        extends AbstractSortedTrie<SequenceType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 6920483317250268395L;
+
+    /**
+     * Creates a new sorted trie, which is implemented as a ternary search tree.
+     *
+     * @param rootNode   The root node of the trie as an instance of the type {@link Node} or null,
+     *                   if the trie should be empty
+     * @param comparator The comparator, which should be used to compare keys with each other, as an
+     *                   instance of the type {@link Comparator} or null, if the natural ordering of
+     *                   the keys should be used
+     */
+    private TernarySearchTrie(@Nullable final Node<SequenceType, ValueType> rootNode,
+            @Nullable final Comparator<? super SequenceType> comparator) {
+        super(rootNode, comparator);
+    }
+
+    /**
+     * Creates a new empty, sorted trie, which is implemented as a ternary search tree. For
+     * comparing keys with each other, the natural ordering of the keys is used.
+     */
+    public TernarySearchTrie() {
+        super(null);
+    }
+
+    /**
+     * Creates a new sorted trie, which is implemented as a ternary search tree and contains all
+     * key-value pairs that are contained by a map. For comparing keys with each other, the natural
+     * ordering of the keys is used.
+     *
+     * @param map The map, which contains the key-value pairs that should be added to the trie, as
+     *            an instance of the type {@link Map}. The map may not be null
+     */
+    public TernarySearchTrie(@NotNull final Map<SequenceType, ValueType> map) {
+        super(null, map);
+    }
+
+    /**
+     * Creates a new empty, sorted trie, which is implemented as a ternary search tree.
+     *
+     * @param comparator The comparator, which should be used to compare keys with each other, as an
+     *                   instance of the type {@link Comparator} or null, if the natural ordering of
+     *                   the keys should be used
+     */
+    public TernarySearchTrie(@Nullable final Comparator<? super SequenceType> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Creates a new sorted trie, which is implemented as a ternary search tree and contains all
+     * key-value pairs that are contained by a map.
+     *
+     * @param comparator The comparator, which should be used to compare keys with each other, as an
+     *                   instance of the type {@link Comparator} or null, if the natural ordering of
+     *                   the keys should be used
+     * @param map        The map, which contains the key-value pairs that should be added to the
+     *                   trie, as an instance of the type {@link Map}. The map may not be null
+     */
+    public TernarySearchTrie(@Nullable final Comparator<? super SequenceType> comparator,
+            @NotNull final Map<SequenceType, ValueType> map) {
+        super(comparator, map);
+    }
+
+    @NotNull
+    @Override
+    protected Node<SequenceType, ValueType> createRootNode() {
+        return new TernarySearchNode<>(comparator);
+    }
+
+    @NotNull
+    @Override
+    protected final SortedStructure<SequenceType, ValueType> createStructure() {
+        return new UncompressedSortedStructure<>();
+    }
+
+    @NotNull
+    @Override
+    public final TernarySearchTrie<SequenceType, ValueType> subTrie(
+            @Nullable final SequenceType sequence) {
+        Node<SequenceType, ValueType> node = getNode(sequence);
+
+        if (node != null) {
+            if (node.hasSuccessors()) {
+                Node<SequenceType, ValueType> rootNode =
+                        structure.getSubTrie(sequence, createRootNode(), node, false);
+                return new TernarySearchTrie<>(rootNode, comparator);
+            } else {
+                return new TernarySearchTrie<>(null, comparator);
+            }
+        }
+
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public final String toString() {
+        return "TernarySearchTrie " + entrySet().toString();
+    }
+
+}
\ No newline at end of file
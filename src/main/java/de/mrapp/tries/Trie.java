@@ -18,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Defines the interface of a trie (also called prefix tree, digital tree or radix tree). A trie is
@@ -66,4 +67,43 @@ public interface Trie<SequenceType extends Sequence, ValueType>
      */
     @NotNull Trie<SequenceType, ValueType> subTrie(@Nullable SequenceType sequence);
 
+    /**
+     * Returns the number of keys, which start with a specific prefix. If the given prefix
+     * corresponds to a key, the key is counted as well. In contrast to invoking the method {@link
+     * #subTrie(Sequence)} and retrieving the size of the returned trie, no nodes are copied.
+     * Instead, the number of keys is obtained from the node, which corresponds to the given
+     * prefix.
+     *
+     * @param prefix The prefix as an instance of the generic type {@link SequenceType} or null, if
+     *               all keys should be counted
+     * @return The number of keys, which start with the given prefix, as an {@link Integer} value
+     */
+    int countWithPrefix(@Nullable SequenceType prefix);
+
+    /**
+     * Returns, whether the trie contains at least one key, which starts with a specific prefix, or
+     * not. If the given prefix corresponds to a key, true is returned as well.
+     *
+     * @param prefix The prefix as an instance of the generic type {@link SequenceType} or null, if
+     *               it should be checked, whether the trie contains any keys
+     * @return True, if the trie contains at least one key, which starts with the given prefix,
+     * false otherwise
+     */
+    boolean containsPrefix(@Nullable SequenceType prefix);
+
+    /**
+     * Performs a specific action for each key-value pair of the trie, whose key starts with a
+     * specific prefix. The key-value pairs are passed to the action in the same order as they are
+     * returned by the iterator of the trie's entry set. Compared to iterating the entry set, this
+     * avoids creating an entry for each key-value pair. If the trie is modified by the action, a
+     * {@link java.util.ConcurrentModificationException} will be thrown.
+     *
+     * @param prefix The prefix as an instance of the generic type {@link SequenceType} or null, if
+     *               the action should be performed for all key-value pairs
+     * @param action The action, which should be performed, as an instance of the type {@link
+     *               BiConsumer}. The action may not be null
+     */
+    void forEachWithPrefix(@Nullable SequenceType prefix,
+                           @NotNull BiConsumer<? super SequenceType, ? super ValueType> action);
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package de.mrapp.tries.datastructure;
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
 import de.mrapp.tries.Trie;
+import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -23,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * An abstract base class for all immutable and empty tries.
@@ -103,11 +105,32 @@ public abstract class AbstractEmptyTrie<SequenceType extends Sequence, ValueType
         return Collections.emptySet();
     }
 
-
     @Nullable
     @Override
     public final Node<SequenceType, ValueType> getRootNode() {
         return null;
     }
 
+    @Override
+    public final int countWithPrefix(@Nullable final SequenceType prefix) {
+        return 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final SequenceType prefix) {
+        return false;
+    }
+
+    @Override
+    public final void forEach(
+            @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final SequenceType prefix,
+                                        @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+    }
+
 }
\ No newline at end of file
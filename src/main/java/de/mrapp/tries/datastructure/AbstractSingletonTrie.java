@@ -20,10 +20,12 @@ import de.mrapp.tries.Trie;
 import de.mrapp.tries.datastructure.node.HashNode;
 import de.mrapp.tries.datastructure.node.UnmodifiableNode;
 import de.mrapp.tries.util.SequenceUtil;
+import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * An abstract base class for all immutable tries, which contains only a single entry.
@@ -159,6 +161,32 @@ public abstract class AbstractSingletonTrie<SequenceType extends Sequence, Value
         return unmodifiableRootNode;
     }
 
+    @Override
+    public final int countWithPrefix(@Nullable final SequenceType prefix) {
+        return containsPrefix(prefix) ? 1 : 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final SequenceType prefix) {
+        return SequenceUtil.startsWith(key, prefix);
+    }
+
+    @Override
+    public final void forEach(
+            @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        forEachWithPrefix(null, action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final SequenceType prefix,
+                                        @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+
+        if (containsPrefix(prefix)) {
+            action.accept(key, value);
+        }
+    }
+
     @Override
     public final int hashCode() {
         final int prime = 31;
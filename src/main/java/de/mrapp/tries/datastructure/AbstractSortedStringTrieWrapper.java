@@ -0,0 +1,712 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SortedStringTrie;
+import de.mrapp.tries.SortedTrie;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * An abstract base class for all wrappers, which implement the interface {@link SortedStringTrie}
+ * by delegating all method calls to an encapsulated {@link SortedTrie}. The keys of the wrapper are
+ * converted into the keys of the encapsulated trie by using a {@link StringConverter}.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the keys of the encapsulated
+ *                       trie
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public abstract class AbstractSortedStringTrieWrapper<SequenceType extends Sequence, ValueType>
+        extends AbstractStringTrieWrapper<SequenceType, SortedTrie<SequenceType, ValueType>, ValueType>
+        implements SortedStringTrie<ValueType> {
+
+    /**
+     * A comparator, which allows to compare {@link String}s by encapsulating a comparator, which
+     * compares sequences.
+     *
+     * @param <S> The type of the sequences, which are compared by the encapsulated comparator
+     */
+    private static final class StringComparatorWrapper<S extends Sequence>
+            implements Comparator<String> {
+
+        /**
+         * The encapsulated comparator.
+         */
+        private final Comparator<? super S> comparator;
+
+        /**
+         * The converter, which is used to convert the strings into sequences.
+         */
+        private final StringConverter<S> converter;
+
+        /**
+         * Creates a new comparator, which allows to compare {@link String}s by encapsulating a
+         * comparator, which compares sequences.
+         *
+         * @param comparator The comparator, which should be encapsulated, as an instance of the
+         *                   type {@link Comparator}. The comparator may not be null
+         * @param converter  The converter, which should be used to convert the strings into
+         *                   sequences, as an instance of the type {@link StringConverter}. The
+         *                   converter may not be null
+         */
+        StringComparatorWrapper(@NotNull final Comparator<? super S> comparator,
+                                @NotNull final StringConverter<S> converter) {
+            Condition.INSTANCE.ensureNotNull(comparator, "The comparator may not be null");
+            Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
+            this.comparator = comparator;
+            this.converter = converter;
+        }
+
+        @Override
+        public int compare(final String o1, final String o2) {
+            return comparator.compare(converter.convertFromString(o1),
+                    converter.convertFromString(o2));
+        }
+
+    }
+
+    /**
+     * The sorted key set of a {@link SortedStringTrie}. It encapsulates the sorted set of a {@link
+     * SortedTrie}.
+     *
+     * @param <S>       The type of the sequences, which are used as the keys of the trie
+     * @param <SetType> The type of the encapsulated set
+     */
+    private static class SortedKeySetWrapper<S extends Sequence, SetType extends SortedSet<S>>
+            extends KeySetWrapper<S, SetType> implements SortedSet<String> {
+
+        /**
+         * The comparator of the sorted set.
+         */
+        private final Comparator<? super String> comparator;
+
+        /**
+         * Creates a new sorted key set of a {@link SortedStringTrie}.
+         *
+         * @param set       The srt, which should be encapsulated, as an instance of the generic
+         *                  type {@link SetType}. The set may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated set, as an instance of the type {@link StringConverter}.
+         *                  The converter may not be null
+         */
+        SortedKeySetWrapper(@NotNull final SetType set,
+                            @NotNull final StringConverter<S> converter) {
+            super(set, converter);
+            this.comparator = createComparator(set.comparator(), converter);
+        }
+
+        @Nullable
+        @Override
+        public final Comparator<? super String> comparator() {
+            return comparator;
+        }
+
+        @NotNull
+        @Override
+        public final SortedSet<String> subSet(final String fromElement, final String toElement) {
+            return new SortedKeySetWrapper<>(set.subSet(converter.convertFromString(fromElement),
+                    converter.convertFromString(toElement)), converter);
+        }
+
+        @NotNull
+        @Override
+        public final SortedSet<String> headSet(final String toElement) {
+            return new SortedKeySetWrapper<>(set.headSet(converter.convertFromString(toElement)),
+                    converter);
+        }
+
+        @NotNull
+        @Override
+        public final SortedSet<String> tailSet(final String fromElement) {
+            return new SortedKeySetWrapper<>(
+                    set.tailSet(converter.convertFromString(fromElement)), converter);
+        }
+
+        @Override
+        public final String first() {
+            return converter.convertToString(set.first());
+        }
+
+        @Override
+        public final String last() {
+            return converter.convertToString(set.last());
+        }
+
+    }
+
+    /**
+     * The navigable key set of a {@link SortedStringTrie}. It encapsulates the navigable key set of
+     * a {@link SortedTrie}.
+     *
+     * @param <S> The type of the sequences, which are used as the keys of the trie
+     */
+    private static final class NavigableKeySetWrapper<S extends Sequence>
+            extends SortedKeySetWrapper<S, NavigableSet<S>> implements NavigableSet<String> {
+
+        /**
+         * The descending key set.
+         */
+        private NavigableSet<String> descendingSet;
+
+        /**
+         * Creates a new navigable key set of a {@link SortedStringTrie}.
+         *
+         * @param set       The set, which should be encapsulated, as an instance of the type
+         *                  {@link NavigableSet}. The set may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated set, as an instance of the type {@link StringConverter}.
+         *                  The converter may not be null
+         */
+        NavigableKeySetWrapper(@NotNull final NavigableSet<S> set,
+                               @NotNull final StringConverter<S> converter) {
+            super(set, converter);
+        }
+
+        @Nullable
+        @Override
+        public String lower(final String key) {
+            return converter.convertToString(set.lower(converter.convertFromString(key)));
+        }
+
+        @Nullable
+        @Override
+        public String floor(final String key) {
+            return converter.convertToString(set.floor(converter.convertFromString(key)));
+        }
+
+        @Nullable
+        @Override
+        public String ceiling(final String key) {
+            return converter.convertToString(set.ceiling(converter.convertFromString(key)));
+        }
+
+        @Nullable
+        @Override
+        public String higher(final String key) {
+            return converter.convertToString(set.higher(converter.convertFromString(key)));
+        }
+
+        @Nullable
+        @Override
+        public String pollFirst() {
+            return converter.convertToString(set.pollFirst());
+        }
+
+        @Nullable
+        @Override
+        public String pollLast() {
+            return converter.convertToString(set.pollLast());
+        }
+
+        @NotNull
+        @Override
+        public NavigableSet<String> descendingSet() {
+            if (this.descendingSet == null) {
+                this.descendingSet = new NavigableKeySetWrapper<>(set.descendingSet(), converter);
+            }
+
+            return this.descendingSet;
+        }
+
+        @NotNull
+        @Override
+        public Iterator<String> descendingIterator() {
+            return new KeyIteratorWrapper<>(set.descendingIterator(), converter);
+        }
+
+        @NotNull
+        @Override
+        public NavigableSet<String> subSet(final String fromElement, final boolean fromInclusive,
+                                           final String toElement, final boolean toInclusive) {
+            return new NavigableKeySetWrapper<>(
+                    set.subSet(converter.convertFromString(fromElement), fromInclusive,
+                            converter.convertFromString(toElement), toInclusive), converter);
+        }
+
+        @NotNull
+        @Override
+        public NavigableSet<String> headSet(final String toElement, final boolean inclusive) {
+            return new NavigableKeySetWrapper<>(
+                    set.headSet(converter.convertFromString(toElement), inclusive), converter);
+        }
+
+        @NotNull
+        @Override
+        public NavigableSet<String> tailSet(final String fromElement, final boolean inclusive) {
+            return new NavigableKeySetWrapper<>(
+                    set.tailSet(converter.convertFromString(fromElement), inclusive), converter);
+        }
+
+    }
+
+    /**
+     * The sorted map of a {@link SortedStringTrie}. It encapsulates the sorted set of a {@link
+     * SortedTrie}.
+     *
+     * @param <S>       The type of the sequences, which are used as the keys of the trie
+     * @param <V>       The type of the values, which are stored by the trie
+     * @param <MapType> The type of the encapsulated map
+     */
+    private static class SortedMapWrapper<S extends Sequence, V, MapType extends SortedMap<S, V>>
+            extends AbstractMap<String, V> implements SortedMap<String, V> {
+
+        /**
+         * The encapsulated map.
+         */
+        final MapType map;
+
+        /**
+         * The converter, which is used to convert the keys of the encapsulated map.
+         */
+        final StringConverter<S> converter;
+
+        /**
+         * The comparator of the sorted map.
+         */
+        private final Comparator<? super String> comparator;
+
+        /**
+         * Cereates a new sorted map of a {@link SortedStringTrie}.
+         *
+         * @param map       The map, which should be encapsulated, as an instance of the generic
+         *                  type {@link MapType}. The map may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated map, as an instance of the type {@link StringConverter}.
+         *                  The converter may not be null
+         */
+        SortedMapWrapper(@NotNull final MapType map, @NotNull final StringConverter<S> converter) {
+            Condition.INSTANCE.ensureNotNull(map, "The map may not be null");
+            Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
+            this.map = map;
+            this.converter = converter;
+            this.comparator = createComparator(map.comparator(), converter);
+        }
+
+        @Override
+        public final int size() {
+            return map.size();
+        }
+
+        @Override
+        public final boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public final boolean containsKey(final Object key) {
+            return map.containsKey(converter.convertFromString((String) key));
+        }
+
+        @Override
+        public final boolean containsValue(final Object value) {
+            return map.containsValue(value);
+        }
+
+        @Override
+        public final V get(final Object key) {
+            return map.get(converter.convertFromString((String) key));
+        }
+
+        @Override
+        public final V remove(final Object key) {
+            return map.remove(converter.convertFromString((String) key));
+        }
+
+        @Override
+        public final void clear() {
+            map.clear();
+        }
+
+        @Override
+        public final Comparator<? super String> comparator() {
+            return comparator;
+        }
+
+        @NotNull
+        @Override
+        public final SortedMap<String, V> subMap(final String fromKey, final String toKey) {
+            return new SortedMapWrapper<>(map.subMap(converter.convertFromString(fromKey),
+                    converter.convertFromString(toKey)), converter);
+        }
+
+        @NotNull
+        @Override
+        public final SortedMap<String, V> headMap(final String toKey) {
+            return new SortedMapWrapper<>(map.headMap(converter.convertFromString(toKey)),
+                    converter);
+        }
+
+        @NotNull
+        @Override
+        public final SortedMap<String, V> tailMap(final String fromKey) {
+            return new SortedMapWrapper<>(map.tailMap(converter.convertFromString(fromKey)),
+                    converter);
+        }
+
+        @Override
+        public final String firstKey() {
+            return converter.convertToString(map.firstKey());
+        }
+
+        @Override
+        public final String lastKey() {
+            return converter.convertToString(map.lastKey());
+        }
+
+        @NotNull
+        @Override
+        public final Set<Entry<String, V>> entrySet() {
+            return new EntrySetWrapper<>(map.entrySet(), converter);
+        }
+
+        @Override
+        public final boolean remove(final Object key, final Object value) {
+            return map.remove(converter.convertFromString((String) key), value);
+        }
+
+    }
+
+    /**
+     * The navigable map of a {@link SortedStringTrie}. It encapsulates the navigable map of a
+     * {@link SortedTrie}.
+     *
+     * @param <S> The type of the sequences, which are used as the keys of the trie
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class NavigableMapWrapper<S extends Sequence, V>
+            extends SortedMapWrapper<S, V, NavigableMap<S, V>> implements NavigableMap<String, V> {
+
+        /**
+         * Creates a new navigable map of a {@link SortedStringTrie}.
+         *
+         * @param map       The map, which should be encapsulated, as an instance of the type
+         *                  {@link NavigableMap}. The map may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated map, as an instance of the type {@link StringConverter}.
+         *                  The converter may not be null
+         */
+        NavigableMapWrapper(@NotNull final NavigableMap<S, V> map,
+                            @NotNull final StringConverter<S> converter) {
+            super(map, converter);
+        }
+
+        @Override
+        public Entry<String, V> lowerEntry(final String key) {
+            return convertEntry(map.lowerEntry(converter.convertFromString(key)), converter);
+        }
+
+        @Override
+        public String lowerKey(final String key) {
+            return converter.convertToString(map.lowerKey(converter.convertFromString(key)));
+        }
+
+        @Override
+        public Entry<String, V> floorEntry(final String key) {
+            return convertEntry(map.floorEntry(converter.convertFromString(key)), converter);
+        }
+
+        @Override
+        public String floorKey(final String key) {
+            return converter.convertToString(map.floorKey(converter.convertFromString(key)));
+        }
+
+        @Override
+        public Entry<String, V> ceilingEntry(final String key) {
+            return convertEntry(map.ceilingEntry(converter.convertFromString(key)), converter);
+        }
+
+        @Override
+        public String ceilingKey(final String key) {
+            return converter.convertToString(map.ceilingKey(converter.convertFromString(key)));
+        }
+
+        @Override
+        public Entry<String, V> higherEntry(final String key) {
+            return convertEntry(map.higherEntry(converter.convertFromString(key)), converter);
+        }
+
+        @Override
+        public String higherKey(final String key) {
+            return converter.convertToString(map.higherKey(converter.convertFromString(key)));
+        }
+
+        @Override
+        public Entry<String, V> firstEntry() {
+            return convertEntry(map.firstEntry(), converter);
+        }
+
+        @Override
+        public Entry<String, V> lastEntry() {
+            return convertEntry(map.lastEntry(), converter);
+        }
+
+        @Override
+        public Entry<String, V> pollFirstEntry() {
+            return convertEntry(map.pollFirstEntry(), converter);
+        }
+
+        @Override
+        public Entry<String, V> pollLastEntry() {
+            return convertEntry(map.pollLastEntry(), converter);
+        }
+
+        @Override
+        public NavigableMap<String, V> descendingMap() {
+            return new NavigableMapWrapper<>(map.descendingMap(), converter);
+        }
+
+        @Override
+        public NavigableSet<String> navigableKeySet() {
+            return new NavigableKeySetWrapper<>(map.navigableKeySet(), converter);
+        }
+
+        @Override
+        public NavigableSet<String> descendingKeySet() {
+            return new NavigableKeySetWrapper<>(map.descendingKeySet(), converter);
+        }
+
+        @Override
+        public NavigableMap<String, V> subMap(final String fromKey, final boolean fromInclusive,
+                                              final String toKey, final boolean toInclusive) {
+            return new NavigableMapWrapper<>(
+                    map.subMap(converter.convertFromString(fromKey), fromInclusive,
+                            converter.convertFromString(toKey), toInclusive), converter);
+        }
+
+        @Override
+        public NavigableMap<String, V> headMap(final String toKey, final boolean inclusive) {
+            return new NavigableMapWrapper<>(
+                    map.headMap(converter.convertFromString(toKey), inclusive), converter);
+        }
+
+        @Override
+        public NavigableMap<String, V> tailMap(final String fromKey, final boolean inclusive) {
+            return new NavigableMapWrapper<>(
+                    map.tailMap(converter.convertFromString(fromKey), inclusive), converter);
+        }
+
+    }
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 5918640329562291877L;
+
+    /**
+     * Converts an entry of the encapsulated trie into an entry of the wrapper.
+     *
+     * @param entry     The entry, which should be encapsulated, as an instance of the type {@link
+     *                  Entry} or null
+     * @param converter The converter, which should be used to convert the key of the entry, as an
+     *                  instance of the type {@link StringConverter}. The converter may not be null
+     * @param <S>       The type of the sequences, which are used as the keys of the trie
+     * @param <V>       The type of the values, which are stored by the trie
+     * @return The entry, which has been created, as an instance of the type {@link Entry} or null,
+     * if the given entry is null
+     */
+    @Nullable
+    private static <S extends Sequence, V> Entry<String, V> convertEntry(
+            @Nullable final Entry<S, V> entry, @NotNull final StringConverter<S> converter) {
+        if (entry != null) {
+            return new AbstractMap.SimpleImmutableEntry<>(
+                    converter.convertToString(entry.getKey()), entry.getValue());
+
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates and returns a comparator, which allows to compare {@link String}s in the same order
+     * as a comparator, which compares sequences.
+     *
+     * @param comparator The comparator, which compares sequences, as an instance of the type {@link
+     *                   Comparator} or null, if the natural ordering of the sequences is used
+     * @param converter  The converter, which should be used to convert the strings into sequences,
+     *                   as an instance of the type {@link StringConverter}. The converter may not
+     *                   be null
+     * @param <S>        The type of the sequences, which are compared by the given comparator
+     * @return The comparator, which has been created, as an instance of the type {@link Comparator}
+     * or null, if the natural ordering of strings corresponds to the order of the sequences
+     */
+    @Nullable
+    private static <S extends Sequence> Comparator<? super String> createComparator(
+            @Nullable final Comparator<? super S> comparator,
+            @NotNull final StringConverter<S> converter) {
+        return comparator != null ? new StringComparatorWrapper<>(comparator, converter) :
+                converter.getComparator();
+    }
+
+    /**
+     * The comparator of the sorted trie.
+     */
+    private final Comparator<? super String> comparator;
+
+    /**
+     * Creates a new wrapper, which implements the interface {@link SortedStringTrie}.
+     *
+     * @param trie      The trie, which should be encapsulated, as an instance of the type {@link
+     *                  SortedTrie}. The trie may not be null
+     * @param converter The converter, which should be used to convert the keys of the wrapper into
+     *                  the keys of the encapsulated trie and vice versa, as an instance of the type
+     *                  {@link StringConverter}. The converter may not be null
+     */
+    AbstractSortedStringTrieWrapper(@NotNull final SortedTrie<SequenceType, ValueType> trie,
+                                    @NotNull final StringConverter<SequenceType> converter) {
+        super(trie, converter);
+        this.comparator = createComparator(trie.comparator(), converter);
+    }
+
+    @Override
+    public final Entry<String, ValueType> lowerEntry(final String key) {
+        return convertEntry(trie.lowerEntry(converter.convertFromString(key)), converter);
+    }
+
+    @Override
+    public final String lowerKey(final String key) {
+        return converter.convertToString(trie.lowerKey(converter.convertFromString(key)));
+    }
+
+    @Override
+    public final Entry<String, ValueType> floorEntry(final String key) {
+        return convertEntry(trie.floorEntry(converter.convertFromString(key)), converter);
+    }
+
+    @Override
+    public final String floorKey(final String key) {
+        return converter.convertToString(trie.floorKey(converter.convertFromString(key)));
+    }
+
+    @Override
+    public final Entry<String, ValueType> ceilingEntry(final String key) {
+        return convertEntry(trie.ceilingEntry(converter.convertFromString(key)), converter);
+    }
+
+    @Override
+    public final String ceilingKey(final String key) {
+        return converter.convertToString(trie.ceilingKey(converter.convertFromString(key)));
+    }
+
+    @Override
+    public final Entry<String, ValueType> higherEntry(final String key) {
+        return convertEntry(trie.higherEntry(converter.convertFromString(key)), converter);
+    }
+
+    @Override
+    public final String higherKey(final String key) {
+        return converter.convertToString(trie.higherKey(converter.convertFromString(key)));
+    }
+
+    @Override
+    public final Entry<String, ValueType> firstEntry() {
+        return convertEntry(trie.firstEntry(), converter);
+    }
+
+    @Override
+    public final Entry<String, ValueType> lastEntry() {
+        return convertEntry(trie.lastEntry(), converter);
+    }
+
+    @Override
+    public final Entry<String, ValueType> pollFirstEntry() {
+        return convertEntry(trie.pollFirstEntry(), converter);
+    }
+
+    @Override
+    public final Entry<String, ValueType> pollLastEntry() {
+        return convertEntry(trie.pollLastEntry(), converter);
+    }
+
+    @Override
+    public final NavigableMap<String, ValueType> descendingMap() {
+        return new NavigableMapWrapper<>(trie.descendingMap(), converter);
+    }
+
+    @Override
+    public final NavigableSet<String> navigableKeySet() {
+        return new NavigableKeySetWrapper<>(trie.navigableKeySet(), converter);
+    }
+
+    @Override
+    public final NavigableSet<String> descendingKeySet() {
+        return new NavigableKeySetWrapper<>(trie.descendingKeySet(), converter);
+    }
+
+    @Override
+    public final NavigableMap<String, ValueType> subMap(final String fromKey,
+                                                        final boolean fromInclusive,
+                                                        final String toKey,
+                                                        final boolean toInclusive) {
+        return new NavigableMapWrapper<>(
+                trie.subMap(converter.convertFromString(fromKey), fromInclusive,
+                        converter.convertFromString(toKey), toInclusive), converter);
+    }
+
+    @Override
+    public final NavigableMap<String, ValueType> headMap(final String toKey,
+                                                         final boolean inclusive) {
+        return new NavigableMapWrapper<>(
+                trie.headMap(converter.convertFromString(toKey), inclusive), converter);
+    }
+
+    @Override
+    public final NavigableMap<String, ValueType> tailMap(final String fromKey,
+                                                         final boolean inclusive) {
+        return new NavigableMapWrapper<>(
+                trie.tailMap(converter.convertFromString(fromKey), inclusive), converter);
+    }
+
+    @Override
+    public Comparator<? super String> comparator() {
+        return comparator;
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> subMap(final String fromKey, final String toKey) {
+        return new SortedMapWrapper<>(trie.subMap(converter.convertFromString(fromKey),
+                converter.convertFromString(toKey)), converter);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> headMap(final String toKey) {
+        return new SortedMapWrapper<>(trie.headMap(converter.convertFromString(toKey)),
+                converter);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<String, ValueType> tailMap(final String fromKey) {
+        return new SortedMapWrapper<>(trie.tailMap(converter.convertFromString(fromKey)),
+                converter);
+    }
+
+    @Override
+    public final String firstKey() {
+        return converter.convertToString(trie.firstKey());
+    }
+
+    @Override
+    public final String lastKey() {
+        return converter.convertToString(trie.lastKey());
+    }
+
+}
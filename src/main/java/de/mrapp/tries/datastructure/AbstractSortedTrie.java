@@ -15,20 +15,20 @@ package de.mrapp.tries.datastructure;
 
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SequenceBuilder;
 import de.mrapp.tries.SortedTrie;
+import de.mrapp.tries.structure.Cursor;
 import de.mrapp.tries.structure.SortedStructure;
 import de.mrapp.tries.structure.Structure;
 import de.mrapp.tries.util.EntryUtil;
 import de.mrapp.tries.util.SequenceUtil;
 import de.mrapp.util.Condition;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 /**
  * An abstract base class for all sorted tries, whose nodes are ordered by their keys. It implements
@@ -221,26 +221,22 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
             private transient long sizeModificationCount;
 
             /**
-             * Returns the key, a specific value corresponds to.
+             * Returns, whether the set contains a specific entry, or not. The node, which
+             * corresponds to the entry's key, is looked up directly instead of iterating the set.
              *
-             * @param value The value, whose key should be returned, as an instance of the class
-             *              {@link Object} or null
-             * @return The key of the given value as an instance of the generic type {@link K} or
-             * null, if no such key exists
+             * @param value The entry as an instance of the class {@link Object} or null
+             * @return True, if the set contains the given entry, false otherwise
              */
             @SuppressWarnings("unchecked")
-            @Nullable
-            private K getKey(@Nullable final Object value) {
+            private boolean containsEntry(@Nullable final Object value) {
                 if (!(value instanceof Map.Entry))
-                    return null;
+                    return false;
                 Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
                 K key = (K) entry.getKey();
                 if (!isInOpenRange(key))
-                    return null;
+                    return false;
                 Node<K, V> node = trie.getNode(key);
-                if (node == null)
-                    return null;
-                return EntryUtil.isValueEqual(node, entry) ? key : null;
+                return node != null && node.isValueSet() && EntryUtil.isValueEqual(node, entry);
             }
 
             @Override
@@ -267,14 +263,17 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
 
             @Override
             public final boolean contains(final Object o) {
-                return getKey(o) != null;
+                return containsEntry(o);
             }
 
             @Override
             public final boolean remove(Object o) {
-                Optional<K> optional = Optional.ofNullable(getKey(o));
-                optional.ifPresent(trie::remove);
-                return optional.isPresent();
+                if (containsEntry(o)) {
+                    trie.remove(((Map.Entry<?, ?>) o).getKey());
+                    return true;
+                }
+
+                return false;
             }
 
         }
@@ -1584,6 +1583,107 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
 
     }
 
+    /**
+     * A stack, which contains the nodes, which must be traversed in order to reach a specific
+     * node, together with the positions of the key, at which the nodes have been reached. The
+     * nodes and positions are stored in arrays, which are grown on demand, in order to prevent an
+     * object from being created per traversed node.
+     *
+     * @param <K> The type of the sequences, which are used as the trie's keys
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class NodeStack<K extends Sequence, V> {
+
+        /**
+         * The initial capacity of the stack.
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * An array, which contains the nodes of the stack.
+         */
+        private Node<K, V>[] nodes;
+
+        /**
+         * An array, which contains the positions, at which the nodes have been reached.
+         */
+        private int[] positions;
+
+        /**
+         * The number of nodes, which are contained by the stack.
+         */
+        private int size;
+
+        /**
+         * Creates a new, empty stack.
+         */
+        @SuppressWarnings("unchecked")
+        NodeStack() {
+            this.nodes = (Node<K, V>[]) new Node<?, ?>[INITIAL_CAPACITY];
+            this.positions = new int[INITIAL_CAPACITY];
+            this.size = 0;
+        }
+
+        /**
+         * Pushes a node on the stack.
+         *
+         * @param node     The node, which should be pushed, as an instance of the type {@link
+         *                 Node}. The node may not be null
+         * @param position The position of the key, at which the node has been reached, as an
+         *                 {@link Integer} value
+         */
+        void push(@NotNull final Node<K, V> node, final int position) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+
+            nodes[size] = node;
+            positions[size] = position;
+            size++;
+        }
+
+        /**
+         * Removes the topmost node from the stack.
+         */
+        void pop() {
+            size--;
+            nodes[size] = null;
+        }
+
+        /**
+         * Returns the topmost node of the stack.
+         *
+         * @return The topmost node of the stack as an instance of the type {@link Node}. The node
+         * may not be null
+         */
+        @NotNull
+        Node<K, V> peekNode() {
+            return nodes[size - 1];
+        }
+
+        /**
+         * Returns the position of the key, at which the topmost node of the stack has been
+         * reached.
+         *
+         * @return The position of the key, at which the topmost node of the stack has been
+         * reached, as an {@link Integer} value
+         */
+        int peekPosition() {
+            return positions[size - 1];
+        }
+
+        /**
+         * Returns, whether the stack is empty, or not.
+         *
+         * @return True, if the stack is empty, false otherwise
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+    }
+
     /**
      * The constant serial version UID.
      */
@@ -1621,31 +1721,34 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
     /**
      * Returns the entry, which corresponds to the first or last entry of a subtrie.
      *
-     * @param node  The root node of the subtrie as an instance of the type {@link Node} or null, if
-     *              the subtrie is empty
-     * @param key   The key of the subtrie's root node as an instance of the generic type {@link
-     *              SequenceType} or null, if the subtrie is empty
-     * @param first True, if the first entry should be returned, false, if the last entry should be
-     *              returned
+     * @param node    The root node of the subtrie as an instance of the type {@link Node} or
+     *                null, if the subtrie is empty
+     * @param builder The builder, which contains the key of the subtrie's root node, as an
+     *                instance of the type {@link SequenceBuilder} or null, if the key of the
+     *                subtrie's root node is null. The keys of the traversed successors are
+     *                appended to the builder
+     * @param first   True, if the first entry should be returned, false, if the last entry should
+     *                be returned
      * @return The entry, which corresponds to the first or last entry of the given subtrie,
      * depending on the given {@code first} argument, or null, if the trie is empty
      */
     @Nullable
     private Entry<SequenceType, ValueType> firstOrLastEntry(
-            @Nullable final Node<SequenceType, ValueType> node, @Nullable final SequenceType key,
-            final boolean first) {
+            @Nullable final Node<SequenceType, ValueType> node,
+            @Nullable final SequenceBuilder<SequenceType> builder, final boolean first) {
         Node<SequenceType, ValueType> currentNode = node;
-        SequenceType sequence = key;
+        SequenceBuilder<SequenceType> sequenceBuilder = builder;
 
         while (currentNode != null && (!first || !currentNode.isValueSet()) &&
                 currentNode.hasSuccessors()) {
             SequenceType successorKey =
                     first ? currentNode.getFirstSuccessorKey() : currentNode.getLastSuccessorKey();
             currentNode = first ? currentNode.getFirstSuccessor() : currentNode.getLastSuccessor();
-            sequence = SequenceUtil.concat(sequence, successorKey);
+            sequenceBuilder = SequenceUtil.append(sequenceBuilder, successorKey);
         }
 
         if (currentNode != null && currentNode.isValueSet()) {
+            SequenceType sequence = sequenceBuilder != null ? sequenceBuilder.toSequence() : null;
             return new AbstractMap.SimpleImmutableEntry<>(sequence, currentNode.getValue());
         }
 
@@ -1671,26 +1774,28 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
 
                 if (!rootNode.hasSuccessors()) {
                     clear();
+                } else {
+                    onValueRemoved(null, result.getValue());
                 }
             } else {
                 Node<SequenceType, ValueType> currentNode = rootNode;
                 Node<SequenceType, ValueType> lastRetainedNode = rootNode;
                 SequenceType suffixToRemove = null;
-                SequenceType sequence = null;
+                SequenceBuilder<SequenceType> builder = null;
 
                 while (currentNode != null &&
                         (!currentNode.isValueSet() || (!first && currentNode.hasSuccessors()))) {
                     SequenceType key = first ? currentNode.getFirstSuccessorKey() :
                             currentNode.getLastSuccessorKey();
 
-                    if (currentNode.getSuccessorCount() > 1 || currentNode.getValue() != null) {
+                    if (currentNode.getSuccessorCount() > 1 || currentNode.isValueSet()) {
                         lastRetainedNode = currentNode;
                         suffixToRemove = key;
                     }
 
                     currentNode = first ? currentNode.getFirstSuccessor() :
                             currentNode.getLastSuccessor();
-                    sequence = SequenceUtil.concat(sequence, key);
+                    builder = SequenceUtil.append(builder, key);
                 }
 
                 if (currentNode != null && currentNode.isValueSet()) {
@@ -1699,11 +1804,12 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
                         suffixToRemove = null;
                     }
 
+                    SequenceType sequence = builder != null ? builder.toSequence() : null;
                     result = new AbstractMap.SimpleImmutableEntry<>(sequence,
                             currentNode.getValue());
                     currentNode.setNodeValue(null);
 
-                    if (lastRetainedNode == rootNode) {
+                    if (lastRetainedNode == rootNode && suffixToRemove == null) {
                         clear();
                     } else {
                         if (suffixToRemove != null) {
@@ -1711,6 +1817,7 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
                         }
 
                         modificationCount++;
+                        onValueRemoved(sequence, result.getValue());
                     }
                 }
             }
@@ -1726,60 +1833,52 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
      * @param key The key of the node, the path should be retrieved for, as an instance of the
      *            generic type {@link SequenceType}
      * @return A stack, which contains all nodes, which must be traversed in order to reach the
-     * node, which corresponds to the given key, as an instance of the type {@link Deque} or null,
-     * if no node with the given key is available
+     * node, which corresponds to the given key, as an instance of the class {@link NodeStack} or
+     * null, if no node with the given key is available
      */
     @Nullable
-    private Deque<Pair<Node<SequenceType, ValueType>, SequenceType>> getPathToNode(
-            final SequenceType key) {
+    private NodeStack<SequenceType, ValueType> getPathToNode(final SequenceType key) {
         if (rootNode != null) {
-            Deque<Pair<Node<SequenceType, ValueType>, SequenceType>> stack = new LinkedList<>();
-            Node<SequenceType, ValueType> currentNode = rootNode;
-            SequenceType suffix = key;
+            NodeStack<SequenceType, ValueType> stack = new NodeStack<>();
+            Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, key);
 
-            while (suffix != null && !suffix.isEmpty()) {
-                Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                        structure.onGetSuccessor(currentNode, suffix, Structure.Operation.GET);
+            while (cursor.hasRemaining()) {
+                Node<SequenceType, ValueType> currentNode = cursor.getNode();
+                int position = cursor.getPosition();
 
-                if (pair == null) {
+                if (!structure.onGetSuccessor(cursor, Structure.Operation.GET)) {
                     return null;
-                } else {
-                    stack.push(Pair.Companion.create(currentNode, suffix));
-                    currentNode = pair.getFirst();
-                    suffix = pair.getSecond();
                 }
-            }
 
-            if (currentNode != null) {
-                stack.push(Pair.Companion.create(currentNode, null));
-                return stack;
+                stack.push(currentNode, position);
             }
+
+            stack.push(cursor.getNode(), cursor.getPosition());
+            return stack;
         }
 
         return null;
     }
 
     /**
-     * Creates and returns an entry, given a specific node, the sequence one of its successors
-     * corresponds to and the key, which is used by the predecessor to reference the node.
+     * Creates and returns an entry, given a specific node and the length of the suffix of a key,
+     * which follows the node.
      *
-     * @param predecessorSequence The sequence, which corresponds to one of the given node's
-     *                            successors as an instance of the generic type {@link
-     *                            SequenceType}. The sequence may not be null
+     * @param predecessorSequence The key, which leads through the given node, as an instance of
+     *                            the generic type {@link SequenceType} or null
      * @param node                The node, the entry should be created from, as an instance of the
      *                            type {@link Node}. The node may not be null
-     * @param key                 The key, which is used by the predecessor to reference the given
-     *                            node, as an instance of the generic type {@link SequenceType}. The
-     *                            key may not be null
+     * @param suffixLength        The length of the suffix of the given key, which follows the given
+     *                            node, as an {@link Integer} value
      * @return The entry, which has been created, as an instance of the type {@link Entry}. The
      * entry may not be null
      */
     @NotNull
     private Map.Entry<SequenceType, ValueType> createLowerEntry(
             @Nullable final SequenceType predecessorSequence,
-            @NotNull final Node<SequenceType, ValueType> node, @NotNull final SequenceType key) {
+            @NotNull final Node<SequenceType, ValueType> node, final int suffixLength) {
         SequenceType lowerKey = predecessorSequence != null ? SequenceUtil
-                .subsequence(predecessorSequence, 0, predecessorSequence.length() - key.length()) :
+                .subsequence(predecessorSequence, 0, predecessorSequence.length() - suffixLength) :
                 null;
         return new AbstractMap.SimpleImmutableEntry<>(
                 SequenceUtil.isEmpty(lowerKey) ? null : lowerKey, node.getValue());
@@ -1788,20 +1887,15 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
     /**
      * Returns the lower or higher entry, starting at a specific node.
      *
-     * @param predecessorSequence The sequence, which corresponds to a predecessor of the given
-     *                            node, as an instance of the generic type {@link SequenceType}.
-     *                            The
-     * @param indexPair           A pair, which contains the index, the given node is stored at in
-     *                            its predecessor, as an instance of the class {@link Pair}. See
-     *                            {@link SortedStructure#indexOf(Node, Sequence)}
+     * @param predecessorSequence The key, which leads through the given node, as an instance of
+     *                            the generic type {@link SequenceType}. The key may not be null
+     * @param index               The index of the successor of the given node, the key leads to,
+     *                            as an {@link Integer} value or -1, if the index is not known. See
+     *                            {@link SortedStructure#indexOf(Node, Sequence, int)}
      * @param node                The node to start at, as an instance of the type {@link Node}. The
      *                            node may not be null
-     * @param key                 The key, which is used by the predecessor to reference the given
-     *                            node, as an instance of the generic type {@link SequenceType}. The
-     *                            key may not be null
-     * @param indexFunction       A function, which returns the index of the node, which should be
-     *                            used to search for the lower or higher entry, depending on the
-     *                            index contained by {@code indexPair}
+     * @param suffixLength        The length of the suffix of the given key, which follows the given
+     *                            node, as an {@link Integer} value
      * @param higher              True, if the higher entry should be created, false, if the lower
      *                            entry should be created
      * @return The entry, which has been created, as an instance of the type {@link Map.Entry} or
@@ -1809,20 +1903,20 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
      */
     @Nullable
     private Map.Entry<SequenceType, ValueType> createLowerOrHigherEntry(
-            @NotNull final SequenceType predecessorSequence,
-            @Nullable final Pair<Integer, SequenceType> indexPair,
-            @NotNull final Node<SequenceType, ValueType> node, @NotNull final SequenceType key,
-            @NotNull final Function<Integer, Integer> indexFunction, final boolean higher) {
-        if (indexPair != null) {
-            int index = indexFunction.apply(indexPair.getFirst());
-
-            if (index >= 0 && index < node.getSuccessorCount()) {
-                Node<SequenceType, ValueType> successor = node.getSuccessor(index);
-                SequenceType successorKey = node.getSuccessorKey(index);
-                SequenceType prefix = SequenceUtil.subsequence(predecessorSequence, 0,
-                        predecessorSequence.length() - key.length());
-                prefix = SequenceUtil.concat(prefix, successorKey);
-                return firstOrLastEntry(successor, prefix, higher);
+            @NotNull final SequenceType predecessorSequence, final int index,
+            @NotNull final Node<SequenceType, ValueType> node, final int suffixLength,
+            final boolean higher) {
+        if (index != -1) {
+            int siblingIndex = higher ? index + 1 : index - 1;
+
+            if (siblingIndex >= 0 && siblingIndex < node.getSuccessorCount()) {
+                Node<SequenceType, ValueType> successor = node.getSuccessor(siblingIndex);
+                SequenceType successorKey = node.getSuccessorKey(siblingIndex);
+                SequenceBuilder<SequenceType> builder =
+                        SequenceUtil.createBuilder(predecessorSequence).append(predecessorSequence)
+                                .truncate(predecessorSequence.length() - suffixLength)
+                                .append(successorKey);
+                return firstOrLastEntry(successor, builder, higher);
             }
         }
 
@@ -1951,34 +2045,36 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
 
     @Override
     public final Entry<SequenceType, ValueType> lowerEntry(final SequenceType key) {
-        Deque<Pair<Node<SequenceType, ValueType>, SequenceType>> stack = getPathToNode(key);
+        NodeStack<SequenceType, ValueType> stack = getPathToNode(key);
 
         if (stack != null) {
             stack.pop();
 
             while (!stack.isEmpty()) {
-                Pair<Node<SequenceType, ValueType>, SequenceType> pair = stack.pop();
-                Pair<Integer, SequenceType> indexPair = null;
-
-                if (pair.getFirst().isValueSet()) {
-                    if (pair.getFirst().getSuccessorCount() <= 1) {
-                        return createLowerEntry(key, pair.getFirst(), pair.getSecond());
+                Node<SequenceType, ValueType> node = stack.peekNode();
+                int position = stack.peekPosition();
+                int suffixLength = key.length() - position;
+                stack.pop();
+                int index = -1;
+
+                if (node.isValueSet()) {
+                    if (node.getSuccessorCount() <= 1) {
+                        return createLowerEntry(key, node, suffixLength);
                     } else {
-                        indexPair = structure.indexOf(pair.getFirst(), pair.getSecond());
+                        index = structure.indexOf(node, key, position);
 
-                        if (indexPair != null && indexPair.getFirst() == 0) {
-                            return createLowerEntry(key, pair.getFirst(), pair.getSecond());
+                        if (index == 0) {
+                            return createLowerEntry(key, node, suffixLength);
                         }
                     }
                 }
 
-                if (indexPair == null && pair.getFirst().getSuccessorCount() > 1) {
-                    indexPair = structure.indexOf(pair.getFirst(), pair.getSecond());
+                if (index == -1 && node.getSuccessorCount() > 1) {
+                    index = structure.indexOf(node, key, position);
                 }
 
                 Map.Entry<SequenceType, ValueType> entry =
-                        createLowerOrHigherEntry(key, indexPair, pair.getFirst(), pair.getSecond(),
-                                index -> index - 1, false);
+                        createLowerOrHigherEntry(key, index, node, suffixLength, false);
 
                 if (entry != null) {
                     return entry;
@@ -1991,25 +2087,29 @@ public abstract class AbstractSortedTrie<SequenceType extends Sequence, ValueTyp
 
     @Override
     public final Entry<SequenceType, ValueType> higherEntry(final SequenceType key) {
-        Deque<Pair<Node<SequenceType, ValueType>, SequenceType>> stack = getPathToNode(key);
+        NodeStack<SequenceType, ValueType> stack = getPathToNode(key);
 
         if (stack != null) {
-            Node<SequenceType, ValueType> node = stack.pop().getFirst();
+            Node<SequenceType, ValueType> node = stack.peekNode();
+            stack.pop();
 
             if (node.hasSuccessors()) {
                 Node<SequenceType, ValueType> successor = node.getFirstSuccessor();
                 SequenceType successorKey = node.getFirstSuccessorKey();
-                return firstOrLastEntry(successor, SequenceUtil.concat(key, successorKey), true);
+                SequenceBuilder<SequenceType> builder =
+                        SequenceUtil.append(SequenceUtil.append(null, key), successorKey);
+                return firstOrLastEntry(successor, builder, true);
             } else {
                 while (!stack.isEmpty()) {
-                    Pair<Node<SequenceType, ValueType>, SequenceType> pair = stack.pop();
+                    Node<SequenceType, ValueType> predecessor = stack.peekNode();
+                    int position = stack.peekPosition();
+                    stack.pop();
 
-                    if (pair.getFirst().getSuccessorCount() > 1) {
-                        Pair<Integer, SequenceType> indexPair =
-                                structure.indexOf(pair.getFirst(), pair.getSecond());
+                    if (predecessor.getSuccessorCount() > 1) {
+                        int index = structure.indexOf(predecessor, key, position);
                         Entry<SequenceType, ValueType> entry =
-                                createLowerOrHigherEntry(key, indexPair, pair.getFirst(),
-                                        pair.getSecond(), index -> index + 1, true);
+                                createLowerOrHigherEntry(key, index, predecessor,
+                                        key.length() - position, true);
 
                         if (entry != null) {
                             return entry;
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SortedTrie;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+
+/**
+ * An abstract base class for all wrappers, which implement an interface, which is extended from
+ * {@link SortedTrie}, by forwarding all method calls to an encapsulated sorted trie.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the trie's keys
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @param <TrieType>     The type of the encapsulated trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public abstract class AbstractSortedTrieWrapper<SequenceType extends Sequence, ValueType, TrieType extends SortedTrie<SequenceType, ValueType>>
+        extends AbstractTrieWrapper<SequenceType, ValueType, TrieType>
+        implements SortedTrie<SequenceType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -4370651622985400375L;
+
+    /**
+     * Creates a new wrapper, which delegates all method calls to an encapsulated sorted trie.
+     *
+     * @param trie The trie, which should be encapsulated, as an instance of the generic type {@link
+     *             TrieType}. The trie may not be null
+     */
+    AbstractSortedTrieWrapper(@NotNull final TrieType trie) {
+        super(trie);
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> lowerEntry(final SequenceType key) {
+        return trie.lowerEntry(key);
+    }
+
+    @Override
+    public final SequenceType lowerKey(final SequenceType key) {
+        return trie.lowerKey(key);
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> floorEntry(final SequenceType key) {
+        return trie.floorEntry(key);
+    }
+
+    @Override
+    public final SequenceType floorKey(final SequenceType key) {
+        return trie.floorKey(key);
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> ceilingEntry(final SequenceType key) {
+        return trie.ceilingEntry(key);
+    }
+
+    @Override
+    public final SequenceType ceilingKey(final SequenceType key) {
+        return trie.ceilingKey(key);
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> higherEntry(final SequenceType key) {
+        return trie.higherEntry(key);
+    }
+
+    @Override
+    public final SequenceType higherKey(final SequenceType key) {
+        return trie.higherKey(key);
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> firstEntry() {
+        return trie.firstEntry();
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> lastEntry() {
+        return trie.lastEntry();
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> pollFirstEntry() {
+        return trie.pollFirstEntry();
+    }
+
+    @Override
+    public final Entry<SequenceType, ValueType> pollLastEntry() {
+        return trie.pollLastEntry();
+    }
+
+    @Override
+    public final NavigableMap<SequenceType, ValueType> descendingMap() {
+        return trie.descendingMap();
+    }
+
+    @Override
+    public final NavigableSet<SequenceType> navigableKeySet() {
+        return trie.navigableKeySet();
+    }
+
+    @Override
+    public final NavigableSet<SequenceType> descendingKeySet() {
+        return trie.descendingKeySet();
+    }
+
+    @Override
+    public final NavigableMap<SequenceType, ValueType> subMap(final SequenceType fromKey,
+                                                             final boolean fromInclusive,
+                                                             final SequenceType toKey,
+                                                             final boolean toInclusive) {
+        return trie.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    @Override
+    public final NavigableMap<SequenceType, ValueType> headMap(final SequenceType toKey,
+                                                              final boolean inclusive) {
+        return trie.headMap(toKey, inclusive);
+    }
+
+    @Override
+    public final NavigableMap<SequenceType, ValueType> tailMap(final SequenceType fromKey,
+                                                              final boolean inclusive) {
+        return trie.tailMap(fromKey, inclusive);
+    }
+
+    @Override
+    public final Comparator<? super SequenceType> comparator() {
+        return trie.comparator();
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<SequenceType, ValueType> subMap(final SequenceType fromKey,
+                                                          final SequenceType toKey) {
+        return trie.subMap(fromKey, toKey);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<SequenceType, ValueType> headMap(final SequenceType toKey) {
+        return trie.headMap(toKey);
+    }
+
+    @NotNull
+    @Override
+    public final SortedMap<SequenceType, ValueType> tailMap(final SequenceType fromKey) {
+        return trie.tailMap(fromKey);
+    }
+
+    @Override
+    public final SequenceType firstKey() {
+        return trie.firstKey();
+    }
+
+    @Override
+    public final SequenceType lastKey() {
+        return trie.lastKey();
+    }
+
+}
@@ -13,60 +13,81 @@
  */
 package de.mrapp.tries.datastructure;
 
+import de.mrapp.tries.Difference;
 import de.mrapp.tries.Node;
+import de.mrapp.tries.Sequence;
 import de.mrapp.tries.StringTrie;
 import de.mrapp.tries.Trie;
 import de.mrapp.tries.sequence.StringSequence;
-import de.mrapp.tries.util.EntryUtil;
 import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * An abstract base class for all wrappers, which implement an interface, which is extended from
- * {@link StringTrie}, by delegating all method calls to an encapsulated trie.
+ * {@link StringTrie}, by delegating all method calls to an encapsulated trie. The keys of the
+ * wrapper are converted into the keys of the encapsulated trie by using a {@link StringConverter}.
  *
- * @param <TrieType>  The type of the encapsulated trie
- * @param <ValueType> The type of the values, which are stored by the trie
+ * @param <SequenceType> The type of the sequences, which are used as the keys of the encapsulated
+ *                       trie
+ * @param <TrieType>     The type of the encapsulated trie
+ * @param <ValueType>    The type of the values, which are stored by the trie
  * @author Michael Rapp
  * @since 1.0.0
  */
-public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequence, ValueType>, ValueType> implements
-        StringTrie<ValueType> {
+public abstract class AbstractStringTrieWrapper<SequenceType extends Sequence, TrieType extends Trie<SequenceType, ValueType>, ValueType>
+        implements StringTrie<ValueType> {
 
     /**
      * The entry set of a {@link StringTrie}. It encapsulates the entry set of a {@link Trie}.
      *
+     * @param <S> The type of the sequences, which are used as the keys of the trie
      * @param <V> The type of the values, which are stored by the trie
      */
-    static final class EntrySetWrapper<V> extends AbstractSet<Entry<String, V>> {
+    static final class EntrySetWrapper<S extends Sequence, V>
+            extends AbstractSet<Entry<String, V>> {
 
         /**
          * The iterator, which allows to iterate the entries of a {@link StringTrie}'s entry set. It
          * encapsulates the iterator of a {@link Trie}'s entry set.
          *
+         * @param <S> The type of the sequences, which are used as the keys of the trie
          * @param <V> The type of the values, which are stored by the trie
          */
-        private static final class EntryIteratorWrapper<V> implements Iterator<Entry<String, V>> {
+        private static final class EntryIteratorWrapper<S extends Sequence, V>
+                implements Iterator<Entry<String, V>> {
 
             /**
              * The encapsulated iterator.
              */
-            private final Iterator<Entry<StringSequence, V>> iterator;
+            private final Iterator<Entry<S, V>> iterator;
+
+            /**
+             * The converter, which is used to convert the keys of the encapsulated iterator.
+             */
+            private final StringConverter<S> converter;
 
             /**
              * Creates a new iterator, which allows to iterate the entries of a {@link StringTrie}'s
              * entry set.
              *
-             * @param iterator The iterator, which should be encapsulated, as an instance of the
-             *                 type {@link Iterator}. The iterator may not be null
+             * @param iterator  The iterator, which should be encapsulated, as an instance of the
+             *                  type {@link Iterator}. The iterator may not be null
+             * @param converter The converter, which should be used to convert the keys of the
+             *                  encapsulated iterator, as an instance of the type {@link
+             *                  StringConverter}. The converter may not be null
              */
-            EntryIteratorWrapper(@NotNull final Iterator<Entry<StringSequence, V>> iterator) {
+            EntryIteratorWrapper(@NotNull final Iterator<Entry<S, V>> iterator,
+                                 @NotNull final StringConverter<S> converter) {
                 Condition.INSTANCE.ensureNotNull(iterator, "The iterator may not be null");
+                Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
                 this.iterator = iterator;
+                this.converter = converter;
             }
 
             @Override
@@ -76,10 +97,10 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
             @Override
             public Entry<String, V> next() {
-                Entry<StringSequence, V> next = iterator.next();
+                Entry<S, V> next = iterator.next();
 
                 if (next != null) {
-                    String key = StringSequence.convertToString(next.getKey());
+                    String key = converter.convertToString(next.getKey());
                     return new AbstractMap.SimpleImmutableEntry<>(key, next.getValue());
                 }
 
@@ -96,31 +117,63 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
         /**
          * The encapsulated entry set.
          */
-        private final Set<Entry<StringSequence, V>> entrySet;
+        private final Set<Entry<S, V>> entrySet;
+
+        /**
+         * The converter, which is used to convert the keys of the encapsulated entry set.
+         */
+        private final StringConverter<S> converter;
 
         /**
          * Creates a new entry set of a {@link StringTrie}.
          *
-         * @param entrySet The entry set, which should be encapsulated, as an instance of the type
-         *                 {@link Set}. The entry set may not be null
+         * @param entrySet  The entry set, which should be encapsulated, as an instance of the type
+         *                  {@link Set}. The entry set may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated entry set, as an instance of the type {@link
+         *                  StringConverter}. The converter may not be null
          */
-        EntrySetWrapper(@NotNull final Set<Entry<StringSequence, V>> entrySet) {
+        EntrySetWrapper(@NotNull final Set<Entry<S, V>> entrySet,
+                        @NotNull final StringConverter<S> converter) {
             Condition.INSTANCE.ensureNotNull(entrySet, "The entry set may not be null");
+            Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
             this.entrySet = entrySet;
+            this.converter = converter;
         }
 
         @NotNull
         @Override
         public Iterator<Entry<String, V>> iterator() {
-            return new EntryIteratorWrapper<>(entrySet.iterator());
+            return new EntryIteratorWrapper<>(entrySet.iterator(), converter);
+        }
+
+        /**
+         * Converts an entry of a {@link StringTrie} into an entry of the encapsulated entry set.
+         *
+         * @param o The entry, which should be converted, as an instance of the class {@link
+         *          Object} or null
+         * @return The entry, which has been created, as an instance of the type {@link Entry} or
+         * null, if the given object is not an entry with a {@link String} key
+         */
+        @Nullable
+        private Entry<S, Object> convertEntry(@Nullable final Object o) {
+            if (o instanceof Map.Entry) {
+                Map.Entry<?, ?> entry = (Entry<?, ?>) o;
+                Object key = entry.getKey();
+
+                if (key == null || key instanceof String) {
+                    return new AbstractMap.SimpleImmutableEntry<>(
+                            converter.convertFromString((String) key), entry.getValue());
+                }
+            }
+
+            return null;
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public boolean remove(final Object o) {
-            Map.Entry<String, V> entry = (Entry<String, V>) o;
-            return entrySet.remove(new AbstractMap.SimpleImmutableEntry<>(
-                    StringSequence.convertFromString(entry.getKey()), entry.getValue()));
+            Entry<S, Object> entry = convertEntry(o);
+            return entry != null && entrySet.remove(entry);
         }
 
         @Override
@@ -140,17 +193,8 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
         @Override
         public boolean contains(final Object o) {
-            Map.Entry<?, ?> entry = (Entry<?, ?>) o;
-            String key = (String) entry.getKey();
-
-            for (Map.Entry<StringSequence, V> e : entrySet) {
-                if ((e.getKey() == null && key == null) ||
-                        (key != null && key.equals(StringSequence.convertToString(e.getKey())))) {
-                    return EntryUtil.isEqual(e.getValue(), entry.getValue());
-                }
-            }
-
-            return false;
+            Entry<S, Object> entry = convertEntry(o);
+            return entry != null && entrySet.contains(entry);
         }
 
     }
@@ -158,31 +202,46 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
     /**
      * The key set of a {@link StringTrie}. It encapsulates the key set of a {@link Trie}.
      *
+     * @param <S>       The type of the sequences, which are used as the keys of the trie
      * @param <SetType> The type of the encapsulated set
      */
-    static class KeySetWrapper<SetType extends Set<StringSequence>> extends AbstractSet<String> {
+    static class KeySetWrapper<S extends Sequence, SetType extends Set<S>>
+            extends AbstractSet<String> {
 
         /**
          * The iterator, which allows to iterate the entries of a {@link StringTrie}'s key set. It
          * encapsulates the iterator of a {@link Trie}'s key set.
+         *
+         * @param <S> The type of the sequences, which are used as the keys of the trie
          */
-        static final class KeyIteratorWrapper implements Iterator<String> {
+        static final class KeyIteratorWrapper<S extends Sequence> implements Iterator<String> {
 
             /**
              * The encapsulated iterator.
              */
-            private final Iterator<StringSequence> iterator;
+            private final Iterator<S> iterator;
+
+            /**
+             * The converter, which is used to convert the keys of the encapsulated iterator.
+             */
+            private final StringConverter<S> converter;
 
             /**
              * Creates a new iterator, which allows to iterate the entries of a {@link StringTrie}'s
              * key set.
              *
-             * @param iterator The iterator, which should be encapsulated, as an instance of the
-             *                 type {@link Iterator}. The iterator may not be null
+             * @param iterator  The iterator, which should be encapsulated, as an instance of the
+             *                  type {@link Iterator}. The iterator may not be null
+             * @param converter The converter, which should be used to convert the keys of the
+             *                  encapsulated iterator, as an instance of the type {@link
+             *                  StringConverter}. The converter may not be null
              */
-            KeyIteratorWrapper(@NotNull final Iterator<StringSequence> iterator) {
+            KeyIteratorWrapper(@NotNull final Iterator<S> iterator,
+                               @NotNull final StringConverter<S> converter) {
                 Condition.INSTANCE.ensureNotNull(iterator, "The iterator may not be null");
+                Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
                 this.iterator = iterator;
+                this.converter = converter;
             }
 
             @Override
@@ -192,7 +251,7 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
             @Override
             public String next() {
-                return StringSequence.convertToString(iterator.next());
+                return converter.convertToString(iterator.next());
             }
 
             @Override
@@ -205,13 +264,21 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
         /**
          * The spliterator, which allows to traverse the entries of a {@link StringTrie}'s key set.
          * It encapsulates the spliterator of a {@link Trie}'s key set.
+         *
+         * @param <S> The type of the sequences, which are used as the keys of the trie
          */
-        private static final class KeySpliteratorWrapper implements Spliterator<String> {
+        private static final class KeySpliteratorWrapper<S extends Sequence>
+                implements Spliterator<String> {
 
             /**
              * The encapsulated spliterator.
              */
-            private final Spliterator<StringSequence> spliterator;
+            private final Spliterator<S> spliterator;
+
+            /**
+             * The converter, which is used to convert the keys of the encapsulated spliterator.
+             */
+            private final StringConverter<S> converter;
 
             /**
              * Creates a new spliterator, which allows to traverse the entries of a {@link
@@ -219,23 +286,29 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
              *
              * @param spliterator The spliterator, which should be encapsulated, as an instance of
              *                    the type {@link Spliterator}. The spliterator may not be null
+             * @param converter   The converter, which should be used to convert the keys of the
+             *                    encapsulated spliterator, as an instance of the type {@link
+             *                    StringConverter}. The converter may not be null
              */
-            KeySpliteratorWrapper(@NotNull final Spliterator<StringSequence> spliterator) {
+            KeySpliteratorWrapper(@NotNull final Spliterator<S> spliterator,
+                                  @NotNull final StringConverter<S> converter) {
                 Condition.INSTANCE.ensureNotNull(spliterator, "The spliterator may not be null");
+                Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
                 this.spliterator = spliterator;
+                this.converter = converter;
             }
 
             @Override
             public boolean tryAdvance(final Consumer<? super String> action) {
                 return spliterator.tryAdvance(
-                        stringSequence -> action
-                                .accept(StringSequence.convertToString(stringSequence)));
+                        sequence -> action.accept(converter.convertToString(sequence)));
             }
 
             @Override
             public Spliterator<String> trySplit() {
-                Spliterator<StringSequence> spliterator = this.spliterator.trySplit();
-                return spliterator != null ? new KeySpliteratorWrapper(spliterator) : null;
+                Spliterator<S> spliterator = this.spliterator.trySplit();
+                return spliterator != null ?
+                        new KeySpliteratorWrapper<>(spliterator, converter) : null;
             }
 
             @Override
@@ -255,26 +328,36 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
          */
         final SetType set;
 
+        /**
+         * The converter, which is used to convert the keys of the encapsulated set.
+         */
+        final StringConverter<S> converter;
+
         /**
          * Creates a new key set of a {@link StringTrie}.
          *
-         * @param set The set, which should be encapsulated, as an instance of the generic type
-         *            {@link SetType}. The set may not be null
+         * @param set       The set, which should be encapsulated, as an instance of the generic
+         *                  type {@link SetType}. The set may not be null
+         * @param converter The converter, which should be used to convert the keys of the
+         *                  encapsulated set, as an instance of the type {@link StringConverter}.
+         *                  The converter may not be null
          */
-        KeySetWrapper(@NotNull final SetType set) {
+        KeySetWrapper(@NotNull final SetType set, @NotNull final StringConverter<S> converter) {
             Condition.INSTANCE.ensureNotNull(set, "The set may not be null");
+            Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
             this.set = set;
+            this.converter = converter;
         }
 
         @NotNull
         @Override
         public final Iterator<String> iterator() {
-            return new KeyIteratorWrapper(set.iterator());
+            return new KeyIteratorWrapper<>(set.iterator(), converter);
         }
 
         @Override
         public final boolean remove(final Object o) {
-            return set.remove(StringSequence.convertFromString((String) o));
+            return set.remove(converter.convertFromString((String) o));
         }
 
         @Override
@@ -294,16 +377,129 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
         @Override
         public final boolean contains(Object o) {
-            return set.contains(StringSequence.convertFromString((String) o));
+            return set.contains(converter.convertFromString((String) o));
         }
 
         @Override
         public final Spliterator<String> spliterator() {
-            return new KeySpliteratorWrapper(set.spliterator());
+            return new KeySpliteratorWrapper<>(set.spliterator(), converter);
         }
 
     }
 
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific region of a character sequence is
+     * not valid.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     */
+    private static void ensureValidRegion(@NotNull final CharSequence key, final int start,
+                                          final int end) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+
+        if (start < 0 || end > key.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + key.length());
+        }
+    }
+
+    /**
+     * Returns the node, which corresponds to a specific region of a character sequence, by
+     * descending a trie, starting at its root node, without creating any sequences.
+     *
+     * @param trie  The trie, which should be descended, as an instance of the class {@link
+     *              AbstractTrie}. The trie may not be null
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @param <V>   The type of the values, which are stored by the trie
+     * @return The node, which corresponds to the given region, as an instance of the type {@link
+     * Node} or null, if no such node is available
+     */
+    @Nullable
+    private static <V> Node<StringSequence, V> getNode(
+            @NotNull final AbstractTrie<?, StringSequence, V> trie,
+            @NotNull final CharSequence key, final int start, final int end) {
+        Node<StringSequence, V> node = trie.rootNode;
+        int position = start;
+
+        while (node != null && position < end) {
+            node = getSuccessor(trie, node, key, position, end);
+            position += node != null ? node.getPredecessor().getKey().length() : 0;
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the successor of a specific node, whose edge is labeled with a prefix of a specific
+     * region of a character sequence. The successor is looked up by the region's first character
+     * by using the structure of the trie. Its edge is compared to the region afterwards, as it may
+     * consist of multiple characters.
+     *
+     * @param trie  The trie, the node belongs to, as an instance of the class {@link
+     *              AbstractTrie}. The trie may not be null
+     * @param node  The node, whose successor should be returned, as an instance of the type {@link
+     *              Node}. The node may not be null
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value. The region must not be empty
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @param <V>   The type of the values, which are stored by the trie
+     * @return The successor, whose edge is labeled with a prefix of the given region, as an
+     * instance of the type {@link Node} or null, if no such successor is available
+     */
+    @Nullable
+    private static <V> Node<StringSequence, V> getSuccessor(
+            @NotNull final AbstractTrie<?, StringSequence, V> trie,
+            @NotNull final Node<StringSequence, V> node, @NotNull final CharSequence key,
+            final int start, final int end) {
+        Node<StringSequence, V> successor =
+                trie.structure.getSuccessor(node, StringSequence.valueOf(key.charAt(start)), 0);
+        return successor != null && regionStartsWith(key, start, end,
+                successor.getPredecessor().getKey().toString()) ? successor : null;
+    }
+
+    /**
+     * Returns, whether a specific region of a character sequence starts with a specific label, or
+     * not.
+     *
+     * @param key   The character sequence as an instance of the type {@link CharSequence}. The
+     *              character sequence may not be null
+     * @param start The index of the first character of the region (inclusive) as an {@link
+     *              Integer} value
+     * @param end   The index of the last character of the region (exclusive) as an {@link
+     *              Integer} value
+     * @param label The label as a {@link String}. The label may not be null
+     * @return True, if the given region starts with the given label, false otherwise
+     */
+    private static boolean regionStartsWith(@NotNull final CharSequence key, final int start,
+                                            final int end, @NotNull final String label) {
+        int length = label.length();
+
+        if (length > end - start) {
+            return false;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (key.charAt(start + i) != label.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * The constant serial version UID.
      */
@@ -314,15 +510,47 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
      */
     protected final TrieType trie;
 
+    /**
+     * The converter, which is used to convert the keys of the wrapper into the keys of the
+     * encapsulated trie and vice versa.
+     */
+    final StringConverter<SequenceType> converter;
+
     /**
      * Creates a new wrapper, which delegates all method calls to an encapsulated trie.
      *
-     * @param trie The trie, which should be encapsulated, as an instance of the generic type {@link
-     *             TrieType}. The trie may not be null
+     * @param trie      The trie, which should be encapsulated, as an instance of the generic type
+     *                  {@link TrieType}. The trie may not be null
+     * @param converter The converter, which should be used to convert the keys of the wrapper into
+     *                  the keys of the encapsulated trie and vice versa, as an instance of the type
+     *                  {@link StringConverter}. The converter may not be null
      */
-    AbstractStringTrieWrapper(@NotNull final TrieType trie) {
+    AbstractStringTrieWrapper(@NotNull final TrieType trie,
+                              @NotNull final StringConverter<SequenceType> converter) {
         Condition.INSTANCE.ensureNotNull(trie, "The trie may not be null");
+        Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
         this.trie = trie;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the encapsulated trie, if it can be descended by comparing characters with the edges
+     * of its nodes. This is only the case, if the keys of the trie are stored as instances of the
+     * class {@link StringSequence} and if they are compared according to their natural order.
+     *
+     * @return The encapsulated trie as an instance of the class {@link AbstractTrie} or null, if
+     * the trie cannot be descended without converting keys
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private AbstractTrie<?, StringSequence, ValueType> getTraversableTrie() {
+        if (converter == StringConverter.StringSequenceConverter.INSTANCE &&
+                trie instanceof AbstractTrie &&
+                (!(trie instanceof SortedMap) || ((SortedMap<?, ?>) trie).comparator() == null)) {
+            return (AbstractTrie<?, StringSequence, ValueType>) trie;
+        }
+
+        return null;
     }
 
     @Override
@@ -337,7 +565,7 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
     @Override
     public final boolean containsKey(final Object key) {
-        return trie.containsKey(StringSequence.convertFromString((String) key));
+        return trie.containsKey(converter.convertFromString((String) key));
     }
 
     @Override
@@ -347,17 +575,17 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
 
     @Override
     public final ValueType get(final Object key) {
-        return trie.get(StringSequence.convertFromString((String) key));
+        return trie.get(converter.convertFromString((String) key));
     }
 
     @Override
     public final ValueType put(final String key, final ValueType value) {
-        return trie.put(StringSequence.convertFromString(key), value);
+        return trie.put(converter.convertFromString(key), value);
     }
 
     @Override
     public final ValueType remove(final Object key) {
-        return trie.remove(StringSequence.convertFromString((String) key));
+        return trie.remove(converter.convertFromString((String) key));
     }
 
     @Override
@@ -374,7 +602,7 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
     @NotNull
     @Override
     public final Set<String> keySet() {
-        return new KeySetWrapper<>(trie.keySet());
+        return new KeySetWrapper<>(trie.keySet(), converter);
     }
 
     @NotNull
@@ -386,14 +614,178 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
     @NotNull
     @Override
     public final Set<Entry<String, ValueType>> entrySet() {
-        return new EntrySetWrapper<>(trie.entrySet());
+        return new EntrySetWrapper<>(trie.entrySet(), converter);
     }
 
     @Nullable
     @Override
     public final Node<String, ValueType> getRootNode() {
-        Node<StringSequence, ValueType> rootNode = trie.getRootNode();
-        return rootNode != null ? new StringNodeWrapper<>(rootNode) : null;
+        Node<SequenceType, ValueType> rootNode = trie.getRootNode();
+        return rootNode != null ? StringNodeWrapper.create(rootNode, converter) : null;
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        return trie.countWithPrefix(converter.convertFromString(prefix));
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return trie.containsPrefix(converter.convertFromString(prefix));
+    }
+
+    @Override
+    public final void forEach(@NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        forEachWithPrefix(null, action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        trie.forEachWithPrefix(converter.convertFromString(prefix),
+                (key, value) -> action.accept(converter.convertToString(key), value));
+    }
+
+    /**
+     * Returns the differences between this trie and another trie, i.e. the modifications, which
+     * must be applied to this trie in order to obtain a trie, which contains the same entries as
+     * the other trie. If both tries encapsulate a trie of the class {@link AbstractTrie}, whose
+     * keys are converted in the same way, the differences are computed by traversing both tries
+     * in lockstep (see {@link AbstractTrie#diff(AbstractTrie)}). Otherwise, the keys of each trie
+     * are looked up in the other trie. In both cases, the differences are computed lazily, while
+     * the returned stream is consumed, and they are not reported in any particular order.
+     *
+     * @param other The other trie as an instance of the class {@link AbstractStringTrieWrapper}.
+     *              The trie may not be null
+     * @return A stream, which contains the differences between both tries, as an instance of the
+     * type {@link Stream}. The stream may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public final Stream<Difference<String, ValueType>> diff(
+            @NotNull final AbstractStringTrieWrapper<?, ?, ? extends ValueType> other) {
+        Condition.INSTANCE.ensureNotNull(other, "The trie may not be null");
+
+        if (converter == other.converter && trie instanceof AbstractTrie &&
+                other.trie instanceof AbstractTrie) {
+            return ((AbstractTrie<?, SequenceType, ValueType>) trie)
+                    .diff((AbstractTrie<?, SequenceType, ? extends ValueType>) other.trie)
+                    .map(difference -> new Difference<>(difference.getType(),
+                            converter.convertToString(difference.getKey()),
+                            difference.getOldValue(), difference.getNewValue()));
+        }
+
+        Stream<Difference<String, ValueType>> removals = entrySet().stream()
+                .filter(entry -> !other.containsKey(entry.getKey()) ||
+                        !Objects.equals(entry.getValue(), other.get(entry.getKey())))
+                .map(entry -> other.containsKey(entry.getKey()) ?
+                        new Difference<>(Difference.Type.CHANGED, entry.getKey(),
+                                entry.getValue(), other.get(entry.getKey())) :
+                        new Difference<>(Difference.Type.REMOVED, entry.getKey(),
+                                entry.getValue(), null));
+        Stream<Difference<String, ValueType>> additions = other.entrySet().stream()
+                .filter(entry -> !containsKey(entry.getKey()))
+                .map(entry -> new Difference<>(Difference.Type.ADDED, entry.getKey(), null,
+                        entry.getValue()));
+        return Stream.concat(removals, additions).unordered();
+    }
+
+    /**
+     * Removes all keys, which start with a specific prefix, from the trie. If the given prefix
+     * corresponds to a key, the key is removed as well. If the encapsulated trie is of the class
+     * {@link AbstractTrie}, or a wrapper, which encapsulates such a trie, the subtree, which
+     * corresponds to the given prefix, is detached at once (see {@link
+     * AbstractTrie#removePrefix(Sequence)}). Otherwise, the keys are removed one after another.
+     *
+     * @param prefix The prefix as a {@link String} or null, if all keys should be removed
+     * @return The number of keys, which have been removed, as an {@link Integer} value
+     */
+    @SuppressWarnings("unchecked")
+    public final int removePrefix(@Nullable final String prefix) {
+        SequenceType sequence = converter.convertFromString(prefix);
+
+        if (trie instanceof AbstractTrie) {
+            return ((AbstractTrie<?, SequenceType, ValueType>) trie).removePrefix(sequence);
+        } else if (trie instanceof AbstractTrieWrapper) {
+            return ((AbstractTrieWrapper<SequenceType, ValueType, ?>) trie).removePrefix(sequence);
+        }
+
+        int count = trie.countWithPrefix(sequence);
+
+        if (count > 0) {
+            String normalizedPrefix = prefix != null ? prefix : "";
+            keySet().removeIf(key -> key != null ? key.startsWith(normalizedPrefix) :
+                    normalizedPrefix.isEmpty());
+        }
+
+        return count;
+    }
+
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        ensureValidRegion(key, start, end);
+        AbstractTrie<?, StringSequence, ValueType> traversableTrie = getTraversableTrie();
+
+        if (traversableTrie != null) {
+            Node<StringSequence, ValueType> node =
+                    getNode(traversableTrie, key, start, end);
+            return node != null ? node.getValue() : null;
+        }
+
+        return get(key.subSequence(start, end).toString());
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        ensureValidRegion(key, start, end);
+        AbstractTrie<?, StringSequence, ValueType> traversableTrie = getTraversableTrie();
+
+        if (traversableTrie != null) {
+            Node<StringSequence, ValueType> node =
+                    getNode(traversableTrie, key, start, end);
+            return node != null && node.isValueSet();
+        }
+
+        return containsKey(key.subSequence(start, end).toString());
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        ensureValidRegion(key, start, end);
+        AbstractTrie<?, StringSequence, ValueType> traversableTrie = getTraversableTrie();
+
+        if (traversableTrie != null) {
+            Node<StringSequence, ValueType> node = traversableTrie.rootNode;
+            int position = start;
+            int result = node != null && node.isValueSet() ? 0 : -1;
+
+            while (node != null && position < end) {
+                node = getSuccessor(traversableTrie, node, key, position, end);
+
+                if (node != null) {
+                    position += node.getPredecessor().getKey().length();
+
+                    if (node.isValueSet()) {
+                        result = position - start;
+                    }
+                }
+            }
+
+            return result;
+        } else if (!isEmpty()) {
+            String string = key.subSequence(start, end).toString();
+
+            for (int i = string.length(); i >= 0; i--) {
+                if (containsKey(string.substring(0, i))) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
     }
 
     @Override
@@ -412,7 +804,7 @@ public abstract class AbstractStringTrieWrapper<TrieType extends Trie<StringSequ
             return true;
         if (getClass() != obj.getClass())
             return false;
-        AbstractStringTrieWrapper<?, ?> other = (AbstractStringTrieWrapper<?, ?>) obj;
+        AbstractStringTrieWrapper<?, ?, ?> other = (AbstractStringTrieWrapper<?, ?, ?>) obj;
         return trie.equals(other.trie);
     }
 
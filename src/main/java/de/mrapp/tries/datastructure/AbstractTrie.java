@@ -13,11 +13,15 @@
  */
 package de.mrapp.tries.datastructure;
 
+import de.mrapp.tries.Difference;
 import de.mrapp.tries.Node;
 import de.mrapp.tries.NodeValue;
 import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SequenceBuilder;
 import de.mrapp.tries.Trie;
 import de.mrapp.tries.datastructure.node.UnmodifiableNode;
+import de.mrapp.tries.structure.Cursor;
+import de.mrapp.tries.structure.SortedStructure;
 import de.mrapp.tries.structure.Structure;
 import de.mrapp.tries.structure.Structure.Operation;
 import de.mrapp.tries.util.EntryUtil;
@@ -28,6 +32,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An abstract base class for all tries. It implements the methods of the interface {@link Map}. In
@@ -94,7 +102,7 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         public boolean contains(final Object o) {
             Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
             Node<K, V> node = backingTrie.getNode(entry.getKey());
-            return node != null && EntryUtil.isValueEqual(node, entry);
+            return node != null && node.isValueSet() && EntryUtil.isValueEqual(node, entry);
         }
 
         @Override
@@ -148,8 +156,26 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             return backingTrie.isEmpty();
         }
 
+        @Override
+        public boolean contains(final Object o) {
+            return backingTrie.containsValue(o);
+        }
+
         @Override
         public boolean remove(final Object o) {
+            Map<V, Set<K>> valueIndex = backingTrie.getValueIndex();
+
+            if (valueIndex != null) {
+                Set<K> keys = valueIndex.get(o);
+
+                if (keys != null) {
+                    backingTrie.remove(keys.iterator().next());
+                    return true;
+                }
+
+                return false;
+            }
+
             for (Map.Entry<K, V> entry : backingTrie.entrySet()) {
                 if (EntryUtil.isEqual(entry.getValue(), o)) {
                     backingTrie.remove(entry.getKey());
@@ -351,9 +377,9 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             private final Node<K, V> node;
 
             /**
-             * The sequence, which corresponds to the node.
+             * The length of the sequence, which corresponds to the node.
              */
-            private final K sequence;
+            private final int length;
 
             /**
              * The iterator, which allows to iterate the successors of the node.
@@ -368,25 +394,23 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
              */
             Path(@Nullable final Node<K, V> rootNode) {
                 this.node = rootNode;
-                this.sequence = null;
+                this.length = 0;
                 this.iterator = null;
             }
 
             /**
              * Creates a new path, which leads to a specific node.
              *
-             * @param node     The node, the path should lead to, as an instance of the type {@link
-             *                 Node}. The node may not be null
-             * @param sequence The sequence, which corresponds to the given node, as an instance of
-             *                 the generic type {@link K}. The sequence may neither be null, nor
-             *                 empty
+             * @param node   The node, the path should lead to, as an instance of the type {@link
+             *               Node}. The node may not be null
+             * @param length The length of the sequence, which corresponds to the given node, as an
+             *               {@link Integer} value. The length must be at least 1
              */
-            Path(@NotNull final Node<K, V> node, @NotNull final K sequence) {
+            Path(@NotNull final Node<K, V> node, final int length) {
                 Condition.INSTANCE.ensureNotNull(node, "The node may not be null");
-                Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
-                Condition.INSTANCE.ensureFalse(sequence.isEmpty(), "The sequence may not be empty");
+                Condition.INSTANCE.ensureAtLeast(length, 1, "The length must be at least 1");
                 this.node = node;
-                this.sequence = sequence;
+                this.length = length;
                 this.iterator = null;
             }
 
@@ -402,12 +426,42 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
          */
         private final Deque<Path> stack;
 
+        /**
+         * The builder, which is used to create the sequences, which correspond to the traversed
+         * nodes. It is shared by all paths on the {@link #stack}, which only store the length of
+         * their sequence. As the nodes are traversed in depth-first order, the builder's prefix of
+         * that length always corresponds to the sequence of a path when it is retrieved from the
+         * stack.
+         */
+        private SequenceBuilder<K> builder;
+
         /**
          * The path, which leads to the node, which is returned when the {@link #next()} method is
          * called for the next time.
          */
         private Path nextPath;
 
+        /**
+         * The sequence, which corresponds to the node, which is returned when the {@link #next()}
+         * method is called for the next time.
+         */
+        private K nextSequence;
+
+        /**
+         * Fetches the path, which leads to the node, which should be returned when the iterator's
+         * {@link #next()} method is called for the next time, as well as the sequence, which
+         * corresponds to that node.
+         */
+        private void fetchNextPath() {
+            nextPath = fetchNext();
+
+            if (nextPath != null && builder != null) {
+                nextSequence = builder.truncate(nextPath.length).toSequence();
+            } else {
+                nextSequence = null;
+            }
+        }
+
         /**
          * Fetches the path, which leads to the node, which should be returned when the iterator's
          * {@link #next()} method is called for the next time.
@@ -468,8 +522,12 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
                     Node<K, V> successor = path.node.getSuccessor(key);
 
                     if (successor != null) {
-                        K sequence = SequenceUtil.concat(path.sequence, key);
-                        return new Path(successor, sequence);
+                        if (builder != null) {
+                            builder.truncate(path.length);
+                        }
+
+                        builder = SequenceUtil.append(builder, key);
+                        return new Path(successor, builder.length());
                     }
                 }
             }
@@ -477,14 +535,64 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             return null;
         }
 
+        /**
+         * Restores the path, which leads to the node, which is returned when the {@link #next()}
+         * method is called for the next time, after a key has been removed from the trie. As the
+         * removal may have removed or merged nodes, e.g. in a Patricia trie, the path is traversed
+         * again, starting at the root node, and the iterators of the nodes along the path are
+         * advanced past the successors, which have already been visited.
+         */
+        private void restoreNextPath() {
+            stack.clear();
+            Node<K, V> node = trie.rootNode;
+            Path path = new Path(node);
+
+            if (builder != null) {
+                builder.truncate(0);
+            }
+
+            while (nextSequence != null && path.length < nextSequence.length()) {
+                K suffix = SequenceUtil.subsequence(nextSequence, path.length);
+                Iterator<K> iterator = node.iterator();
+                path.iterator = iterator;
+                K key = null;
+
+                while (key == null && iterator.hasNext()) {
+                    K successorKey = iterator.next();
+
+                    if (successorKey != null && SequenceUtil.startsWith(suffix, successorKey)) {
+                        key = successorKey;
+                    }
+                }
+
+                Condition.INSTANCE.ensureNotNull(key, null, ConcurrentModificationException.class);
+
+                if (iterator.hasNext()) {
+                    stack.push(path);
+                }
+
+                node = node.getSuccessor(key);
+                builder = SequenceUtil.append(builder, key);
+                path = new Path(node, builder.length());
+            }
+
+            path.iterator = node.iterator();
+
+            if (path.iterator.hasNext()) {
+                stack.push(path);
+            }
+
+            nextPath = path;
+        }
+
         final Map.Entry<K, V> nextEntry() {
             Condition.INSTANCE.ensureEqual(expectedModificationCount, trie.modificationCount, null,
                     ConcurrentModificationException.class);
             Condition.INSTANCE.ensureTrue(hasNext(), null, NoSuchElementException.class);
             Path result = nextPath;
-            nextPath = fetchNext();
-            lastReturned =
-                    new AbstractMap.SimpleImmutableEntry<>(result.sequence, result.node.getValue());
+            K sequence = nextSequence;
+            fetchNextPath();
+            lastReturned = new AbstractMap.SimpleImmutableEntry<>(sequence, result.node.getValue());
             return lastReturned;
         }
 
@@ -499,10 +607,11 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             super(trie);
             this.lastReturned = null;
             this.stack = new LinkedList<>();
+            this.builder = null;
 
             if (trie.rootNode != null) {
                 this.stack.add(new Path(trie.rootNode));
-                this.nextPath = fetchNext();
+                fetchNextPath();
             }
         }
 
@@ -519,6 +628,10 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             trie.remove(lastReturned.getKey());
             lastReturned = null;
             expectedModificationCount = trie.modificationCount;
+
+            if (nextPath != null) {
+                restoreNextPath();
+            }
         }
 
     }
@@ -558,11 +671,354 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
 
     }
 
+    /**
+     * Traverses the nodes of a trie in depth-first order, while keeping track of the corresponding
+     * positions in another trie. As the edges of both tries may be compressed differently, the
+     * position in the other trie is given by a node and the part of the edge leading to it, which
+     * has not been matched yet. Subtrees, which do not correspond to any node of the other trie,
+     * are either skipped as a whole or traversed without looking up their nodes in the other trie.
+     *
+     * @param <K> The type of the sequences, which are used as the keys of both tries
+     * @param <V> The type of the values, which are stored by the traversed trie
+     * @param <W> The type of the values, which are stored by the other trie
+     */
+    private static final class LockstepTraversal<K extends Sequence, V, W> {
+
+        /**
+         * The other trie.
+         */
+        private final AbstractTrie<?, K, W> other;
+
+        /**
+         * True, if subtrees, which do not correspond to any node of the other trie, should be
+         * skipped, false, if they should be traversed.
+         */
+        private final boolean skipUnmatched;
+
+        /**
+         * True, if nodes, which are identical to their counterparts, should not be descended into,
+         * false otherwise. As tries do not share any nodes, this is only the case, if a trie is
+         * traversed in lockstep with itself.
+         */
+        private final boolean skipIdentical;
+
+        /**
+         * The nodes of the traversed trie, which are kept on the stack.
+         */
+        private Node<K, V>[] nodes;
+
+        /**
+         * The corresponding nodes of the other trie, which are kept on the stack, or null, if a
+         * node does not correspond to any node of the other trie.
+         */
+        private Node<K, W>[] counterparts;
+
+        /**
+         * The parts of the edges, which lead to the nodes in {@link #counterparts} and have not
+         * been matched yet, or null, if the edges have been matched entirely.
+         */
+        private K[] remainders;
+
+        /**
+         * The keys, which correspond to the nodes in {@link #nodes}.
+         */
+        private K[] keys;
+
+        /**
+         * The number of nodes, which are currently kept on the stack.
+         */
+        private int depth;
+
+        /**
+         * The key, which corresponds to the node, which has been visited most recently.
+         */
+        K key;
+
+        /**
+         * The node, which has been visited most recently.
+         */
+        Node<K, V> node;
+
+        /**
+         * The node of the other trie, which corresponds to the same key as the node, which has
+         * been visited most recently, or null, if no such node is available.
+         */
+        Node<K, W> counterpart;
+
+        /**
+         * Creates a new traversal of the nodes of a trie.
+         *
+         * @param rootNode      The root node of the trie, which should be traversed, as an
+         *                      instance of the type {@link Node} or null, if the trie is empty
+         * @param other         The other trie as an instance of the class {@link AbstractTrie}.
+         *                      The trie may not be null
+         * @param skipUnmatched True, if subtrees, which do not correspond to any node of the
+         *                      other trie, should be skipped, false, if they should be traversed
+         * @param skipIdentical True, if nodes, which are identical to their counterparts, should
+         *                      not be descended into, false otherwise
+         */
+        @SuppressWarnings("unchecked")
+        LockstepTraversal(@Nullable final Node<K, V> rootNode,
+                          @NotNull final AbstractTrie<?, K, W> other, final boolean skipUnmatched,
+                          final boolean skipIdentical) {
+            this.other = other;
+            this.skipUnmatched = skipUnmatched;
+            this.skipIdentical = skipIdentical;
+            this.nodes = (Node<K, V>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+            this.counterparts = (Node<K, W>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+            this.remainders = (K[]) new Sequence[INITIAL_STACK_CAPACITY];
+            this.keys = (K[]) new Sequence[INITIAL_STACK_CAPACITY];
+
+            if (rootNode != null && (other.rootNode != null || !skipUnmatched)) {
+                nodes[0] = rootNode;
+                counterparts[0] = other.rootNode;
+                depth = 1;
+            }
+        }
+
+        /**
+         * Visits the next node of the traversed trie, which contains a value. The node, its key
+         * and the corresponding node of the other trie are stored in the fields {@link #node},
+         * {@link #key} and {@link #counterpart}.
+         *
+         * @return True, if a node has been visited, false, if all nodes have been traversed
+         */
+        boolean next() {
+            while (depth > 0) {
+                depth--;
+                Node<K, V> currentNode = nodes[depth];
+                Node<K, W> currentCounterpart = counterparts[depth];
+                K remainder = remainders[depth];
+                K currentKey = keys[depth];
+                nodes[depth] = null;
+                counterparts[depth] = null;
+                remainders[depth] = null;
+                keys[depth] = null;
+
+                if (!skipIdentical || remainder != null || currentNode != currentCounterpart) {
+                    for (K edge : currentNode) {
+                        Node<K, V> successor = currentNode.getSuccessor(edge);
+
+                        if (successor != null) {
+                            push(successor, edge, currentCounterpart, remainder, currentKey);
+                        }
+                    }
+
+                    if (currentNode.isValueSet()) {
+                        key = currentKey;
+                        node = currentNode;
+                        counterpart = remainder == null ? currentCounterpart : null;
+                        return true;
+                    }
+                }
+            }
+
+            key = null;
+            node = null;
+            counterpart = null;
+            return false;
+        }
+
+        /**
+         * Pushes the successor of a node onto the stack after matching the edge, which leads to
+         * it, with the edges of the other trie.
+         *
+         * @param successor   The successor as an instance of the type {@link Node}. The successor
+         *                    may not be null
+         * @param edge        The edge, which leads to the successor, as an instance of the generic
+         *                    type {@link K}. The edge may not be null
+         * @param counterpart The node of the other trie, which corresponds to the node, the
+         *                    successor belongs to, as an instance of the type {@link Node} or null,
+         *                    if no such node is available
+         * @param remainder   The part of the edge, which leads to the given counterpart, which has
+         *                    not been matched yet, as an instance of the generic type {@link K} or
+         *                    null, if the edge has been matched entirely
+         * @param key         The key, which corresponds to the node, the successor belongs to, as
+         *                    an instance of the generic type {@link K} or null, if the node is the
+         *                    root node
+         */
+        private void push(@NotNull final Node<K, V> successor, @NotNull final K edge,
+                          @Nullable final Node<K, W> counterpart, @Nullable final K remainder,
+                          @Nullable final K key) {
+            Node<K, W> currentCounterpart = counterpart;
+            K currentRemainder = remainder;
+            int position = 0;
+
+            while (currentCounterpart != null && position < edge.length()) {
+                if (currentRemainder == null) {
+                    Pair<K, Node<K, W>> pair = getEdge(other, currentCounterpart, edge, position);
+
+                    if (pair == null) {
+                        currentCounterpart = null;
+                        break;
+                    }
+
+                    currentRemainder = pair.getFirst();
+                    currentCounterpart = pair.getSecond();
+                }
+
+                int prefixLength = currentRemainder.getCommonPrefixLength(edge, position);
+
+                if (prefixLength == currentRemainder.length()) {
+                    position += prefixLength;
+                    currentRemainder = null;
+                } else if (position + prefixLength == edge.length()) {
+                    position += prefixLength;
+                    currentRemainder = SequenceUtil.subsequence(currentRemainder, prefixLength);
+                } else {
+                    currentCounterpart = null;
+                }
+            }
+
+            if (currentCounterpart != null || !skipUnmatched) {
+                if (depth == nodes.length) {
+                    int capacity = depth * 2;
+                    nodes = Arrays.copyOf(nodes, capacity);
+                    counterparts = Arrays.copyOf(counterparts, capacity);
+                    remainders = Arrays.copyOf(remainders, capacity);
+                    keys = Arrays.copyOf(keys, capacity);
+                }
+
+                nodes[depth] = successor;
+                counterparts[depth] = currentCounterpart;
+                remainders[depth] = currentCounterpart != null ? currentRemainder : null;
+                keys[depth] = SequenceUtil.concat(key, edge);
+                depth++;
+            }
+        }
+
+    }
+
+    /**
+     * An iterator, which allows to iterate the differences between two tries. At first, the
+     * first trie is traversed in lockstep with the second trie in order to find keys, which have
+     * been removed or whose values have been changed. Afterwards, the second trie is traversed in
+     * lockstep with the first one in order to find keys, which have been added. If a trie is
+     * compared to itself, its nodes are not traversed at all.
+     *
+     * @param <K> The type of the sequences, which are used as the keys of both tries
+     * @param <V> The type of the values, which are stored by the tries
+     */
+    private static final class DifferenceIterator<K extends Sequence, V>
+            implements Iterator<Difference<K, V>> {
+
+        /**
+         * The first trie.
+         */
+        private final AbstractTrie<?, K, ? extends V> first;
+
+        /**
+         * The second trie.
+         */
+        private final AbstractTrie<?, K, ? extends V> second;
+
+        /**
+         * The modification count of the first trie, which is expected.
+         */
+        private final long expectedModificationCount;
+
+        /**
+         * The modification count of the second trie, which is expected.
+         */
+        private final long expectedOtherModificationCount;
+
+        /**
+         * The traversal, which is used to find removed and changed keys.
+         */
+        private final LockstepTraversal<K, ? extends V, ? extends V> removals;
+
+        /**
+         * The traversal, which is used to find added keys.
+         */
+        private final LockstepTraversal<K, ? extends V, ? extends V> additions;
+
+        /**
+         * The next difference, which is returned by the iterator, or null, if all differences
+         * have been returned.
+         */
+        private Difference<K, V> next;
+
+        /**
+         * Finds the next difference between both tries.
+         *
+         * @return The next difference as an instance of the class {@link Difference} or null, if
+         * no more differences are available
+         */
+        @Nullable
+        private Difference<K, V> fetchNext() {
+            while (removals.next()) {
+                V value = removals.node.getValue();
+
+                if (removals.counterpart == null || !removals.counterpart.isValueSet()) {
+                    return new Difference<>(Difference.Type.REMOVED, removals.key, value, null);
+                }
+
+                V newValue = removals.counterpart.getValue();
+
+                if (!Objects.equals(value, newValue)) {
+                    return new Difference<>(Difference.Type.CHANGED, removals.key, value,
+                            newValue);
+                }
+            }
+
+            while (additions.next()) {
+                if (additions.counterpart == null || !additions.counterpart.isValueSet()) {
+                    return new Difference<>(Difference.Type.ADDED, additions.key, null,
+                            additions.node.getValue());
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Creates a new iterator, which allows to iterate the differences between two tries.
+         *
+         * @param first  The first trie as an instance of the class {@link AbstractTrie}. The trie
+         *               may not be null
+         * @param second The second trie as an instance of the class {@link AbstractTrie}. The
+         *               trie may not be null
+         */
+        DifferenceIterator(@NotNull final AbstractTrie<?, K, ? extends V> first,
+                           @NotNull final AbstractTrie<?, K, ? extends V> second) {
+            this.first = first;
+            this.second = second;
+            this.expectedModificationCount = first.modificationCount;
+            this.expectedOtherModificationCount = second.modificationCount;
+            this.removals = new LockstepTraversal<>(first.rootNode, second, false, true);
+            this.additions = new LockstepTraversal<>(second.rootNode, first, false, true);
+            this.next = fetchNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Difference<K, V> next() {
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, first.modificationCount,
+                    null, ConcurrentModificationException.class);
+            Condition.INSTANCE.ensureEqual(expectedOtherModificationCount,
+                    second.modificationCount, null, ConcurrentModificationException.class);
+            Condition.INSTANCE.ensureTrue(hasNext(), null, NoSuchElementException.class);
+            Difference<K, V> result = next;
+            next = fetchNext();
+            return result;
+        }
+
+    }
+
     /**
      * The constant serial version UID.
      */
     private static final long serialVersionUID = -9049598420902876017L;
 
+    /**
+     * The initial capacity of the stack, which is used to traverse the trie's nodes.
+     */
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
     /**
      * The implementation of the interface {@link Structure}, which defines the structure of the
      * trie.
@@ -580,6 +1036,33 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
      */
     transient long modificationCount;
 
+    /**
+     * True, if the values of the trie are indexed (see {@link #setValueIndexed(boolean)}), false
+     * otherwise.
+     */
+    private boolean valueIndexed;
+
+    /**
+     * A map, which maps the values of the trie to the keys they are associated with, or null, if
+     * the values are not indexed or if the index has not been built yet (see {@link
+     * #getValueIndex()}). A value, which is associated with a single key, is mapped to an
+     * immutable singleton set.
+     */
+    private transient Map<ValueType, Set<SequenceType>> valueIndex;
+
+    /**
+     * The hash code of the trie's entries according to the contract of the method {@link
+     * Map#hashCode()}, i.e. the sum of the hash codes of all entries. It is only valid, if {@link
+     * #contentHashValid} is true.
+     */
+    private transient int contentHash;
+
+    /**
+     * True, if the {@link #contentHash} has been computed and is kept up to date whenever the
+     * trie is modified, false otherwise.
+     */
+    private transient boolean contentHashValid;
+
     /**
      * The values of the trie (see {@link #values()}).
      */
@@ -629,27 +1112,510 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         SequenceType sequence = (SequenceType) key;
 
         if (rootNode != null) {
-            Node<SequenceType, ValueType> currentNode = rootNode;
-            SequenceType suffix = sequence;
+            Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, sequence);
+
+            while (cursor.hasRemaining()) {
+                if (!structure.onGetSuccessor(cursor, Operation.GET)) {
+                    return null;
+                }
+            }
 
-            while (suffix != null && !suffix.isEmpty()) {
-                Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                        structure.onGetSuccessor(currentNode, suffix, Operation.GET);
+            return cursor.getNode();
+        }
 
-                if (pair == null) {
+        return null;
+    }
+
+    /**
+     * Traverses the trie in order to return the node, which corresponds to a specific prefix. If
+     * the prefix ends within the key of an edge, as it may be the case for compressed tries, the
+     * node the edge leads to is returned, because all keys of its subtree start with the prefix.
+     *
+     * @param prefix The prefix, the node, which should be returned, corresponds to, as an instance
+     *               of the generic type {@link SequenceType} or null, if the root node should be
+     *               returned
+     * @return A pair, which contains the node, which corresponds to the given prefix, as well as
+     * the sequence, which corresponds to the node, as an instance of the class {@link Pair} or
+     * null, if no such node is available
+     */
+    @Nullable
+    protected final Pair<Node<SequenceType, ValueType>, SequenceType> getPrefixNode(
+            @Nullable final SequenceType prefix) {
+        if (rootNode != null) {
+            Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, prefix);
+
+            while (cursor.hasRemaining()) {
+                if (!structure.onGetSuccessor(cursor, Operation.SUB_TRIE)) {
                     return null;
-                } else {
-                    currentNode = pair.getFirst();
-                    suffix = pair.getSecond();
+                }
+
+                SequenceType edge = cursor.getEdge();
+
+                if (edge != null && cursor.getMatchedLength() < edge.length()) {
+                    SequenceType matchedPrefix = SequenceUtil.subsequence(prefix, 0,
+                            cursor.getPosition() - cursor.getMatchedLength());
+                    return Pair.Companion
+                            .create(cursor.getNode(), SequenceUtil.concat(matchedPrefix, edge));
                 }
             }
 
-            return currentNode;
+            return Pair.Companion.create(cursor.getNode(), prefix);
         }
 
         return null;
     }
 
+    /**
+     * Returns the key, which is reported for a specific key by the trie's entries. The empty key
+     * is reported as null.
+     *
+     * @param key The key as an instance of the generic type {@link SequenceType} or null
+     * @return The normalized key as an instance of the generic type {@link SequenceType} or null,
+     * if the given key is empty
+     */
+    @Nullable
+    private SequenceType normalizeKey(@Nullable final SequenceType key) {
+        return key == null || key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Returns the hash code of an entry according to the contract of the method {@link
+     * Map.Entry#hashCode()}.
+     *
+     * @param key   The key of the entry as an instance of the generic type {@link SequenceType} or
+     *              null
+     * @param value The value of the entry as an instance of the generic type {@link ValueType} or
+     *              null
+     * @return The hash code of the entry as an {@link Integer} value
+     */
+    private int entryHash(@Nullable final SequenceType key, @Nullable final ValueType value) {
+        return Objects.hashCode(normalizeKey(key)) ^ Objects.hashCode(value);
+    }
+
+    /**
+     * Returns the map, which maps the values of the trie to the keys they are associated with. If
+     * the values are indexed, but the index has not been built yet or has been discarded, e.g.
+     * when merging another trie, all entries of the trie are traversed once in order to build it.
+     *
+     * @return The map as an instance of the type {@link Map} or null, if the values of the trie
+     * are not indexed
+     */
+    @Nullable
+    final Map<ValueType, Set<SequenceType>> getValueIndex() {
+        if (valueIndexed && valueIndex == null) {
+            valueIndex = new HashMap<>();
+            forEach(this::addToValueIndex);
+        }
+
+        return valueIndex;
+    }
+
+    /**
+     * Adds a key, which has been associated with a specific value, to the {@link #valueIndex}, if
+     * it has been built.
+     *
+     * @param key   The key as an instance of the generic type {@link SequenceType} or null, if the
+     *              key is empty
+     * @param value The value as an instance of the generic type {@link ValueType} or null
+     */
+    private void addToValueIndex(@Nullable final SequenceType key,
+                                 @Nullable final ValueType value) {
+        if (valueIndex != null) {
+            SequenceType normalizedKey = normalizeKey(key);
+            Set<SequenceType> keys = valueIndex.get(value);
+
+            if (keys == null) {
+                valueIndex.put(value, Collections.singleton(normalizedKey));
+            } else {
+                if (keys.size() == 1) {
+                    keys = new HashSet<>(keys);
+                    valueIndex.put(value, keys);
+                }
+
+                keys.add(normalizedKey);
+            }
+        }
+    }
+
+    /**
+     * Removes a key, which is no longer associated with a specific value, from the {@link
+     * #valueIndex}, if it has been built.
+     *
+     * @param key   The key as an instance of the generic type {@link SequenceType} or null, if the
+     *              key is empty
+     * @param value The value as an instance of the generic type {@link ValueType} or null
+     */
+    private void removeFromValueIndex(@Nullable final SequenceType key,
+                                      @Nullable final ValueType value) {
+        if (valueIndex != null) {
+            Set<SequenceType> keys = valueIndex.get(value);
+
+            if (keys != null) {
+                SequenceType normalizedKey = normalizeKey(key);
+
+                if (keys.size() == 1) {
+                    if (keys.contains(normalizedKey)) {
+                        valueIndex.remove(value);
+                    }
+                } else {
+                    keys.remove(normalizedKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * The method, which is invoked when a key has been associated with a specific value. It
+     * updates the {@link #contentHash} as well as the {@link #valueIndex}, if necessary.
+     *
+     * @param key   The key as an instance of the generic type {@link SequenceType} or null, if the
+     *              key is empty
+     * @param value The value as an instance of the generic type {@link ValueType} or null
+     */
+    final void onValueAdded(@Nullable final SequenceType key, @Nullable final ValueType value) {
+        if (contentHashValid) {
+            contentHash += entryHash(key, value);
+        }
+
+        addToValueIndex(key, value);
+    }
+
+    /**
+     * The method, which is invoked when a key is no longer associated with a specific value. It
+     * updates the {@link #contentHash} as well as the {@link #valueIndex}, if necessary.
+     *
+     * @param key   The key as an instance of the generic type {@link SequenceType} or null, if the
+     *              key is empty
+     * @param value The value as an instance of the generic type {@link ValueType} or null
+     */
+    final void onValueRemoved(@Nullable final SequenceType key, @Nullable final ValueType value) {
+        if (contentHashValid) {
+            contentHash -= entryHash(key, value);
+        }
+
+        removeFromValueIndex(key, value);
+    }
+
+    /**
+     * Returns the successor of a node of a specific trie, whose key starts with the element of a
+     * sequence at a specific position. The successor is looked up by using the structure of the
+     * given trie.
+     *
+     * @param trie     The trie, the node belongs to, as an instance of the class {@link
+     *                 AbstractTrie}. The trie may not be null
+     * @param node     The node as an instance of the type {@link Node}. The node may not be null
+     * @param sequence The sequence as an instance of the generic type {@link K}. The sequence may
+     *                 not be null
+     * @param position The position of the element in the given sequence as an {@link Integer}
+     *                 value
+     * @param <K>      The type of the sequences, which are used as the trie's keys
+     * @param <V>      The type of the values, which are stored by the trie
+     * @return A pair, which contains the key and the successor, as an instance of the class {@link
+     * Pair} or null, if no such successor is available
+     */
+    @Nullable
+    private static <K extends Sequence, V> Pair<K, Node<K, V>> getEdge(
+            @NotNull final AbstractTrie<?, K, V> trie, @NotNull final Node<K, V> node,
+            @NotNull final K sequence, final int position) {
+        if (trie.structure instanceof SortedStructure) {
+            int index = ((SortedStructure<K, V>) trie.structure).indexOf(node, sequence, position);
+            return index != -1 ?
+                    Pair.Companion.create(node.getSuccessorKey(index), node.getSuccessor(index)) :
+                    null;
+        }
+
+        K key = SequenceUtil.subsequence(sequence, position, position + 1);
+        Node<K, V> successor = node.getSuccessor(key);
+        return successor != null ? Pair.Companion.create(key, successor) : null;
+    }
+
+    /**
+     * Returns the key, which corresponds to a specific node of the trie, by traversing its
+     * predecessors.
+     *
+     * @param node The node as an instance of the type {@link Node}. The node may not be null
+     * @return The key, which corresponds to the given node, as an instance of the generic type
+     * {@link SequenceType} or null, if the node is the root node
+     */
+    @Nullable
+    private SequenceType getKey(@NotNull final Node<SequenceType, ValueType> node) {
+        List<SequenceType> edges = new ArrayList<>();
+        Map.Entry<SequenceType, Node<SequenceType, ValueType>> predecessor =
+                node.getPredecessor();
+
+        while (predecessor != null) {
+            edges.add(predecessor.getKey());
+            predecessor = predecessor.getValue().getPredecessor();
+        }
+
+        SequenceBuilder<SequenceType> builder = null;
+
+        for (int i = edges.size() - 1; i >= 0; i--) {
+            builder = SequenceUtil.append(builder, edges.get(i));
+        }
+
+        return builder != null ? builder.toSequence() : null;
+    }
+
+    /**
+     * Returns, whether the nodes of another trie can be grafted into this trie, or not. This
+     * requires both tries to be of the same class and, if they are sorted, to use the same
+     * comparator.
+     *
+     * @param other The other trie as an instance of the class {@link AbstractTrie}. The trie may
+     *              not be null
+     * @return True, if the nodes of the given trie can be grafted into this trie, false otherwise
+     */
+    private boolean canGraft(@NotNull final AbstractTrie<?, ?, ?> other) {
+        return other.getClass() == getClass() && (!(this instanceof SortedMap) ||
+                Objects.equals(((SortedMap<?, ?>) this).comparator(),
+                        ((SortedMap<?, ?>) other).comparator()));
+    }
+
+    /**
+     * Merges the nodes of another trie, which is of the same class, into the nodes of this trie.
+     * Both tries are traversed in lockstep by using a stack, which is kept in arrays. Each item of
+     * the stack either pairs a node of this trie with a node of the other trie or with an edge of
+     * the other trie, which must be merged into the node's successors. Subtrees, which are only
+     * contained by the other trie, are cloned and added as a whole. Edges of this trie, which only
+     * partially match an edge of the other trie, are split, as it is done when adding a key.
+     *
+     * @param other     The other trie as an instance of the class {@link AbstractTrie}. The trie
+     *                  may not be null and it must not be empty
+     * @param remapping The function, which should be used to compute the values of keys, which
+     *                  are contained by both tries, as an instance of the type {@link BiFunction}.
+     *                  The function may not be null
+     * @return A list, which contains the nodes of this trie, whose values must be removed,
+     * because the given function returned null, as an instance of the type {@link List}. The list
+     * may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private List<Node<SequenceType, ValueType>> mergeNodes(
+            @NotNull final AbstractTrie<?, SequenceType, ? extends ValueType> other,
+            @NotNull final BiFunction<? super ValueType, ? super ValueType, ? extends ValueType> remapping) {
+        List<Node<SequenceType, ValueType>> nodesToRemove = new ArrayList<>();
+        Node<SequenceType, ValueType>[] targets =
+                (Node<SequenceType, ValueType>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+        SequenceType[] edges = (SequenceType[]) new Sequence[INITIAL_STACK_CAPACITY];
+        Node<SequenceType, ValueType>[] sources =
+                (Node<SequenceType, ValueType>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+        targets[0] = rootNode;
+        sources[0] = (Node<SequenceType, ValueType>) other.rootNode;
+        int depth = 1;
+
+        while (depth > 0) {
+            depth--;
+            Node<SequenceType, ValueType> target = targets[depth];
+            SequenceType edge = edges[depth];
+            Node<SequenceType, ValueType> source = sources[depth];
+            targets[depth] = null;
+            edges[depth] = null;
+            sources[depth] = null;
+
+            if (edge == null) {
+                if (source.isValueSet()) {
+                    if (target.isValueSet()) {
+                        ValueType value = remapping.apply(target.getValue(), source.getValue());
+
+                        if (value != null) {
+                            target.setNodeValue(new NodeValue<>(value));
+                        } else {
+                            nodesToRemove.add(target);
+                        }
+                    } else {
+                        target.setNodeValue(new NodeValue<>(source.getValue()));
+                    }
+                }
+
+                int successorCount = source.getSuccessorCount();
+
+                if (depth + successorCount > targets.length) {
+                    int capacity = Math.max(depth * 2, depth + successorCount);
+                    targets = Arrays.copyOf(targets, capacity);
+                    edges = Arrays.copyOf(edges, capacity);
+                    sources = Arrays.copyOf(sources, capacity);
+                }
+
+                for (SequenceType key : source) {
+                    Node<SequenceType, ValueType> successor = source.getSuccessor(key);
+
+                    if (successor != null) {
+                        targets[depth] = target;
+                        edges[depth] = key;
+                        sources[depth] = successor;
+                        depth++;
+                    }
+                }
+            } else {
+                Pair<SequenceType, Node<SequenceType, ValueType>> pair =
+                        getEdge(this, target, edge, 0);
+
+                if (pair == null) {
+                    target.addSuccessor(SequenceUtil.intern(edge), source.clone());
+                } else {
+                    SequenceType targetEdge = pair.getFirst();
+                    Node<SequenceType, ValueType> successor = pair.getSecond();
+                    int prefixLength = targetEdge.getCommonPrefixLength(edge, 0);
+
+                    if (prefixLength < targetEdge.length()) {
+                        target.removeSuccessor(targetEdge);
+                        Node<SequenceType, ValueType> intermediateNode = target.addSuccessor(
+                                SequenceUtil.intern(SequenceUtil.subsequence(edge, 0,
+                                        prefixLength)));
+                        intermediateNode.addSuccessor(SequenceUtil.intern(
+                                SequenceUtil.subsequence(targetEdge, prefixLength)), successor);
+                        successor = intermediateNode;
+                    }
+
+                    if (prefixLength < targetEdge.length() && prefixLength < edge.length()) {
+                        successor.addSuccessor(SequenceUtil.intern(
+                                SequenceUtil.subsequence(edge, prefixLength)), source.clone());
+                    } else {
+                        targets[depth] = successor;
+                        edges[depth] = prefixLength < edge.length() ?
+                                SequenceUtil.subsequence(edge, prefixLength) : null;
+                        sources[depth] = source;
+                        depth++;
+                    }
+                }
+            }
+        }
+
+        return nodesToRemove;
+    }
+
+    /**
+     * Traverses this trie and another trie in lockstep in order to collect the entries of this
+     * trie, whose keys are also contained by the other trie. Subtrees of this trie, which do not
+     * correspond to any node of the other trie, are skipped as a whole.
+     *
+     * @param other The other trie as an instance of the class {@link AbstractTrie}. The trie may
+     *              not be null and it must not be empty
+     * @return A map, which contains the entries, which have been collected, as an instance of the
+     * type {@link Map}. The map may not be null
+     */
+    @NotNull
+    private Map<SequenceType, ValueType> intersectNodes(
+            @NotNull final AbstractTrie<?, SequenceType, ?> other) {
+        Map<SequenceType, ValueType> entries = new LinkedHashMap<>();
+        LockstepTraversal<SequenceType, ValueType, ?> traversal =
+                new LockstepTraversal<>(rootNode, other, true, false);
+
+        while (traversal.next()) {
+            if (traversal.counterpart != null && traversal.counterpart.isValueSet()) {
+                entries.put(traversal.key, traversal.node.getValue());
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Traverses the subtree of a specific node in depth-first order and passes the key and value
+     * of each node, for which a value is set, to an action. The nodes are visited in the same order
+     * as by the iterators of the trie. Unlike these iterators, no {@link Map.Entry} is created per
+     * key and the nodes, which remain to be traversed, are kept in arrays instead of a linked
+     * list. The keys are created by using a single {@link SequenceBuilder}, which is truncated to
+     * the length of a node's sequence before the key of one of its successors is appended.
+     *
+     * @param node     The node, whose subtree should be traversed, as an instance of the type
+     *                 {@link Node}. The node may not be null
+     * @param sequence The sequence, which corresponds to the given node, as an instance of the
+     *                 generic type {@link SequenceType} or null, if the node is the root node
+     * @param action   The action, which should be performed for each key-value pair, as an
+     *                 instance of the type {@link BiConsumer}. The action may not be null
+     */
+    @SuppressWarnings("unchecked")
+    private void traverse(@NotNull final Node<SequenceType, ValueType> node,
+                          @Nullable final SequenceType sequence,
+                          @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        long expectedModificationCount = modificationCount;
+
+        if (node.isValueSet()) {
+            action.accept(sequence, node.getValue());
+            Condition.INSTANCE.ensureEqual(expectedModificationCount, modificationCount, null,
+                    ConcurrentModificationException.class);
+        }
+
+        Node<SequenceType, ValueType>[] nodes =
+                (Node<SequenceType, ValueType>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+        int[] lengths = new int[INITIAL_STACK_CAPACITY];
+        Iterator<SequenceType>[] iterators =
+                (Iterator<SequenceType>[]) new Iterator<?>[INITIAL_STACK_CAPACITY];
+        int[] indices = new int[INITIAL_STACK_CAPACITY];
+        SequenceBuilder<SequenceType> builder = SequenceUtil.append(null, sequence);
+        nodes[0] = node;
+        lengths[0] = builder != null ? builder.length() : 0;
+        int depth = 1;
+
+        while (depth > 0) {
+            int top = depth - 1;
+            Node<SequenceType, ValueType> currentNode = nodes[top];
+            SequenceType key = null;
+            Node<SequenceType, ValueType> successor = null;
+            boolean hasNext;
+
+            if (currentNode instanceof RandomAccess) {
+                int index = indices[top];
+                hasNext = index < currentNode.getSuccessorCount();
+
+                if (hasNext) {
+                    indices[top] = index + 1;
+                    key = currentNode.getSuccessorKey(index);
+                    successor = currentNode.getSuccessor(index);
+                }
+            } else {
+                Iterator<SequenceType> iterator = iterators[top];
+
+                if (iterator == null) {
+                    iterator = currentNode.iterator();
+                    iterators[top] = iterator;
+                }
+
+                hasNext = iterator.hasNext();
+
+                if (hasNext) {
+                    key = iterator.next();
+                    successor = currentNode.getSuccessor(key);
+                }
+            }
+
+            if (!hasNext) {
+                nodes[top] = null;
+                iterators[top] = null;
+                depth--;
+            } else if (successor != null) {
+                if (builder != null) {
+                    builder.truncate(lengths[top]);
+                }
+
+                builder = SequenceUtil.append(builder, key);
+
+                if (successor.isValueSet()) {
+                    action.accept(builder.toSequence(), successor.getValue());
+                    Condition.INSTANCE.ensureEqual(expectedModificationCount, modificationCount,
+                            null, ConcurrentModificationException.class);
+                }
+
+                if (successor.hasSuccessors()) {
+                    if (depth == nodes.length) {
+                        int capacity = depth * 2;
+                        nodes = Arrays.copyOf(nodes, capacity);
+                        lengths = Arrays.copyOf(lengths, capacity);
+                        iterators = Arrays.copyOf(iterators, capacity);
+                        indices = Arrays.copyOf(indices, capacity);
+                    }
+
+                    nodes[depth] = successor;
+                    lengths[depth] = builder.length();
+                    indices[depth] = 0;
+                    depth++;
+                }
+            }
+        }
+    }
+
     /**
      * Creates a new trie.
      *
@@ -705,16 +1671,110 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         return node != null && node.getNodeValue() != null;
     }
 
+    @Override
+    public final int countWithPrefix(@Nullable final SequenceType prefix) {
+        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getPrefixNode(prefix);
+        return pair != null ? pair.getFirst().getSuccessorValueCount() : 0;
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final SequenceType prefix) {
+        return countWithPrefix(prefix) > 0;
+    }
+
     @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public final boolean containsValue(final Object value) {
-        return values().contains(value);
+        Map<ValueType, Set<SequenceType>> valueIndex = getValueIndex();
+
+        if (valueIndex != null) {
+            return valueIndex.containsKey(value);
+        }
+
+        for (ValueType currentValue : values()) {
+            if (EntryUtil.isEqual(currentValue, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns, whether the values of the trie are indexed, or not.
+     *
+     * @return True, if the values of the trie are indexed, false otherwise
+     */
+    public final boolean isValueIndexed() {
+        return valueIndexed;
+    }
+
+    /**
+     * Sets, whether the values of the trie should be indexed, or not. If the values are indexed,
+     * a map, which maps each value to the keys it is associated with, is maintained whenever the
+     * trie is modified. This allows to check, whether the trie contains a value, to remove a value
+     * via the collection, which is returned by the method {@link #values()}, and to retrieve the
+     * keys, which are associated with a value (see {@link #keysForValue(Object)}), without
+     * traversing the trie. In return, additional memory is required and modifying the trie comes
+     * at slightly higher costs. The values must implement the methods {@link Object#hashCode()}
+     * and {@link Object#equals(Object)} consistently. The index is built lazily, i.e. all entries
+     * of the trie are traversed once, when it is used for the first time. Like the cached hash
+     * code of the trie, the index is transient.
+     *
+     * @param indexed True, if the values of the trie should be indexed, false otherwise
+     */
+    public final void setValueIndexed(final boolean indexed) {
+        valueIndexed = indexed;
+
+        if (!indexed) {
+            valueIndex = null;
+        }
+    }
+
+    /**
+     * Returns the keys, which are associated with a specific value. If the values of the trie are
+     * indexed (see {@link #setValueIndexed(boolean)}), the keys are obtained from the index.
+     * Otherwise, all entries of the trie are traversed. An empty key is contained by the returned
+     * set as null.
+     *
+     * @param value The value, whose keys should be returned, as an instance of the class {@link
+     *              Object} or null
+     * @return An unmodifiable set, which contains the keys, which are associated with the given
+     * value, as an instance of the type {@link Set}. The set may not be null
+     */
+    @SuppressWarnings("SuspiciousMethodCalls")
+    @NotNull
+    public final Set<SequenceType> keysForValue(@Nullable final Object value) {
+        Set<SequenceType> keys;
+        Map<ValueType, Set<SequenceType>> valueIndex = getValueIndex();
+
+        if (valueIndex != null) {
+            Set<SequenceType> indexedKeys = valueIndex.get(value);
+            keys = indexedKeys != null ? new HashSet<>(indexedKeys) : new HashSet<>();
+        } else {
+            Set<SequenceType> result = new HashSet<>();
+            forEach((key, currentValue) -> {
+                if (EntryUtil.isEqual(currentValue, value)) {
+                    result.add(normalizeKey(key));
+                }
+            });
+            keys = result;
+        }
+
+        return Collections.unmodifiableSet(keys);
     }
 
     @Override
     public final void clear() {
         this.rootNode = null;
         this.modificationCount++;
+
+        this.contentHash = 0;
+        this.contentHashValid = true;
+
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
     }
 
     @NotNull
@@ -753,41 +1813,27 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
             rootNode = createRootNode();
         }
 
-        Node<SequenceType, ValueType> currentNode = rootNode;
-        SequenceType suffix = key;
+        Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, key);
 
-        while (suffix != null && !suffix.isEmpty()) {
-            Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                    structure.onGetSuccessor(currentNode, suffix, Operation.PUT);
-
-            if (pair == null) {
+        while (cursor.hasRemaining()) {
+            if (!structure.onGetSuccessor(cursor, Operation.PUT)) {
                 break;
-            } else {
-                currentNode = pair.getFirst();
-                suffix = pair.getSecond();
             }
         }
 
-        NodeValue<ValueType> previousValue = null;
-
-        if (suffix == null || suffix.isEmpty()) {
-            previousValue = currentNode.setNodeValue(new NodeValue<>(value));
-        } else {
-            while (suffix != null && !suffix.isEmpty()) {
-                Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                        structure.onAddSuccessor(currentNode, suffix);
-                Node<SequenceType, ValueType> successor = pair.getFirst();
-                suffix = pair.getSecond();
+        while (cursor.hasRemaining()) {
+            structure.onAddSuccessor(cursor);
+        }
 
-                if (suffix == null || suffix.isEmpty()) {
-                    successor.setNodeValue(new NodeValue<>(value));
-                }
+        NodeValue<ValueType> previousValue = cursor.getNode().setNodeValue(new NodeValue<>(value));
+        modificationCount++;
 
-                currentNode = successor;
-            }
+        if (previousValue != null) {
+            onValueRemoved(key, previousValue.getValue());
         }
 
-        modificationCount++;
+        onValueAdded(key, value);
+
         return previousValue != null ? previousValue.getValue() : null;
     }
 
@@ -797,6 +1843,178 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         map.forEach(this::put);
     }
 
+    /**
+     * Merges the entries of another trie into this trie. Keys, which are only contained by the
+     * other trie, are added to this trie. For keys, which are contained by both tries, the given
+     * function is applied to the value of this trie and the value of the other trie. If the
+     * function returns null, the key is removed from this trie. The other trie is not modified.
+     * <p>
+     * If the other trie is of the same class as this trie (and uses the same comparator, if the
+     * tries are sorted), both tries are traversed in lockstep. Subtrees, which are only contained
+     * by the other trie, are copied as a whole instead of adding their keys one after another.
+     * The costs of merging are therefore proportional to the overlap of both tries and to the size
+     * of the copied subtrees. Otherwise, the entries of the other trie are merged one after
+     * another.
+     *
+     * @param other     The trie, whose entries should be merged into this trie, as an instance of
+     *                  the class {@link AbstractTrie}. The trie may not be null
+     * @param remapping The function, which should be used to compute the values of keys, which
+     *                  are contained by both tries, as an instance of the type {@link BiFunction}.
+     *                  The function may not be null
+     */
+    @SuppressWarnings("unchecked")
+    public final void merge(@NotNull final AbstractTrie<?, SequenceType, ? extends ValueType> other,
+                            @NotNull final BiFunction<? super ValueType, ? super ValueType, ? extends ValueType> remapping) {
+        Condition.INSTANCE.ensureNotNull(other, "The trie may not be null");
+        Condition.INSTANCE.ensureNotNull(remapping, "The remapping function may not be null");
+
+        if (other == this || !canGraft(other)) {
+            for (Map.Entry<SequenceType, ? extends ValueType> entry : new ArrayList<>(
+                    other.entrySet())) {
+                merge(entry.getKey(), entry.getValue(), remapping);
+            }
+        } else if (other.rootNode != null) {
+            valueIndex = null;
+            contentHashValid = false;
+
+            if (rootNode == null) {
+                rootNode = (Node<SequenceType, ValueType>) other.rootNode.clone();
+            } else {
+                for (Node<SequenceType, ValueType> node : mergeNodes(other, remapping)) {
+                    remove(getKey(node));
+                }
+            }
+
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Adds all keys of another trie, which are not already contained by this trie, together with
+     * their values to this trie. The values of keys, which are contained by both tries, are
+     * retained. The other trie is not modified. This corresponds to invoking the method {@link
+     * #merge(AbstractTrie, BiFunction)} with a function, which returns the value of this trie.
+     *
+     * @param other The trie, whose keys should be added to this trie, as an instance of the class
+     *              {@link AbstractTrie}. The trie may not be null
+     */
+    public final void union(@NotNull final AbstractTrie<?, SequenceType, ? extends ValueType> other) {
+        merge(other, (value, otherValue) -> value);
+    }
+
+    /**
+     * Removes all keys from this trie, which are not contained by another trie. The values of the
+     * retained keys are not changed and the other trie is not modified. Both tries are traversed
+     * in lockstep, i.e. subtrees of this trie, which do not correspond to any node of the other
+     * trie, are not traversed. The tries must not necessarily be of the same class.
+     *
+     * @param other The trie, whose keys should be retained, as an instance of the class {@link
+     *              AbstractTrie}. The trie may not be null
+     */
+    public final void intersection(@NotNull final AbstractTrie<?, SequenceType, ?> other) {
+        Condition.INSTANCE.ensureNotNull(other, "The trie may not be null");
+
+        if (other != this && rootNode != null) {
+            if (other.rootNode == null) {
+                clear();
+            } else {
+                Map<SequenceType, ValueType> entries = intersectNodes(other);
+
+                if (entries.size() < size()) {
+                    clear();
+                    entries.forEach(this::put);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the differences between this trie and another trie, i.e. the modifications, which
+     * must be applied to this trie in order to obtain a trie, which contains the same entries as
+     * the other trie. Keys, which are only contained by this trie, are reported as {@link
+     * Difference.Type#REMOVED}, keys, which are only contained by the other trie, are reported as
+     * {@link Difference.Type#ADDED} and keys, which are associated with different values, are
+     * reported as {@link Difference.Type#CHANGED}. The tries must not necessarily be of the same
+     * class.
+     * <p>
+     * The differences are computed lazily, while the returned stream is consumed, by traversing
+     * both tries in lockstep. Subtrees, which are only contained by one of the tries, are
+     * traversed without looking up their keys in the other trie. As tries do not share any nodes,
+     * all nodes of both tries are visited, even if the tries only differ in a few keys, unless a
+     * trie is compared to itself. If one of the tries is modified while the stream is consumed, a
+     * {@link ConcurrentModificationException} is thrown. The differences are not reported in any
+     * particular order, even if both tries are sorted: All removed and changed keys are reported
+     * before the added ones and the traversal does not visit the successors of a node in the
+     * order of their keys.
+     *
+     * @param other The other trie as an instance of the class {@link AbstractTrie}. The trie may
+     *              not be null
+     * @return A stream, which contains the differences between both tries, as an instance of the
+     * type {@link Stream}. The stream may not be null
+     */
+    @NotNull
+    public final Stream<Difference<SequenceType, ValueType>> diff(
+            @NotNull final AbstractTrie<?, SequenceType, ? extends ValueType> other) {
+        Condition.INSTANCE.ensureNotNull(other, "The trie may not be null");
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(
+                new DifferenceIterator<SequenceType, ValueType>(this, other), Spliterator.NONNULL),
+                Spliterator.NONNULL, false);
+    }
+
+    /**
+     * Removes all keys, which start with a specific prefix, from the trie. If the given prefix
+     * corresponds to a key, the key is removed as well. Instead of removing the keys one after
+     * another, the subtree, which corresponds to the given prefix, is detached from the trie at
+     * once. The costs of this operation are therefore proportional to the length of the prefix,
+     * rather than to the number of keys, which are removed, unless the values of the trie are
+     * indexed (see {@link #setValueIndexed(boolean)}).
+     *
+     * @param prefix The prefix as an instance of the generic type {@link SequenceType} or null, if
+     *               all keys should be removed
+     * @return The number of keys, which have been removed, as an {@link Integer} value
+     */
+    public final int removePrefix(@Nullable final SequenceType prefix) {
+        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getPrefixNode(prefix);
+
+        if (pair == null) {
+            return 0;
+        }
+
+        Node<SequenceType, ValueType> node = pair.getFirst();
+        int count = node.getSuccessorValueCount();
+
+        if (valueIndex != null) {
+            forEachWithPrefix(prefix, this::onValueRemoved);
+        } else {
+            contentHashValid = false;
+        }
+
+        Map.Entry<SequenceType, Node<SequenceType, ValueType>> predecessor =
+                node.getPredecessor();
+
+        while (predecessor != null) {
+            Node<SequenceType, ValueType> parent = predecessor.getValue();
+
+            if (parent == rootNode || parent.getSuccessorCount() > 1 || parent.isValueSet()) {
+                break;
+            }
+
+            predecessor = parent.getPredecessor();
+        }
+
+        if (predecessor == null || (predecessor.getValue() == rootNode &&
+                rootNode.getSuccessorCount() == 1 && !rootNode.isValueSet())) {
+            clear();
+        } else {
+            Node<SequenceType, ValueType> parent = predecessor.getValue();
+            parent.removeSuccessor(predecessor.getKey());
+            structure.onDeletedValue(parent);
+            modificationCount++;
+        }
+
+        return count;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final ValueType remove(final Object key) {
@@ -808,34 +2026,34 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
 
                 if (!rootNode.hasSuccessors()) {
                     clear();
+                } else if (previous != null) {
+                    onValueRemoved(null, previous.getValue());
                 }
 
                 return previous != null ? previous.getValue() : null;
             } else {
                 Node<SequenceType, ValueType> lastRetainedNode = rootNode;
-                SequenceType suffixToRemove = null;
-                Node<SequenceType, ValueType> currentNode = rootNode;
-                SequenceType suffix = sequence;
+                int positionToRemove = -1;
+                Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, sequence);
 
-                while (!suffix.isEmpty()) {
-                    Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                            structure.onGetSuccessor(currentNode, suffix, Operation.REMOVE);
+                while (cursor.hasRemaining()) {
+                    Node<SequenceType, ValueType> currentNode = cursor.getNode();
+                    int position = cursor.getPosition();
 
-                    if (pair == null) {
+                    if (!structure.onGetSuccessor(cursor, Operation.REMOVE)) {
                         return null;
                     } else {
-                        if (currentNode.getSuccessorCount() > 1 || currentNode.getValue() != null) {
+                        if (currentNode.getSuccessorCount() > 1 || currentNode.isValueSet()) {
                             lastRetainedNode = currentNode;
-                            suffixToRemove = suffix;
+                            positionToRemove = position;
                         }
 
-                        Node<SequenceType, ValueType> successor = pair.getFirst();
-                        suffix = pair.getSecond();
+                        Node<SequenceType, ValueType> successor = cursor.getNode();
 
-                        if (suffix == null || suffix.isEmpty()) {
+                        if (!cursor.hasRemaining()) {
                             if (successor.hasSuccessors()) {
                                 lastRetainedNode = null;
-                                suffixToRemove = null;
+                                positionToRemove = -1;
                             }
 
                             NodeValue<ValueType> value = successor.getNodeValue();
@@ -843,15 +2061,16 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
                             if (value != null) {
                                 successor.setNodeValue(null);
 
-                                if (lastRetainedNode == rootNode) {
+                                if (lastRetainedNode == rootNode && positionToRemove == -1) {
                                     clear();
                                 } else {
-                                    if (suffixToRemove != null) {
-                                        structure.onRemoveSuccessor(lastRetainedNode,
-                                                suffixToRemove);
+                                    if (positionToRemove != -1) {
+                                        structure.onRemoveSuccessor(lastRetainedNode, SequenceUtil
+                                                .subsequence(sequence, positionToRemove));
                                     }
 
                                     modificationCount++;
+                                    onValueRemoved(sequence, value.getValue());
                                 }
 
                                 structure.onDeletedValue(successor);
@@ -860,8 +2079,6 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
 
                             return null;
                         }
-
-                        currentNode = successor;
                     }
                 }
             }
@@ -870,20 +2087,61 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         return null;
     }
 
+    @Override
+    public final void forEach(
+            @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        forEachWithPrefix(null, action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final SequenceType prefix,
+                                        @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+        Pair<Node<SequenceType, ValueType>, SequenceType> pair = getPrefixNode(prefix);
+
+        if (pair != null) {
+            traverse(pair.getFirst(), pair.getSecond(), action);
+        }
+    }
+
     @Override
     public final ValueType get(final Object key) {
         Node<SequenceType, ValueType> node = getNode(key);
         return node != null ? node.getValue() : null;
     }
 
+    /**
+     * Returns the hash code of the trie according to the contract of the method {@link
+     * Map#hashCode()}, i.e. the sum of the hash codes of all entries. The hash code is computed
+     * by traversing the trie once. Afterwards, it is updated whenever an entry is added or
+     * removed, which is why the hash codes of the trie's values must not change while they are
+     * contained by the trie.
+     *
+     * @return The hash code of the trie as an {@link Integer} value
+     */
     @Override
     public final int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + (rootNode == null ? 0 : rootNode.hashCode());
-        return result;
+        if (!contentHashValid) {
+            int[] hash = new int[1];
+            forEach((key, value) -> hash[0] += entryHash(key, value));
+            contentHash = hash[0];
+            contentHashValid = true;
+        }
+
+        return contentHash;
     }
 
+    /**
+     * Returns, whether the trie is equal to another object, or not. Two tries are equal, if they
+     * are of the same class and contain the same entries. Tries of different sizes or with
+     * different hash codes are considered unequal without comparing their entries. Otherwise, the
+     * entries of the trie are iterated and each of them is looked up in the other trie, without
+     * using recursion.
+     *
+     * @param obj The object, the trie should be compared to, as an instance of the class {@link
+     *            Object} or null
+     * @return True, if the trie is equal to the given object, false otherwise
+     */
     @Override
     public final boolean equals(final Object obj) {
         if (obj == null)
@@ -893,11 +2151,19 @@ public abstract class AbstractTrie<StructureType extends Structure<SequenceType,
         if (obj.getClass() != getClass())
             return false;
         AbstractTrie<?, ?, ?> other = (AbstractTrie<?, ?, ?>) obj;
-        if (rootNode == null) {
-            if (other.rootNode != null)
-                return false;
-        } else if (!rootNode.equals(other.rootNode))
+        if (size() != other.size())
             return false;
+        if (hashCode() != other.hashCode())
+            return false;
+
+        for (Map.Entry<SequenceType, ValueType> entry : entrySet()) {
+            Node<?, ?> node = other.getNode(entry.getKey());
+
+            if (node == null || !node.isValueSet() || !EntryUtil.isValueEqual(node, entry)) {
+                return false;
+            }
+        }
+
         return true;
     }
 
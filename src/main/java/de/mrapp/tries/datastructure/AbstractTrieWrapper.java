@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.Trie;
+import de.mrapp.tries.util.SequenceUtil;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An abstract base class for all wrappers, which implement an interface, which is extended from
+ * {@link Trie}, by forwarding all method calls to an encapsulated trie. Unlike an {@link
+ * AbstractStringTrieWrapper}, the keys are not converted, i.e. the wrapper uses the same type of
+ * sequences as the encapsulated trie. Subclasses must only implement the method {@link
+ * #subTrie(Sequence)} in order to wrap the returned sub trie.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the trie's keys
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @param <TrieType>     The type of the encapsulated trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public abstract class AbstractTrieWrapper<SequenceType extends Sequence, ValueType, TrieType extends Trie<SequenceType, ValueType>>
+        implements Trie<SequenceType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 2904460935817413530L;
+
+    /**
+     * The encapsulated trie.
+     */
+    protected final TrieType trie;
+
+    /**
+     * Creates a new wrapper, which delegates all method calls to an encapsulated trie.
+     *
+     * @param trie The trie, which should be encapsulated, as an instance of the generic type {@link
+     *             TrieType}. The trie may not be null
+     */
+    AbstractTrieWrapper(@NotNull final TrieType trie) {
+        Condition.INSTANCE.ensureNotNull(trie, "The trie may not be null");
+        this.trie = trie;
+    }
+
+    @Override
+    public final int size() {
+        return trie.size();
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return trie.isEmpty();
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        return trie.containsKey(key);
+    }
+
+    @Override
+    public final boolean containsValue(final Object value) {
+        return trie.containsValue(value);
+    }
+
+    @Override
+    public final ValueType get(final Object key) {
+        return trie.get(key);
+    }
+
+    @Nullable
+    @Override
+    public final ValueType put(final SequenceType key, final ValueType value) {
+        return trie.put(key, value);
+    }
+
+    @Override
+    public final ValueType remove(final Object key) {
+        return trie.remove(key);
+    }
+
+    @Override
+    public final void putAll(@NotNull final Map<? extends SequenceType, ? extends ValueType> map) {
+        trie.putAll(map);
+    }
+
+    @Override
+    public final void clear() {
+        trie.clear();
+    }
+
+    @NotNull
+    @Override
+    public final Set<SequenceType> keySet() {
+        return trie.keySet();
+    }
+
+    @NotNull
+    @Override
+    public final Collection<ValueType> values() {
+        return trie.values();
+    }
+
+    @NotNull
+    @Override
+    public final Set<Entry<SequenceType, ValueType>> entrySet() {
+        return trie.entrySet();
+    }
+
+    @Nullable
+    @Override
+    public final Node<SequenceType, ValueType> getRootNode() {
+        return trie.getRootNode();
+    }
+
+    @Override
+    public final int countWithPrefix(@Nullable final SequenceType prefix) {
+        return trie.countWithPrefix(prefix);
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final SequenceType prefix) {
+        return trie.containsPrefix(prefix);
+    }
+
+    @Override
+    public final void forEach(
+            @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        trie.forEach(action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final SequenceType prefix,
+                                        @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        trie.forEachWithPrefix(prefix, action);
+    }
+
+    /**
+     * Removes all keys, which start with a specific prefix, from the trie. If the given prefix
+     * corresponds to a key, the key is removed as well. If the encapsulated trie is of the class
+     * {@link AbstractTrie}, or a wrapper, which encapsulates such a trie, the subtree, which
+     * corresponds to the given prefix, is detached at once (see {@link
+     * AbstractTrie#removePrefix(Sequence)}). Otherwise, the keys are removed one after another.
+     *
+     * @param prefix The prefix as an instance of the generic type {@link SequenceType} or null, if
+     *               all keys should be removed
+     * @return The number of keys, which have been removed, as an {@link Integer} value
+     */
+    @SuppressWarnings("unchecked")
+    public final int removePrefix(@Nullable final SequenceType prefix) {
+        if (trie instanceof AbstractTrie) {
+            return ((AbstractTrie<?, SequenceType, ValueType>) trie).removePrefix(prefix);
+        } else if (trie instanceof AbstractTrieWrapper) {
+            return ((AbstractTrieWrapper<SequenceType, ValueType, ?>) trie).removePrefix(prefix);
+        }
+
+        int count = trie.countWithPrefix(prefix);
+
+        if (count > 0) {
+            keySet().removeIf(key -> SequenceUtil.startsWith(key, prefix));
+        }
+
+        return count;
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + trie.hashCode();
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (getClass() != obj.getClass())
+            return false;
+        AbstractTrieWrapper<?, ?, ?> other = (AbstractTrieWrapper<?, ?, ?>) obj;
+        return trie.equals(other.trie);
+    }
+
+}
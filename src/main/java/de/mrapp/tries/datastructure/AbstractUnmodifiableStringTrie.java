@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * An abstract base class for all string tries, which forward read-only method calls to an
@@ -126,11 +127,49 @@ public abstract class AbstractUnmodifiableStringTrie<ValueType, TrieType extends
         return trie.getRootNode();
     }
 
+    @Override
+    public final int countWithPrefix(@Nullable final String prefix) {
+        return trie.countWithPrefix(prefix);
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final String prefix) {
+        return trie.containsPrefix(prefix);
+    }
+
+    @Override
+    public final void forEach(@NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        trie.forEach(action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final String prefix,
+                                        @NotNull final BiConsumer<? super String, ? super ValueType> action) {
+        trie.forEachWithPrefix(prefix, action);
+    }
+
     @Override
     public final String toString() {
         return trie.toString();
     }
 
+    @Override
+    public final ValueType get(@NotNull final CharSequence key, final int start, final int end) {
+        return trie.get(key, start, end);
+    }
+
+    @Override
+    public final boolean containsKey(@NotNull final CharSequence key, final int start,
+                                     final int end) {
+        return trie.containsKey(key, start, end);
+    }
+
+    @Override
+    public final int longestPrefixLength(@NotNull final CharSequence key, final int start,
+                                         final int end) {
+        return trie.longestPrefixLength(key, start, end);
+    }
+
     @Override
     public final int hashCode() {
         return trie.hashCode();
@@ -142,4 +181,4 @@ public abstract class AbstractUnmodifiableStringTrie<ValueType, TrieType extends
         return trie.equals(obj);
     }
 
-}
\ No newline at end of file
+}
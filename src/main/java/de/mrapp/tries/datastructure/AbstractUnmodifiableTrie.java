@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * An abstract base class for all tries, which forward read-only method calls to an encapsulated
@@ -128,6 +129,28 @@ public abstract class AbstractUnmodifiableTrie<SequenceType extends Sequence, Va
         return trie.getRootNode();
     }
 
+    @Override
+    public final int countWithPrefix(@Nullable final SequenceType prefix) {
+        return trie.countWithPrefix(prefix);
+    }
+
+    @Override
+    public final boolean containsPrefix(@Nullable final SequenceType prefix) {
+        return trie.containsPrefix(prefix);
+    }
+
+    @Override
+    public final void forEach(
+            @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        trie.forEach(action);
+    }
+
+    @Override
+    public final void forEachWithPrefix(@Nullable final SequenceType prefix,
+                                        @NotNull final BiConsumer<? super SequenceType, ? super ValueType> action) {
+        trie.forEachWithPrefix(prefix, action);
+    }
+
     @Override
     public final String toString() {
         return trie.toString();
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.LongTrie;
+import de.mrapp.tries.Trie;
+import de.mrapp.tries.sequence.LongSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A wrapper, which implements the interface {@link LongTrie} by delegating all method calls to an
+ * encapsulated {@link Trie}.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class LongTrieWrapper<ValueType>
+        extends AbstractTrieWrapper<LongSequence, ValueType, Trie<LongSequence, ValueType>>
+        implements LongTrie<ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -988049581289359794L;
+
+    /**
+     * Creates a new wrapper, which implements the interface {@link LongTrie}.
+     *
+     * @param trie The trie, which should be encapsulated, as an instance of the type {@link Trie}.
+     *             The trie may not be null
+     */
+    public LongTrieWrapper(@NotNull final Trie<LongSequence, ValueType> trie) {
+        super(trie);
+    }
+
+    @NotNull
+    @Override
+    public final LongTrieWrapper<ValueType> subTrie(@Nullable final LongSequence sequence) {
+        return new LongTrieWrapper<>(trie.subTrie(sequence));
+    }
+
+}
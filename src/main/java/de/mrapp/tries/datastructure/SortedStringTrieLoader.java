@@ -0,0 +1,534 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.NodeValue;
+import de.mrapp.tries.PatriciaStringTrie;
+import de.mrapp.tries.SortedListStringTrie;
+import de.mrapp.tries.TernarySearchStringTrie;
+import de.mrapp.tries.sequence.StringSequence;
+import de.mrapp.tries.structure.PatriciaStructure;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A loader, which allows to create a {@link PatriciaStringTrie}, {@link SortedListStringTrie} or
+ * {@link TernarySearchStringTrie} from a text file, which contains one key-value pair per line. The
+ * key and value of each line must be separated by a separator character (a tab by default). Lines
+ * without a separator are considered to consist of a key only, empty lines are ignored. The lines
+ * must be sorted by their keys in ascending order according to the natural ordering of strings.
+ * Otherwise, an {@link IllegalArgumentException} is thrown.
+ * <p>
+ * The file is read via a {@link FileChannel} and decoded into a reusable char buffer. The lines are
+ * not converted to strings, but are directly inserted into the trie in a bottom-up manner: As the
+ * keys are sorted, only the nodes on the path, which corresponds to the previously inserted key,
+ * may receive further successors. These nodes are kept on a stack and are attached to their
+ * predecessors once all of their successors are known. Strings are only created for the keys of
+ * edges.
+ *
+ * @param <ValueType> The type of the values, which are stored by the tries
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class SortedStringTrieLoader<ValueType> {
+
+    /**
+     * The default separator, which separates the keys and values of the loaded lines.
+     */
+    public static final char DEFAULT_SEPARATOR = '\t';
+
+    /**
+     * The size of the buffers, which are used to read and decode the loaded data.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The initial capacity of the stack, which contains the nodes that may receive further
+     * successors.
+     */
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
+    /**
+     * Encapsulates the state of a single load operation.
+     *
+     * @param <V> The type of the values, which are stored by the trie
+     */
+    private static final class Builder<V> {
+
+        /**
+         * The trie, which is loaded.
+         */
+        private final AbstractSortedTrie<StringSequence, V> trie;
+
+        /**
+         * True, if the trie is compressed, i.e. if edges may correspond to multiple characters,
+         * false, if each edge corresponds to a single character.
+         */
+        private final boolean compressed;
+
+        /**
+         * The nodes, which may receive further successors. The first node is the root node.
+         */
+        private Node<StringSequence, V>[] nodes;
+
+        /**
+         * The lengths of the keys, which correspond to the nodes on the stack.
+         */
+        private int[] depths;
+
+        /**
+         * The number of nodes on the stack.
+         */
+        private int size;
+
+        /**
+         * The key, which has been inserted most recently. All nodes on the stack correspond to a
+         * prefix of this key.
+         */
+        private char[] previousKey;
+
+        /**
+         * The length of the key, which has been inserted most recently.
+         */
+        private int previousLength;
+
+        /**
+         * Creates a new node by using the trie's {@link AbstractTrie#createRootNode()} method and
+         * pushes it on the stack.
+         *
+         * @param depth The length of the key, which corresponds to the node, as an {@link Integer}
+         *              value
+         * @return The node, which has been created, as an instance of the type {@link Node}. The
+         * node may not be null
+         */
+        @SuppressWarnings("unchecked")
+        private Node<StringSequence, V> push(final int depth) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                depths = Arrays.copyOf(depths, size * 2);
+            }
+
+            Node<StringSequence, V> node = trie.createRootNode();
+            nodes[size] = node;
+            depths[size] = depth;
+            size++;
+            return node;
+        }
+
+        /**
+         * Creates and returns the key of an edge, which corresponds to a specific range of the
+         * previously inserted key.
+         *
+         * @param start The start of the range (inclusive) as an {@link Integer} value
+         * @param end   The end of the range (exclusive) as an {@link Integer} value
+         * @return The key, which has been created, as an instance of the class {@link
+         * StringSequence}. The key may not be null
+         */
+        private StringSequence createEdgeKey(final int start, final int end) {
+            if (end - start == 1) {
+                return StringSequence.valueOf(previousKey[start]);
+            }
+
+            return new StringSequence(new String(previousKey, start, end - start));
+        }
+
+        /**
+         * Removes all nodes, whose keys are longer than a specific length, from the stack and
+         * attaches them to their predecessors. If a compressed edge must be split at the given
+         * length, an intermediate node is created.
+         *
+         * @param length The length as an {@link Integer} value
+         */
+        private void pop(final int length) {
+            while (depths[size - 1] > length) {
+                size--;
+                Node<StringSequence, V> node = nodes[size];
+                int depth = depths[size];
+                nodes[size] = null;
+                int predecessorDepth = depths[size - 1];
+
+                if (predecessorDepth < length) {
+                    Node<StringSequence, V> intermediateNode = push(length);
+                    intermediateNode.addSuccessor(createEdgeKey(length, depth), node);
+                } else {
+                    nodes[size - 1].addSuccessor(createEdgeKey(predecessorDepth, depth), node);
+                }
+            }
+        }
+
+        /**
+         * Inserts a key-value pair. The key must be greater than or equal to the previously
+         * inserted key.
+         *
+         * @param characters The array, which contains the characters of the key, as a {@link
+         *                   Character} array. The array may not be null
+         * @param offset     The index of the key's first character as an {@link Integer} value
+         * @param length     The length of the key as an {@link Integer} value
+         * @param value      The value, which should be associated with the key, as an instance of
+         *                   the generic type {@link V} or null
+         */
+        void put(@NotNull final char[] characters, final int offset, final int length,
+                 final V value) {
+            int maxLength = Math.min(length, previousLength);
+            int commonLength = 0;
+
+            while (commonLength < maxLength &&
+                    characters[offset + commonLength] == previousKey[commonLength]) {
+                commonLength++;
+            }
+
+            if (commonLength < previousLength && (commonLength == length ||
+                    characters[offset + commonLength] < previousKey[commonLength])) {
+                throw new IllegalArgumentException("Key \"" +
+                        new String(characters, offset, length) + "\" is smaller than key \"" +
+                        new String(previousKey, 0, previousLength) + "\"");
+            }
+
+            pop(commonLength);
+
+            if (length > previousKey.length) {
+                previousKey = Arrays.copyOf(previousKey, Math.max(length, previousKey.length * 2));
+            }
+
+            System.arraycopy(characters, offset + commonLength, previousKey, commonLength,
+                    length - commonLength);
+            previousLength = length;
+            Node<StringSequence, V> node = nodes[size - 1];
+
+            if (length > commonLength) {
+                if (compressed) {
+                    node = push(length);
+                } else {
+                    for (int i = commonLength + 1; i <= length; i++) {
+                        node = push(i);
+                    }
+                }
+            }
+
+            node.setNodeValue(new NodeValue<>(value));
+        }
+
+        /**
+         * Attaches all remaining nodes to their predecessors and sets the root node of the trie.
+         */
+        void finish() {
+            pop(0);
+            Node<StringSequence, V> rootNode = nodes[0];
+
+            if (rootNode.getSuccessorValueCount() > 0) {
+                trie.rootNode = rootNode;
+                trie.modificationCount++;
+            }
+        }
+
+        /**
+         * Creates a new object, which encapsulates the state of a single load operation.
+         *
+         * @param trie The trie, which should be loaded, as an instance of the class {@link
+         *             AbstractSortedTrie}. The trie must be empty
+         */
+        @SuppressWarnings("unchecked")
+        Builder(@NotNull final AbstractSortedTrie<StringSequence, V> trie) {
+            this.trie = trie;
+            this.compressed = trie.structure instanceof PatriciaStructure;
+            this.nodes = (Node<StringSequence, V>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+            this.depths = new int[INITIAL_STACK_CAPACITY];
+            this.size = 0;
+            this.previousKey = new char[INITIAL_STACK_CAPACITY];
+            this.previousLength = 0;
+            push(0);
+        }
+
+    }
+
+    /**
+     * The function, which is used to parse the values.
+     */
+    private final Function<? super CharSequence, ? extends ValueType> valueParser;
+
+    /**
+     * The separator, which separates the keys and values of the loaded lines.
+     */
+    private final char separator;
+
+    /**
+     * The charset, which is used to decode the loaded data.
+     */
+    private final Charset charset;
+
+    /**
+     * Processes all complete lines, which are contained by a buffer.
+     *
+     * @param buffer    The buffer, which contains the lines, as an instance of the class {@link
+     *                  CharBuffer}. The buffer's position is set to the start of the first line,
+     *                  which has not been processed
+     * @param valueView A buffer, which wraps the same array as the given buffer and is used to
+     *                  pass the values to the {@link #valueParser}, as an instance of the class
+     *                  {@link CharBuffer}. The buffer may not be null
+     * @param builder   The builder, the key-value pairs should be inserted into, as an instance
+     *                  of the class {@link Builder}. The builder may not be null
+     * @param last      True, if the end of the input has been reached and the remaining characters
+     *                  should be processed as the last line, false otherwise
+     */
+    private void processLines(@NotNull final CharBuffer buffer, @NotNull final CharBuffer valueView,
+                              @NotNull final Builder<ValueType> builder, final boolean last) {
+        char[] characters = buffer.array();
+        int offset = buffer.arrayOffset();
+        int start = offset + buffer.position();
+        int limit = offset + buffer.limit();
+        int separatorIndex = -1;
+
+        for (int i = start; i < limit; i++) {
+            char character = characters[i];
+
+            if (character == separator && separatorIndex == -1) {
+                separatorIndex = i;
+            } else if (character == '\n') {
+                processLine(characters, start, i, separatorIndex, valueView, builder);
+                start = i + 1;
+                separatorIndex = -1;
+            }
+        }
+
+        if (last && start < limit) {
+            processLine(characters, start, limit, separatorIndex, valueView, builder);
+            start = limit;
+        }
+
+        buffer.position(start - offset);
+    }
+
+    /**
+     * Processes a single line.
+     *
+     * @param characters     The array, which contains the characters of the line, as a {@link
+     *                       Character} array. The array may not be null
+     * @param start          The index of the line's first character as an {@link Integer} value
+     * @param end            The index after the line's last character as an {@link Integer}
+     *                       value
+     * @param separatorIndex The index of the separator as an {@link Integer} value or -1, if the
+     *                       line does not contain a separator
+     * @param valueView      A buffer, which wraps the given array and is used to pass the value to
+     *                       the {@link #valueParser}, as an instance of the class {@link
+     *                       CharBuffer}. The buffer may not be null
+     * @param builder        The builder, the key-value pair should be inserted into, as an
+     *                       instance of the class {@link Builder}. The builder may not be null
+     */
+    private void processLine(@NotNull final char[] characters, final int start, final int end,
+                             final int separatorIndex, @NotNull final CharBuffer valueView,
+                             @NotNull final Builder<ValueType> builder) {
+        int lineEnd = end > start && characters[end - 1] == '\r' ? end - 1 : end;
+
+        if (lineEnd > start) {
+            int keyEnd = separatorIndex != -1 && separatorIndex < lineEnd ? separatorIndex : lineEnd;
+            int valueStart = Math.min(keyEnd + 1, lineEnd);
+            valueView.limit(lineEnd).position(valueStart);
+            ValueType value = valueParser.apply(valueView);
+            builder.put(characters, start, keyEnd - start, value);
+        }
+    }
+
+    /**
+     * Creates a new loader, which uses tabs as separators and decodes the loaded data by using the
+     * UTF-8 charset.
+     *
+     * @param valueParser The function, which should be used to parse the values, as an instance of
+     *                    the type {@link Function}. The function is passed a view of the loaded
+     *                    data, which is only valid during the function call and must therefore not
+     *                    be retained. The function may not be null
+     */
+    public SortedStringTrieLoader(
+            @NotNull final Function<? super CharSequence, ? extends ValueType> valueParser) {
+        this(valueParser, DEFAULT_SEPARATOR, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a new loader.
+     *
+     * @param valueParser The function, which should be used to parse the values, as an instance of
+     *                    the type {@link Function}. The function is passed a view of the loaded
+     *                    data, which is only valid during the function call and must therefore not
+     *                    be retained. The function may not be null
+     * @param separator   The separator, which separates the keys and values of the loaded lines,
+     *                    as a {@link Character} value. The separator may not be a line break
+     * @param charset     The charset, which should be used to decode the loaded data, as an
+     *                    instance of the class {@link Charset}. The charset may not be null
+     */
+    public SortedStringTrieLoader(
+            @NotNull final Function<? super CharSequence, ? extends ValueType> valueParser,
+            final char separator, @NotNull final Charset charset) {
+        Condition.INSTANCE.ensureNotNull(valueParser, "The value parser may not be null");
+        Condition.INSTANCE.ensureFalse(separator == '\n' || separator == '\r',
+                "The separator may not be a line break");
+        Condition.INSTANCE.ensureNotNull(charset, "The charset may not be null");
+        this.valueParser = valueParser;
+        this.separator = separator;
+        this.charset = charset;
+    }
+
+    /**
+     * Creates a new {@link PatriciaStringTrie}, which contains the key-value pairs of a file.
+     *
+     * @param file The path of the file, which should be loaded, as an instance of the type {@link
+     *             Path}. The path may not be null
+     * @return The trie, which has been created, as an instance of the class {@link
+     * PatriciaStringTrie}. The trie may not be null
+     * @throws IOException If an error occurs while reading the file
+     */
+    @NotNull
+    public final PatriciaStringTrie<ValueType> loadPatriciaStringTrie(@NotNull final Path file)
+            throws IOException {
+        PatriciaStringTrie<ValueType> trie = new PatriciaStringTrie<>();
+        load(file, trie);
+        return trie;
+    }
+
+    /**
+     * Creates a new {@link SortedListStringTrie}, which contains the key-value pairs of a file.
+     *
+     * @param file The path of the file, which should be loaded, as an instance of the type {@link
+     *             Path}. The path may not be null
+     * @return The trie, which has been created, as an instance of the class {@link
+     * SortedListStringTrie}. The trie may not be null
+     * @throws IOException If an error occurs while reading the file
+     */
+    @NotNull
+    public final SortedListStringTrie<ValueType> loadSortedListStringTrie(@NotNull final Path file)
+            throws IOException {
+        SortedListStringTrie<ValueType> trie = new SortedListStringTrie<>();
+        load(file, trie);
+        return trie;
+    }
+
+    /**
+     * Creates a new {@link TernarySearchStringTrie}, which contains the key-value pairs of a file.
+     * As the successors of each node are added in sorted order, the binary search trees, which
+     * consist of the successors, are rebuilt to be balanced while loading.
+     *
+     * @param file The path of the file, which should be loaded, as an instance of the type {@link
+     *             Path}. The path may not be null
+     * @return The trie, which has been created, as an instance of the class {@link
+     * TernarySearchStringTrie}. The trie may not be null
+     * @throws IOException If an error occurs while reading the file
+     */
+    @NotNull
+    public final TernarySearchStringTrie<ValueType> loadTernarySearchStringTrie(
+            @NotNull final Path file) throws IOException {
+        TernarySearchStringTrie<ValueType> trie = new TernarySearchStringTrie<>();
+        load(file, trie);
+        return trie;
+    }
+
+    /**
+     * Loads the key-value pairs of a file into an empty trie.
+     *
+     * @param file The path of the file, which should be loaded, as an instance of the type {@link
+     *             Path}. The path may not be null
+     * @param trie The trie, the key-value pairs should be loaded into, as an instance of the class
+     *             {@link SortedStringTrieWrapper}. The trie must be empty and use the natural
+     *             ordering of its keys
+     * @throws IOException If an error occurs while reading the file
+     */
+    public final void load(@NotNull final Path file,
+                           @NotNull final SortedStringTrieWrapper<ValueType> trie)
+            throws IOException {
+        Condition.INSTANCE.ensureNotNull(file, "The file may not be null");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            load(channel, trie);
+        }
+    }
+
+    /**
+     * Loads the key-value pairs, which are read from a channel, into an empty trie.
+     *
+     * @param channel The channel, the key-value pairs should be read from, as an instance of the
+     *                type {@link ReadableByteChannel}. The channel may not be null
+     * @param trie    The trie, the key-value pairs should be loaded into, as an instance of the
+     *                class {@link SortedStringTrieWrapper}. The trie must be empty and use the
+     *                natural ordering of its keys
+     * @throws IOException If an error occurs while reading from the channel
+     */
+    @SuppressWarnings("unchecked")
+    public final void load(@NotNull final ReadableByteChannel channel,
+                           @NotNull final SortedStringTrieWrapper<ValueType> trie)
+            throws IOException {
+        Condition.INSTANCE.ensureNotNull(channel, "The channel may not be null");
+        Condition.INSTANCE.ensureNotNull(trie, "The trie may not be null");
+        Condition.INSTANCE.ensureTrue(trie.trie instanceof AbstractSortedTrie,
+                "The trie must be backed by an instance of the class " +
+                        AbstractSortedTrie.class.getSimpleName());
+        AbstractSortedTrie<StringSequence, ValueType> sortedTrie =
+                (AbstractSortedTrie<StringSequence, ValueType>) trie.trie;
+        Condition.INSTANCE.ensureTrue(sortedTrie.isEmpty(), "The trie must be empty");
+        Condition.INSTANCE.ensureTrue(sortedTrie.comparator() == null,
+                "The trie must use the natural ordering of its keys");
+        Builder<ValueType> builder = new Builder<>(sortedTrie);
+        CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        CharBuffer characters = CharBuffer.allocate(BUFFER_SIZE);
+        CharBuffer valueView = CharBuffer.wrap(characters.array());
+        boolean endOfInput = false;
+        boolean done = false;
+
+        while (!done) {
+            if (!endOfInput) {
+                endOfInput = channel.read(bytes) < 0;
+            }
+
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, characters, endOfInput);
+            bytes.compact();
+
+            if (result.isError()) {
+                result.throwException();
+            } else if (endOfInput && result.isUnderflow()) {
+                decoder.flush(characters);
+                done = true;
+            }
+
+            characters.flip();
+            processLines(characters, valueView, builder, done);
+            characters.compact();
+
+            if (!characters.hasRemaining()) {
+                CharBuffer grownCharacters = CharBuffer.allocate(characters.capacity() * 2);
+                characters.flip();
+                grownCharacters.put(characters);
+                characters = grownCharacters;
+                valueView = CharBuffer.wrap(characters.array());
+            }
+        }
+
+        builder.finish();
+    }
+
+}
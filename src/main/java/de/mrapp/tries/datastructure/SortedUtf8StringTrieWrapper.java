@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.SortedByteTrie;
+import de.mrapp.tries.SortedStringTrie;
+import de.mrapp.tries.SortedTrie;
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A wrapper, which implements the interface {@link SortedStringTrie} by delegating all method calls
+ * to an encapsulated {@link SortedTrie}, which uses the UTF-8 encoding of the strings as keys. As
+ * the lexicographical order of UTF-8 encoded byte sequences corresponds to the order of Unicode
+ * code points, the keys are sorted by their code points, if the encapsulated trie uses the natural
+ * ordering of byte sequences. In this case, the method {@link #comparator()} returns a comparator,
+ * which compares strings by their code points, rather than null.
+ * <p>
+ * As the edges of the encapsulated trie may end within the encoding of a multi-byte character, the
+ * keys of the nodes, which are returned by the method {@link #getRootNode()}, may contain
+ * replacement characters.
+ *
+ * @param <ValueType> The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class SortedUtf8StringTrieWrapper<ValueType>
+        extends AbstractSortedStringTrieWrapper<ByteSequence, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -7739071843620127412L;
+
+    /**
+     * Creates a new wrapper, which implements the interface {@link SortedStringTrie} by storing
+     * the UTF-8 encoding of the strings.
+     *
+     * @param trie The trie, which should be encapsulated, as an instance of the type {@link
+     *             SortedTrie}. The trie may not be null
+     */
+    public SortedUtf8StringTrieWrapper(@NotNull final SortedTrie<ByteSequence, ValueType> trie) {
+        super(trie, StringConverter.Utf8Converter.INSTANCE);
+    }
+
+    /**
+     * Returns a view of the trie, which allows to access its entries by using the UTF-8 encoding of
+     * keys. This allows to look up keys, which are available as UTF-8 encoded bytes, e.g. when
+     * reading them from the network, without decoding them. The view is backed by the trie, i.e.
+     * changes of the trie are reflected by the view and vice versa. Keys, which are added by using
+     * the view, must be valid UTF-8 encodings.
+     *
+     * @return The view of the trie as an instance of the type {@link SortedByteTrie}. The view may
+     * not be null
+     */
+    @NotNull
+    public final SortedByteTrie<ValueType> asByteTrie() {
+        return trie instanceof SortedByteTrie ? (SortedByteTrie<ValueType>) trie :
+                new SortedByteTrieWrapper<>(trie);
+    }
+
+    @NotNull
+    @Override
+    public final SortedUtf8StringTrieWrapper<ValueType> subTrie(@Nullable final String sequence) {
+        return new SortedUtf8StringTrieWrapper<>(
+                trie.subTrie(converter.convertFromString(sequence)));
+    }
+
+}
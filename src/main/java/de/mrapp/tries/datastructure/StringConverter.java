@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.StringTrie;
+import de.mrapp.tries.sequence.ByteSequence;
+import de.mrapp.tries.sequence.StringSequence;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+
+/**
+ * Defines the interface of a class, which allows to convert {@link String}s into sequences and vice
+ * versa. It is used by the wrappers, which implement the interface {@link StringTrie}, to map the
+ * keys of the wrapper to the keys of the encapsulated trie.
+ *
+ * @param <SequenceType> The type of the sequences, the strings are converted into
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+interface StringConverter<SequenceType extends Sequence> extends Serializable {
+
+    /**
+     * A converter, which converts {@link String}s into instances of the class {@link
+     * StringSequence} and vice versa.
+     */
+    enum StringSequenceConverter implements StringConverter<StringSequence> {
+
+        /**
+         * The single instance of the converter.
+         */
+        INSTANCE;
+
+        @Nullable
+        @Override
+        public StringSequence convertFromString(@Nullable final String string) {
+            return StringSequence.convertFromString(string);
+        }
+
+        @Nullable
+        @Override
+        public String convertToString(@Nullable final StringSequence sequence) {
+            return StringSequence.convertToString(sequence);
+        }
+
+        @Nullable
+        @Override
+        public Comparator<? super String> getComparator() {
+            return null;
+        }
+
+    }
+
+    /**
+     * A converter, which converts {@link String}s into instances of the class {@link ByteSequence},
+     * which contain the strings' UTF-8 encoding, and vice versa. Unpaired surrogate characters are
+     * replaced by the character '?' when encoding a string. As the lexicographical order of UTF-8
+     * encoded byte sequences corresponds to the order of the strings' Unicode code points, the
+     * natural ordering of the byte sequences does not correspond to the natural ordering of {@link
+     * String}s, which compares UTF-16 code units, but to the code point order.
+     */
+    enum Utf8Converter implements StringConverter<ByteSequence> {
+
+        /**
+         * The single instance of the converter.
+         */
+        INSTANCE;
+
+        /**
+         * A comparator, which compares {@link String}s by their Unicode code points.
+         */
+        private static final Comparator<String> CODE_POINT_COMPARATOR =
+                (Comparator<String> & Serializable) Utf8Converter::compareCodePoints;
+
+        /**
+         * Compares two strings by their Unicode code points. Unlike the method {@link
+         * String#compareTo(String)}, supplementary characters, which are represented by surrogate
+         * pairs, are sorted after all characters of the Basic Multilingual Plane.
+         *
+         * @param string1 The first string, which should be compared, as a {@link String}. The
+         *                string may not be null
+         * @param string2 The second string, which should be compared, as a {@link String}. The
+         *                string may not be null
+         * @return A negative value, zero or a positive value, if the first string is less than,
+         * equal to or greater than the second string
+         */
+        static int compareCodePoints(final String string1, final String string2) {
+            int minLength = Math.min(string1.length(), string2.length());
+
+            for (int i = 0; i < minLength; i++) {
+                int char1 = string1.charAt(i);
+                int char2 = string2.charAt(i);
+
+                if (char1 != char2) {
+                    if (char1 >= Character.MIN_SURROGATE && char2 >= Character.MIN_SURROGATE) {
+                        char1 += char1 > Character.MAX_SURROGATE ? -0x800 : 0x2000;
+                        char2 += char2 > Character.MAX_SURROGATE ? -0x800 : 0x2000;
+                    }
+
+                    return char1 - char2;
+                }
+            }
+
+            return string1.length() - string2.length();
+        }
+
+        @Nullable
+        @Override
+        public ByteSequence convertFromString(@Nullable final String string) {
+            return string != null ? new ByteSequence(string.getBytes(StandardCharsets.UTF_8)) :
+                    null;
+        }
+
+        @Nullable
+        @Override
+        public String convertToString(@Nullable final ByteSequence sequence) {
+            return sequence != null ? sequence.decode(StandardCharsets.UTF_8) : null;
+        }
+
+        @Nullable
+        @Override
+        public Comparator<? super String> getComparator() {
+            return CODE_POINT_COMPARATOR;
+        }
+
+    }
+
+    /**
+     * Converts a specific {@link String} into a sequence.
+     *
+     * @param string The string, which should be converted, as a {@link String} or null
+     * @return The sequence, which has been created, as an instance of the generic type {@link
+     * SequenceType} or null, if the given string is null
+     */
+    @Nullable
+    SequenceType convertFromString(@Nullable String string);
+
+    /**
+     * Converts a specific sequence into a {@link String}.
+     *
+     * @param sequence The sequence, which should be converted, as an instance of the generic type
+     *                 {@link SequenceType} or null
+     * @return The string, which has been created, as a {@link String} or null, if the given
+     * sequence is null
+     */
+    @Nullable
+    String convertToString(@Nullable SequenceType sequence);
+
+    /**
+     * Returns the comparator, which sorts {@link String}s in the same order as the natural ordering
+     * of the sequences, they are converted into.
+     *
+     * @return The comparator, which sorts strings in the same order as the natural ordering of the
+     * sequences, as an instance of the type {@link Comparator} or null, if the natural ordering of
+     * the sequences corresponds to the natural ordering of strings
+     */
+    @Nullable
+    Comparator<? super String> getComparator();
+
+}
@@ -15,6 +15,7 @@ package de.mrapp.tries.datastructure;
 
 import de.mrapp.tries.Node;
 import de.mrapp.tries.NodeValue;
+import de.mrapp.tries.Sequence;
 import de.mrapp.tries.sequence.StringSequence;
 import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
@@ -27,8 +28,8 @@ import java.util.Map;
 /**
  * An implementation of the interface {@link Node}, where predecessors correspond to keys of the
  * type {@link String}. It forwards read-only method calls to an encapsulated node by mapping {@link
- * String}s to {@link StringSequence}s and throws {@link UnsupportedOperationException}s when
- * calling a method, which attempts to change the node's state.
+ * String}s to sequences, e.g. {@link StringSequence}s, and throws {@link
+ * UnsupportedOperationException}s when calling a method, which attempts to change the node's state.
  *
  * @param <ValueType> The type of the node's value
  * @author Michael Rapp
@@ -44,7 +45,12 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
     /**
      * The encapsulated node.
      */
-    private final Node<StringSequence, ValueType> node;
+    private final Node<Sequence, ValueType> node;
+
+    /**
+     * The converter, which is used to convert the keys of the encapsulated node.
+     */
+    private StringConverter<Sequence> converter;
 
     /**
      * Creates a new implementation of the interface {@link Node}, where predecessors correspond to
@@ -53,9 +59,40 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
      * @param node The node, which should be encapsulated, as an instance of the type {@link Node}.
      *             The node may not be null
      */
+    @SuppressWarnings("unchecked")
     public StringNodeWrapper(@NotNull final Node<StringSequence, ValueType> node) {
         Condition.INSTANCE.ensureNotNull(node, "The node may not be null");
-        this.node = node;
+        this.node = (Node<Sequence, ValueType>) (Node<?, ValueType>) node;
+        this.converter = (StringConverter<Sequence>) (StringConverter<?>)
+                StringConverter.StringSequenceConverter.INSTANCE;
+    }
+
+    /**
+     * Creates and returns an implementation of the interface {@link Node}, where predecessors
+     * correspond to keys of the type {@link String}, and which encapsulates a node that uses an
+     * arbitrary type of sequences as keys.
+     *
+     * @param node           The node, which should be encapsulated, as an instance of the type
+     *                       {@link Node}. The node may not be null
+     * @param converter      The converter, which should be used to convert the keys of the
+     *                       encapsulated node, as an instance of the type {@link StringConverter}.
+     *                       The converter may not be null
+     * @param <SequenceType> The type of the sequences, which are used as the keys of the
+     *                       encapsulated node
+     * @param <ValueType>    The type of the node's value
+     * @return The node, which has been created, as an instance of the class {@link
+     * StringNodeWrapper}. The node may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    static <SequenceType extends Sequence, ValueType> StringNodeWrapper<ValueType> create(
+            @NotNull final Node<SequenceType, ValueType> node,
+            @NotNull final StringConverter<SequenceType> converter) {
+        Condition.INSTANCE.ensureNotNull(converter, "The converter may not be null");
+        StringNodeWrapper<ValueType> wrapper = new StringNodeWrapper<>(
+                (Node<StringSequence, ValueType>) (Node<?, ValueType>) node);
+        wrapper.converter = (StringConverter<Sequence>) (StringConverter<?>) converter;
+        return wrapper;
     }
 
     @Nullable
@@ -78,8 +115,9 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
     @Nullable
     @Override
     public final Node<String, ValueType> getSuccessor(@NotNull final String key) {
-        Node<StringSequence, ValueType> successor = node.getSuccessor(new StringSequence(key));
-        return successor != null ? new StringNodeWrapper<>(successor) : null;
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        Node<Sequence, ValueType> successor = node.getSuccessor(converter.convertFromString(key));
+        return successor != null ? create(successor, converter) : null;
     }
 
     @NotNull
@@ -113,9 +151,10 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
     @Nullable
     @Override
     public final Map.Entry<String, Node<String, ValueType>> getPredecessor() {
-        Map.Entry<StringSequence, Node<StringSequence, ValueType>> entry = node.getPredecessor();
-        return entry != null ? new AbstractMap.SimpleImmutableEntry<>(entry.getKey().toString(),
-                new StringNodeWrapper<>(entry.getValue())) : null;
+        Map.Entry<Sequence, Node<Sequence, ValueType>> entry = node.getPredecessor();
+        return entry != null ?
+                new AbstractMap.SimpleImmutableEntry<>(converter.convertToString(entry.getKey()),
+                        create(entry.getValue(), converter)) : null;
     }
 
     @Override
@@ -127,7 +166,7 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public final Node<String, ValueType> clone() {
-        return new StringNodeWrapper<>(node.clone());
+        return create(node.clone(), converter);
     }
 
     @NotNull
@@ -135,7 +174,7 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
     public final Iterator<String> iterator() {
         return new Iterator<String>() {
 
-            private final Iterator<StringSequence> iterator = node.iterator();
+            private final Iterator<Sequence> iterator = node.iterator();
 
             @Override
             public boolean hasNext() {
@@ -144,7 +183,7 @@ public class StringNodeWrapper<ValueType> implements Node<String, ValueType> {
 
             @Override
             public String next() {
-                return StringSequence.convertToString(iterator.next());
+                return converter.convertToString(iterator.next());
             }
 
         };
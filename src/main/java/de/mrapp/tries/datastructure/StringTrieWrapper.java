@@ -28,7 +28,7 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public class StringTrieWrapper<ValueType>
-        extends AbstractStringTrieWrapper<Trie<StringSequence, ValueType>, ValueType>
+        extends AbstractStringTrieWrapper<StringSequence, Trie<StringSequence, ValueType>, ValueType>
         implements StringTrie<ValueType> {
 
     /**
@@ -43,13 +43,13 @@ public class StringTrieWrapper<ValueType>
      *             The trie may not be null
      */
     public StringTrieWrapper(@NotNull final Trie<StringSequence, ValueType> trie) {
-        super(trie);
+        super(trie, StringConverter.StringSequenceConverter.INSTANCE);
     }
 
     @NotNull
     @Override
     public final StringTrieWrapper<ValueType> subTrie(@Nullable final String sequence) {
-        return new StringTrieWrapper<>(trie.subTrie(StringSequence.convertFromString(sequence)));
+        return new StringTrieWrapper<>(trie.subTrie(converter.convertFromString(sequence)));
     }
 
 }
\ No newline at end of file
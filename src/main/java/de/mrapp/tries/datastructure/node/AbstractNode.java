@@ -21,7 +21,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * An abstract base for all nodes of a trie.
@@ -39,6 +42,11 @@ public abstract class AbstractNode<KeyType extends Sequence, ValueType> implemen
      */
     private static final long serialVersionUID = -5239050242490781683L;
 
+    /**
+     * The initial capacity of the stack, which is used to clone the successors of a node.
+     */
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
     /**
      * The value of the node.
      */
@@ -55,28 +63,118 @@ public abstract class AbstractNode<KeyType extends Sequence, ValueType> implemen
     private Map.Entry<KeyType, Node<KeyType, ValueType>> predecessor;
 
     /**
-     * Clones all successors of a specific node recursively and adds them to another node.
+     * Clones all successors of a specific node and adds them to another node. The subtree is
+     * traversed in depth-first order by using a stack, which is kept in arrays, rather than by
+     * using recursion. The clones are added by invoking the method {@link #onAddSuccessor(Sequence,
+     * Node)} directly. The number of successors for which a value is set is therefore not
+     * propagated to the predecessors whenever a clone is added, but assigned to each clone once
+     * all of its successors have been cloned. This allows to clone a subtree in linear time,
+     * regardless of its depth.
      *
      * @param source The node, whose successors should be cloned, as an instance of the type {@link
      *               Node}. The node may not be null
-     * @param target The node, the clones should be added to, as an instance of the type {@link
-     *               Node}. The node may not be null
+     * @param target The node, the clones should be added to, as an instance of the class {@link
+     *               AbstractNode}. The node must neither have successors, nor a predecessor
      */
+    @SuppressWarnings("unchecked")
     protected final void cloneSuccessors(@NotNull final Node<KeyType, ValueType> source,
-                                         @NotNull final Node<KeyType, ValueType> target) {
-        for (KeyType keys : source) {
-            Node<KeyType, ValueType> successor = source.getSuccessor(keys);
-
-            if (successor != null) {
-                Node<KeyType, ValueType> clonedSuccessor = target.addSuccessor(keys);
-                clonedSuccessor
-                        .setNodeValue(successor.getNodeValue() != null ?
-                                successor.getNodeValue().clone() : null);
-                cloneSuccessors(successor, clonedSuccessor);
+                                         @NotNull final AbstractNode<KeyType, ValueType> target) {
+        Node<KeyType, ValueType>[] sources =
+                (Node<KeyType, ValueType>[]) new Node<?, ?>[INITIAL_STACK_CAPACITY];
+        AbstractNode<KeyType, ValueType>[] clones =
+                (AbstractNode<KeyType, ValueType>[]) new AbstractNode<?, ?>[INITIAL_STACK_CAPACITY];
+        Iterator<KeyType>[] iterators =
+                (Iterator<KeyType>[]) new Iterator<?>[INITIAL_STACK_CAPACITY];
+        int[] indices = new int[INITIAL_STACK_CAPACITY];
+        int[] counts = new int[INITIAL_STACK_CAPACITY];
+        sources[0] = source;
+        clones[0] = target;
+        counts[0] = target.nodeValue != null ? 1 : 0;
+        target.ensureSuccessorCapacity(source.getSuccessorCount());
+        int depth = 1;
+
+        while (depth > 0) {
+            int top = depth - 1;
+            Node<KeyType, ValueType> currentSource = sources[top];
+            KeyType key = null;
+            Node<KeyType, ValueType> successor = null;
+            boolean hasNext;
+
+            if (currentSource instanceof RandomAccess) {
+                int index = indices[top];
+                hasNext = index < currentSource.getSuccessorCount();
+
+                if (hasNext) {
+                    indices[top] = index + 1;
+                    key = currentSource.getSuccessorKey(index);
+                    successor = currentSource.getSuccessor(index);
+                }
+            } else {
+                Iterator<KeyType> iterator = iterators[top];
+
+                if (iterator == null) {
+                    iterator = currentSource.iterator();
+                    iterators[top] = iterator;
+                }
+
+                hasNext = iterator.hasNext();
+
+                if (hasNext) {
+                    key = iterator.next();
+                    successor = currentSource.getSuccessor(key);
+                }
+            }
+
+            if (!hasNext) {
+                AbstractNode<KeyType, ValueType> clone = clones[top];
+                clone.successorValueCount = counts[top];
+
+                if (top > 0) {
+                    counts[top - 1] += counts[top];
+                }
+
+                sources[top] = null;
+                clones[top] = null;
+                iterators[top] = null;
+                depth--;
+            } else if (successor != null) {
+                AbstractNode<KeyType, ValueType> parent = clones[top];
+                AbstractNode<KeyType, ValueType> clone =
+                        (AbstractNode<KeyType, ValueType>) parent.onAddSuccessor(key, null);
+                clone.predecessor = new AbstractMap.SimpleImmutableEntry<>(key, parent);
+                NodeValue<ValueType> value = successor.getNodeValue();
+                clone.nodeValue = value != null ? value.clone() : null;
+                clone.ensureSuccessorCapacity(successor.getSuccessorCount());
+
+                if (depth == sources.length) {
+                    int capacity = depth * 2;
+                    sources = Arrays.copyOf(sources, capacity);
+                    clones = Arrays.copyOf(clones, capacity);
+                    iterators = Arrays.copyOf(iterators, capacity);
+                    indices = Arrays.copyOf(indices, capacity);
+                    counts = Arrays.copyOf(counts, capacity);
+                }
+
+                sources[depth] = successor;
+                clones[depth] = clone;
+                indices[depth] = 0;
+                counts[depth] = value != null ? 1 : 0;
+                depth++;
             }
         }
     }
 
+    /**
+     * The method, which is invoked on subclasses before a specific number of successors is added
+     * to the node, e.g. when the node is cloned. It may be overridden by subclasses in order to
+     * allocate the data structures, which store the successors, with a suitable capacity at once.
+     *
+     * @param capacity The number of successors, which will be added, as an {@link Integer} value
+     */
+    protected void ensureSuccessorCapacity(final int capacity) {
+
+    }
+
     /**
      * The method, which is invoked on subclasses in order to add a specific successor to the node.
      *
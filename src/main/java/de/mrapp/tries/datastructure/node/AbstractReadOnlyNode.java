@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.NodeValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+/**
+ * An abstract base for all nodes, which provide a read-only view on the internal structure of a
+ * trie that does not consist of nodes of the type {@link Node}. Such nodes are created on demand,
+ * when traversing the trie, and must not be used anymore once the trie has been modified. All
+ * methods, which would modify the trie, throw an {@link UnsupportedOperationException}.
+ *
+ * @param <KeyType>   The type of the keys, which are associated with the node's successors
+ * @param <ValueType> The type of the node's value
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public abstract class AbstractReadOnlyNode<KeyType, ValueType> implements
+        Node<KeyType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 3086216917612400285L;
+
+    /**
+     * An entry, which contains the predecessor of the node, as well as the key the node is
+     * referenced by in the predecessor, or null, if the node is a root node.
+     */
+    private final Map.Entry<KeyType, Node<KeyType, ValueType>> predecessor;
+
+    /**
+     * Creates a new read-only node.
+     *
+     * @param predecessor The predecessor of the node as an instance of the type {@link Node} or
+     *                    null, if the node is a root node
+     * @param key         The key, the node is referenced by in its predecessor, as an instance of
+     *                    the generic type {@link KeyType} or null, if the node is a root node
+     */
+    protected AbstractReadOnlyNode(@Nullable final Node<KeyType, ValueType> predecessor,
+                                   @Nullable final KeyType key) {
+        this.predecessor =
+                predecessor != null ? new AbstractMap.SimpleImmutableEntry<>(key, predecessor) :
+                        null;
+    }
+
+    @Nullable
+    @Override
+    public final NodeValue<ValueType> setNodeValue(@Nullable final NodeValue<ValueType> nodeValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @NotNull
+    @Override
+    public final Node<KeyType, ValueType> addSuccessor(@NotNull final KeyType key,
+                                                       @Nullable final Node<KeyType, ValueType> successor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void removeSuccessor(@NotNull final KeyType key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void increaseSuccessorValueCount(final int by) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void decreaseSuccessorValueCount(final int by) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Nullable
+    @Override
+    public final Map.Entry<KeyType, Node<KeyType, ValueType>> getPredecessor() {
+        return predecessor;
+    }
+
+    @Override
+    public final void setPredecessor(
+            @Nullable final Map.Entry<KeyType, Node<KeyType, ValueType>> predecessor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final Node<KeyType, ValueType> clone() {
+        try {
+            return (Node<KeyType, ValueType>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // Should never happen
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Node [value=" + getNodeValue() + ", successorCount=" + getSuccessorCount() + "]";
+    }
+
+}
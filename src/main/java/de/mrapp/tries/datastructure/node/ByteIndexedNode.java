@@ -0,0 +1,356 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.sequence.ByteSequence;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A node of a trie, which uses sequences of bytes as keys and indexes its successors by the first
+ * byte of their keys. The first bytes, for which a successor exists, are stored in a bitmap of 256
+ * bits. The keys and successors are stored in arrays, which are sorted by the unsigned value of
+ * their first byte. The index of a successor can therefore be obtained by counting the bits in the
+ * bitmap, which precede the first byte of its key, instead of comparing keys to each other.
+ * <p>
+ * As the first bytes of the keys must be unique, this node can be used by tries, which store a
+ * single byte per edge, as well as by Patricia tries.
+ *
+ * @param <ValueType> The type of the node's value
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class ByteIndexedNode<ValueType> extends AbstractNode<ByteSequence, ValueType>
+        implements RandomAccess {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -1655064398787453066L;
+
+    /**
+     * The initial capacity of the arrays, which store the keys and successors.
+     */
+    private static final int INITIAL_CAPACITY = 2;
+
+    /**
+     * The bitmap, which is shared by all nodes without successors. It must not be modified.
+     */
+    private static final long[] EMPTY_BITMAP = new long[4];
+
+    /**
+     * The array, which is shared by all nodes without successors in order to store their keys.
+     */
+    private static final ByteSequence[] EMPTY_KEYS = new ByteSequence[0];
+
+    /**
+     * The array, which is shared by all nodes without successors in order to store their
+     * successors.
+     */
+    private static final Node<?, ?>[] EMPTY_SUCCESSORS = new Node<?, ?>[0];
+
+    /**
+     * The bitmap, which specifies the first bytes, for which successors exist. It consists of four
+     * words of 64 bits each. As most nodes of a trie are leaves, the bitmap and the arrays, which
+     * store the keys and successors, are only allocated once a successor is added.
+     */
+    private long[] bitmap;
+
+    /**
+     * The keys of the node's successors, sorted by their first byte.
+     */
+    private ByteSequence[] keys;
+
+    /**
+     * The node's successors, sorted by the first byte of their keys.
+     */
+    private Node<ByteSequence, ValueType>[] successors;
+
+    /**
+     * The number of the node's successors.
+     */
+    private int size;
+
+    /**
+     * Returns the unsigned value of the first byte of a specific key.
+     *
+     * @param key The key as an instance of the class {@link ByteSequence}. The key may not be
+     *            empty
+     * @return The unsigned value of the first byte of the given key as an {@link Integer} value
+     */
+    private static int firstByte(@NotNull final ByteSequence key) {
+        return key.byteAt(0) & 0xFF;
+    }
+
+    /**
+     * Returns, whether a successor, whose key starts with a specific byte, exists.
+     *
+     * @param value The unsigned value of the byte as an {@link Integer} value
+     * @return True, if a successor, whose key starts with the given byte, exists, false otherwise
+     */
+    private boolean contains(final int value) {
+        return (bitmap[value >>> 6] & (1L << value)) != 0;
+    }
+
+    /**
+     * Returns the number of successors, whose keys start with a byte that is smaller than a
+     * specific byte.
+     *
+     * @param value The unsigned value of the byte as an {@link Integer} value
+     * @return The number of successors, whose keys start with a smaller byte, as an {@link
+     * Integer} value
+     */
+    private int rank(final int value) {
+        int word = value >>> 6;
+        int rank = Long.bitCount(bitmap[word] & ((1L << value) - 1));
+
+        for (int i = 0; i < word; i++) {
+            rank += Long.bitCount(bitmap[i]);
+        }
+
+        return rank;
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific index is invalid.
+     *
+     * @param index The index, which should be checked, as an {@link Integer} value
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Removes the successor at a specific index from the arrays and the bitmap.
+     *
+     * @param index The index of the successor, which should be removed, as an {@link Integer}
+     *              value
+     * @return The successor, which has been removed, as an instance of the type {@link Node}. The
+     * successor may not be null
+     */
+    @NotNull
+    private Node<ByteSequence, ValueType> removeInternal(final int index) {
+        Node<ByteSequence, ValueType> successor = successors[index];
+        int value = firstByte(keys[index]);
+        bitmap[value >>> 6] &= ~(1L << value);
+        int numMoved = size - index - 1;
+
+        if (numMoved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, numMoved);
+            System.arraycopy(successors, index + 1, successors, index, numMoved);
+        }
+
+        size--;
+        keys[size] = null;
+        successors[size] = null;
+        return successor;
+    }
+
+    /**
+     * Creates a new node of a trie, which indexes its successors by the first byte of their keys.
+     */
+    @SuppressWarnings("unchecked")
+    public ByteIndexedNode() {
+        this.bitmap = EMPTY_BITMAP;
+        this.keys = EMPTY_KEYS;
+        this.successors = (Node<ByteSequence, ValueType>[]) EMPTY_SUCCESSORS;
+        this.size = 0;
+    }
+
+    @NotNull
+    @Override
+    protected final Node<ByteSequence, ValueType> onAddSuccessor(@NotNull final ByteSequence key,
+                                                                 @Nullable final Node<ByteSequence, ValueType> successor) {
+        Condition.INSTANCE.ensureFalse(key.isEmpty(), "The key may not be empty");
+        int value = firstByte(key);
+        int index = rank(value);
+        Node<ByteSequence, ValueType> successorToAdd =
+                successor == null ? new ByteIndexedNode<>() : successor;
+
+        if (contains(value)) {
+            Condition.INSTANCE.ensureTrue(keys[index].equals(key),
+                    "A successor, whose key starts with the same byte, already exists");
+            Node<ByteSequence, ValueType> replacedSuccessor = successors[index];
+            decreaseSuccessorValueCount(replacedSuccessor.getSuccessorValueCount());
+            replacedSuccessor.setPredecessor(null);
+            keys[index] = key;
+            successors[index] = successorToAdd;
+            return successorToAdd;
+        }
+
+        if (bitmap == EMPTY_BITMAP) {
+            bitmap = new long[4];
+        }
+
+        if (size == keys.length) {
+            int capacity = Math.max(size * 2, INITIAL_CAPACITY);
+            keys = Arrays.copyOf(keys, capacity);
+            successors = Arrays.copyOf(successors, capacity);
+        }
+
+        int numMoved = size - index;
+
+        if (numMoved > 0) {
+            System.arraycopy(keys, index, keys, index + 1, numMoved);
+            System.arraycopy(successors, index, successors, index + 1, numMoved);
+        }
+
+        keys[index] = key;
+        successors[index] = successorToAdd;
+        bitmap[value >>> 6] |= 1L << value;
+        size++;
+        return successorToAdd;
+    }
+
+    @Nullable
+    @Override
+    protected final Node<ByteSequence, ValueType> onRemoveSuccessor(
+            @NotNull final ByteSequence key) {
+        int index = indexOf(key);
+        return index != -1 ? removeInternal(index) : null;
+    }
+
+    @Override
+    public final int getSuccessorCount() {
+        return size;
+    }
+
+    @Nullable
+    @Override
+    public final Node<ByteSequence, ValueType> getSuccessor(@NotNull final ByteSequence key) {
+        int index = indexOf(key);
+        return index != -1 ? successors[index] : null;
+    }
+
+    @NotNull
+    @Override
+    public final ByteSequence getSuccessorKey(final int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    @NotNull
+    @Override
+    public final Node<ByteSequence, ValueType> getSuccessor(final int index) {
+        checkIndex(index);
+        return successors[index];
+    }
+
+    @Override
+    public final int indexOf(@NotNull final ByteSequence key) {
+        int index = indexOfFirstElement(key);
+        return index != -1 && keys[index].equals(key) ? index : -1;
+    }
+
+    @Override
+    public final int indexOfFirstElement(@NotNull final ByteSequence key) {
+        if (key.isEmpty()) {
+            return -1;
+        }
+
+        int value = firstByte(key);
+        return contains(value) ? rank(value) : -1;
+    }
+
+    @Override
+    public final void removeSuccessor(final int index) {
+        checkIndex(index);
+        Node<ByteSequence, ValueType> successor = removeInternal(index);
+        decreaseSuccessorValueCount(successor.getSuccessorValueCount());
+        successor.setPredecessor(null);
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<ByteSequence> iterator() {
+        return new Iterator<ByteSequence>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public ByteSequence next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return keys[index++];
+            }
+
+        };
+    }
+
+    @Override
+    public final ByteIndexedNode<ValueType> clone() {
+        ByteIndexedNode<ValueType> clone = new ByteIndexedNode<>();
+        clone.setNodeValue(getNodeValue() != null ? getNodeValue().clone() : null);
+        cloneSuccessors(this, clone);
+        return clone;
+    }
+
+    @Override
+    public final String toString() {
+        return "Node{" + "value=" + (getNodeValue() != null ? getNodeValue().getValue() : "null") +
+                ", successors=" + Arrays.toString(Arrays.copyOf(keys, size)) + '}';
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+
+        for (int i = 0; i < size; i++) {
+            result = prime * result + keys[i].hashCode();
+            result = prime * result + successors[i].hashCode();
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (!super.equals(obj))
+            return false;
+        ByteIndexedNode<?> other = (ByteIndexedNode<?>) obj;
+        if (size != other.size)
+            return false;
+        if (!Arrays.equals(bitmap, other.bitmap))
+            return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!keys[i].equals(other.keys[i]) || !successors[i].equals(other.successors[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.Sequence;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A node of a trie, which looks up its successors by the first element of their keys using a hash
+ * table. As the first elements of the keys must be unique, this node can be used by tries, which
+ * store a single element per edge, as well as by Patricia tries, where edges may correspond to
+ * multiple elements.
+ * <p>
+ * The keys and successors are stored in two parallel arrays in no particular order. Leaves do not
+ * allocate these arrays at all. Up to {@link #MAX_INLINE_SUCCESSORS} successors are searched
+ * linearly by comparing their first elements. If the number of successors exceeds this threshold,
+ * an additional hash table, which uses open addressing with linear probing, maps the hash codes of
+ * the first elements to the indices of the successors. The indices of successors are not stable,
+ * as removing a successor moves the last successor to its index.
+ *
+ * @param <KeyType>   The type of the keys, which are associated with the node's successors
+ * @param <ValueType> The type of the node's value
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class FirstElementHashNode<KeyType extends Sequence, ValueType>
+        extends AbstractNode<KeyType, ValueType> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 2905316853245367213L;
+
+    /**
+     * The maximum number of successors, which are searched linearly.
+     */
+    private static final int MAX_INLINE_SUCCESSORS = 4;
+
+    /**
+     * The initial capacity of the hash table, which is used, if the number of successors exceeds
+     * {@link #MAX_INLINE_SUCCESSORS}. It must be a power of two.
+     */
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+
+    /**
+     * The keys of the node's successors or null, if the node does not have any successors.
+     */
+    private Object[] keys;
+
+    /**
+     * The node's successors or null, if the node does not have any successors. The successors are
+     * stored at the same indices as their keys.
+     */
+    private Node<KeyType, ValueType>[] successors;
+
+    /**
+     * The hash table, which maps the hash codes of the keys' first elements to the indices of the
+     * successors, or null, if the successors are searched linearly. Each slot contains the index of
+     * a successor incremented by one or 0, if the slot is unused.
+     */
+    private int[] table;
+
+    /**
+     * The number of the node's successors.
+     */
+    private int size;
+
+    /**
+     * Returns the key at a specific index.
+     *
+     * @param index The index of the key, which should be returned, as an {@link Integer} value
+     * @return The key at the given index as an instance of the generic type {@link KeyType}. The
+     * key may not be null
+     */
+    @SuppressWarnings("unchecked")
+    private KeyType keyAt(final int index) {
+        return (KeyType) keys[index];
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific index is invalid.
+     *
+     * @param index The index, which should be checked, as an {@link Integer} value
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Returns, whether two keys start with the same element.
+     *
+     * @param key1 The first key as an instance of the generic type {@link KeyType}. The key may not
+     *             be empty
+     * @param key2 The second key as an instance of the generic type {@link KeyType}. The key may
+     *             not be empty
+     * @return True, if both keys start with the same element, false otherwise
+     */
+    private static <K extends Sequence> boolean startWithSameElement(@NotNull final K key1,
+                                                                     @NotNull final K key2) {
+        return key1.getCommonPrefixLength(key2, 0) > 0;
+    }
+
+    /**
+     * Returns the slot of the hash table, the first element of a specific key should ideally be
+     * stored at.
+     *
+     * @param key      The key as an instance of the type {@link Sequence}. The key may not be
+     *                 empty
+     * @param capacity The capacity of the hash table as an {@link Integer} value. The capacity
+     *                 must be a power of two
+     * @return The slot, the first element of the given key should ideally be stored at, as an
+     * {@link Integer} value
+     */
+    private static int slotOf(@NotNull final Sequence key, final int capacity) {
+        int hash = key.hashCodeAt(0);
+        return (hash ^ (hash >>> 16)) & (capacity - 1);
+    }
+
+    /**
+     * Returns the slot of the hash table, which references the successor at a specific index.
+     *
+     * @param index The index of the successor as an {@link Integer} value
+     * @return The slot, which references the successor at the given index, as an {@link Integer}
+     * value
+     */
+    private int slotOfIndex(final int index) {
+        int mask = table.length - 1;
+        int slot = slotOf(keyAt(index), table.length);
+
+        while (table[slot] != index + 1) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Creates a hash table with a specific capacity, which references all successors.
+     *
+     * @param capacity The capacity of the hash table as an {@link Integer} value. The capacity
+     *                 must be a power of two
+     */
+    private void rehash(final int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(keyAt(i), capacity);
+
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Removes a specific slot from the hash table by moving subsequent entries of the same cluster
+     * backwards, if necessary.
+     *
+     * @param slot The slot, which should be removed, as an {@link Integer} value
+     */
+    private void removeSlot(final int slot) {
+        int mask = table.length - 1;
+        int hole = slot;
+        int current = (slot + 1) & mask;
+        table[hole] = 0;
+
+        while (table[current] != 0) {
+            int idealSlot = slotOf(keyAt(table[current] - 1), table.length);
+
+            if (((current - idealSlot) & mask) >= ((current - hole) & mask)) {
+                table[hole] = table[current];
+                table[current] = 0;
+                hole = current;
+            }
+
+            current = (current + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the successor at a specific index. The last successor is moved to the index of the
+     * removed one.
+     *
+     * @param index The index of the successor, which should be removed, as an {@link Integer}
+     *              value
+     * @return The successor, which has been removed, as an instance of the type {@link Node}. The
+     * successor may not be null
+     */
+    @NotNull
+    private Node<KeyType, ValueType> removeInternal(final int index) {
+        Node<KeyType, ValueType> removed = successors[index];
+        int last = size - 1;
+
+        if (table != null) {
+            removeSlot(slotOfIndex(index));
+
+            if (index != last) {
+                table[slotOfIndex(last)] = index + 1;
+            }
+        }
+
+        keys[index] = keys[last];
+        successors[index] = successors[last];
+        keys[last] = null;
+        successors[last] = null;
+        size--;
+
+        if (size == 0) {
+            keys = null;
+            successors = null;
+            table = null;
+        } else if (size <= MAX_INLINE_SUCCESSORS) {
+            table = null;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Creates a new node of a trie, which looks up its successors by the first element of their
+     * keys.
+     */
+    public FirstElementHashNode() {
+        this.keys = null;
+        this.successors = null;
+        this.table = null;
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    protected final Node<KeyType, ValueType> onAddSuccessor(@NotNull final KeyType key,
+                                                            @Nullable final Node<KeyType, ValueType> successor) {
+        Condition.INSTANCE.ensureFalse(key.isEmpty(), "The key may not be empty");
+        Node<KeyType, ValueType> successorToAdd =
+                successor == null ? new FirstElementHashNode<>() : successor;
+        int index = indexOfFirstElement(key);
+
+        if (index != -1) {
+            Condition.INSTANCE.ensureTrue(keys[index].equals(key),
+                    "A successor, whose key starts with the same element, already exists");
+            Node<KeyType, ValueType> replacedSuccessor = successors[index];
+            decreaseSuccessorValueCount(replacedSuccessor.getSuccessorValueCount());
+            replacedSuccessor.setPredecessor(null);
+            successors[index] = successorToAdd;
+            return successorToAdd;
+        }
+
+        if (keys == null) {
+            keys = new Object[1];
+            successors = (Node<KeyType, ValueType>[]) new Node<?, ?>[1];
+        } else if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            successors = Arrays.copyOf(successors, size * 2);
+        }
+
+        keys[size] = key;
+        successors[size] = successorToAdd;
+        size++;
+
+        if (size > MAX_INLINE_SUCCESSORS) {
+            if (table == null || size > (table.length >>> 1) + (table.length >>> 2)) {
+                rehash(table == null ? INITIAL_TABLE_CAPACITY : table.length * 2);
+            } else {
+                int mask = table.length - 1;
+                int slot = slotOf(key, table.length);
+
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                table[slot] = size;
+            }
+        }
+
+        return successorToAdd;
+    }
+
+    @Nullable
+    @Override
+    protected final Node<KeyType, ValueType> onRemoveSuccessor(@NotNull final KeyType key) {
+        int index = indexOf(key);
+        return index != -1 ? removeInternal(index) : null;
+    }
+
+    @Override
+    public final int getSuccessorCount() {
+        return size;
+    }
+
+    @Nullable
+    @Override
+    public final Node<KeyType, ValueType> getSuccessor(@NotNull final KeyType key) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        int index = indexOf(key);
+        return index != -1 ? successors[index] : null;
+    }
+
+    @NotNull
+    @Override
+    public final KeyType getSuccessorKey(final int index) {
+        checkIndex(index);
+        return keyAt(index);
+    }
+
+    @NotNull
+    @Override
+    public final Node<KeyType, ValueType> getSuccessor(final int index) {
+        checkIndex(index);
+        return successors[index];
+    }
+
+    @Override
+    public final int indexOf(@NotNull final KeyType key) {
+        int index = indexOfFirstElement(key);
+        return index != -1 && keys[index].equals(key) ? index : -1;
+    }
+
+    @Override
+    public final int indexOfFirstElement(@NotNull final KeyType key) {
+        if (size == 0 || key.isEmpty()) {
+            return -1;
+        } else if (table != null) {
+            int mask = table.length - 1;
+            int slot = slotOf(key, table.length);
+
+            while (table[slot] != 0) {
+                int index = table[slot] - 1;
+
+                if (startWithSameElement(keyAt(index), key)) {
+                    return index;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (startWithSameElement(keyAt(i), key)) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public final void removeSuccessor(final int index) {
+        checkIndex(index);
+        Node<KeyType, ValueType> successor = removeInternal(index);
+        decreaseSuccessorValueCount(successor.getSuccessorValueCount());
+        successor.setPredecessor(null);
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<KeyType> iterator() {
+        return new Iterator<KeyType>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public KeyType next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return keyAt(index++);
+            }
+
+        };
+    }
+
+    @Override
+    public final FirstElementHashNode<KeyType, ValueType> clone() {
+        FirstElementHashNode<KeyType, ValueType> clone = new FirstElementHashNode<>();
+        clone.setNodeValue(getNodeValue() != null ? getNodeValue().clone() : null);
+        cloneSuccessors(this, clone);
+        return clone;
+    }
+
+    @Override
+    public final String toString() {
+        return "Node{" + "value=" + (getNodeValue() != null ? getNodeValue().getValue() : "null") +
+                ", successors=" +
+                (keys != null ? Arrays.toString(Arrays.copyOf(keys, size)) : "[]") + '}';
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        int successorsHashCode = 0;
+
+        for (int i = 0; i < size; i++) {
+            successorsHashCode += keys[i].hashCode() ^ successors[i].hashCode();
+        }
+
+        result = prime * result + successorsHashCode;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (!super.equals(obj))
+            return false;
+        FirstElementHashNode<KeyType, ValueType> other =
+                (FirstElementHashNode<KeyType, ValueType>) obj;
+        if (size != other.size)
+            return false;
+
+        for (int i = 0; i < size; i++) {
+            if (keys[i].getClass() != other.keys[0].getClass())
+                return false;
+            int index = other.indexOf(keyAt(i));
+            if (index == -1 || !successors[i].equals(other.successors[index]))
+                return false;
+        }
+
+        return true;
+    }
+
+}
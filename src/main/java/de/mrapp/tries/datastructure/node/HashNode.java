@@ -19,12 +19,22 @@ import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
- * A node of a trie, which stores its successors in a {@link HashMap}.
+ * A node of a trie, which stores its successors in a hash table. In order to reduce the memory
+ * consumption of large tries, the representation of the successors depends on their number:
+ * <p>
+ * - Leaves do not allocate any storage for successors at all.
+ * <p>
+ * - Up to {@link #MAX_INLINE_SUCCESSORS} successors are stored in two small parallel arrays, which
+ * are searched linearly. As most nodes of a trie only have a few successors, this avoids hashing
+ * in most cases.
+ * <p>
+ * - If the number of successors exceeds this threshold, the keys and successors are stored in a
+ * hash table, which uses open addressing with linear probing.
  *
  * @param <KeyType>   The type of the keys, which are associated with the node's successors
  * @param <ValueType> The type of the node's value
@@ -37,18 +47,225 @@ public class HashNode<KeyType extends Sequence, ValueType> extends
     /**
      * The constant serial version UID.
      */
-    private static final long serialVersionUID = 6241483145831567447L;
+    private static final long serialVersionUID = -5178392106514339624L;
 
     /**
-     * The hash map, the successors of the node are stored in.
+     * The maximum number of successors, which are stored in arrays that are searched linearly.
      */
-    private final Map<KeyType, Node<KeyType, ValueType>> successors;
+    private static final int MAX_INLINE_SUCCESSORS = 4;
 
     /**
-     * Creates a new node of a trie, which stores its successors in a {@link HashMap}.
+     * The initial capacity of the hash table, which is used, if the number of successors exceeds
+     * {@link #MAX_INLINE_SUCCESSORS}. It must be a power of two.
+     */
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+
+    /**
+     * The keys of the node's successors or null, if the node does not have any successors. If the
+     * length of the array is at maximum {@link #MAX_INLINE_SUCCESSORS}, the first {@link #size}
+     * elements are used. Otherwise, the array is a hash table, whose unused slots are null.
+     */
+    private Object[] keys;
+
+    /**
+     * The node's successors or null, if the node does not have any successors. The successors
+     * are stored at the same indices as their keys.
+     */
+    private Node<KeyType, ValueType>[] successors;
+
+    /**
+     * The number of the node's successors.
+     */
+    private int size;
+
+    /**
+     * Returns, whether the successors are stored in a hash table or not.
+     *
+     * @return True, if the successors are stored in a hash table, false otherwise
+     */
+    private boolean isTable() {
+        return keys != null && keys.length > MAX_INLINE_SUCCESSORS;
+    }
+
+    /**
+     * Returns the slot of a hash table with a specific capacity, a key should ideally be stored
+     * at.
+     *
+     * @param key      The key as an {@link Object}. The key may not be null
+     * @param capacity The capacity of the hash table as an {@link Integer} value. The capacity
+     *                 must be a power of two
+     * @return The slot, the given key should ideally be stored at, as an {@link Integer} value
+     */
+    private static int slotOf(@NotNull final Object key, final int capacity) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (capacity - 1);
+    }
+
+    /**
+     * Returns the index of the successor, which corresponds to a specific key.
+     *
+     * @param key The key as an {@link Object}. The key may not be null
+     * @return The index of the successor, which corresponds to the given key, as an {@link
+     * Integer} value or -1, if no such successor is available
+     */
+    private int indexOfKey(@NotNull final Object key) {
+        if (keys == null) {
+            return -1;
+        } else if (isTable()) {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, keys.length);
+
+            while (keys[slot] != null) {
+                if (keys[slot].equals(key)) {
+                    return slot;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Stores a key and the corresponding successor in a hash table, which is known to not contain
+     * the key.
+     *
+     * @param <K>             The type of the keys
+     * @param <V>             The type of the successors' values
+     * @param tableKeys       The keys of the hash table as an {@link Object} array. The array may
+     *                        not be null
+     * @param tableSuccessors The successors of the hash table as an array of the type {@link
+     *                        Node}. The array may not be null
+     * @param key             The key, which should be stored, as an {@link Object}. The key may
+     *                        not be null
+     * @param successor       The successor, which should be stored, as an instance of the type
+     *                        {@link Node}. The successor may not be null
+     */
+    private static <K extends Sequence, V> void putIntoTable(
+            @NotNull final Object[] tableKeys, @NotNull final Node<K, V>[] tableSuccessors,
+            @NotNull final Object key, @NotNull final Node<K, V> successor) {
+        int mask = tableKeys.length - 1;
+        int slot = slotOf(key, tableKeys.length);
+
+        while (tableKeys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+
+        tableKeys[slot] = key;
+        tableSuccessors[slot] = successor;
+    }
+
+    /**
+     * Copies all successors into a new hash table with a specific capacity.
+     *
+     * @param capacity The capacity of the new hash table as an {@link Integer} value. The capacity
+     *                 must be a power of two, which is greater than {@link #MAX_INLINE_SUCCESSORS}
+     */
+    @SuppressWarnings("unchecked")
+    private void rehash(final int capacity) {
+        Object[] newKeys = new Object[capacity];
+        Node<KeyType, ValueType>[] newSuccessors =
+                (Node<KeyType, ValueType>[]) new Node<?, ?>[capacity];
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                putIntoTable(newKeys, newSuccessors, keys[i], successors[i]);
+            }
+        }
+
+        keys = newKeys;
+        successors = newSuccessors;
+    }
+
+    /**
+     * Ensures, that a further successor can be stored by growing the arrays or converting them to
+     * a hash table, if necessary.
+     */
+    @SuppressWarnings("unchecked")
+    private void ensureCapacity() {
+        if (keys == null) {
+            keys = new Object[1];
+            successors = (Node<KeyType, ValueType>[]) new Node<?, ?>[1];
+        } else if (isTable()) {
+            if (size + 1 > (keys.length >>> 1) + (keys.length >>> 2)) {
+                rehash(keys.length * 2);
+            }
+        } else if (size == keys.length) {
+            if (size < MAX_INLINE_SUCCESSORS) {
+                int capacity = Math.min(size * 2, MAX_INLINE_SUCCESSORS);
+                keys = Arrays.copyOf(keys, capacity);
+                successors = Arrays.copyOf(successors, capacity);
+            } else {
+                rehash(INITIAL_TABLE_CAPACITY);
+            }
+        }
+    }
+
+    /**
+     * Removes the successor at a specific index.
+     *
+     * @param index The index of the successor, which should be removed, as an {@link Integer}
+     *              value
+     * @return The successor, which has been removed, as an instance of the type {@link Node}. The
+     * successor may not be null
+     */
+    @NotNull
+    private Node<KeyType, ValueType> removeInternal(final int index) {
+        Node<KeyType, ValueType> removed = successors[index];
+        size--;
+
+        if (size == 0) {
+            keys = null;
+            successors = null;
+        } else if (isTable()) {
+            int mask = keys.length - 1;
+            int hole = index;
+            int slot = (index + 1) & mask;
+            keys[hole] = null;
+            successors[hole] = null;
+
+            while (keys[slot] != null) {
+                int idealSlot = slotOf(keys[slot], keys.length);
+
+                if (((slot - idealSlot) & mask) >= ((slot - hole) & mask)) {
+                    keys[hole] = keys[slot];
+                    successors[hole] = successors[slot];
+                    keys[slot] = null;
+                    successors[slot] = null;
+                    hole = slot;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        } else {
+            int numMoved = size - index;
+
+            if (numMoved > 0) {
+                System.arraycopy(keys, index + 1, keys, index, numMoved);
+                System.arraycopy(successors, index + 1, successors, index, numMoved);
+            }
+
+            keys[size] = null;
+            successors[size] = null;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Creates a new node of a trie, which stores its successors in a hash table.
      */
     public HashNode() {
-        this.successors = new HashMap<>();
+        this.keys = null;
+        this.successors = null;
+        this.size = 0;
     }
 
     @NotNull
@@ -57,31 +274,103 @@ public class HashNode<KeyType extends Sequence, ValueType> extends
                                                             @Nullable final Node<KeyType, ValueType> successor) {
         Node<KeyType, ValueType> successorToAdd =
                 successor == null ? new HashNode<>() : successor;
-        successors.put(key, successorToAdd);
+        int index = indexOfKey(key);
+
+        if (index != -1) {
+            keys[index] = key;
+            successors[index] = successorToAdd;
+        } else {
+            ensureCapacity();
+
+            if (isTable()) {
+                putIntoTable(keys, successors, key, successorToAdd);
+            } else {
+                keys[size] = key;
+                successors[size] = successorToAdd;
+            }
+
+            size++;
+        }
+
         return successorToAdd;
     }
 
     @Override
     protected final Node<KeyType, ValueType> onRemoveSuccessor(@NotNull final KeyType key) {
-        return successors.remove(key);
+        int index = indexOfKey(key);
+        return index != -1 ? removeInternal(index) : null;
     }
 
     @Nullable
     @Override
     public final Node<KeyType, ValueType> getSuccessor(@NotNull final KeyType key) {
         Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
-        return successors.get(key);
+        int index = indexOfKey(key);
+        return index != -1 ? successors[index] : null;
     }
 
     @Override
     public final int getSuccessorCount() {
-        return successors.size();
+        return size;
     }
 
     @NotNull
     @Override
     public final Iterator<KeyType> iterator() {
-        return successors.keySet().iterator();
+        return new Iterator<KeyType>() {
+
+            private final Object[] iteratedKeys = keys;
+
+            private int index = advance(0);
+
+            private int advance(final int start) {
+                int i = start;
+
+                while (iteratedKeys != null && i < iteratedKeys.length &&
+                        iteratedKeys[i] == null) {
+                    i++;
+                }
+
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iteratedKeys != null && index < iteratedKeys.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public KeyType next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                KeyType key = (KeyType) iteratedKeys[index];
+                index = advance(index + 1);
+                return key;
+            }
+
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected final void ensureSuccessorCapacity(final int capacity) {
+        if (keys == null && capacity > 0) {
+            int length = capacity;
+
+            if (capacity > MAX_INLINE_SUCCESSORS) {
+                length = INITIAL_TABLE_CAPACITY;
+
+                while (capacity > (length >>> 1) + (length >>> 2)) {
+                    length *= 2;
+                }
+            }
+
+            keys = new Object[length];
+            successors = (Node<KeyType, ValueType>[]) new Node<?, ?>[length];
+        }
     }
 
     @Override
@@ -94,9 +383,20 @@ public class HashNode<KeyType extends Sequence, ValueType> extends
 
     @Override
     public final String toString() {
+        StringBuilder stringBuilder = new StringBuilder("[");
+        Iterator<KeyType> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                stringBuilder.append(", ");
+            }
+        }
+
         return "Node{" +
                 "value=" + (getNodeValue() != null ? getNodeValue().getValue() : "null") +
-                ", successors=" + successors.keySet() +
+                ", successors=" + stringBuilder.append(']') +
                 '}';
     }
 
@@ -104,7 +404,17 @@ public class HashNode<KeyType extends Sequence, ValueType> extends
     public final int hashCode() {
         final int prime = 31;
         int result = super.hashCode();
-        result = prime * result + successors.hashCode();
+        int successorsHashCode = 0;
+
+        if (keys != null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    successorsHashCode += keys[i].hashCode() ^ successors[i].hashCode();
+                }
+            }
+        }
+
+        result = prime * result + successorsHashCode;
         return result;
     }
 
@@ -117,7 +427,21 @@ public class HashNode<KeyType extends Sequence, ValueType> extends
         if (!super.equals(obj))
             return false;
         HashNode<?, ?> other = (HashNode<?, ?>) obj;
-        return successors.equals(other.successors);
+        if (size != other.size)
+            return false;
+
+        if (keys != null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    int index = other.indexOfKey(keys[i]);
+
+                    if (index == -1 || !successors[i].equals(other.successors[index]))
+                        return false;
+                }
+            }
+        }
+
+        return true;
     }
 
-}
\ No newline at end of file
+}
@@ -16,18 +16,20 @@ package de.mrapp.tries.datastructure.node;
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
 import de.mrapp.tries.util.SequenceUtil;
-import de.mrapp.util.Condition;
-import de.mrapp.util.datastructure.SortedArrayList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 
 /**
- * A node of a trie, which stores its successors in a {@link SortedArrayList}.
+ * A node of a trie, which stores its successors in a sorted list. The keys and successors are
+ * stored in two parallel arrays, which are sorted by the keys. Successors are inserted by searching
+ * for the insertion point using binary search and by shifting the subsequent elements. The
+ * comparator, which is used to compare keys, is shared with the trie, the node belongs to.
  *
  * @param <KeyType>   The type of the keys, which are associated with the node's successors
  * @param <ValueType> The type of the node's value
@@ -38,102 +40,126 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
         extends AbstractNode<KeyType, ValueType> implements RandomAccess {
 
     /**
-     * A directed edge, which references a successor of a node.
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -4273609785217712931L;
+
+    /**
+     * The initial capacity of the arrays, which store the keys and successors.
+     */
+    private static final int INITIAL_CAPACITY = 2;
+
+    /**
+     * The keys of the node's successors in sorted order.
+     */
+    private Object[] keys;
+
+    /**
+     * The node's successors, sorted by their keys.
+     */
+    private Node<KeyType, ValueType>[] successors;
+
+    /**
+     * The number of the node's successors.
+     */
+    private int size;
+
+    /**
+     * The comparator, which is used to compare the successors of the node to each other, or null,
+     * if the natural order of the successors' keys is used.
+     */
+    private final Comparator<? super KeyType> comparator;
+
+    /**
+     * Returns the key at a specific index.
      *
-     * @param <K> The type of the key, the successor corresponds to
-     * @param <V> The type of the successor's value
+     * @param index The index of the key, which should be returned, as an {@link Integer} value
+     * @return The key at the given index as an instance of the generic type {@link KeyType}. The
+     * key may not be null
      */
-    private static class Edge<K extends Sequence, V>
-            implements Serializable, Comparable<Edge<K, V>> {
-
-        /**
-         * The constant serial version UID.
-         */
-        private static final long serialVersionUID = 7839269878163723764L;
-
-        /**
-         * The key, the successor corresponds to.
-         */
-        private final K key;
-
-        /**
-         * The successor.
-         */
-        private final Node<K, V> successor;
-
-        /**
-         * The comparator, which is used to compare the keys of edges with each other.
-         */
-        private final Comparator<? super K> comparator;
-
-        /**
-         * Creates a new directed edge, which references the successor of a node.
-         *
-         * @param key        The key, the successor corresponds to, as a value of the generic type
-         *                   {@link }. The key may not be null
-         * @param successor  The successor as an instance of the type {@link Node}. The successor
-         *                   may not be null
-         * @param comparator The comparator, which should be used to compare the keys of edges with
-         *                   each other, as an instance of the type {@link Comparator} or null, if
-         *                   the natural order of the keys should be used
-         */
-        Edge(@NotNull final K key, @NotNull final Node<K, V> successor,
-             @Nullable final Comparator<? super K> comparator) {
-            Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
-            Condition.INSTANCE.ensureNotNull(successor, "The successor may not be null");
-            this.key = key;
-            this.successor = successor;
-            this.comparator = SequenceUtil.comparator(comparator);
-        }
+    @SuppressWarnings("unchecked")
+    private KeyType keyAt(final int index) {
+        return (KeyType) keys[index];
+    }
 
-        @Override
-        public int compareTo(@NotNull final Edge<K, V> other) {
-            return comparator.compare(key, other.key);
+    /**
+     * Throws an {@link IndexOutOfBoundsException}, if a specific index is invalid.
+     *
+     * @param index The index, which should be checked, as an {@link Integer} value
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
         }
+    }
 
-        @Override
-        public String toString() {
-            return key.toString();
-        }
+    /**
+     * Returns the index, at which a successor with a specific key must be inserted in order to
+     * retain the order of the keys. If successors with equal keys exist, the returned index is the
+     * one after the last of them.
+     *
+     * @param key The key as an instance of the generic type {@link KeyType}. The key may not be
+     *            null
+     * @return The index, at which a successor with the given key must be inserted, as an {@link
+     * Integer} value
+     */
+    private int insertionPoint(@NotNull final KeyType key) {
+        int min = 0;
+        int max = size;
 
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + key.hashCode();
-            result = prime * result + successor.hashCode();
-            return result;
-        }
+        while (min < max) {
+            int pivot = (min + max) >>> 1;
 
-        @Override
-        public boolean equals(final Object obj) {
-            if (obj == null)
-                return false;
-            if (this == obj)
-                return true;
-            if (obj.getClass() != getClass())
-                return false;
-            Edge<?, ?> other = (Edge<?, ?>) obj;
-            return key.equals(other.key) && successor.equals(other.successor);
+            if (compare(keyAt(pivot), key) <= 0) {
+                min = pivot + 1;
+            } else {
+                max = pivot;
+            }
         }
 
+        return min;
     }
 
     /**
-     * The constant serial version UID.
+     * Removes the successor at a specific index from the arrays.
+     *
+     * @param index The index of the successor, which should be removed, as an {@link Integer}
+     *              value
+     * @return The successor, which has been removed, as an instance of the type {@link Node}. The
+     * successor may not be null
      */
-    private static final long serialVersionUID = 3618406941487648205L;
+    @NotNull
+    private Node<KeyType, ValueType> removeInternal(final int index) {
+        Node<KeyType, ValueType> successor = successors[index];
+        int numMoved = size - index - 1;
 
-    /**
-     * The list, which stores edge to the node's successors.
-     */
-    private final SortedArrayList<Edge<KeyType, ValueType>> successors;
+        if (numMoved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, numMoved);
+            System.arraycopy(successors, index + 1, successors, index, numMoved);
+        }
+
+        size--;
+        keys[size] = null;
+        successors[size] = null;
+        return successor;
+    }
 
     /**
-     * The comparator, which is used to compare the successors of the node to each other, or null,
-     * if the natural order of the successors' keys is used.
+     * Compares two keys with each other by using the node's comparator or, if no comparator is
+     * available, the natural ordering of the keys.
+     *
+     * @param key1 The first key as an instance of the generic type {@link KeyType}. The key may not
+     *             be null
+     * @param key2 The second key as an instance of the generic type {@link KeyType}. The key may
+     *             not be null
+     * @return A negative integer, zero, or a positive integer as the first key is less than, equal
+     * to, or greater than the second key
      */
-    private final Comparator<? super KeyType> comparator;
+    @SuppressWarnings("unchecked")
+    private int compare(@NotNull final KeyType key1, @NotNull final KeyType key2) {
+        return comparator != null ? comparator.compare(key1, key2) :
+                ((Comparable<? super KeyType>) key1).compareTo(key2);
+    }
 
     /**
      * Creates a new node of a trie, which stores its successors in a sorted list.
@@ -142,8 +168,11 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
      *                   other, as an instance of the type {@link Comparator} or null, if the
      *                   natural order of the successors' keys should be used
      */
+    @SuppressWarnings("unchecked")
     public SortedListNode(@Nullable final Comparator<? super KeyType> comparator) {
-        this.successors = new SortedArrayList<>();
+        this.keys = new Object[INITIAL_CAPACITY];
+        this.successors = (Node<KeyType, ValueType>[]) new Node<?, ?>[INITIAL_CAPACITY];
+        this.size = 0;
         this.comparator = comparator;
     }
 
@@ -153,77 +182,117 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
                                                             @Nullable final Node<KeyType, ValueType> successor) {
         Node<KeyType, ValueType> successorToAdd =
                 successor == null ? new SortedListNode<>(comparator) : successor;
-        successors.add(new Edge<>(key, successorToAdd, comparator));
+        int index = insertionPoint(key);
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            successors = Arrays.copyOf(successors, size * 2);
+        }
+
+        int numMoved = size - index;
+
+        if (numMoved > 0) {
+            System.arraycopy(keys, index, keys, index + 1, numMoved);
+            System.arraycopy(successors, index, successors, index + 1, numMoved);
+        }
+
+        keys[index] = key;
+        successors[index] = successorToAdd;
+        size++;
         return successorToAdd;
     }
 
     @Nullable
     @Override
-    protected final Node<KeyType, ValueType> onRemoveSuccessor(@NotNull final KeyType key) {
-        int index = indexOf(key);
-
-        if (index != -1) {
-            Edge<KeyType, ValueType> removed = successors.remove(index);
-            return removed.successor;
+    protected final void ensureSuccessorCapacity(final int capacity) {
+        if (capacity > keys.length) {
+            keys = Arrays.copyOf(keys, capacity);
+            successors = Arrays.copyOf(successors, capacity);
         }
+    }
 
-        return null;
+    @Override
+    protected final Node<KeyType, ValueType> onRemoveSuccessor(@NotNull final KeyType key) {
+        int index = indexOf(key);
+        return index != -1 ? removeInternal(index) : null;
     }
 
     @Override
     public final int getSuccessorCount() {
-        return successors.size();
+        return size;
     }
 
     @Nullable
     @Override
     public final Node<KeyType, ValueType> getSuccessor(@NotNull final KeyType key) {
         int index = indexOf(key);
-
-        if (index != -1) {
-            Edge<KeyType, ValueType> edge = successors.get(index);
-            return edge.successor;
-        }
-
-        return null;
+        return index != -1 ? successors[index] : null;
     }
 
     @NotNull
     @Override
     public final KeyType getSuccessorKey(final int index) {
-        Edge<KeyType, ValueType> edge = successors.get(index);
-        return edge.key;
+        checkIndex(index);
+        return keyAt(index);
     }
 
     @NotNull
     @Override
     public final Node<KeyType, ValueType> getSuccessor(final int index) {
-        Edge<KeyType, ValueType> edge = successors.get(index);
-        return edge.successor;
+        checkIndex(index);
+        return successors[index];
     }
 
     @Override
     public final int indexOf(@NotNull final KeyType key) {
-        return SequenceUtil
-                .binarySearch(getSuccessorCount(), index -> successors.get(index).key, comparator,
-                        key);
+        int min = 0;
+        int max = size - 1;
+
+        while (min <= max) {
+            int pivot = (min + max) >>> 1;
+            int order = compare(keyAt(pivot), key);
+
+            if (order < 0) {
+                min = pivot + 1;
+            } else if (order > 0) {
+                max = pivot - 1;
+            } else {
+                return pivot;
+            }
+        }
+
+        return -1;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public final int indexOfFirstElement(@NotNull final KeyType key) {
-        Condition.INSTANCE.ensureTrue(RandomAccess.class.isAssignableFrom(getClass()), null,
-                UnsupportedOperationException.class);
         KeyType firstElement = SequenceUtil.subsequence(key, 0, 1);
-        return SequenceUtil.binarySearch(getSuccessorCount(), this::getSuccessorKey,
-                (o1, o2) -> ((Comparable<? super KeyType>) SequenceUtil.subsequence(o1, 0, 1))
-                        .compareTo(SequenceUtil.subsequence(o2, 0, 1)), firstElement);
+        int min = 0;
+        int max = size - 1;
+
+        while (min <= max) {
+            int pivot = (min + max) >>> 1;
+            Comparable<? super KeyType> successorFirstElement = (Comparable<? super KeyType>)
+                    SequenceUtil.subsequence(keyAt(pivot), 0, 1);
+            int order = successorFirstElement.compareTo(firstElement);
+
+            if (order < 0) {
+                min = pivot + 1;
+            } else if (order > 0) {
+                max = pivot - 1;
+            } else {
+                return pivot;
+            }
+        }
+
+        return -1;
     }
 
     @Override
     public final void removeSuccessor(final int index) {
-        Edge<KeyType, ValueType> edge = successors.remove(index);
-        Node<KeyType, ValueType> successor = edge.successor;
+        checkIndex(index);
+        Node<KeyType, ValueType> successor = removeInternal(index);
         decreaseSuccessorValueCount(successor.getSuccessorValueCount());
         successor.setPredecessor(null);
     }
@@ -233,17 +302,20 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
     public final Iterator<KeyType> iterator() {
         return new Iterator<KeyType>() {
 
-            private final Iterator<Edge<KeyType, ValueType>> iterator = successors.iterator();
+            private int index = 0;
 
             @Override
             public boolean hasNext() {
-                return iterator.hasNext();
+                return index < size;
             }
 
             @Override
             public KeyType next() {
-                Edge<KeyType, ValueType> edge = iterator.next();
-                return edge != null ? edge.key : null;
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return keyAt(index++);
             }
 
         };
@@ -260,14 +332,19 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
     @Override
     public final String toString() {
         return "Node{" + "value=" + (getNodeValue() != null ? getNodeValue().getValue() : "null") +
-                ", successors=" + successors + '}';
+                ", successors=" + Arrays.toString(Arrays.copyOf(keys, size)) + '}';
     }
 
     @Override
     public final int hashCode() {
         final int prime = 31;
         int result = super.hashCode();
-        result = prime * result + successors.hashCode();
+
+        for (int i = 0; i < size; i++) {
+            result = prime * result + keys[i].hashCode();
+            result = prime * result + successors[i].hashCode();
+        }
+
         return result;
     }
 
@@ -280,7 +357,15 @@ public class SortedListNode<KeyType extends Sequence, ValueType>
         if (!super.equals(obj))
             return false;
         SortedListNode<?, ?> other = (SortedListNode<?, ?>) obj;
-        return successors.equals(other.successors);
+        if (size != other.size)
+            return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!keys[i].equals(other.keys[i]) || !successors[i].equals(other.successors[i]))
+                return false;
+        }
+
+        return true;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.util.SequenceUtil;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A node of a ternary search tree. Each node holds the key of the edge, which leads to it, as well
+ * as references to a lower and a higher sibling and to the root of a binary search tree, which
+ * consists of the node's successors. A trie, which consists of such nodes, therefore does not
+ * require any arrays or maps to store the successors of nodes, which makes it suited for large
+ * alphabets, e.g. Unicode characters or integer values.
+ * <p>
+ * The binary search trees are kept balanced by storing the number of nodes in each subtree. If a
+ * subtree becomes unbalanced when inserting a successor, it is rebuilt to be perfectly balanced.
+ * This ensures that successors are looked up with logarithmic complexity, even if they are
+ * inserted in sorted order. The subtree sizes also allow to access successors by their index with
+ * logarithmic complexity.
+ *
+ * @param <KeyType>   The type of the keys, which are associated with the node's successors
+ * @param <ValueType> The type of the node's value
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class TernarySearchNode<KeyType extends Sequence, ValueType>
+        extends AbstractNode<KeyType, ValueType> implements RandomAccess {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 3148290675720851461L;
+
+    /**
+     * The key of the edge, which leads to the node, or null, if the node is not the successor of
+     * another node.
+     */
+    private KeyType key;
+
+    /**
+     * The root of the subtree, which contains the siblings with smaller keys.
+     */
+    private TernarySearchNode<KeyType, ValueType> low;
+
+    /**
+     * The root of the subtree, which contains the siblings with greater keys.
+     */
+    private TernarySearchNode<KeyType, ValueType> high;
+
+    /**
+     * The root of the binary search tree, which contains the node's successors.
+     */
+    private TernarySearchNode<KeyType, ValueType> equal;
+
+    /**
+     * The number of nodes in the subtree of siblings, the node is the root of, including the node
+     * itself.
+     */
+    private int weight;
+
+    /**
+     * The number of the node's successors.
+     */
+    private int size;
+
+    /**
+     * The comparator, which is used to compare the successors of the node to each other, or null,
+     * if the natural order of the successors' keys is used.
+     */
+    private final Comparator<? super KeyType> comparator;
+
+    /**
+     * Returns the number of nodes in a specific subtree.
+     *
+     * @param node The root of the subtree as an instance of the class {@link TernarySearchNode}
+     *             or null, if the subtree is empty
+     * @return The number of nodes in the given subtree as an {@link Integer} value
+     */
+    private static int weight(@Nullable final TernarySearchNode<?, ?> node) {
+        return node != null ? node.weight : 0;
+    }
+
+    /**
+     * Stores the nodes of a specific subtree in an array according to the order of their keys.
+     *
+     * @param root   The root of the subtree as an instance of the class {@link
+     *               TernarySearchNode}. The root may not be null
+     * @param result The array, the nodes should be stored in, as an array of the type {@link
+     *               TernarySearchNode}. The array must provide space for all nodes of the subtree
+     * @param <K>    The type of the keys, which are associated with the nodes
+     * @param <V>    The type of the nodes' values
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Sequence, V> void flatten(
+            @NotNull final TernarySearchNode<K, V> root,
+            @NotNull final TernarySearchNode<K, V>[] result) {
+        TernarySearchNode<K, V>[] stack =
+                (TernarySearchNode<K, V>[]) new TernarySearchNode<?, ?>[result.length];
+        int depth = 0;
+        int count = 0;
+        TernarySearchNode<K, V> node = root;
+
+        while (node != null || depth > 0) {
+            while (node != null) {
+                stack[depth++] = node;
+                node = node.low;
+            }
+
+            node = stack[--depth];
+            result[count++] = node;
+            node = node.high;
+        }
+    }
+
+    /**
+     * Creates a perfectly balanced subtree from a sorted range of nodes.
+     *
+     * @param nodes The array, which contains the nodes, as an array of the type {@link
+     *              TernarySearchNode}. The array may not be null
+     * @param from  The index of the first node of the range (inclusive) as an {@link Integer}
+     *              value
+     * @param to    The index of the last node of the range (exclusive) as an {@link Integer}
+     *              value
+     * @param <K>   The type of the keys, which are associated with the nodes
+     * @param <V>   The type of the nodes' values
+     * @return The root of the subtree as an instance of the class {@link TernarySearchNode} or
+     * null, if the range is empty
+     */
+    @Nullable
+    private static <K extends Sequence, V> TernarySearchNode<K, V> build(
+            @NotNull final TernarySearchNode<K, V>[] nodes, final int from, final int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        int mid = (from + to) >>> 1;
+        TernarySearchNode<K, V> node = nodes[mid];
+        node.low = build(nodes, from, mid);
+        node.high = build(nodes, mid + 1, to);
+        node.weight = to - from;
+        return node;
+    }
+
+    /**
+     * Rebuilds a specific subtree to be perfectly balanced.
+     *
+     * @param root The root of the subtree as an instance of the class {@link TernarySearchNode}.
+     *             The root may not be null
+     * @return The new root of the subtree as an instance of the class {@link TernarySearchNode}.
+     * The root may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private TernarySearchNode<KeyType, ValueType> rebuild(
+            @NotNull final TernarySearchNode<KeyType, ValueType> root) {
+        TernarySearchNode<KeyType, ValueType>[] nodes =
+                (TernarySearchNode<KeyType, ValueType>[]) new TernarySearchNode<?, ?>[root.weight];
+        flatten(root, nodes);
+        return build(nodes, 0, nodes.length);
+    }
+
+    /**
+     * Replaces the child of a specific node in the binary search tree of successors.
+     *
+     * @param parent  The node, whose child should be replaced, as an instance of the class {@link
+     *                TernarySearchNode} or null, if the root of the tree should be replaced
+     * @param lowSide True, if the lower child should be replaced, false, if the higher child
+     *                should be replaced
+     * @param child   The new child as an instance of the class {@link TernarySearchNode} or null
+     */
+    private void replaceChild(@Nullable final TernarySearchNode<KeyType, ValueType> parent,
+                              final boolean lowSide,
+                              @Nullable final TernarySearchNode<KeyType, ValueType> child) {
+        if (parent == null) {
+            equal = child;
+        } else if (lowSide) {
+            parent.low = child;
+        } else {
+            parent.high = child;
+        }
+    }
+
+    /**
+     * Returns the successor, which corresponds to a specific key.
+     *
+     * @param key The key as an instance of the generic type {@link KeyType}. The key may not be
+     *            null
+     * @return The successor as an instance of the class {@link TernarySearchNode} or null, if no
+     * such successor is available
+     */
+    @Nullable
+    private TernarySearchNode<KeyType, ValueType> find(@NotNull final KeyType key) {
+        TernarySearchNode<KeyType, ValueType> node = equal;
+
+        while (node != null) {
+            int order = compare(key, node.key);
+
+            if (order < 0) {
+                node = node.low;
+            } else if (order > 0) {
+                node = node.high;
+            } else {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the successor at a specific index.
+     *
+     * @param index The index of the successor as an {@link Integer} value
+     * @return The successor at the given index as an instance of the class {@link
+     * TernarySearchNode}. The successor may not be null
+     */
+    @NotNull
+    private TernarySearchNode<KeyType, ValueType> select(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+
+        TernarySearchNode<KeyType, ValueType> node = equal;
+        int remaining = index;
+
+        while (true) {
+            int lowWeight = weight(node.low);
+
+            if (remaining < lowWeight) {
+                node = node.low;
+            } else if (remaining > lowWeight) {
+                remaining -= lowWeight + 1;
+                node = node.high;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Inserts a successor into the binary search tree of successors. If a subtree becomes
+     * unbalanced, it is rebuilt.
+     *
+     * @param key       The key of the successor as an instance of the generic type {@link
+     *                  KeyType}. The key may not be null
+     * @param successor The successor, which should be inserted, as an instance of the class {@link
+     *                  TernarySearchNode}. The successor may not be null
+     */
+    private void insert(@NotNull final KeyType key,
+                        @NotNull final TernarySearchNode<KeyType, ValueType> successor) {
+        TernarySearchNode<KeyType, ValueType> parent = null;
+        boolean lowSide = false;
+        TernarySearchNode<KeyType, ValueType> scapegoat = null;
+        TernarySearchNode<KeyType, ValueType> scapegoatParent = null;
+        boolean scapegoatLowSide = false;
+        TernarySearchNode<KeyType, ValueType> node = equal;
+
+        while (node != null) {
+            node.weight++;
+            boolean goLow = compare(key, node.key) < 0;
+            TernarySearchNode<KeyType, ValueType> child = goLow ? node.low : node.high;
+
+            if (scapegoat == null && 4 * (weight(child) + 1) > 3 * node.weight) {
+                scapegoat = node;
+                scapegoatParent = parent;
+                scapegoatLowSide = lowSide;
+            }
+
+            parent = node;
+            lowSide = goLow;
+            node = child;
+        }
+
+        successor.key = key;
+        successor.low = null;
+        successor.high = null;
+        successor.weight = 1;
+        replaceChild(parent, lowSide, successor);
+        size++;
+
+        if (scapegoat != null) {
+            replaceChild(scapegoatParent, scapegoatLowSide, rebuild(scapegoat));
+        }
+    }
+
+    /**
+     * Removes the successor, which corresponds to a specific key, from the binary search tree of
+     * successors.
+     *
+     * @param key The key of the successor as an instance of the generic type {@link KeyType}. The
+     *            key may not be null
+     * @return The successor, which has been removed, as an instance of the class {@link
+     * TernarySearchNode} or null, if no such successor is available
+     */
+    @Nullable
+    private TernarySearchNode<KeyType, ValueType> delete(@NotNull final KeyType key) {
+        TernarySearchNode<KeyType, ValueType> target = find(key);
+
+        if (target == null) {
+            return null;
+        }
+
+        TernarySearchNode<KeyType, ValueType> parent = null;
+        boolean lowSide = false;
+        TernarySearchNode<KeyType, ValueType> node = equal;
+
+        while (node != target) {
+            node.weight--;
+            parent = node;
+            lowSide = compare(key, node.key) < 0;
+            node = lowSide ? node.low : node.high;
+        }
+
+        TernarySearchNode<KeyType, ValueType> replacement;
+
+        if (target.low == null) {
+            replacement = target.high;
+        } else if (target.high == null) {
+            replacement = target.low;
+        } else {
+            TernarySearchNode<KeyType, ValueType> replacementParent = target;
+            replacement = target.high;
+
+            while (replacement.low != null) {
+                replacement.weight--;
+                replacementParent = replacement;
+                replacement = replacement.low;
+            }
+
+            if (replacementParent != target) {
+                replacementParent.low = replacement.high;
+                replacement.high = target.high;
+            }
+
+            replacement.low = target.low;
+            replacement.weight = target.weight - 1;
+        }
+
+        replaceChild(parent, lowSide, replacement);
+        target.low = null;
+        target.high = null;
+        target.weight = 0;
+        size--;
+        return target;
+    }
+
+    /**
+     * Returns the successors of the node according to the order of their keys.
+     *
+     * @return An array, which contains the successors, as an array of the type {@link
+     * TernarySearchNode}. The array may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private TernarySearchNode<KeyType, ValueType>[] successors() {
+        TernarySearchNode<KeyType, ValueType>[] successors =
+                (TernarySearchNode<KeyType, ValueType>[]) new TernarySearchNode<?, ?>[size];
+
+        if (equal != null) {
+            flatten(equal, successors);
+        }
+
+        return successors;
+    }
+
+    /**
+     * Compares two keys with each other by using the node's comparator or, if no comparator is
+     * available, the natural ordering of the keys.
+     *
+     * @param key1 The first key as an instance of the generic type {@link KeyType}. The key may not
+     *             be null
+     * @param key2 The second key as an instance of the generic type {@link KeyType}. The key may
+     *             not be null
+     * @return A negative integer, zero, or a positive integer as the first key is less than, equal
+     * to, or greater than the second key
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(@NotNull final KeyType key1, @NotNull final KeyType key2) {
+        return comparator != null ? comparator.compare(key1, key2) :
+                ((Comparable<? super KeyType>) key1).compareTo(key2);
+    }
+
+    /**
+     * Creates a new node of a ternary search tree.
+     *
+     * @param comparator The comparator, which should be used to compare the successors to each
+     *                   other, as an instance of the type {@link Comparator} or null, if the
+     *                   natural order of the successors' keys should be used
+     */
+    public TernarySearchNode(@Nullable final Comparator<? super KeyType> comparator) {
+        this.key = null;
+        this.low = null;
+        this.high = null;
+        this.equal = null;
+        this.weight = 0;
+        this.size = 0;
+        this.comparator = comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    protected final Node<KeyType, ValueType> onAddSuccessor(@NotNull final KeyType key,
+                                                            @Nullable final Node<KeyType, ValueType> successor) {
+        Condition.INSTANCE.ensureTrue(successor == null || successor instanceof TernarySearchNode,
+                "The successor must be an instance of the class " +
+                        TernarySearchNode.class.getSimpleName());
+        TernarySearchNode<KeyType, ValueType> successorToAdd = successor == null ?
+                new TernarySearchNode<>(comparator) :
+                (TernarySearchNode<KeyType, ValueType>) successor;
+        insert(key, successorToAdd);
+        return successorToAdd;
+    }
+
+    @Nullable
+    @Override
+    protected final Node<KeyType, ValueType> onRemoveSuccessor(@NotNull final KeyType key) {
+        return delete(key);
+    }
+
+    @Override
+    public final int getSuccessorCount() {
+        return size;
+    }
+
+    @Nullable
+    @Override
+    public final Node<KeyType, ValueType> getSuccessor(@NotNull final KeyType key) {
+        return find(key);
+    }
+
+    @NotNull
+    @Override
+    public final KeyType getSuccessorKey(final int index) {
+        return select(index).key;
+    }
+
+    @NotNull
+    @Override
+    public final Node<KeyType, ValueType> getSuccessor(final int index) {
+        return select(index);
+    }
+
+    @Override
+    public final int indexOf(@NotNull final KeyType key) {
+        TernarySearchNode<KeyType, ValueType> node = equal;
+        int index = 0;
+
+        while (node != null) {
+            int order = compare(key, node.key);
+
+            if (order < 0) {
+                node = node.low;
+            } else if (order > 0) {
+                index += weight(node.low) + 1;
+                node = node.high;
+            } else {
+                return index + weight(node.low);
+            }
+        }
+
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final int indexOfFirstElement(@NotNull final KeyType key) {
+        KeyType firstElement = SequenceUtil.subsequence(key, 0, 1);
+        TernarySearchNode<KeyType, ValueType> node = equal;
+        int index = 0;
+
+        while (node != null) {
+            Comparable<? super KeyType> successorFirstElement =
+                    (Comparable<? super KeyType>) SequenceUtil.subsequence(node.key, 0, 1);
+            int order = successorFirstElement.compareTo(firstElement);
+
+            if (order > 0) {
+                node = node.low;
+            } else if (order < 0) {
+                index += weight(node.low) + 1;
+                node = node.high;
+            } else {
+                return index + weight(node.low);
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public final void removeSuccessor(final int index) {
+        TernarySearchNode<KeyType, ValueType> successor = select(index);
+        delete(successor.key);
+        decreaseSuccessorValueCount(successor.getSuccessorValueCount());
+        successor.setPredecessor(null);
+    }
+
+    @NotNull
+    @Override
+    public final Iterator<KeyType> iterator() {
+        return new Iterator<KeyType>() {
+
+            private final TernarySearchNode<KeyType, ValueType>[] successors = successors();
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < successors.length;
+            }
+
+            @Override
+            public KeyType next() {
+                if (index >= successors.length) {
+                    throw new NoSuchElementException();
+                }
+
+                return successors[index++].key;
+            }
+
+        };
+    }
+
+    @Override
+    public final TernarySearchNode<KeyType, ValueType> clone() {
+        TernarySearchNode<KeyType, ValueType> clone = new TernarySearchNode<>(comparator);
+        clone.setNodeValue(getNodeValue() != null ? getNodeValue().clone() : null);
+        cloneSuccessors(this, clone);
+        return clone;
+    }
+
+    @Override
+    public final String toString() {
+        TernarySearchNode<KeyType, ValueType>[] successors = successors();
+        Object[] keys = new Object[successors.length];
+
+        for (int i = 0; i < successors.length; i++) {
+            keys[i] = successors[i].key;
+        }
+
+        return "Node{" + "value=" + (getNodeValue() != null ? getNodeValue().getValue() : "null") +
+                ", successors=" + Arrays.toString(keys) + '}';
+    }
+
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+
+        for (TernarySearchNode<KeyType, ValueType> successor : successors()) {
+            result = prime * result + successor.key.hashCode();
+            result = prime * result + successor.hashCode();
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (!super.equals(obj))
+            return false;
+        TernarySearchNode<?, ?> other = (TernarySearchNode<?, ?>) obj;
+        if (size != other.size)
+            return false;
+        TernarySearchNode<?, ?>[] successors = successors();
+        TernarySearchNode<?, ?>[] otherSuccessors = other.successors();
+
+        for (int i = 0; i < size; i++) {
+            if (!successors[i].key.equals(otherSuccessors[i].key) ||
+                    !successors[i].equals(otherSuccessors[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+}
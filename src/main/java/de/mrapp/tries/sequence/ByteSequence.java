@@ -0,0 +1,356 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import de.mrapp.tries.ByteTrie;
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SortedByteTrie;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ObjectStreamException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A sequence of bytes, which is backed by a region of a byte array. It can be used as the keys of
+ * a {@link ByteTrie} or {@link SortedByteTrie}. Sequences are compared to each other
+ * lexicographically by treating their bytes as unsigned values.
+ * <p>
+ * The backing array is not copied, neither when creating a sequence, nor when creating a
+ * subsequence. The array must therefore not be modified once it has been passed to a sequence.
+ * Sequences of length 1 are an exception, as a shared instance is used for each byte value by the
+ * methods {@link #valueOf(byte)}, {@link #subsequence(int, int)} and {@link #intern()}. As tries
+ * invoke the method {@link #intern()} before using a sequence as the key of an edge, it copies
+ * the region of longer sequences into an array of the appropriate size, unless the sequence is
+ * backed by an entire array. Otherwise, each edge would keep the entire key, it has been obtained
+ * from, in memory.
+ *
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class ByteSequence implements Sequence, Comparable<ByteSequence> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 4614738311580125046L;
+
+    /**
+     * An array, which contains the canonical sequences of length 1, using the unsigned values of
+     * their bytes as indices.
+     */
+    private static final ByteSequence[] SINGLE_BYTES = createSingleBytes();
+
+    /**
+     * The array, which backs the sequence.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The index of the sequence's first byte in the {@link #bytes} array.
+     */
+    private final int offset;
+
+    /**
+     * The length of the sequence.
+     */
+    private final int length;
+
+    /**
+     * Creates a new sequence of bytes, which is backed by an entire byte array.
+     *
+     * @param bytes The array, which should back the sequence, as a {@link Byte} array. The array
+     *              may not be null
+     */
+    public ByteSequence(@NotNull final byte[] bytes) {
+        this(bytes, 0, bytes != null ? bytes.length : 0);
+    }
+
+    /**
+     * Creates a new sequence of bytes, which is backed by a region of a byte array.
+     *
+     * @param bytes  The array, which should back the sequence, as a {@link Byte} array. The array
+     *               may not be null
+     * @param offset The index of the sequence's first byte in the given array as an {@link
+     *               Integer} value. The offset must be at least 0
+     * @param length The length of the sequence as an {@link Integer} value. The length must be at
+     *               least 0 and the region must not exceed the given array
+     */
+    public ByteSequence(@NotNull final byte[] bytes, final int offset, final int length) {
+        Condition.INSTANCE.ensureNotNull(bytes, "The array may not be null");
+        Condition.INSTANCE.ensureAtLeast(offset, 0, "The offset must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(length, 0, "The length must be at least 0");
+        Condition.INSTANCE.ensureAtMaximum(offset + length, bytes.length,
+                "The region must not exceed the array");
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates and returns an array, which contains the canonical sequences of length 1.
+     *
+     * @return The array, which has been created, as a {@link ByteSequence} array. The array may not
+     * be null
+     */
+    @NotNull
+    private static ByteSequence[] createSingleBytes() {
+        ByteSequence[] sequences = new ByteSequence[256];
+
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = new ByteSequence(new byte[]{(byte) i});
+        }
+
+        return sequences;
+    }
+
+    /**
+     * Returns the canonical sequence, which consists of a single byte.
+     *
+     * @param value The byte as a {@link Byte} value
+     * @return The sequence, which consists of the given byte, as an instance of the class {@link
+     * ByteSequence}. The sequence may not be null
+     */
+    @NotNull
+    public static ByteSequence valueOf(final byte value) {
+        return SINGLE_BYTES[value & 0xFF];
+    }
+
+    /**
+     * Converts a specific {@link ByteSequence} to a byte array.
+     *
+     * @param byteSequence The byte sequence to convert as an instance of the class {@link
+     *                     ByteSequence} or null
+     * @return The byte array, which has been created, as a {@link Byte} array or null, if the given
+     * byte sequence is null
+     */
+    @Nullable
+    public static byte[] convertToByteArray(@Nullable final ByteSequence byteSequence) {
+        return byteSequence != null ? byteSequence.toByteArray() : null;
+    }
+
+    /**
+     * Converts a specific byte array to a byte sequence. The array is not copied.
+     *
+     * @param bytes The byte array to convert as a {@link Byte} array or null
+     * @return The byte sequence, which has been created, as an instance of the class {@link
+     * ByteSequence} or null, if the given byte array is null
+     */
+    @Nullable
+    public static ByteSequence convertFromByteArray(@Nullable final byte[] bytes) {
+        return bytes != null ? new ByteSequence(bytes) : null;
+    }
+
+    /**
+     * Returns the byte at a specific index.
+     *
+     * @param index The index of the byte, which should be returned, as an {@link Integer} value
+     * @return The byte at the given index as a {@link Byte} value
+     */
+    public final byte byteAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+
+        return bytes[offset + index];
+    }
+
+    /**
+     * Returns a copy of the bytes of the sequence.
+     *
+     * @return A copy of the bytes of the sequence as a {@link Byte} array. The array may not be
+     * null
+     */
+    @NotNull
+    public final byte[] toByteArray() {
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * Copies the bytes of the sequence into a specific array.
+     *
+     * @param destination The array, the bytes should be copied into, as a {@link Byte} array. The
+     *                    array may not be null
+     * @param position    The index in the given array, the first byte should be copied to, as an
+     *                    {@link Integer} value
+     */
+    public final void copyTo(@NotNull final byte[] destination, final int position) {
+        System.arraycopy(bytes, offset, destination, position, length);
+    }
+
+    /**
+     * Decodes the bytes of the sequence into a {@link String} by using a specific charset.
+     *
+     * @param charset The charset, which should be used, as an instance of the class {@link
+     *                Charset}. The charset may not be null
+     * @return The string, which has been decoded, as a {@link String}. The string may not be null
+     */
+    @NotNull
+    public final String decode(@NotNull final Charset charset) {
+        Condition.INSTANCE.ensureNotNull(charset, "The charset may not be null");
+        return new String(bytes, offset, length, charset);
+    }
+
+    @Override
+    public final ByteSequence subsequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + length);
+        }
+
+        if (end - start == 1) {
+            return valueOf(bytes[offset + start]);
+        }
+
+        return start == 0 && end == length ? this :
+                new ByteSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public final ByteSequence concat(@NotNull final Sequence sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+        ByteSequence byteSequence = (ByteSequence) sequence;
+        byte[] result = new byte[length + byteSequence.length];
+        copyTo(result, 0);
+        byteSequence.copyTo(result, length);
+        return new ByteSequence(result);
+    }
+
+    @Override
+    public final int hashCodeAt(final int index) {
+        return Byte.hashCode(byteAt(index));
+    }
+
+    @Override
+    public final int getCommonPrefixLength(@NotNull final Sequence sequence, final int offset) {
+        ByteSequence other = (ByteSequence) sequence;
+        int maxLength = Math.min(length, other.length - offset);
+        int prefixLength = 0;
+
+        while (prefixLength < maxLength && bytes[this.offset + prefixLength] ==
+                other.bytes[other.offset + offset + prefixLength]) {
+            prefixLength++;
+        }
+
+        return prefixLength;
+    }
+
+    @NotNull
+    @Override
+    public final ByteSequenceBuilder createBuilder() {
+        return new ByteSequenceBuilder();
+    }
+
+    @NotNull
+    @Override
+    public final ByteSequence intern() {
+        if (length == 1) {
+            return valueOf(bytes[offset]);
+        }
+
+        return offset == 0 && length == bytes.length ? this : new ByteSequence(toByteArray());
+    }
+
+    @Override
+    public final int length() {
+        return length;
+    }
+
+    @Override
+    public final int compareTo(@NotNull final ByteSequence o) {
+        int minLength = Math.min(length, o.length);
+
+        for (int i = 0; i < minLength; i++) {
+            int order = (bytes[offset + i] & 0xFF) - (o.bytes[o.offset + i] & 0xFF);
+
+            if (order != 0) {
+                return order;
+            }
+        }
+
+        return length - o.length;
+    }
+
+    /**
+     * Replaces the sequence with a sequence, which is backed by an array that only contains the
+     * sequence's bytes, when it is serialized.
+     *
+     * @return The sequence, which should be serialized, as an instance of the class {@link
+     * ByteSequence}. The sequence may not be null
+     * @throws ObjectStreamException The exception, which is thrown, if the sequence cannot be
+     *                               serialized
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return offset == 0 && length == bytes.length ? this : new ByteSequence(toByteArray());
+    }
+
+    /**
+     * Replaces the sequence with its canonical instance, if available, when it is deserialized.
+     *
+     * @return The sequence, which should be used instead of the deserialized one, as an instance of
+     * the class {@link ByteSequence}. The sequence may not be null
+     * @throws ObjectStreamException The exception, which is thrown, if the sequence cannot be
+     *                               deserialized
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return intern();
+    }
+
+    @Override
+    public final String toString() {
+        StringBuilder stringBuilder = new StringBuilder(length * 2);
+
+        for (int i = offset; i < offset + length; i++) {
+            stringBuilder.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16))
+                    .append(Character.forDigit(bytes[i] & 0xF, 16));
+        }
+
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = 1;
+
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + bytes[i];
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (getClass() != obj.getClass())
+            return false;
+        ByteSequence other = (ByteSequence) obj;
+
+        if (length != other.length)
+            return false;
+
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != other.bytes[other.offset + i])
+                return false;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SequenceBuilder;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A builder, which allows to incrementally create sequences of an arbitrary type. It is used for
+ * sequences, which do not provide a more efficient {@link SequenceBuilder}. The builder maintains a
+ * stack, which contains the sequences, which result from each invocation of the method {@link
+ * #append(Sequence)}. This allows to truncate the builder to the length of a previous sequence
+ * without creating a new one.
+ *
+ * @param <SequenceType> The type of the sequences, which are created by the builder
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class DefaultSequenceBuilder<SequenceType extends Sequence> implements
+        SequenceBuilder<SequenceType> {
+
+    /**
+     * A stack, which contains the sequences, which result from each append operation, in ascending
+     * order of their length.
+     */
+    private final List<SequenceType> sequences;
+
+    /**
+     * Creates a new builder, which allows to incrementally create sequences of an arbitrary type.
+     */
+    public DefaultSequenceBuilder() {
+        this.sequences = new ArrayList<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    public final SequenceBuilder<SequenceType> append(@NotNull final SequenceType sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+
+        if (!sequence.isEmpty()) {
+            SequenceType current = toSequence();
+            sequences.add(current != null ? (SequenceType) current.concat(sequence) : sequence);
+        }
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    @Override
+    public final SequenceBuilder<SequenceType> truncate(final int length) {
+        Condition.INSTANCE.ensureAtLeast(length, 0, "The length must be at least 0");
+        int currentLength = length();
+        Condition.INSTANCE.ensureAtMaximum(length, currentLength,
+                "The length must be at maximum " + currentLength, IndexOutOfBoundsException.class);
+
+        SequenceType removed = null;
+
+        while (!sequences.isEmpty() && sequences.get(sequences.size() - 1).length() > length) {
+            removed = sequences.remove(sequences.size() - 1);
+        }
+
+        if (removed != null && length() < length) {
+            sequences.add((SequenceType) removed.subsequence(0, length));
+        }
+
+        return this;
+    }
+
+    @Override
+    public final int length() {
+        return sequences.isEmpty() ? 0 : sequences.get(sequences.size() - 1).length();
+    }
+
+    @Nullable
+    @Override
+    public final SequenceType toSequence() {
+        return sequences.isEmpty() ? null : sequences.get(sequences.size() - 1);
+    }
+
+    @Override
+    public final String toString() {
+        return "DefaultSequenceBuilder [sequence=" + toSequence() + "]";
+    }
+
+}
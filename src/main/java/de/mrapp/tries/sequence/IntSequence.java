@@ -0,0 +1,329 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.mrapp.tries.sequence;
+
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SortedIntTrie;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ObjectStreamException;
+import java.util.Arrays;
+
+/**
+ * A sequence of integer values, which is backed by a region of an int array. It can be used as the
+ * keys of a {@link SortedIntTrie}, e.g. to store numeric paths such as object identifiers
+ * ("1.3.6.1.2.1"). Sequences are compared to each other lexicographically by comparing their
+ * elements as primitive values.
+ * <p>
+ * The backing array is not copied, neither when creating a sequence, nor when creating a
+ * subsequence. The array must therefore not be modified once it has been passed to a sequence.
+ *
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class IntSequence implements Sequence, Comparable<IntSequence> {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = -3385208720519398012L;
+
+    /**
+     * The array, which backs the sequence.
+     */
+    private final int[] elements;
+
+    /**
+     * The index of the sequence's first element in the {@link #elements} array.
+     */
+    private final int offset;
+
+    /**
+     * The length of the sequence.
+     */
+    private final int length;
+
+    /**
+     * Creates a new sequence of integer values, which is backed by an entire array.
+     *
+     * @param elements The array, which should back the sequence, as an {@link Integer} array. The
+     *                 array may not be null
+     */
+    public IntSequence(@NotNull final int... elements) {
+        this(elements, 0, elements != null ? elements.length : 0);
+    }
+
+    /**
+     * Creates a new sequence of integer values, which is backed by a region of an array.
+     *
+     * @param elements The array, which should back the sequence, as an {@link Integer} array. The
+     *                 array may not be null
+     * @param offset   The index of the sequence's first element in the given array as an {@link
+     *                 Integer} value. The offset must be at least 0
+     * @param length   The length of the sequence as an {@link Integer} value. The length must be at
+     *                 least 0 and the region must not exceed the given array
+     */
+    public IntSequence(@NotNull final int[] elements, final int offset, final int length) {
+        Condition.INSTANCE.ensureNotNull(elements, "The array may not be null");
+        Condition.INSTANCE.ensureAtLeast(offset, 0, "The offset must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(length, 0, "The length must be at least 0");
+        Condition.INSTANCE.ensureAtMaximum(offset + length, elements.length,
+                "The region must not exceed the array");
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Converts a specific {@link IntSequence} to an int array.
+     *
+     * @param intSequence The sequence to convert as an instance of the class {@link IntSequence} or
+     *                    null
+     * @return The array, which has been created, as an {@link Integer} array or null, if the given
+     * sequence is null
+     */
+    @Nullable
+    public static int[] convertToIntArray(@Nullable final IntSequence intSequence) {
+        return intSequence != null ? intSequence.toIntArray() : null;
+    }
+
+    /**
+     * Converts a specific int array to a sequence. The array is not copied.
+     *
+     * @param elements The array to convert as an {@link Integer} array or null
+     * @return The sequence, which has been created, as an instance of the class {@link
+     * IntSequence} or null, if the given array is null
+     */
+    @Nullable
+    public static IntSequence convertFromIntArray(@Nullable final int[] elements) {
+        return elements != null ? new IntSequence(elements) : null;
+    }
+
+    /**
+     * Parses a sequence from a string, which contains integer values that are separated by dots,
+     * e.g. "1.3.6.1". This is the inverse of the method {@link #toString()}.
+     *
+     * @param string The string, which should be parsed, as a {@link String}. The string may not be
+     *               null
+     * @return The sequence, which has been parsed, as an instance of the class {@link IntSequence}.
+     * The sequence may not be null
+     * @throws NumberFormatException The exception, which is thrown, if the string contains an
+     *                               element, which is not a valid integer value
+     */
+    @NotNull
+    public static IntSequence parse(@NotNull final String string) {
+        Condition.INSTANCE.ensureNotNull(string, "The string may not be null");
+
+        if (string.isEmpty()) {
+            return new IntSequence();
+        }
+
+        int[] elements = new int[count(string) + 1];
+        int start = 0;
+
+        for (int i = 0; i < elements.length; i++) {
+            int end = string.indexOf('.', start);
+            end = end != -1 ? end : string.length();
+            elements[i] = Integer.parseInt(string.substring(start, end));
+            start = end + 1;
+        }
+
+        return new IntSequence(elements);
+    }
+
+    /**
+     * Returns the number of dots, which are contained by a specific string.
+     *
+     * @param string The string as a {@link String}. The string may not be null
+     * @return The number of dots, which are contained by the given string, as an {@link Integer}
+     * value
+     */
+    private static int count(@NotNull final String string) {
+        int count = 0;
+
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) == '.') {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the element at a specific index.
+     *
+     * @param index The index of the element, which should be returned, as an {@link Integer} value
+     * @return The element at the given index as an {@link Integer} value
+     */
+    public final int intAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+
+        return elements[offset + index];
+    }
+
+    /**
+     * Returns a copy of the elements of the sequence.
+     *
+     * @return A copy of the elements of the sequence as an {@link Integer} array. The array may not
+     * be null
+     */
+    @NotNull
+    public final int[] toIntArray() {
+        return Arrays.copyOfRange(elements, offset, offset + length);
+    }
+
+    /**
+     * Copies the elements of the sequence into a specific array.
+     *
+     * @param destination The array, the elements should be copied into, as an {@link Integer}
+     *                    array. The array may not be null
+     * @param position    The index in the given array, the first element should be copied to, as
+     *                    an {@link Integer} value
+     */
+    public final void copyTo(@NotNull final int[] destination, final int position) {
+        System.arraycopy(elements, offset, destination, position, length);
+    }
+
+    @Override
+    public final IntSequence subsequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end + ", length: " + length);
+        }
+
+        return start == 0 && end == length ? this :
+                new IntSequence(elements, offset + start, end - start);
+    }
+
+    @Override
+    public final IntSequence concat(@NotNull final Sequence sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+        IntSequence intSequence = (IntSequence) sequence;
+        int[] result = new int[length + intSequence.length];
+        copyTo(result, 0);
+        intSequence.copyTo(result, length);
+        return new IntSequence(result);
+    }
+
+    @Override
+    public final int hashCodeAt(final int index) {
+        return Integer.hashCode(intAt(index));
+    }
+
+    @Override
+    public final int getCommonPrefixLength(@NotNull final Sequence sequence, final int offset) {
+        IntSequence other = (IntSequence) sequence;
+        int maxLength = Math.min(length, other.length - offset);
+        int prefixLength = 0;
+
+        while (prefixLength < maxLength && elements[this.offset + prefixLength] ==
+                other.elements[other.offset + offset + prefixLength]) {
+            prefixLength++;
+        }
+
+        return prefixLength;
+    }
+
+    @NotNull
+    @Override
+    public final IntSequenceBuilder createBuilder() {
+        return new IntSequenceBuilder();
+    }
+
+    @Override
+    public final int length() {
+        return length;
+    }
+
+    @Override
+    public final int compareTo(@NotNull final IntSequence o) {
+        int minLength = Math.min(length, o.length);
+
+        for (int i = 0; i < minLength; i++) {
+            int order = Integer.compare(elements[offset + i], o.elements[o.offset + i]);
+
+            if (order != 0) {
+                return order;
+            }
+        }
+
+        return length - o.length;
+    }
+
+    /**
+     * Replaces the sequence with a sequence, which is backed by an array that only contains the
+     * sequence's elements, when it is serialized.
+     *
+     * @return The sequence, which should be serialized, as an instance of the class {@link
+     * IntSequence}. The sequence may not be null
+     * @throws ObjectStreamException The exception, which is thrown, if the sequence cannot be
+     *                               serialized
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return offset == 0 && length == elements.length ? this : new IntSequence(toIntArray());
+    }
+
+    @Override
+    public final String toString() {
+        StringBuilder stringBuilder = new StringBuilder(length * 4);
+
+        for (int i = offset; i < offset + length; i++) {
+            if (i > offset) {
+                stringBuilder.append('.');
+            }
+
+            stringBuilder.append(elements[i]);
+        }
+
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = 1;
+
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + elements[i];
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (obj == null)
+            return false;
+        if (this == obj)
+            return true;
+        if (getClass() != obj.getClass())
+            return false;
+        IntSequence other = (IntSequence) obj;
+
+        if (length != other.length)
+            return false;
+
+        for (int i = 0; i < length; i++) {
+            if (elements[offset + i] != other.elements[other.offset + i])
+                return false;
+        }
+
+        return true;
+    }
+
+}
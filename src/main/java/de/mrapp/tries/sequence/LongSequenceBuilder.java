@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.mrapp.tries.sequence;
+
+import de.mrapp.tries.SequenceBuilder;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A builder, which allows to incrementally create sequences of the type {@link LongSequence}. The
+ * elements of the appended sequences are copied into a growable long array, which is reused when
+ * the builder is truncated. A new {@link LongSequence} is only created when the method {@link
+ * #toSequence()} is invoked.
+ *
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class LongSequenceBuilder implements SequenceBuilder<LongSequence> {
+
+    /**
+     * The initial capacity of the long array.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The long array, which contains the elements of the builder.
+     */
+    private long[] elements;
+
+    /**
+     * The number of elements, which are contained by the builder.
+     */
+    private int length;
+
+    /**
+     * Creates a new builder, which allows to incrementally create sequences of the type {@link
+     * LongSequence}.
+     */
+    public LongSequenceBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new builder, which allows to incrementally create sequences of the type {@link
+     * LongSequence}.
+     *
+     * @param capacity The initial capacity of the builder as an {@link Integer} value. The capacity
+     *                 must be at least 1
+     */
+    public LongSequenceBuilder(final int capacity) {
+        Condition.INSTANCE.ensureAtLeast(capacity, 1, "The capacity must be at least 1");
+        this.elements = new long[capacity];
+        this.length = 0;
+    }
+
+    @NotNull
+    @Override
+    public final LongSequenceBuilder append(@NotNull final LongSequence sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+        int newLength = length + sequence.length();
+
+        if (newLength > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(newLength, elements.length * 2));
+        }
+
+        sequence.copyTo(elements, length);
+        length = newLength;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public final LongSequenceBuilder truncate(final int length) {
+        Condition.INSTANCE.ensureAtLeast(length, 0, "The length must be at least 0");
+        Condition.INSTANCE.ensureAtMaximum(length, this.length,
+                "The length must be at maximum " + this.length, IndexOutOfBoundsException.class);
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public final int length() {
+        return length;
+    }
+
+    @Nullable
+    @Override
+    public final LongSequence toSequence() {
+        return length > 0 ? new LongSequence(Arrays.copyOf(elements, length)) : null;
+    }
+
+    @Override
+    public final String toString() {
+        return new LongSequence(elements, 0, length).toString();
+    }
+
+}
@@ -20,9 +20,17 @@ import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ObjectStreamException;
+
 /**
  * A character sequence, which is backed by a {@link String}. It can be used as the keys of a {@link
  * StringTrie} or {@link SortedStringTrie}.
+ * <p>
+ * Sequences, which consist of a single character with a code below 256, are canonical, i.e. the
+ * methods {@link #valueOf(char)}, {@link #subsequence(int, int)} and {@link #intern()} return a
+ * shared instance for each of these characters instead of creating a new one. As the edges of
+ * uncompressed tries are labeled with single characters, this prevents tries from storing many
+ * identical sequences.
  *
  * @author Michael Rapp
  * @since 1.0.0
@@ -34,6 +42,12 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
      */
     private static final long serialVersionUID = -5315067045883935279L;
 
+    /**
+     * An array, which contains the canonical sequences of length 1, using the characters, which
+     * back the sequences, as indices.
+     */
+    private static final StringSequence[] SINGLE_CHARACTERS = createSingleCharacters();
+
     /**
      * The string, which backs the character sequence.
      */
@@ -50,6 +64,37 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
         this.string = string;
     }
 
+    /**
+     * Creates and returns an array, which contains the canonical sequences of length 1.
+     *
+     * @return The array, which has been created, as a {@link StringSequence} array. The array may
+     * not be null
+     */
+    @NotNull
+    private static StringSequence[] createSingleCharacters() {
+        StringSequence[] sequences = new StringSequence[256];
+
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = new StringSequence(String.valueOf((char) i));
+        }
+
+        return sequences;
+    }
+
+    /**
+     * Returns a sequence, which consists of a single character. For characters with a code below
+     * 256, a canonical instance is returned instead of creating a new one.
+     *
+     * @param character The character as a {@link Character} value
+     * @return The sequence, which consists of the given character, as an instance of the class
+     * {@link StringSequence}. The sequence may not be null
+     */
+    @NotNull
+    public static StringSequence valueOf(final char character) {
+        return character < SINGLE_CHARACTERS.length ? SINGLE_CHARACTERS[character] :
+                new StringSequence(String.valueOf(character));
+    }
+
     /**
      * Converts a specific {@link StringSequence} to a string.
      *
@@ -77,7 +122,8 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
 
     @Override
     public final Sequence subsequence(final int start, final int end) {
-        return convertFromString(string.substring(start, end));
+        return end - start == 1 ? valueOf(string.charAt(start)) :
+                convertFromString(string.substring(start, end));
     }
 
     @Override
@@ -87,6 +133,37 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
         return convertFromString(string.concat(stringSequence.string));
     }
 
+    @NotNull
+    @Override
+    public final StringSequenceBuilder createBuilder() {
+        return new StringSequenceBuilder();
+    }
+
+    @Override
+    public final int hashCodeAt(final int index) {
+        return Character.hashCode(string.charAt(index));
+    }
+
+    @Override
+    public final int getCommonPrefixLength(@NotNull final Sequence sequence, final int offset) {
+        String other = ((StringSequence) sequence).string;
+        int maxLength = Math.min(string.length(), other.length() - offset);
+        int length = 0;
+
+        while (length < maxLength && string.charAt(length) == other.charAt(offset + length)) {
+            length++;
+        }
+
+        return length;
+    }
+
+    @NotNull
+    @Override
+    public final StringSequence intern() {
+        return string.length() == 1 && string.charAt(0) < SINGLE_CHARACTERS.length ?
+                SINGLE_CHARACTERS[string.charAt(0)] : this;
+    }
+
     @Override
     public final int length() {
         return string.length();
@@ -97,6 +174,18 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
         return string.compareTo(o.string);
     }
 
+    /**
+     * Replaces the sequence with its canonical instance, if available, when it is deserialized.
+     *
+     * @return The sequence, which should be used instead of the deserialized one, as an instance of
+     * the class {@link StringSequence}. The sequence may not be null
+     * @throws ObjectStreamException The exception, which is thrown, if the sequence cannot be
+     *                               deserialized
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return intern();
+    }
+
     @Override
     public final String toString() {
         return string;
@@ -111,6 +200,8 @@ public class StringSequence implements Sequence, Comparable<StringSequence> {
     public final boolean equals(final Object obj) {
         if (obj == null)
             return false;
+        if (this == obj)
+            return true;
         if (getClass() != obj.getClass())
             return false;
         StringSequence other = (StringSequence) obj;
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.structure;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.Sequence;
+import de.mrapp.tries.util.SequenceUtil;
+import de.mrapp.util.Condition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A mutable cursor, which is used to descend a trie along a specific sequence. It keeps track of
+ * the node, which has been reached, and of the position within the sequence, up to which the
+ * sequence has been processed. Instead of creating a new object for each traversed edge, the
+ * methods of the interface {@link Structure} update the cursor by invoking the method {@link
+ * #advance(Node, Sequence, int, int)}. This prevents suffixes of the sequence from being created
+ * while descending the trie.
+ *
+ * @param <SequenceType> The type of the sequences, which are used as the trie's keys
+ * @param <ValueType>    The type of the values, which are stored by the trie
+ * @author Michael Rapp
+ * @since 1.1.0
+ */
+public class Cursor<SequenceType extends Sequence, ValueType> {
+
+    /**
+     * The sequence, the trie is descended along.
+     */
+    private SequenceType sequence;
+
+    /**
+     * The node, which has been reached.
+     */
+    private Node<SequenceType, ValueType> node;
+
+    /**
+     * The index of the first element of the sequence, which has not been processed yet.
+     */
+    private int position;
+
+    /**
+     * The key of the edge, which has been traversed last.
+     */
+    private SequenceType edge;
+
+    /**
+     * The index of the edge, which has been traversed last, among the successors of its
+     * predecessor.
+     */
+    private int index;
+
+    /**
+     * The number of elements of the edge, which has been traversed last, that correspond to the
+     * sequence.
+     */
+    private int matchedLength;
+
+    /**
+     * Creates a new cursor, which starts at a specific node.
+     *
+     * @param node     The node, the cursor should start at, as an instance of the type {@link
+     *                 Node}. The node may not be null
+     * @param sequence The sequence, the trie should be descended along, as an instance of the
+     *                 generic type {@link SequenceType} or null, if the cursor should not be moved
+     */
+    public Cursor(@NotNull final Node<SequenceType, ValueType> node,
+                  @Nullable final SequenceType sequence) {
+        reset(node, sequence);
+    }
+
+    /**
+     * Resets the cursor in order to descend a trie along a specific sequence, starting at a
+     * specific node.
+     *
+     * @param node     The node, the cursor should start at, as an instance of the type {@link
+     *                 Node}. The node may not be null
+     * @param sequence The sequence, the trie should be descended along, as an instance of the
+     *                 generic type {@link SequenceType} or null, if the cursor should not be moved
+     * @return The cursor, this method has been invoked on, as an instance of the class {@link
+     * Cursor}. The cursor may not be null
+     */
+    @NotNull
+    public final Cursor<SequenceType, ValueType> reset(
+            @NotNull final Node<SequenceType, ValueType> node,
+            @Nullable final SequenceType sequence) {
+        Condition.INSTANCE.ensureNotNull(node, "The node may not be null");
+        this.sequence = sequence;
+        this.node = node;
+        this.position = 0;
+        this.edge = null;
+        this.index = -1;
+        this.matchedLength = 0;
+        return this;
+    }
+
+    /**
+     * Moves the cursor to a successor of the node, which has been reached so far.
+     *
+     * @param successor     The successor, the cursor should be moved to, as an instance of the type
+     *                      {@link Node}. The successor may not be null
+     * @param edge          The key of the edge, which leads to the given successor, as an instance
+     *                      of the generic type {@link SequenceType}. The key may not be null
+     * @param index         The index of the edge among the successors of its predecessor as an
+     *                      {@link Integer} value or -1, if the index is not known
+     * @param matchedLength The number of elements of the edge, which correspond to the sequence,
+     *                      as an {@link Integer} value. The sequence's position is advanced by
+     *                      this number of elements
+     */
+    public final void advance(@NotNull final Node<SequenceType, ValueType> successor,
+                              @NotNull final SequenceType edge, final int index,
+                              final int matchedLength) {
+        this.node = successor;
+        this.edge = edge;
+        this.index = index;
+        this.matchedLength = matchedLength;
+        this.position += matchedLength;
+    }
+
+    /**
+     * Returns the sequence, the trie is descended along.
+     *
+     * @return The sequence, the trie is descended along, as an instance of the generic type {@link
+     * SequenceType} or null, if the cursor should not be moved
+     */
+    @Nullable
+    public final SequenceType getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the node, which has been reached.
+     *
+     * @return The node, which has been reached, as an instance of the type {@link Node}. The node
+     * may not be null
+     */
+    @NotNull
+    public final Node<SequenceType, ValueType> getNode() {
+        return node;
+    }
+
+    /**
+     * Returns the index of the first element of the sequence, which has not been processed yet.
+     *
+     * @return The index of the first element of the sequence, which has not been processed yet, as
+     * an {@link Integer} value
+     */
+    public final int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the key of the edge, which has been traversed last.
+     *
+     * @return The key of the edge, which has been traversed last, as an instance of the generic
+     * type {@link SequenceType} or null, if the cursor has not been moved yet
+     */
+    @Nullable
+    public final SequenceType getEdge() {
+        return edge;
+    }
+
+    /**
+     * Returns the index of the edge, which has been traversed last, among the successors of its
+     * predecessor.
+     *
+     * @return The index of the edge, which has been traversed last, as an {@link Integer} value or
+     * -1, if the index is not known
+     */
+    public final int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the number of elements of the edge, which has been traversed last, that correspond
+     * to the sequence. If it is less than the length of the edge, the sequence ends within the
+     * edge.
+     *
+     * @return The number of elements of the edge, which has been traversed last, that correspond
+     * to the sequence, as an {@link Integer} value
+     */
+    public final int getMatchedLength() {
+        return matchedLength;
+    }
+
+    /**
+     * Returns, whether the sequence contains elements, which have not been processed yet, or not.
+     *
+     * @return True, if the sequence contains elements, which have not been processed yet, false
+     * otherwise
+     */
+    public final boolean hasRemaining() {
+        return sequence != null && position < sequence.length();
+    }
+
+    /**
+     * Returns the number of elements of the sequence, which have not been processed yet.
+     *
+     * @return The number of elements of the sequence, which have not been processed yet, as an
+     * {@link Integer} value
+     */
+    public final int getRemainingLength() {
+        return sequence != null ? sequence.length() - position : 0;
+    }
+
+    /**
+     * Returns the suffix of the sequence, which has not been processed yet. As a new sequence must
+     * be created, this method should only be used, if the suffix must be stored.
+     *
+     * @return The suffix of the sequence, which has not been processed yet, as an instance of the
+     * generic type {@link SequenceType} or null, if all elements have been processed
+     */
+    @Nullable
+    public final SequenceType getSuffix() {
+        return hasRemaining() ? SequenceUtil.subsequence(sequence, position) : null;
+    }
+
+}
@@ -17,8 +17,6 @@ import de.mrapp.tries.Node;
 import de.mrapp.tries.NodeValue;
 import de.mrapp.tries.Sequence;
 import de.mrapp.tries.util.SequenceUtil;
-import de.mrapp.util.datastructure.Pair;
-import de.mrapp.util.datastructure.Triple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +26,10 @@ import java.util.Map;
  * Defines the structure of a Patricia trie, where the edges between nodes do not always correspond
  * to a single element of a sequence. Instead, subsequent nodes that only have a single successor
  * are merged to a single node to reduce space complexity.
+ * <p>
+ * The nodes of the trie must support to look up successors by the first element of their keys via
+ * the method {@link Node#indexOfFirstElement(Sequence)}. The successors do not necessarily have to
+ * be sorted.
  *
  * @param <SequenceType> The type of the sequences, which are used as the trie's keys
  * @param <ValueType>    The type of the values, which are stored by the trie
@@ -37,52 +39,6 @@ import java.util.Map;
 public class PatriciaStructure<SequenceType extends Sequence, ValueType>
         implements SortedStructure<SequenceType, ValueType> {
 
-    /**
-     * Returns the index of a node's successor, which corresponds to a specific sequence.
-     *
-     * @param node     The node, whose successors should be checked, as an instance of the type
-     *                 {@link Node}. The node may not be null
-     * @param sequence The sequence, the successor, whose index should be returned, corresponds to,
-     *                 as an {@link Integer} value
-     * @return A triple, which contains the index of the successor, which corresponds to the given
-     * sequence, as well as the common prefix and suffix of the given sequence, as an instance of
-     * the class {@link Triple} or null, if no such successor is available for the given node
-     */
-    @Nullable
-    private Triple<Integer, SequenceType, SequenceType> indexOfInternal(
-            @NotNull final Node<SequenceType, ValueType> node,
-            @NotNull final SequenceType sequence) {
-        int index = node.indexOfFirstElement(sequence);
-
-        if (index != -1) {
-            SequenceType successorKey = node.getSuccessorKey(index);
-            SequenceType commonPrefix = SequenceUtil.getCommonPrefix(sequence, successorKey);
-
-            if (commonPrefix != null) {
-                return Triple.Companion
-                        .create(index, commonPrefix, getSuffix(sequence, commonPrefix.length()));
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Returns the suffix of a specific sequence, given a specific prefix length. The length of the
-     * suffix is calculated based on the length of the given sequence and the suffix length.
-     *
-     * @param sequence     The sequence, whose suffix should be returned, as an instance of the
-     *                     generic type {@link SequenceType}. The sequence may not be null
-     * @param prefixLength The length of the prefix as an {@link Integer} value.
-     * @return The suffix of the given sequence as an instance of the generic type {@link
-     * SequenceType} or null, if the given prefix length equals the length of the given sequence
-     */
-    @Nullable
-    private SequenceType getSuffix(@NotNull final SequenceType sequence, final int prefixLength) {
-        return prefixLength < sequence.length() ? SequenceUtil.subsequence(sequence, prefixLength) :
-                null;
-    }
-
     /**
      * Removes a specific intermediate node, if possible.
      *
@@ -96,8 +52,8 @@ public class PatriciaStructure<SequenceType extends Sequence, ValueType>
             if (entry != null) {
                 SequenceType key = entry.getKey();
                 Node<SequenceType, ValueType> predecessor = entry.getValue();
-                SequenceType successorKey = node.getFirstSuccessorKey();
-                Node<SequenceType, ValueType> successor = node.getFirstSuccessor();
+                SequenceType successorKey = node.iterator().next();
+                Node<SequenceType, ValueType> successor = node.getSuccessor(successorKey);
                 SequenceType joinedKey = SequenceUtil.concat(key, successorKey);
                 predecessor.removeSuccessor(key);
                 predecessor.addSuccessor(joinedKey, successor);
@@ -105,57 +61,60 @@ public class PatriciaStructure<SequenceType extends Sequence, ValueType>
         }
     }
 
-    @Nullable
     @Override
-    public final Pair<Node<SequenceType, ValueType>, SequenceType> onGetSuccessor(
-            @NotNull final Node<SequenceType, ValueType> node, @NotNull final SequenceType sequence,
-            @NotNull final Operation operation) {
-        Triple<Integer, SequenceType, SequenceType> triple = indexOfInternal(node, sequence);
-
-        if (triple != null) {
-            int index = triple.getFirst();
-            SequenceType prefix = triple.getSecond();
-            SequenceType suffix = triple.getThird();
+    public final boolean onGetSuccessor(@NotNull final Cursor<SequenceType, ValueType> cursor,
+                                        @NotNull final Operation operation) {
+        Node<SequenceType, ValueType> node = cursor.getNode();
+        SequenceType sequence = cursor.getSequence();
+        int position = cursor.getPosition();
+        int index = indexOf(node, sequence, position);
+
+        if (index != -1) {
             SequenceType successorKey = node.getSuccessorKey(index);
             Node<SequenceType, ValueType> successor = node.getSuccessor(index);
-            int prefixLength = prefix.length();
-
-            if (operation == Operation.PUT) {
-                SequenceType intermediateSuffix = getSuffix(successorKey, prefixLength);
-
-                if (intermediateSuffix != null && !intermediateSuffix.isEmpty()) {
+            int prefixLength = successorKey.getCommonPrefixLength(sequence, position);
+
+            if (prefixLength < successorKey.length()) {
+                if (operation == Operation.PUT) {
+                    SequenceType prefix = SequenceUtil
+                            .intern(SequenceUtil.subsequence(successorKey, 0, prefixLength));
+                    SequenceType intermediateSuffix = SequenceUtil
+                            .intern(SequenceUtil.subsequence(successorKey, prefixLength));
                     node.removeSuccessor(index);
                     Node<SequenceType, ValueType> intermediateNode = node.addSuccessor(prefix);
                     intermediateNode.addSuccessor(intermediateSuffix, successor);
-                    successor = intermediateNode;
-                }
-
-                return Pair.Companion.create(successor, suffix);
-            } else if (operation == Operation.REMOVE) {
-                return sequence.length() >= prefixLength && prefixLength == successorKey.length() ?
-                        Pair.Companion.create(successor, suffix) : null;
-            } else {
-                int sequenceLength = sequence.length();
-
-                if (sequenceLength == prefixLength && successorKey.length() > sequenceLength) {
-                    return operation == Operation.SUB_TRIE ?
-                            Pair.Companion.create(successor, successorKey) : null;
+                    cursor.advance(intermediateNode, prefix, index, prefixLength);
+                    return true;
+                } else if (operation == Operation.SUB_TRIE &&
+                        prefixLength == cursor.getRemainingLength()) {
+                    cursor.advance(successor, successorKey, index, prefixLength);
+                    return true;
                 }
 
-                return Pair.Companion.create(successor, suffix);
+                return false;
             }
+
+            cursor.advance(successor, successorKey, index, prefixLength);
+            return true;
         }
 
-        return null;
+        return false;
     }
 
-    @NotNull
     @Override
-    public final Pair<Node<SequenceType, ValueType>, SequenceType> onAddSuccessor(
+    public final void onAddSuccessor(@NotNull final Cursor<SequenceType, ValueType> cursor) {
+        SequenceType suffix = SequenceUtil.intern(cursor.getSuffix());
+        Node<SequenceType, ValueType> successor = cursor.getNode().addSuccessor(suffix);
+        cursor.advance(successor, suffix, -1, suffix.length());
+    }
+
+    @Nullable
+    @Override
+    public final Node<SequenceType, ValueType> getSuccessor(
             @NotNull final Node<SequenceType, ValueType> node,
-            @NotNull final SequenceType sequence) {
-        Node<SequenceType, ValueType> successor = node.addSuccessor(sequence);
-        return Pair.Companion.create(successor, null);
+            @NotNull final SequenceType sequence, final int position) {
+        int index = indexOf(node, sequence, position);
+        return index != -1 ? node.getSuccessor(index) : null;
     }
 
     @Override
@@ -179,9 +138,9 @@ public class PatriciaStructure<SequenceType extends Sequence, ValueType>
         Node<SequenceType, ValueType> currentNode = rootNode;
 
         if (sequence != null && !sequence.isEmpty()) {
-            Pair<Node<SequenceType, ValueType>, SequenceType> pair = onAddSuccessor(rootNode,
-                    sequence);
-            currentNode = pair.getFirst();
+            Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, sequence);
+            onAddSuccessor(cursor);
+            currentNode = cursor.getNode();
         }
 
         if (includeNodeValue && node.isValueSet()) {
@@ -199,13 +158,10 @@ public class PatriciaStructure<SequenceType extends Sequence, ValueType>
         return rootNode;
     }
 
-    @Nullable
     @Override
-    public final Pair<Integer, SequenceType> indexOf(
-            @NotNull final Node<SequenceType, ValueType> node,
-            @NotNull final SequenceType sequence) {
-        Triple<Integer, SequenceType, SequenceType> triple = indexOfInternal(node, sequence);
-        return triple != null ? Pair.Companion.create(triple.getFirst(), triple.getThird()) : null;
+    public final int indexOf(@NotNull final Node<SequenceType, ValueType> node,
+                             @NotNull final SequenceType sequence, final int position) {
+        return node.indexOfFirstElement(SequenceUtil.subsequence(sequence, position, position + 1));
     }
 
 }
\ No newline at end of file
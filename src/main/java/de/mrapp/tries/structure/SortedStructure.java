@@ -15,9 +15,7 @@ package de.mrapp.tries.structure;
 
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Defines the interface, a class, which defines the structure of a sorted trie, must implement. In
@@ -31,18 +29,20 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface SortedStructure<K extends Sequence, V> extends Structure<K, V> {
 
-
     /**
      * The method, which is invoked in order to identify the index of a node's successor, which
-     * corresponds to a specific sequence.
+     * corresponds to a specific sequence, starting at a specific position.
      *
      * @param node     The node, whose successors should be checked, as an instance of the type
      *                 {@link Node}. The node may not be null
      * @param sequence The sequence, the successor, whose index should be returned, corresponds to,
-     *                 as an {@link Integer} value
+     *                 as an instance of the generic type {@link K}. The sequence may not be null
+     * @param position The index of the first element of the given sequence, which should be taken
+     *                 into account, as an {@link Integer} value. The position must be less than
+     *                 the length of the sequence
      * @return The index of the successor, which corresponds to the given sequence, as an {@link
      * Integer} value or -1, if no such successor is available for the given node
      */
-    @Nullable Pair<Integer, K> indexOf(@NotNull Node<K, V> node, @NotNull final K sequence);
+    int indexOf(@NotNull Node<K, V> node, @NotNull K sequence, int position);
 
 }
\ No newline at end of file
@@ -15,7 +15,6 @@ package de.mrapp.tries.structure;
 
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,36 +58,47 @@ public interface Structure<SequenceType extends Sequence, ValueType> {
     }
 
     /**
-     * The method, which is invoked in order to retrieve the successor of a specific node, which corresponds to a
-     * specific sequence. Depending on the trie's structure, the suffix of the sequence can be processed to any extend.
+     * The method, which is invoked in order to move a cursor to the successor of its current node, which corresponds
+     * to the elements of the cursor's sequence, which have not been processed yet. Depending on the trie's structure,
+     * the sequence can be processed to any extend. Implementations should not create any objects, unless the structure
+     * of the trie must be changed.
      *
-     * @param node      The node, whose successor should be returned, as an instance of the type {@link Node}. The node
-     *                  may not be null
-     * @param sequence  The sequence, the successor corresponds to, as an instance of the generic type {@link
-     *                  SequenceType}. The sequence may neither be null, nor empty
+     * @param cursor    The cursor, which should be moved, as an instance of the class {@link Cursor}. The cursor may
+     *                  not be null and its sequence must contain elements, which have not been processed yet
      * @param operation The operation, the method invocation is part of, as a value of the enum {@link Operation}. The
      *                  operation may not be null
-     * @return A pair, which contains the successor, which corresponds to the given sequence, as well as the suffix of
-     * the sequence, depending on how far it has been processed, as an instance of the class {@link Pair} or null, if no
-     * matching successor is available
+     * @return True, if the cursor has been moved to a matching successor, false, if no matching successor is available
      */
-    @Nullable Pair<Node<SequenceType, ValueType>, SequenceType> onGetSuccessor(
-            @NotNull Node<SequenceType, ValueType> node, @NotNull SequenceType sequence, @NotNull Operation operation);
+    boolean onGetSuccessor(@NotNull Cursor<SequenceType, ValueType> cursor, @NotNull Operation operation);
 
     /**
-     * The method, which is invoked in order to add a successor to a specific node. Depending on the trie's structure,
-     * the given sequence can be processed to any extend.
+     * The method, which is invoked in order to add a successor to the current node of a cursor and to move the cursor
+     * to the successor, which has been added. Depending on the trie's structure, the elements of the cursor's sequence,
+     * which have not been processed yet, can be processed to any extend.
      *
-     * @param node     The node, the successor should be added to, as an instance of the type {@link Node}. The node may
-     *                 not be null
-     * @param sequence The sequence, the successor, which should be added, corresponds to, as an instance of the generic
-     *                 type {@link SequenceType}. The sequence may neither be null, nor empty
-     * @return A pair, which contains the successor, which has been created, as well as the suffix of the given
-     * sequence, depending on how far it has been processed, as an instance of the class {@link Pair}. The pair may not
-     * be null
+     * @param cursor The cursor, which should be moved, as an instance of the class {@link Cursor}. The cursor may not
+     *               be null and its sequence must contain elements, which have not been processed yet
      */
-    @NotNull Pair<Node<SequenceType, ValueType>, SequenceType> onAddSuccessor(
-            @NotNull Node<SequenceType, ValueType> node, @NotNull SequenceType sequence);
+    void onAddSuccessor(@NotNull Cursor<SequenceType, ValueType> cursor);
+
+    /**
+     * Returns the successor of a specific node, whose edge starts with the element of a sequence at
+     * a specific position. Depending on the trie's structure, the edge may consist of further
+     * elements, which are not compared to the given sequence. The key of the edge can be obtained
+     * from the predecessor of the returned successor.
+     *
+     * @param node     The node, whose successor should be returned, as an instance of the type
+     *                 {@link Node}. The node may not be null
+     * @param sequence The sequence as an instance of the generic type {@link SequenceType}. The
+     *                 sequence may not be null
+     * @param position The position of the element in the given sequence as an {@link Integer}
+     *                 value. The position must be less than the length of the sequence
+     * @return The successor, whose edge starts with the given element, as an instance of the type
+     * {@link Node} or null, if no such successor is available
+     */
+    @Nullable Node<SequenceType, ValueType> getSuccessor(@NotNull Node<SequenceType, ValueType> node,
+                                                         @NotNull SequenceType sequence,
+                                                         int position);
 
     /**
      * The method, which is invoked on subclasses in order to remove the successor, which corresponds to a specific
@@ -16,9 +16,7 @@ package de.mrapp.tries.structure;
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
 import de.mrapp.tries.util.SequenceUtil;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Defines the structure of an uncompressed sorted trie, where the edges between nodes always
@@ -33,20 +31,10 @@ public class UncompressedSortedStructure<SequenceType extends Sequence, ValueTyp
         extends UncompressedStructure<SequenceType, ValueType>
         implements SortedStructure<SequenceType, ValueType> {
 
-    @Nullable
     @Override
-    public final Pair<Integer, SequenceType> indexOf(
-            @NotNull final Node<SequenceType, ValueType> node,
-            @NotNull final SequenceType sequence) {
-        SequenceType prefix = SequenceUtil.subsequence(sequence, 0, 1);
-        int index = node.indexOf(prefix);
-
-        if (index != -1) {
-            SequenceType suffix = SequenceUtil.subsequence(sequence, 1);
-            return Pair.Companion.create(index, suffix);
-        }
-
-        return null;
+    public final int indexOf(@NotNull final Node<SequenceType, ValueType> node,
+                             @NotNull final SequenceType sequence, final int position) {
+        return node.indexOf(SequenceUtil.subsequence(sequence, position, position + 1));
     }
 
 }
\ No newline at end of file
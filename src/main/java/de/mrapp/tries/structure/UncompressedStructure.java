@@ -16,7 +16,6 @@ package de.mrapp.tries.structure;
 import de.mrapp.tries.Node;
 import de.mrapp.tries.Sequence;
 import de.mrapp.tries.util.SequenceUtil;
-import de.mrapp.util.datastructure.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,31 +31,38 @@ import org.jetbrains.annotations.Nullable;
 public class UncompressedStructure<SequenceType extends Sequence, ValueType>
         implements Structure<SequenceType, ValueType> {
 
-    @Nullable
     @Override
-    public final Pair<Node<SequenceType, ValueType>, SequenceType> onGetSuccessor(
-            @NotNull final Node<SequenceType, ValueType> node, @NotNull final SequenceType sequence,
-            @NotNull final Operation operation) {
-        SequenceType prefix = SequenceUtil.subsequence(sequence, 0, 1);
-        Node<SequenceType, ValueType> successor = node.getSuccessor(prefix);
+    public final boolean onGetSuccessor(@NotNull final Cursor<SequenceType, ValueType> cursor,
+                                        @NotNull final Operation operation) {
+        SequenceType sequence = cursor.getSequence();
+        int position = cursor.getPosition();
+        SequenceType prefix = SequenceUtil.subsequence(sequence, position, position + 1);
+        Node<SequenceType, ValueType> successor = cursor.getNode().getSuccessor(prefix);
 
         if (successor != null) {
-            SequenceType suffix = SequenceUtil.subsequence(sequence, 1);
-            return Pair.Companion.create(successor, suffix);
+            cursor.advance(successor, prefix, -1, 1);
+            return true;
         }
 
-        return null;
+        return false;
     }
 
-    @NotNull
     @Override
-    public final Pair<Node<SequenceType, ValueType>, SequenceType> onAddSuccessor(
+    public final void onAddSuccessor(@NotNull final Cursor<SequenceType, ValueType> cursor) {
+        SequenceType sequence = cursor.getSequence();
+        int position = cursor.getPosition();
+        SequenceType prefix =
+                SequenceUtil.intern(SequenceUtil.subsequence(sequence, position, position + 1));
+        Node<SequenceType, ValueType> successor = cursor.getNode().addSuccessor(prefix);
+        cursor.advance(successor, prefix, -1, 1);
+    }
+
+    @Nullable
+    @Override
+    public final Node<SequenceType, ValueType> getSuccessor(
             @NotNull final Node<SequenceType, ValueType> node,
-            @NotNull final SequenceType sequence) {
-        SequenceType prefix = SequenceUtil.subsequence(sequence, 0, 1);
-        Node<SequenceType, ValueType> successor = node.addSuccessor(prefix);
-        SequenceType suffix = SequenceUtil.subsequence(sequence, 1);
-        return Pair.Companion.create(successor, suffix);
+            @NotNull final SequenceType sequence, final int position) {
+        return node.getSuccessor(SequenceUtil.subsequence(sequence, position, position + 1));
     }
 
     @Override
@@ -76,17 +82,14 @@ public class UncompressedStructure<SequenceType extends Sequence, ValueType>
                                                           @NotNull final Node<SequenceType, ValueType> rootNode,
                                                           @NotNull final Node<SequenceType, ValueType> node,
                                                           final boolean includeNodeValue) {
-        Node<SequenceType, ValueType> currentNode = rootNode;
-        SequenceType suffix = sequence;
-
-        while (suffix != null && !suffix.isEmpty()) {
-            Pair<Node<SequenceType, ValueType>, SequenceType> pair =
-                    onAddSuccessor(currentNode, suffix);
-            Node<SequenceType, ValueType> successor = pair.getFirst();
-            suffix = pair.getSecond();
-            currentNode = successor;
+        Cursor<SequenceType, ValueType> cursor = new Cursor<>(rootNode, sequence);
+
+        while (cursor.hasRemaining()) {
+            onAddSuccessor(cursor);
         }
 
+        Node<SequenceType, ValueType> currentNode = cursor.getNode();
+
         for (SequenceType successorKey : node) {
             Node<SequenceType, ValueType> successor = node.getSuccessor(successorKey);
 
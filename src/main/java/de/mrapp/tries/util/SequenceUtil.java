@@ -14,6 +14,7 @@
 package de.mrapp.tries.util;
 
 import de.mrapp.tries.Sequence;
+import de.mrapp.tries.SequenceBuilder;
 import de.mrapp.util.Condition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -129,6 +130,24 @@ public class SequenceUtil {
         return (T) sequence.subsequence(start, end);
     }
 
+    /**
+     * Returns the canonical representation of a specific sequence, which should be used as the key
+     * of an edge.
+     *
+     * @param sequence The sequence as an instance of the generic type {@link T}. The sequence may
+     *                 not be null
+     * @param <T>      The type of the sequence
+     * @return The canonical representation of the given sequence as an instance of the generic
+     * type {@link T}. The sequence may not be null
+     * @see Sequence#intern()
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public static <T extends Sequence> T intern(@NotNull final T sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+        return (T) sequence.intern();
+    }
+
     /**
      * Concatenates two sequences. If one of the given sequences is null, the other one is returned.
      * If both are null, null is returned.
@@ -154,6 +173,69 @@ public class SequenceUtil {
         return (T) prefix.concat(suffix);
     }
 
+    /**
+     * Creates and returns a new, empty builder, which allows to incrementally create sequences of
+     * the same type as a specific sequence.
+     *
+     * @param sequence The sequence, whose type should be created by the builder, as an instance of
+     *                 the generic type {@link T}. The sequence may not be null
+     * @param <T>      The type of the sequences
+     * @return The builder, which has been created, as an instance of the type {@link
+     * SequenceBuilder}. The builder may not be null
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public static <T extends Sequence> SequenceBuilder<T> createBuilder(
+            @NotNull final T sequence) {
+        Condition.INSTANCE.ensureNotNull(sequence, "The sequence may not be null");
+        return (SequenceBuilder<T>) sequence.createBuilder();
+    }
+
+    /**
+     * Appends a specific sequence to a builder. If the builder is null, a new one is created by
+     * using the method {@link #createBuilder(Sequence)}. If the sequence is null, the builder is
+     * returned unmodified.
+     *
+     * @param builder  The builder, the sequence should be appended to, as an instance of the type
+     *                 {@link SequenceBuilder} or null, if no builder has been created yet
+     * @param sequence The sequence, which should be appended, as an instance of the generic type
+     *                 {@link T} or null
+     * @param <T>      The type of the sequences
+     * @return The builder, the sequence has been appended to, as an instance of the type {@link
+     * SequenceBuilder} or null, if the given builder and sequence are both null
+     */
+    @Nullable
+    public static <T extends Sequence> SequenceBuilder<T> append(
+            @Nullable final SequenceBuilder<T> builder, @Nullable final T sequence) {
+        if (sequence == null) {
+            return builder;
+        }
+
+        SequenceBuilder<T> result = builder != null ? builder : createBuilder(sequence);
+        return result.append(sequence);
+    }
+
+    /**
+     * Returns, whether a specific sequence starts with a specific prefix. A sequence that is null
+     * or empty is considered to start with a prefix that is null or empty.
+     *
+     * @param sequence The sequence, which should be checked, as an instance of the generic type
+     *                 {@link T} or null
+     * @param prefix   The prefix as an instance of the generic type {@link T} or null
+     * @param <T>      The type of the sequences
+     * @return True, if the given sequence starts with the given prefix, false otherwise
+     */
+    public static <T extends Sequence> boolean startsWith(@Nullable final T sequence,
+                                                          @Nullable final T prefix) {
+        if (isEmpty(prefix)) {
+            return true;
+        } else if (isEmpty(sequence) || sequence.length() < prefix.length()) {
+            return false;
+        }
+
+        return subsequence(sequence, 0, prefix.length()).equals(prefix);
+    }
+
     /**
      * Creates and returns a comparator, which allows to compare sequences.
      *
@@ -187,26 +269,8 @@ public class SequenceUtil {
         Condition.INSTANCE.ensureNotNull(sequence1, "The first sequence may not be null");
         Condition.INSTANCE.ensureNotNull(sequence2, "The second sequence may not be null");
 
-        if (sequence1.isEmpty() || sequence2.isEmpty()) {
-            return null;
-        } else {
-            boolean matches = true;
-            T commonPrefix = null;
-            int length = 0;
-
-            while (matches && length < sequence1.length() && length < sequence2.length()) {
-                length++;
-                T prefix1 = subsequence(sequence1, 0, length);
-                T prefix2 = subsequence(sequence2, 0, length);
-                matches = prefix1.equals(prefix2);
-
-                if (matches) {
-                    commonPrefix = prefix1;
-                }
-            }
-
-            return commonPrefix;
-        }
+        int length = sequence1.getCommonPrefixLength(sequence2, 0);
+        return length > 0 ? subsequence(sequence1, 0, length) : null;
     }
 
     /**
@@ -228,6 +228,30 @@ public abstract class AbstractNonPatriciaSortedTrieTest<SequenceType, TrieType e
         verifyRootNode(getRootNode(trie));
     }
 
+    @Test
+    public final void testPollFirstEntryIfRootNodeHasMultipleSuccessors() {
+        trie.put(convertToSequence("bar"), "bar");
+        trie.put(convertToSequence("foo"), "foo");
+        Map.Entry<SequenceType, String> removed = trie.pollFirstEntry();
+        assertNotNull(removed);
+        assertEquals(convertToSequence("bar"), removed.getKey());
+        assertEquals("bar", removed.getValue());
+        assertEquals("foo", trie.get(convertToSequence("foo")));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testPollLastEntryIfRootNodeHasMultipleSuccessors() {
+        trie.put(convertToSequence("bar"), "bar");
+        trie.put(convertToSequence("foo"), "foo");
+        Map.Entry<SequenceType, String> removed = trie.pollLastEntry();
+        assertNotNull(removed);
+        assertEquals(convertToSequence("foo"), removed.getKey());
+        assertEquals("foo", removed.getValue());
+        assertEquals("bar", trie.get(convertToSequence("bar")));
+        assertEquals(1, trie.size());
+    }
+
     @Test
     public final void testPollLastEntryIfKeyIsTheOnlyOne() {
         testPut1();
@@ -724,6 +724,28 @@ public abstract class AbstractPatriciaTrieTest<SequenceType, TrieType extends Na
         assertTrue(trie.containsKey(convertToSequence("romanus")));
     }
 
+    @Test
+    public final void testKeySetIteratorRemoveAll() {
+        String[] keys = {"abab", "abb", "b", "bc", "bcc", "caa", "cabcc"};
+
+        for (String key : keys) {
+            trie.put(convertToSequence(key), key);
+        }
+
+        Iterator<SequenceType> iterator = trie.keySet().iterator();
+        int count = 0;
+
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            count++;
+        }
+
+        assertEquals(keys.length, count);
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.keySet().isEmpty());
+    }
+
     @Test(expected = ConcurrentModificationException.class)
     public final void testKeySetIteratorThrowsConcurrentModificationException() {
         testPut6();
@@ -850,6 +872,28 @@ public abstract class AbstractPatriciaTrieTest<SequenceType, TrieType extends Na
         entrySet.add(new AbstractMap.SimpleImmutableEntry<>(convertToSequence("foo"), "foo"));
     }
 
+    @Test
+    public final void testEntrySetIteratorRemoveAll() {
+        String[] keys = {"abab", "abb", "b", "bc", "bcc", "caa", "cabcc"};
+
+        for (String key : keys) {
+            trie.put(convertToSequence(key), key);
+        }
+
+        Iterator<Map.Entry<SequenceType, String>> iterator = trie.entrySet().iterator();
+        Collection<String> values = new ArrayList<>();
+
+        while (iterator.hasNext()) {
+            values.add(iterator.next().getValue());
+            iterator.remove();
+        }
+
+        assertEquals(keys.length, values.size());
+        assertTrue(values.containsAll(Arrays.asList(keys)));
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.entrySet().isEmpty());
+    }
+
     @Test(expected = ConcurrentModificationException.class)
     public final void testEntrySetIteratorThrowsConcurrentModificationException() {
         testPut6();
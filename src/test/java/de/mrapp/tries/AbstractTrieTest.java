@@ -13,13 +13,16 @@
  */
 package de.mrapp.tries;
 
+import de.mrapp.tries.datastructure.AbstractTrie;
+import de.mrapp.tries.util.SequenceUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Map;
+import java.util.*;
 
 import static org.junit.Assert.*;
 
@@ -40,6 +43,42 @@ public abstract class AbstractTrieTest<SequenceType, TrieType extends Map<Sequen
 
     abstract Node<SequenceType, String> getRootNode(@NotNull final TrieType trie);
 
+    /**
+     * Creates and returns a new, empty trie of the tested type, which is used by the randomized
+     * tests of the methods that are provided by the class {@link AbstractTrie}. If the tested trie
+     * does not extend that class, null is returned and the tests are skipped.
+     */
+    @Nullable
+    <K extends Sequence> AbstractTrie<?, K, String> onCreateAbstractTrie() {
+        return null;
+    }
+
+    final SequenceType randomKey(@NotNull final Random random) {
+        int length = random.nextInt(6);
+        StringBuilder key = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+
+        return length > 0 ? convertToSequence(key.toString()) : null;
+    }
+
+    @NotNull
+    private AbstractTrie<?, Sequence, String> createAbstractTrie() {
+        AbstractTrie<?, Sequence, String> abstractTrie = onCreateAbstractTrie();
+        Assume.assumeNotNull(abstractTrie);
+        return abstractTrie;
+    }
+
+    @NotNull
+    private AbstractTrie<?, Sequence, String> createAbstractTrie(
+            @NotNull final Map<Sequence, String> map) {
+        AbstractTrie<?, Sequence, String> abstractTrie = createAbstractTrie();
+        abstractTrie.putAll(map);
+        return abstractTrie;
+    }
+
     final void verifyRootNode(@Nullable final Node<SequenceType, String> node) {
         verifyRootNode(node, null);
     }
@@ -119,6 +158,50 @@ public abstract class AbstractTrieTest<SequenceType, TrieType extends Map<Sequen
         assertNull(getRootNode(trie));
     }
 
+    @Test
+    public final void testRemoveIfRootNodeHasMultipleSuccessors() {
+        trie.put(convertToSequence("foo"), "foo");
+        trie.put(convertToSequence("bar"), "bar");
+        String removed = trie.remove(convertToSequence("foo"));
+        assertEquals("foo", removed);
+        assertNull(trie.get(convertToSequence("foo")));
+        assertEquals("bar", trie.get(convertToSequence("bar")));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testGetIfKeySharesPrefixWithOtherKey() {
+        trie.put(convertToSequence("tea"), "tea");
+        trie.put(convertToSequence("teaab"), "teaab");
+        assertNull(trie.get(convertToSequence("tab")));
+        assertFalse(trie.containsKey(convertToSequence("tab")));
+    }
+
+    @Test
+    public final void testForEach() {
+        trie.put(convertToSequence("tea"), "tea");
+        trie.put(convertToSequence("ten"), "ten");
+        trie.put(convertToSequence("te"), null);
+        trie.put(convertToSequence("in"), "in");
+        trie.put(convertToSequence(""), "empty");
+        List<Map.Entry<SequenceType, String>> entries = new ArrayList<>();
+        trie.forEach((key, value) ->
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+        assertEquals(new ArrayList<>(trie.entrySet()), entries);
+    }
+
+    @Test
+    public final void testForEachIfTrieIsEmpty() {
+        trie.forEach((key, value) -> fail());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testForEachThrowsExceptionIfTrieIsModified() {
+        trie.put(convertToSequence("foo"), "foo");
+        trie.put(convertToSequence("bar"), "bar");
+        trie.forEach((key, value) -> trie.put(convertToSequence("baz"), "baz"));
+    }
+
     @Test
     public final void testHashCode() {
         TrieType trie1 = onCreateTrie();
@@ -149,4 +232,186 @@ public abstract class AbstractTrieTest<SequenceType, TrieType extends Map<Sequen
         assertFalse(trie1.equals(trie2));
     }
 
+    /**
+     * Returns the hash code of a new trie, which contains the same entries as {@link #trie}.
+     *
+     * @return The hash code as an {@link Integer} value
+     */
+    private int hashCodeOfCopy() {
+        TrieType copy = onCreateTrie();
+        copy.putAll(trie);
+        return copy.hashCode();
+    }
+
+    @Test
+    public final void testHashCodeIsUpdatedWhenTrieIsModified() {
+        int emptyHashCode = trie.hashCode();
+        trie.put(convertToSequence("foo"), "value1");
+        trie.put(convertToSequence("fob"), "value2");
+        assertEquals(hashCodeOfCopy(), trie.hashCode());
+        trie.put(convertToSequence("fo"), "value3");
+        trie.put(null, "value4");
+        trie.put(convertToSequence("foo"), "value5");
+        assertEquals(hashCodeOfCopy(), trie.hashCode());
+        trie.remove(convertToSequence("fob"));
+        trie.remove(null);
+        trie.remove(convertToSequence("bar"));
+        assertEquals(hashCodeOfCopy(), trie.hashCode());
+        trie.clear();
+        assertEquals(emptyHashCode, trie.hashCode());
+        trie.put(convertToSequence("bar"), "value6");
+        assertEquals(hashCodeOfCopy(), trie.hashCode());
+    }
+
+    @Test
+    public final void testEqualsAfterLastKeyHasBeenRemoved() {
+        trie.put(convertToSequence("foo"), "value");
+        trie.hashCode();
+        trie.remove(convertToSequence("foo"));
+        TrieType emptyTrie = onCreateTrie();
+        assertTrue(trie.equals(emptyTrie));
+        assertTrue(emptyTrie.equals(trie));
+        assertEquals(emptyTrie.hashCode(), trie.hashCode());
+    }
+
+    @Test
+    public final void testEqualsAfterLastKeyHasBeenRemovedAndPutAgain() {
+        trie.put(convertToSequence("foo"), "value");
+        trie.hashCode();
+        trie.remove(convertToSequence("foo"));
+        trie.put(convertToSequence("foo"), "value");
+        TrieType copy = onCreateTrie();
+        copy.put(convertToSequence("foo"), "value");
+        assertTrue(trie.equals(copy));
+        assertTrue(copy.equals(trie));
+        assertEquals(copy.hashCode(), trie.hashCode());
+    }
+
+    @Test
+    public final void testEqualsIfEntriesHaveBeenAddedInDifferentOrder() {
+        TrieType trie1 = onCreateTrie();
+        TrieType trie2 = onCreateTrie();
+
+        for (int i = 0; i < 100; i++) {
+            trie1.put(convertToSequence(Integer.toString(i)), Integer.toString(i));
+            trie2.put(convertToSequence(Integer.toString(99 - i)), Integer.toString(99 - i));
+        }
+
+        trie1.put(convertToSequence("x"), "x");
+        assertFalse(trie1.equals(trie2));
+        trie1.remove(convertToSequence("x"));
+        assertTrue(trie1.equals(trie2));
+        assertEquals(trie1.hashCode(), trie2.hashCode());
+        trie2.put(convertToSequence("42"), "43");
+        assertFalse(trie1.equals(trie2));
+        assertFalse(trie2.equals(trie1));
+    }
+
+    @Test
+    public final void testMergeWithRandomTries() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50; i++) {
+            Map<Sequence, String> map1 = new HashMap<>();
+            Map<Sequence, String> map2 = new HashMap<>();
+            AbstractTrie<?, Sequence, String> trie1 = createAbstractTrie();
+            AbstractTrie<?, Sequence, String> trie2 = createAbstractTrie();
+
+            for (int j = 0; j < 50; j++) {
+                Sequence key1 = (Sequence) randomKey(random);
+                Sequence key2 = (Sequence) randomKey(random);
+                map1.put(key1, Integer.toString(j));
+                trie1.put(key1, Integer.toString(j));
+                map2.put(key2, Integer.toString(-j));
+                trie2.put(key2, Integer.toString(-j));
+            }
+
+            Map<Sequence, String> expected = new HashMap<>(map1);
+            map2.forEach((key, value) -> expected.merge(key, value,
+                    (value1, value2) -> value1.length() > value2.length() ? null : value2));
+            Map<Sequence, String> intersection = new HashMap<>(map1);
+            intersection.keySet().retainAll(map2.keySet());
+            AbstractTrie<?, Sequence, String> copy = createAbstractTrie(map1);
+            trie1.merge(trie2,
+                    (value1, value2) -> value1.length() > value2.length() ? null : value2);
+            assertEquals(expected, trie1);
+            assertEquals(map2, trie2);
+            assertEquals(expected.size(), trie1.size());
+            assertEquals(expected.hashCode(), trie1.hashCode());
+            Sequence prefix = (Sequence) convertToSequence("ab");
+            int count = 0;
+
+            for (Sequence key : expected.keySet()) {
+                if (key != null && SequenceUtil.startsWith(key, prefix)) {
+                    count++;
+                }
+            }
+
+            assertEquals(count, trie1.countWithPrefix(prefix));
+            copy.intersection(trie2);
+            assertEquals(intersection, copy);
+        }
+    }
+
+    @Test
+    public final void testDiffWithRandomTries() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50; i++) {
+            AbstractTrie<?, Sequence, String> trie1 = createAbstractTrie();
+            AbstractTrie<?, Sequence, String> trie2 = createAbstractTrie();
+
+            for (int j = 0; j < 50; j++) {
+                trie1.put((Sequence) randomKey(random), Integer.toString(random.nextInt(3)));
+                trie2.put((Sequence) randomKey(random), Integer.toString(random.nextInt(3)));
+            }
+
+            Map<Sequence, String> map = new HashMap<>(trie1);
+            trie1.diff(trie2).forEach(difference -> {
+                if (difference.getType() == Difference.Type.REMOVED) {
+                    assertEquals(difference.getOldValue(), map.remove(difference.getKey()));
+                } else if (difference.getType() == Difference.Type.ADDED) {
+                    assertNull(map.put(difference.getKey(), difference.getNewValue()));
+                } else {
+                    assertEquals(difference.getOldValue(),
+                            map.put(difference.getKey(), difference.getNewValue()));
+                }
+            });
+            assertEquals(map, trie2);
+        }
+    }
+
+    @Test
+    public final void testRemovePrefixWithRandomTries() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50; i++) {
+            AbstractTrie<?, Sequence, String> randomTrie = createAbstractTrie();
+            randomTrie.setValueIndexed(i % 2 == 0);
+            Map<Sequence, String> map = new HashMap<>();
+
+            for (int j = 0; j < 50; j++) {
+                Sequence key = (Sequence) randomKey(random);
+                String value = Integer.toString(random.nextInt(3));
+                map.put(key, value);
+                randomTrie.put(key, value);
+            }
+
+            for (int j = 0; j < 5; j++) {
+                Sequence prefix = (Sequence) randomKey(random);
+                int size = map.size();
+                map.keySet().removeIf(key -> prefix == null ||
+                        (key != null && SequenceUtil.startsWith(key, prefix)));
+                assertEquals(size - map.size(), randomTrie.removePrefix(prefix));
+                assertEquals(map, randomTrie);
+                assertEquals(map.size(), randomTrie.size());
+                assertEquals(map.hashCode(), randomTrie.hashCode());
+
+                if (randomTrie.isValueIndexed()) {
+                    assertEquals(map.containsValue("0"), randomTrie.containsValue("0"));
+                }
+            }
+        }
+    }
+
 }
\ No newline at end of file
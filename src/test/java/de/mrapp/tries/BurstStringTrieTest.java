@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link BurstStringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class BurstStringTrieTest extends AbstractTrieTest<String, BurstStringTrie<String>> {
+
+    /**
+     * The burst threshold, which is used by the tests in order to cause containers to be burst.
+     */
+    private static final int BURST_THRESHOLD = 2;
+
+    @Override
+    final BurstStringTrie<String> onCreateTrie() {
+        return new BurstStringTrie<>(BURST_THRESHOLD);
+    }
+
+    @Override
+    final String convertToSequence(@NotNull final String string) {
+        return string;
+    }
+
+    @Override
+    final Node<String, String> getRootNode(@NotNull final BurstStringTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    /**
+     * Adds "romane", "romanus", "romulus", "rubicon", "rubens", "ruber" and "rubicundus" to the
+     * trie.
+     */
+    @Test
+    public final void testPut() {
+        for (String string : new String[]{"romane", "romanus", "romulus", "rubicon", "rubens",
+                "ruber", "rubicundus"}) {
+            assertNull(trie.put(string, string));
+        }
+
+        assertEquals(7, trie.size());
+        assertEquals("rubens", trie.get("rubens"));
+        assertEquals("romane", trie.put("romane", "replaced"));
+        assertEquals("replaced", trie.get("romane"));
+        assertEquals(7, trie.size());
+        assertNull(trie.get("rom"));
+        assertNull(trie.get("rubicundusx"));
+        assertFalse(trie.containsKey("ru"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfThresholdIsLessThanOne() {
+        new BurstStringTrie<>(0);
+    }
+
+    @Test
+    public final void testDefaultConstructor() {
+        BurstStringTrie<String> trie = new BurstStringTrie<>();
+        assertEquals(BurstStringTrie.DEFAULT_BURST_THRESHOLD, trie.getBurstThreshold());
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public final void testGetRootNodeIfContainerIsNotBurst() {
+        BurstStringTrie<String> trie = new BurstStringTrie<>();
+        trie.put("", "empty");
+        trie.put("ab", "ab");
+        trie.put("ac", "ac");
+        Node<String, String> rootNode = getRootNode(trie);
+        verifyRootNode(rootNode, "empty");
+        verifySuccessors(rootNode, "a");
+        assertEquals(3, rootNode.getSuccessorValueCount());
+        Node<String, String> aSuccessor = getSuccessor(rootNode, "a");
+        assertNull(aSuccessor.getNodeValue());
+        verifySuccessors(aSuccessor, "b", "c");
+        assertEquals("b", aSuccessor.getSuccessorKey(0));
+        assertEquals("c", aSuccessor.getSuccessorKey(1));
+        assertEquals(1, aSuccessor.indexOf("c"));
+        assertEquals(-1, aSuccessor.indexOf("d"));
+        verifyLeaf(aSuccessor.getSuccessor(0), "ab");
+        verifyLeaf(getSuccessor(aSuccessor, "c"), "ac");
+        assertNull(aSuccessor.getSuccessor("d"));
+        assertEquals("a", aSuccessor.getPredecessor().getKey());
+        assertEquals(rootNode, aSuccessor.getPredecessor().getValue());
+    }
+
+    @Test
+    public final void testGetRootNodeAfterBurst() {
+        for (String string : new String[]{"a", "ab", "b", "ba"}) {
+            trie.put(string, string);
+        }
+
+        Node<String, String> rootNode = getRootNode(trie);
+        verifyRootNode(rootNode);
+        verifySuccessors(rootNode, "a", "b");
+        assertEquals(4, rootNode.getSuccessorValueCount());
+        Node<String, String> aSuccessor = getSuccessor(rootNode, "a");
+        assertEquals("a", aSuccessor.getValue());
+        assertEquals(2, aSuccessor.getSuccessorValueCount());
+        verifySuccessors(aSuccessor, "b");
+        verifyLeaf(getSuccessor(aSuccessor, "b"), "ab");
+        Node<String, String> bSuccessor = getSuccessor(rootNode, "b");
+        assertEquals("b", bSuccessor.getValue());
+        verifySuccessors(bSuccessor, "a");
+        verifyLeaf(getSuccessor(bSuccessor, "a"), "ba");
+        assertEquals("b", rootNode.getLastSuccessorKey());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGetRootNodeIsReadOnly() {
+        trie.put("a", "a");
+        getRootNode(trie).setNodeValue(new NodeValue<>("b"));
+    }
+
+    @Test
+    public final void testPutAndRemoveEmptyKeyAfterBurst() {
+        testPut();
+        assertNull(trie.put("", "empty"));
+        assertEquals("empty", trie.get(null));
+        assertEquals("empty", trie.get(""));
+        assertEquals(8, trie.size());
+        assertEquals("empty", trie.remove(null));
+        assertFalse(trie.containsKey(""));
+        assertEquals(7, trie.size());
+    }
+
+    @Test
+    public final void testRemove() {
+        testPut();
+        assertEquals("rubicon", trie.remove("rubicon"));
+        assertNull(trie.remove("rubicon"));
+        assertNull(trie.remove("rub"));
+        assertEquals(6, trie.size());
+        assertEquals("rubicundus", trie.get("rubicundus"));
+
+        for (String string : new String[]{"replaced", "romanus", "romulus", "rubens", "ruber",
+                "rubicundus"}) {
+            assertEquals(string, trie.remove(string.equals("replaced") ? "romane" : string));
+        }
+
+        assertTrue(trie.isEmpty());
+        assertNull(trie.getRootNode());
+    }
+
+    @Test
+    public final void testRandomOperations() {
+        Random random = new Random(42);
+        BurstStringTrie<String> trie = new BurstStringTrie<>(8);
+        Map<String, String> map = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int length = 1 + random.nextInt(6);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append((char) ('a' + random.nextInt(4)));
+            }
+
+            String string = key.toString();
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(map.remove(string), trie.remove(string));
+            } else {
+                assertEquals(map.put(string, string + i), trie.put(string, string + i));
+            }
+
+            assertEquals(map.size(), trie.size());
+        }
+
+        assertEquals(map, trie);
+        assertEquals(map.entrySet(), trie.entrySet());
+        int count = 0;
+
+        for (String key : map.keySet()) {
+            if (key.startsWith("ab")) {
+                count++;
+            }
+        }
+
+        assertEquals(count, trie.countWithPrefix("ab"));
+        trie.entrySet().removeIf(entry -> entry.getKey().startsWith("a"));
+        map.entrySet().removeIf(entry -> entry.getKey().startsWith("a"));
+        assertEquals(map, trie);
+    }
+
+    @Test
+    public final void testPutKeyWithTwoCharacterLengthHeader() {
+        char[] chars = new char[0x8001];
+        Arrays.fill(chars, 'a');
+        String key = new String(chars);
+        trie.put(key, "long");
+        trie.put("a", "short");
+        assertEquals("long", trie.get(key));
+        assertEquals("short", trie.get("a"));
+        assertEquals(key.length(), trie.longestPrefixLength(key, 0, key.length()));
+        assertEquals("long", trie.remove(key));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        testPut();
+        trie.put("", "empty");
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("romanus", trie.get(key, 1, 8));
+        assertEquals("empty", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 9));
+        assertTrue(trie.containsKey(key, 1, 8));
+        assertFalse(trie.containsKey(key, 1, 7));
+        assertFalse(trie.containsKey("rx", 0, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetWithCharSequenceThrowsExceptionIfRegionIsInvalid() {
+        trie.get("abc", 2, 1);
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        testPut();
+        assertEquals(6, trie.longestPrefixLength("romanesque", 0, 10));
+        assertEquals(-1, trie.longestPrefixLength("roma", 0, 4));
+        assertEquals(5, trie.longestPrefixLength("xruberx", 1, 7));
+        trie.put("", "empty");
+        assertEquals(0, trie.longestPrefixLength("roma", 0, 4));
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPut();
+        assertEquals(7, trie.countWithPrefix(null));
+        assertEquals(7, trie.countWithPrefix("r"));
+        assertEquals(4, trie.countWithPrefix("rub"));
+        assertEquals(2, trie.countWithPrefix("rubic"));
+        assertEquals(1, trie.countWithPrefix("rubicon"));
+        assertEquals(0, trie.countWithPrefix("rubiconx"));
+        assertEquals(0, trie.countWithPrefix("x"));
+        assertTrue(trie.containsPrefix("roman"));
+        assertFalse(trie.containsPrefix("romanx"));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        testPut();
+        Set<String> keys = new HashSet<>();
+        trie.forEachWithPrefix("rub", (key, value) -> keys.add(key));
+        assertEquals(new HashSet<>(Arrays.asList("rubicon", "rubens", "ruber", "rubicundus")),
+                keys);
+        keys.clear();
+        trie.forEachWithPrefix("rubicu", (key, value) -> keys.add(key));
+        assertEquals(Collections.singleton("rubicundus"), keys);
+        keys.clear();
+        trie.forEachWithPrefix("x", (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    public final void testSubTrie() {
+        testPut();
+        BurstStringTrie<String> subTrie = trie.subTrie("rube");
+        assertEquals(2, subTrie.size());
+        assertEquals("rubens", subTrie.get("rubens"));
+        assertEquals("ruber", subTrie.get("ruber"));
+        assertEquals(BURST_THRESHOLD, subTrie.getBurstThreshold());
+        assertTrue(trie.subTrie("rubicon").isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testSubTrieThrowsExceptionIfPrefixIsNotContained() {
+        testPut();
+        trie.subTrie("x");
+    }
+
+    @Test
+    public final void testIteratorRemove() {
+        testPut();
+        Iterator<Map.Entry<String, String>> iterator = trie.entrySet().iterator();
+        Set<String> keys = new HashSet<>();
+
+        while (iterator.hasNext()) {
+            String key = iterator.next().getKey();
+            keys.add(key);
+
+            if (key.startsWith("rub")) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(7, keys.size());
+        assertEquals(3, trie.size());
+        assertEquals(0, trie.countWithPrefix("rub"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testIteratorThrowsExceptionIfTrieIsModified() {
+        testPut();
+        Iterator<Map.Entry<String, String>> iterator = trie.entrySet().iterator();
+        iterator.next();
+        trie.put("x", "x");
+        iterator.next();
+    }
+
+    @Test
+    public final void testSerialization() throws IOException, ClassNotFoundException {
+        testPut();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(trie);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(trie, objectInputStream.readObject());
+        }
+    }
+
+    @Test
+    public final void testToString() {
+        trie.put("a", "b");
+        assertEquals("BurstStringTrie [a=b]", trie.toString());
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link ByteIndexedTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class ByteIndexedTrieTest
+        extends AbstractNonPatriciaSortedTrieTest<ByteSequence, ByteIndexedTrie<String>> {
+
+    @Override
+    final ByteIndexedTrie<String> onCreateTrie() {
+        return new ByteIndexedTrie<>();
+    }
+
+    @Override
+    final ByteSequence convertToSequence(@NotNull final String string) {
+        return new ByteSequence(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    final Node<ByteSequence, String> getRootNode(@NotNull final ByteIndexedTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<ByteSequence, String> map = new HashMap<>();
+        map.put(convertToSequence("foo"), "foo");
+        map.put(convertToSequence("bar"), "bar");
+        ByteIndexedTrie<String> trie = new ByteIndexedTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(convertToSequence("foo")));
+        assertEquals("bar", trie.get(convertToSequence("bar")));
+        assertNull(trie.comparator());
+    }
+
+    @Test
+    public final void testByteArrayMethods() {
+        byte[] key = {10, 0, 0, 1};
+        assertNull(trie.put(key, "foo"));
+        assertEquals("foo", trie.get(new byte[]{10, 0, 0, 1}));
+        assertTrue(trie.containsKey(key));
+        assertTrue(trie.containsPrefix(new byte[]{10, 0}));
+        assertEquals(1, trie.countWithPrefix(new byte[]{10}));
+        assertEquals(1, trie.subTrie(new byte[]{10, 0}).size());
+        assertEquals("foo", trie.remove(key));
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public final void testBytesAreSortedAsUnsignedValues() {
+        trie.put(new byte[]{(byte) 0xFF}, "3");
+        trie.put(new byte[]{(byte) 0x80}, "2");
+        trie.put(new byte[]{0x7F}, "1");
+        assertEquals(Arrays.asList("1", "2", "3"), new ArrayList<>(trie.values()));
+    }
+
+    @Test
+    public void testToString() {
+        testPut1();
+        assertEquals("ByteIndexedTrie [746561=tea]", trie.toString());
+    }
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link DoubleArrayStringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class DoubleArrayStringTrieTest {
+
+    /**
+     * Creates and returns a trie, which contains "romane", "romanus", "romulus", "rubens", "ruber",
+     * "rubicon" and "rubicundus", as well as the empty key.
+     *
+     * @return The trie, which has been created, as an instance of the class {@link
+     * DoubleArrayStringTrie}
+     */
+    private DoubleArrayStringTrie<String> createTrie() {
+        PatriciaStringTrie<String> source = new PatriciaStringTrie<>();
+
+        for (String key : new String[]{"romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus"}) {
+            source.put(key, key.toUpperCase());
+        }
+
+        source.put(null, "empty");
+        return new DoubleArrayStringTrie<>(source);
+    }
+
+    @Test
+    public final void testConstructor() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        assertEquals(8, trie.size());
+        assertFalse(trie.isEmpty());
+        assertEquals("ROMANE", trie.get("romane"));
+        assertEquals("RUBICUNDUS", trie.get("rubicundus"));
+        assertEquals("empty", trie.get(null));
+        assertEquals("empty", trie.get(""));
+        assertNull(trie.get("roman"));
+        assertNull(trie.get("rubiconx"));
+        assertNull(trie.get(1));
+        assertTrue(trie.containsKey("ruber"));
+        assertFalse(trie.containsKey("rube"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfMapIsNull() {
+        new DoubleArrayStringTrie<String>(null);
+    }
+
+    @Test
+    public final void testConstructorIfMapIsEmpty() {
+        DoubleArrayStringTrie<String> trie = new DoubleArrayStringTrie<>(new HashMap<>());
+        assertTrue(trie.isEmpty());
+        assertNull(trie.get(""));
+        assertNull(trie.get("a"));
+        assertNull(trie.getRootNode());
+        assertEquals(-1, trie.longestPrefixLength("abc", 0, 3));
+        assertFalse(trie.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public final void testIterationOrder() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        List<String> keys = new ArrayList<>(trie.keySet());
+        assertEquals(Arrays.asList(null, "romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus"), keys);
+    }
+
+    @Test
+    public final void testEquals() {
+        Map<String, String> map = new HashMap<>();
+        map.put("foo", "1");
+        map.put("bar", "2");
+        DoubleArrayStringTrie<String> trie = new DoubleArrayStringTrie<>(map);
+        assertEquals(map, trie);
+        assertEquals(trie, map);
+        assertEquals(map.hashCode(), trie.hashCode());
+    }
+
+    @Test
+    public final void testRandomKeys() {
+        Random random = new Random(42);
+        Map<String, Integer> map = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int length = 1 + random.nextInt(8);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append(random.nextInt(4) == 0 ? (char) (0x4E00 + random.nextInt(64)) :
+                        (char) ('a' + random.nextInt(6)));
+            }
+
+            map.put(key.toString(), i);
+        }
+
+        DoubleArrayStringTrie<Integer> trie = new DoubleArrayStringTrie<>(map);
+        assertEquals(map, trie);
+
+        for (String key : map.keySet()) {
+            assertEquals(map.get(key), trie.get(key));
+            assertNull(trie.get(key + "\u0000"));
+        }
+    }
+
+    @Test
+    public final void testNonAsciiKeys() throws IOException {
+        Random random = new Random(42);
+        Map<String, Integer> map = new HashMap<>();
+
+        while (map.size() < 250) {
+            int length = 1 + random.nextInt(6);
+            StringBuilder key = new StringBuilder(length * 2);
+
+            for (int j = 0; j < length; j++) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        key.append((char) ('a' + random.nextInt(6)));
+                        break;
+                    case 1:
+                        key.append((char) (0x4E00 + random.nextInt(16)));
+                        break;
+                    case 2:
+                        key.append((char) (0xFF00 + random.nextInt(16)));
+                        break;
+                    default:
+                        key.appendCodePoint(0x1F600 + random.nextInt(16));
+                        break;
+                }
+            }
+
+            map.put(key.toString(), map.size());
+        }
+
+        DoubleArrayStringTrie<Integer> trie = new DoubleArrayStringTrie<>(map);
+        assertEquals(map, trie);
+
+        for (Map.Entry<String, Integer> entry : map.entrySet()) {
+            String key = entry.getKey();
+            assertEquals(entry.getValue(), trie.get(key));
+            assertEquals(key.length(), trie.longestPrefixLength(key + "\u4E10", 0,
+                    key.length() + 1));
+            assertNull(trie.get(key + "\uFFFF"));
+            assertNull(trie.get(key + "\u4E10"));
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(trie);
+        }
+
+        assertTrue(outputStream.size() < 32 * 1024);
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("ROMANUS", trie.get(key, 1, 8));
+        assertEquals("empty", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 9));
+        assertTrue(trie.containsKey(key, 1, 8));
+        assertFalse(trie.containsKey(key, 1, 7));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetWithCharSequenceThrowsExceptionIfRegionIsInvalid() {
+        createTrie().get("abc", 1, 4);
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        assertEquals(6, trie.longestPrefixLength("romanesque", 0, 10));
+        assertEquals(5, trie.longestPrefixLength("xruberx", 1, 7));
+        assertEquals(0, trie.longestPrefixLength("roma", 0, 4));
+        assertEquals(0, trie.longestPrefixLength("x", 0, 1));
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        assertEquals(8, trie.countWithPrefix(null));
+        assertEquals(7, trie.countWithPrefix("r"));
+        assertEquals(4, trie.countWithPrefix("rub"));
+        assertEquals(2, trie.countWithPrefix("rubic"));
+        assertEquals(1, trie.countWithPrefix("rubicon"));
+        assertEquals(0, trie.countWithPrefix("rubiconx"));
+        assertEquals(0, trie.countWithPrefix("s"));
+        assertTrue(trie.containsPrefix("roman"));
+        assertFalse(trie.containsPrefix("romanx"));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        List<String> keys = new ArrayList<>();
+        trie.forEachWithPrefix("rube", (key, value) -> keys.add(key));
+        assertEquals(Arrays.asList("rubens", "ruber"), keys);
+        keys.clear();
+        trie.forEachWithPrefix("x", (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    public final void testSubTrie() {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        DoubleArrayStringTrie<String> subTrie = trie.subTrie("roman");
+        assertEquals(2, subTrie.size());
+        assertEquals("ROMANE", subTrie.get("romane"));
+        assertEquals("ROMANUS", subTrie.get("romanus"));
+        assertTrue(trie.subTrie("ruber").isEmpty());
+        assertEquals(7, trie.subTrie(null).size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testSubTrieThrowsExceptionIfPrefixIsNotContained() {
+        createTrie().subTrie("x");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testPutThrowsException() {
+        createTrie().put("foo", "bar");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testRemoveThrowsException() {
+        createTrie().remove("romane");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testClearThrowsException() {
+        createTrie().clear();
+    }
+
+    @Test
+    public final void testGetRootNode() {
+        Node<String, String> rootNode = createTrie().getRootNode();
+        assertNotNull(rootNode);
+        assertNull(rootNode.getPredecessor());
+        assertEquals("empty", rootNode.getValue());
+        assertEquals(8, rootNode.getSuccessorValueCount());
+        assertEquals(1, rootNode.getSuccessorCount());
+        Node<String, String> node = rootNode.getSuccessor("r");
+        assertNotNull(node);
+        assertNull(node.getNodeValue());
+        assertEquals(2, node.getSuccessorCount());
+        assertEquals("o", node.getSuccessorKey(0));
+        assertEquals("u", node.getSuccessorKey(1));
+        assertEquals(1, node.indexOf("u"));
+        assertEquals(-1, node.indexOf("x"));
+        assertNull(node.getSuccessor("x"));
+        assertEquals("r", node.getPredecessor().getKey());
+        assertEquals(rootNode, node.getPredecessor().getValue());
+
+        for (char character : "ubicon".toCharArray()) {
+            node = node.getSuccessor(String.valueOf(character));
+            assertNotNull(node);
+        }
+
+        assertEquals("RUBICON", node.getValue());
+        assertEquals(0, node.getSuccessorCount());
+        assertEquals(1, node.getSuccessorValueCount());
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGetRootNodeIsReadOnly() {
+        createTrie().getRootNode().removeSuccessor("r");
+    }
+
+    @Test
+    public final void testSerialization() throws IOException, ClassNotFoundException {
+        DoubleArrayStringTrie<String> trie = createTrie();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(trie);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(trie, objectInputStream.readObject());
+        }
+    }
+
+    @Test
+    public final void testToString() {
+        DoubleArrayStringTrie<String> trie =
+                new DoubleArrayStringTrie<>(Collections.singletonMap("a", "b"));
+        assertEquals("DoubleArrayStringTrie [a=b]", trie.toString());
+    }
+
+}
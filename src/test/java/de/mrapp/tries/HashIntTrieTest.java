@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.IntSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link HashIntTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class HashIntTrieTest extends AbstractNonPatriciaTrieTest<IntSequence, HashIntTrie<String>> {
+
+    @Override
+    final HashIntTrie<String> onCreateTrie() {
+        return new HashIntTrie<>();
+    }
+
+    @Override
+    final IntSequence convertToSequence(@NotNull final String string) {
+        return new IntSequence(string.chars().toArray());
+    }
+
+    @Override
+    final Node<IntSequence, String> getRootNode(@NotNull final HashIntTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<IntSequence, String> map = new HashMap<>();
+        map.put(IntSequence.parse("1.3.6"), "foo");
+        map.put(IntSequence.parse("1.3.7"), "bar");
+        HashIntTrie<String> trie = new HashIntTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(IntSequence.parse("1.3.6")));
+        assertEquals("bar", trie.get(IntSequence.parse("1.3.7")));
+    }
+
+    @Test
+    public final void testIntArrayMethods() {
+        int[] key = {4, 8, 15};
+        assertNull(trie.put(key, "foo"));
+        assertEquals("foo", trie.get(new int[]{4, 8, 15}));
+        assertTrue(trie.containsKey(key));
+        assertTrue(trie.containsPrefix(new int[]{4, 8}));
+        assertEquals(1, trie.countWithPrefix(new int[]{4}));
+        assertEquals(1, trie.subTrie(new int[]{4, 8}).size());
+        assertEquals("foo", trie.remove(key));
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testToString() {
+        trie.put(IntSequence.parse("4.8.15"), "foo");
+        assertEquals("HashIntTrie [4.8.15=foo]", trie.toString());
+    }
+
+}
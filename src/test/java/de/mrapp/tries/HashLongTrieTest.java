@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.LongSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link HashLongTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class HashLongTrieTest
+        extends AbstractNonPatriciaTrieTest<LongSequence, HashLongTrie<String>> {
+
+    @Override
+    final HashLongTrie<String> onCreateTrie() {
+        return new HashLongTrie<>();
+    }
+
+    @Override
+    final LongSequence convertToSequence(@NotNull final String string) {
+        return new LongSequence(string.chars().asLongStream().toArray());
+    }
+
+    @Override
+    final Node<LongSequence, String> getRootNode(@NotNull final HashLongTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<LongSequence, String> map = new HashMap<>();
+        map.put(LongSequence.parse("1.3.6"), "foo");
+        map.put(LongSequence.parse("1.3.7"), "bar");
+        HashLongTrie<String> trie = new HashLongTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(LongSequence.parse("1.3.6")));
+        assertEquals("bar", trie.get(LongSequence.parse("1.3.7")));
+    }
+
+    @Test
+    public final void testLongArrayMethods() {
+        long[] key = {4, 8, 15};
+        assertNull(trie.put(key, "foo"));
+        assertEquals("foo", trie.get(new long[]{4, 8, 15}));
+        assertTrue(trie.containsKey(key));
+        assertTrue(trie.containsPrefix(new long[]{4, 8}));
+        assertEquals(1, trie.countWithPrefix(new long[]{4}));
+        assertEquals(1, trie.subTrie(new long[]{4, 8}).size());
+        assertEquals("foo", trie.remove(key));
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testToString() {
+        trie.put(LongSequence.parse("4.8.15"), "foo");
+        assertEquals("HashLongTrie [4.8.15=foo]", trie.toString());
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link HashPatriciaStringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class HashPatriciaStringTrieTest
+        extends AbstractTrieTest<String, HashPatriciaStringTrie<String>> {
+
+    @Override
+    final HashPatriciaStringTrie<String> onCreateTrie() {
+        return new HashPatriciaStringTrie<>();
+    }
+
+    @Override
+    final String convertToSequence(@NotNull final String string) {
+        return string;
+    }
+
+    @Override
+    final Node<String, String> getRootNode(@NotNull final HashPatriciaStringTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    /**
+     * Adds "romane", "romanus", "romulus" and "rubicon" to the trie.
+     */
+    @Test
+    public final void testPut() {
+        for (String string : new String[]{"romane", "romanus", "romulus", "rubicon"}) {
+            assertNull(trie.put(string, string));
+        }
+
+        assertEquals(4, trie.size());
+        verifySuccessors(getRootNode(trie), "r");
+        Node<String, String> successor = getSuccessor(getRootNode(trie), "r");
+        verifySuccessors(successor, "om", "ubicon");
+        Node<String, String> successorOm = getSuccessor(successor, "om");
+        verifySuccessors(successorOm, "an", "ulus");
+        verifyLeaf(getSuccessor(successor, "ubicon"), "rubicon");
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        testPut();
+        trie.put("", "empty");
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("romanus", trie.get(key, 1, 8));
+        assertEquals("empty", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 6));
+        assertNull(trie.get(key, 1, 9));
+        assertTrue(trie.containsKey(key, 1, 8));
+        assertFalse(trie.containsKey(key, 1, 7));
+        assertFalse(trie.containsKey("rx", 0, 2));
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        testPut();
+        assertEquals(6, trie.longestPrefixLength("romanesque", 0, 10));
+        assertEquals(7, trie.longestPrefixLength("xromulus", 1, 8));
+        assertEquals(-1, trie.longestPrefixLength("roman", 0, 5));
+        trie.put("ro", "ro");
+        assertEquals(2, trie.longestPrefixLength("roman", 0, 5));
+    }
+
+    @Test
+    public final void testSubTrie() {
+        testPut();
+        StringTrie<String> subTrie = trie.subTrie("rom");
+        assertEquals(3, subTrie.size());
+        assertEquals("romulus", subTrie.get("romulus"));
+        assertNull(subTrie.get("rubicon"));
+    }
+
+    @Test
+    public final void testToString() {
+        trie.put("foo", "bar");
+        assertEquals("HashPatriciaStringTrie [foo=bar]", trie.toString());
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.StringSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link HashPatriciaTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class HashPatriciaTrieTest
+        extends AbstractTrieTest<StringSequence, HashPatriciaTrie<StringSequence, String>> {
+
+    @Override
+    final HashPatriciaTrie<StringSequence, String> onCreateTrie() {
+        return new HashPatriciaTrie<>();
+    }
+
+    @Override
+    final <K extends Sequence> HashPatriciaTrie<K, String> onCreateAbstractTrie() {
+        return new HashPatriciaTrie<>();
+    }
+
+    @Override
+    final StringSequence convertToSequence(@NotNull final String string) {
+        return new StringSequence(string);
+    }
+
+    @Override
+    final Node<StringSequence, String> getRootNode(
+            @NotNull final HashPatriciaTrie<StringSequence, String> trie) {
+        return trie.getRootNode();
+    }
+
+    /**
+     * Adds "romane", "romanus", "romulus", "rubens", "ruber" and "rubicon" to the trie.
+     */
+    @Test
+    public final void testPut() {
+        for (String string : new String[]{"romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon"}) {
+            assertNull(trie.put(convertToSequence(string), string));
+        }
+
+        assertEquals(6, trie.size());
+        verifyRootNode(getRootNode(trie));
+        verifySuccessors(getRootNode(trie), "r");
+        Node<StringSequence, String> successor = getSuccessor(getRootNode(trie), "r");
+        verifySuccessors(successor, "om", "ub");
+        Node<StringSequence, String> successorOm = getSuccessor(successor, "om");
+        verifySuccessors(successorOm, "an", "ulus");
+        Node<StringSequence, String> successorAn = getSuccessor(successorOm, "an");
+        verifySuccessors(successorAn, "e", "us");
+        verifyLeaf(getSuccessor(successorAn, "e"), "romane");
+        verifyLeaf(getSuccessor(successorAn, "us"), "romanus");
+        verifyLeaf(getSuccessor(successorOm, "ulus"), "romulus");
+        Node<StringSequence, String> successorUb = getSuccessor(successor, "ub");
+        verifySuccessors(successorUb, "e", "icon");
+        Node<StringSequence, String> successorE = getSuccessor(successorUb, "e");
+        verifySuccessors(successorE, "ns", "r");
+        verifyLeaf(getSuccessor(successorE, "ns"), "rubens");
+        verifyLeaf(getSuccessor(successorE, "r"), "ruber");
+        verifyLeaf(getSuccessor(successorUb, "icon"), "rubicon");
+    }
+
+    @Test
+    public final void testGetIfKeyIsNotContainedAndIsPrefix() {
+        testPut();
+        assertNull(trie.get(convertToSequence("rom")));
+        assertNull(trie.get(convertToSequence("roman")));
+        assertNull(trie.get(convertToSequence("romanes")));
+        assertFalse(trie.containsKey(convertToSequence("rub")));
+    }
+
+    @Test
+    public final void testPutWithEmptyKey() {
+        testPut();
+        assertNull(trie.put(convertToSequence(""), "empty"));
+        assertEquals("empty", trie.get(null));
+        verifyRootNode(getRootNode(trie), "empty");
+        assertEquals(7, trie.size());
+    }
+
+    @Test
+    public final void testRemoveMergesIntermediateNodes() {
+        testPut();
+        assertEquals("romulus", trie.remove(convertToSequence("romulus")));
+        Node<StringSequence, String> successor = getSuccessor(getRootNode(trie), "r");
+        verifySuccessors(successor, "oman", "ub");
+        Node<StringSequence, String> successorOman = getSuccessor(successor, "oman");
+        verifySuccessors(successorOman, "e", "us");
+        assertEquals("rubicon", trie.remove(convertToSequence("rubicon")));
+        assertEquals("rubens", trie.remove(convertToSequence("rubens")));
+        verifySuccessors(successor, "oman", "uber");
+        verifyLeaf(getSuccessor(successor, "uber"), "ruber");
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public final void testPutAndRemoveManyKeys() {
+        Random random = new Random(42);
+        Map<StringSequence, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder stringBuilder = new StringBuilder();
+            int length = 1 + random.nextInt(5);
+
+            for (int j = 0; j < length; j++) {
+                stringBuilder.append((char) ('a' + random.nextInt(12)));
+            }
+
+            StringSequence key = convertToSequence(stringBuilder.toString());
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), trie.remove(key));
+            } else {
+                assertEquals(expected.put(key, key.toString()), trie.put(key, key.toString()));
+            }
+        }
+
+        assertEquals(expected.size(), trie.size());
+        assertEquals(expected, new HashMap<>(trie));
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<StringSequence, String> map = new HashMap<>();
+        map.put(convertToSequence("foo"), "foo");
+        map.put(convertToSequence("bar"), "bar");
+        Trie<StringSequence, String> trie = new HashPatriciaTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(convertToSequence("foo")));
+        assertEquals("bar", trie.get(convertToSequence("bar")));
+    }
+
+    @Test
+    public final void testSubTrie() {
+        testPut();
+        Trie<StringSequence, String> subTrie = trie.subTrie(convertToSequence("roma"));
+        assertEquals(2, subTrie.size());
+        assertEquals("romane", subTrie.get(convertToSequence("romane")));
+        assertEquals("romanus", subTrie.get(convertToSequence("romanus")));
+        verifySuccessors(subTrie.getRootNode(), "roman");
+        Node<StringSequence, String> successor = getSuccessor(subTrie.getRootNode(), "roman");
+        verifySuccessors(successor, "e", "us");
+    }
+
+    @Test
+    public final void testSubTrieIfSequenceCorrespondsToLeaf() {
+        testPut();
+        Trie<StringSequence, String> subTrie = trie.subTrie(convertToSequence("ruber"));
+        assertTrue(subTrie.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testSubTrieIfSequenceIsNotContained() {
+        testPut();
+        trie.subTrie(convertToSequence("rx"));
+    }
+
+    @Test
+    public final void testToString() {
+        trie.put(convertToSequence("foo"), "bar");
+        assertEquals("HashPatriciaTrie [foo=bar]", trie.toString());
+    }
+
+}
@@ -16,6 +16,8 @@ package de.mrapp.tries;
 import de.mrapp.tries.sequence.StringSequence;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static org.junit.Assert.*;
@@ -186,10 +188,97 @@ public class HashStringTrieTest extends AbstractStringNonPatriciaTrieTest<HashSt
         assertNull(subTrie.getRootNode());
     }
 
+    @Test
+    public final void testForEachWithPrefix() {
+        testPutWithNullKey();
+        Map<String, String> map = new HashMap<>();
+        trie.forEachWithPrefix("te", map::put);
+        assertEquals(3, map.size());
+        assertEquals("tea", map.get("tea"));
+        assertEquals("ted", map.get("ted"));
+        assertEquals("ten", map.get("ten"));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNull() {
+        testPutWithNullKey();
+        Map<String, String> map = new HashMap<>();
+        trie.forEachWithPrefix(null, map::put);
+        assertEquals(9, map.size());
+        assertEquals("null", map.get(null));
+        assertEquals("inn", map.get("inn"));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        testPutWithNullKey();
+        trie.forEachWithPrefix("x", (key, value) -> fail());
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPutWithNullKey();
+        assertEquals(9, trie.countWithPrefix(null));
+        assertEquals(9, trie.countWithPrefix(""));
+        assertEquals(4, trie.countWithPrefix("t"));
+        assertEquals(3, trie.countWithPrefix("te"));
+        assertEquals(1, trie.countWithPrefix("tea"));
+        assertEquals(2, trie.countWithPrefix("in"));
+        assertEquals(0, trie.countWithPrefix("teas"));
+        assertEquals(0, trie.countWithPrefix("x"));
+    }
+
+    @Test
+    public final void testCountWithPrefixAfterRemoval() {
+        testPutWithNullKey();
+        trie.remove("ted");
+        assertEquals(8, trie.countWithPrefix(null));
+        assertEquals(2, trie.countWithPrefix("te"));
+        assertEquals(0, trie.countWithPrefix("ted"));
+    }
+
+    @Test
+    public final void testCountWithPrefixIfTrieIsEmpty() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix("foo"));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        testPutWithNullKey();
+        assertTrue(trie.containsPrefix(null));
+        assertTrue(trie.containsPrefix("t"));
+        assertTrue(trie.containsPrefix("inn"));
+        assertFalse(trie.containsPrefix("inne"));
+        assertFalse(trie.containsPrefix("x"));
+    }
+
     @Test
     public final void testToString() {
         testPut3();
         assertEquals("HashStringTrie [tea=tea, ted=ted, to=to]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testGetWithCharSequence() {
+        testPutWithNullKey();
+        StringBuilder key = new StringBuilder("/tea/");
+        assertEquals("tea", trie.get(key, 1, 4));
+        assertEquals("null", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 3));
+        assertNull(trie.get(key, 1, 5));
+        assertTrue(trie.containsKey(key, 1, 4));
+        assertFalse(trie.containsKey(key, 1, 2));
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        testPutWithNullKey();
+        assertEquals(3, trie.longestPrefixLength("/teapot", 1, 7));
+        assertEquals(3, trie.longestPrefixLength("inner", 0, 5));
+        assertEquals(0, trie.longestPrefixLength("x", 0, 1));
+        trie.remove(null);
+        assertEquals(-1, trie.longestPrefixLength("x", 0, 1));
+    }
+
+}
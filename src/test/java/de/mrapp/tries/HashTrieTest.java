@@ -16,9 +16,7 @@ package de.mrapp.tries;
 import de.mrapp.tries.sequence.StringSequence;
 import org.junit.Test;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.util.*;
 
 import static org.junit.Assert.*;
 
@@ -35,6 +33,11 @@ public class HashTrieTest
         return new HashTrie<>();
     }
 
+    @Override
+    final <K extends Sequence> HashTrie<K, String> onCreateAbstractTrie() {
+        return new HashTrie<>();
+    }
+
     @Test
     public void testConstructorWithMapParameter() {
         String value1 = "foo";
@@ -202,10 +205,240 @@ public class HashTrieTest
         assertNull(subTrie.getRootNode());
     }
 
+    @Test
+    public final void testForEachWithPrefix() {
+        testPutWithNullKey();
+        Map<StringSequence, String> map = new HashMap<>();
+        trie.forEachWithPrefix(new StringSequence("te"), map::put);
+        assertEquals(3, map.size());
+        assertEquals("tea", map.get(new StringSequence("tea")));
+        assertEquals("ted", map.get(new StringSequence("ted")));
+        assertEquals("ten", map.get(new StringSequence("ten")));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNull() {
+        testPutWithNullKey();
+        Map<StringSequence, String> map = new HashMap<>();
+        trie.forEachWithPrefix(null, map::put);
+        assertEquals(9, map.size());
+        assertEquals("null", map.get(null));
+        assertEquals("inn", map.get(new StringSequence("inn")));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        testPutWithNullKey();
+        trie.forEachWithPrefix(new StringSequence("x"), (key, value) -> fail());
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPutWithNullKey();
+        assertEquals(9, trie.countWithPrefix(null));
+        assertEquals(9, trie.countWithPrefix(new StringSequence("")));
+        assertEquals(4, trie.countWithPrefix(new StringSequence("t")));
+        assertEquals(3, trie.countWithPrefix(new StringSequence("te")));
+        assertEquals(1, trie.countWithPrefix(new StringSequence("tea")));
+        assertEquals(2, trie.countWithPrefix(new StringSequence("in")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("teas")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("x")));
+    }
+
+    @Test
+    public final void testCountWithPrefixAfterRemoval() {
+        testPutWithNullKey();
+        trie.remove(new StringSequence("ted"));
+        assertEquals(8, trie.countWithPrefix(null));
+        assertEquals(2, trie.countWithPrefix(new StringSequence("te")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("ted")));
+    }
+
+    @Test
+    public final void testCountWithPrefixIfTrieIsEmpty() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        testPutWithNullKey();
+        assertTrue(trie.containsPrefix(null));
+        assertTrue(trie.containsPrefix(new StringSequence("t")));
+        assertTrue(trie.containsPrefix(new StringSequence("inn")));
+        assertFalse(trie.containsPrefix(new StringSequence("inne")));
+        assertFalse(trie.containsPrefix(new StringSequence("x")));
+    }
+
     @Test
     public void testToString() {
         testPut3();
         assertEquals("HashTrie [tea=tea, ted=ted, to=to]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testValueIndex() {
+        assertFalse(trie.isValueIndexed());
+        trie.put(new StringSequence("tea"), "drink");
+        trie.setValueIndexed(true);
+        assertTrue(trie.isValueIndexed());
+        trie.put(new StringSequence("water"), "drink");
+        trie.put(null, "empty");
+        trie.put(new StringSequence("ten"), "number");
+        assertTrue(trie.containsValue("drink"));
+        assertTrue(trie.containsValue("empty"));
+        assertFalse(trie.containsValue("foo"));
+        assertEquals(new HashSet<>(Arrays.asList(new StringSequence("tea"),
+                new StringSequence("water"))), trie.keysForValue("drink"));
+        assertEquals(Collections.singleton(null), trie.keysForValue("empty"));
+        assertTrue(trie.keysForValue("foo").isEmpty());
+        trie.put(new StringSequence("tea"), "hot");
+        assertEquals(Collections.singleton(new StringSequence("water")),
+                trie.keysForValue("drink"));
+        assertTrue(trie.values().remove("hot"));
+        assertFalse(trie.values().remove("hot"));
+        assertFalse(trie.containsKey(new StringSequence("tea")));
+        assertEquals("empty", trie.remove(new StringSequence("")));
+        assertFalse(trie.containsValue("empty"));
+        trie.clear();
+        assertFalse(trie.containsValue("drink"));
+        assertTrue(trie.isValueIndexed());
+        trie.setValueIndexed(false);
+        assertFalse(trie.isValueIndexed());
+    }
+
+    @Test
+    public final void testValueIndexIsRebuiltAfterMerge() {
+        trie.setValueIndexed(true);
+        trie.put(new StringSequence("tea"), "drink");
+        assertTrue(trie.containsValue("drink"));
+        HashTrie<StringSequence, String> other = new HashTrie<>();
+        other.put(new StringSequence("water"), "drink");
+        other.put(new StringSequence("ten"), "number");
+        trie.union(other);
+        assertTrue(trie.isValueIndexed());
+        assertEquals(new HashSet<>(Arrays.asList(new StringSequence("tea"),
+                new StringSequence("water"))), trie.keysForValue("drink"));
+        assertTrue(trie.values().remove("number"));
+        assertFalse(trie.containsValue("number"));
+    }
+
+    @Test
+    public final void testKeysForValueIfValuesAreNotIndexed() {
+        trie.put(new StringSequence("tea"), "drink");
+        trie.put(new StringSequence("water"), "drink");
+        trie.put(new StringSequence("ten"), "number");
+        assertEquals(new HashSet<>(Arrays.asList(new StringSequence("tea"),
+                new StringSequence("water"))), trie.keysForValue("drink"));
+        assertTrue(trie.containsValue("number"));
+        assertFalse(trie.containsValue("foo"));
+    }
+
+    @Test
+    public final void testValueIndexWithRandomOperations() {
+        Random random = new Random(42);
+        trie.setValueIndexed(true);
+        Map<StringSequence, String> map = new HashMap<>();
+
+        for (int i = 0; i < 3000; i++) {
+            StringSequence key = new StringSequence(Integer.toString(random.nextInt(300), 4));
+            String value = Integer.toString(random.nextInt(20));
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(map.remove(key), trie.remove(key));
+            } else if (random.nextInt(10) == 0) {
+                assertEquals(map.containsValue(value), trie.values().remove(value));
+                map.keySet().retainAll(trie.keySet());
+            } else {
+                assertEquals(map.put(key, value), trie.put(key, value));
+            }
+        }
+
+        assertEquals(map, trie);
+
+        for (int i = 0; i < 20; i++) {
+            String value = Integer.toString(i);
+            Set<StringSequence> keys = new HashSet<>();
+            map.forEach((key, currentValue) -> {
+                if (currentValue.equals(value)) {
+                    keys.add(key);
+                }
+            });
+            assertEquals(keys, trie.keysForValue(value));
+            assertEquals(map.containsValue(value), trie.containsValue(value));
+        }
+    }
+
+    @Test
+    public final void testHashCodeFollowsMapContract() {
+        assertEquals(0, trie.hashCode());
+        trie.put(new StringSequence("tea"), "tea");
+        trie.put(new StringSequence("ten"), "ten");
+        trie.put(null, "empty");
+        assertEquals(new HashMap<>(trie).hashCode(), trie.hashCode());
+        trie.remove(new StringSequence("tea"));
+        assertEquals(new HashMap<>(trie).hashCode(), trie.hashCode());
+    }
+
+    @Test
+    public final void testMergeGraftsSubtrees() {
+        trie.put(new StringSequence("tea"), "tea");
+        trie.put(new StringSequence("ten"), "ten");
+        HashTrie<StringSequence, String> other = new HashTrie<>();
+        other.put(new StringSequence("tea"), "other");
+        other.put(new StringSequence("to"), "to");
+        other.put(new StringSequence("inn"), "inn");
+        trie.merge(other, (value, otherValue) -> value + otherValue);
+        assertEquals(4, trie.size());
+        assertEquals("teaother", trie.get(new StringSequence("tea")));
+        assertEquals("to", trie.get(new StringSequence("to")));
+        assertEquals("inn", trie.get(new StringSequence("inn")));
+        assertEquals(3, trie.countWithPrefix(new StringSequence("t")));
+        Node<StringSequence, String> node = getSuccessor(getRootNode(trie), "i");
+        assertNotSame(getSuccessor(getRootNode(other), "i"), node);
+        other.remove(new StringSequence("inn"));
+        assertEquals("inn", trie.get(new StringSequence("inn")));
+    }
+
+    @Test
+    public final void testMergeWithTrieOfDifferentClass() {
+        trie.put(new StringSequence("tea"), "tea");
+        PatriciaTrie<StringSequence, String> other = new PatriciaTrie<>();
+        other.put(new StringSequence("tea"), "other");
+        other.put(new StringSequence("ten"), "ten");
+        trie.union(other);
+        assertEquals(2, trie.size());
+        assertEquals("tea", trie.get(new StringSequence("tea")));
+        assertEquals("ten", trie.get(new StringSequence("ten")));
+    }
+
+    @Test
+    public final void testMergeWithValueIndex() {
+        trie.setValueIndexed(true);
+        trie.put(new StringSequence("tea"), "a");
+        HashTrie<StringSequence, String> other = new HashTrie<>();
+        other.put(new StringSequence("ten"), "a");
+        trie.merge(other, (value, otherValue) -> value);
+        assertEquals(new HashSet<>(Arrays.asList(new StringSequence("tea"),
+                new StringSequence("ten"))), trie.keysForValue("a"));
+    }
+
+    @Test
+    public final void testRemovePrefix() {
+        trie.put(new StringSequence("tea"), "tea");
+        trie.put(new StringSequence("ten"), "ten");
+        trie.put(new StringSequence("inn"), "inn");
+        trie.put(null, "empty");
+        assertEquals(1, trie.removePrefix(new StringSequence("in")));
+        verifySuccessors(getRootNode(trie), "t");
+        assertEquals(1, trie.removePrefix(new StringSequence("tea")));
+        Node<StringSequence, String> node = getSuccessor(getRootNode(trie), "t");
+        verifySuccessors(getSuccessor(node, "e"), "n");
+        assertEquals(1, trie.removePrefix(new StringSequence("t")));
+        assertEquals(Collections.singletonMap(null, "empty"), trie);
+        verifySuccessors(getRootNode(trie));
+        assertEquals(1, trie.removePrefix(null));
+        assertTrue(trie.isEmpty());
+    }
+
+}
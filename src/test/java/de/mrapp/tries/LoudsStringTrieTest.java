@@ -0,0 +1,416 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link LoudsStringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class LoudsStringTrieTest {
+
+    /**
+     * Creates and returns a trie, which contains "romane", "romanus", "romulus", "rubens", "ruber",
+     * "rubicon" and "rubicundus", as well as the empty key.
+     *
+     * @return The trie, which has been created, as an instance of the class {@link
+     * LoudsStringTrie}
+     */
+    private LoudsStringTrie<String> createTrie() {
+        PatriciaStringTrie<String> source = new PatriciaStringTrie<>();
+
+        for (String key : new String[]{"romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus"}) {
+            source.put(key, key.toUpperCase());
+        }
+
+        source.put(null, "empty");
+        return new LoudsStringTrie<>(source);
+    }
+
+    @Test
+    public final void testConstructor() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(8, trie.size());
+        assertFalse(trie.isEmpty());
+        assertEquals("ROMANE", trie.get("romane"));
+        assertEquals("RUBICUNDUS", trie.get("rubicundus"));
+        assertEquals("empty", trie.get(null));
+        assertEquals("empty", trie.get(""));
+        assertNull(trie.get("roman"));
+        assertNull(trie.get("rubiconx"));
+        assertNull(trie.get(1));
+        assertTrue(trie.containsKey("ruber"));
+        assertFalse(trie.containsKey("rube"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfMapIsNull() {
+        new LoudsStringTrie<String>(null);
+    }
+
+    @Test
+    public final void testConstructorIfMapIsEmpty() {
+        LoudsStringTrie<String> trie = new LoudsStringTrie<>(new HashMap<>());
+        assertTrue(trie.isEmpty());
+        assertNull(trie.get(""));
+        assertNull(trie.get("a"));
+        assertNull(trie.getRootNode());
+        assertEquals(-1, trie.longestPrefixLength("abc", 0, 3));
+        assertFalse(trie.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public final void testIterationOrder() {
+        LoudsStringTrie<String> trie = createTrie();
+        List<String> keys = new ArrayList<>(trie.keySet());
+        assertEquals(Arrays.asList(null, "romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus"), keys);
+    }
+
+    @Test
+    public final void testEquals() {
+        Map<String, String> map = new HashMap<>();
+        map.put("foo", "1");
+        map.put("bar", "2");
+        LoudsStringTrie<String> trie = new LoudsStringTrie<>(map);
+        assertEquals(map, trie);
+        assertEquals(trie, map);
+        assertEquals(map.hashCode(), trie.hashCode());
+    }
+
+    @Test
+    public final void testRandomKeys() {
+        Random random = new Random(42);
+        Map<String, Integer> map = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int length = 1 + random.nextInt(8);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append(random.nextInt(4) == 0 ? (char) (0x4E00 + random.nextInt(64)) :
+                        (char) ('a' + random.nextInt(6)));
+            }
+
+            map.put(key.toString(), i);
+        }
+
+        LoudsStringTrie<Integer> trie = new LoudsStringTrie<>(map);
+        assertEquals(map, trie);
+
+        for (String key : map.keySet()) {
+            assertEquals(map.get(key), trie.get(key));
+            assertNull(trie.get(key + "\u0000"));
+        }
+
+        TreeMap<String, Integer> sortedMap = new TreeMap<>(map);
+        assertEquals(new ArrayList<>(sortedMap.keySet()), new ArrayList<>(trie.keySet()));
+
+        for (String prefix : new String[]{"a", "ab", "abc", "f", "\u4E00", "b\u4E01"}) {
+            SortedMap<String, Integer> subMap =
+                    sortedMap.subMap(prefix, prefix + Character.MAX_VALUE);
+            assertEquals(subMap.size(), trie.countWithPrefix(prefix));
+            List<String> keys = new ArrayList<>();
+            trie.forEachWithPrefix(prefix, (key, value) -> keys.add(key));
+            assertEquals(new ArrayList<>(subMap.keySet()), keys);
+        }
+    }
+
+    @Test
+    public final void testNavigation() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>(null, "empty"), trie.firstEntry());
+        assertNull(trie.firstKey());
+        assertEquals(new AbstractMap.SimpleImmutableEntry<>("rubicundus", "RUBICUNDUS"),
+                trie.lastEntry());
+        assertEquals("rubicundus", trie.lastKey());
+        assertEquals("romane", trie.ceilingKey("roman"));
+        assertEquals("romane", trie.ceilingKey("romane"));
+        assertEquals("romanus", trie.higherKey("romane"));
+        assertEquals("romulus", trie.higherKey("romanz"));
+        assertEquals("rubens", trie.higherKey("romulus"));
+        assertEquals("RUBER", trie.ceilingEntry("rubeo").getValue());
+        assertNull(trie.higherKey("rubicundus"));
+        assertNull(trie.ceilingKey("s"));
+        assertEquals("romane", trie.higherKey(null));
+        assertEquals("romane", trie.floorKey("romane"));
+        assertEquals("romane", trie.floorKey("romanf"));
+        assertEquals("romane", trie.lowerKey("romanus"));
+        assertEquals("romulus", trie.lowerKey("rub"));
+        assertEquals("rubicon", trie.lowerKey("rubiconx"));
+        assertEquals("rubicundus", trie.floorKey("z"));
+        assertEquals("RUBICON", trie.floorEntry("rubicun").getValue());
+        assertNull(trie.lowerKey("romane"));
+        assertEquals("empty", trie.lowerEntry("a").getValue());
+        assertNull(trie.lowerEntry(null));
+        assertEquals("empty", trie.floorEntry("").getValue());
+    }
+
+    @Test
+    public final void testNavigationIfTrieIsEmpty() {
+        LoudsStringTrie<String> trie = new LoudsStringTrie<>(new HashMap<>());
+        assertNull(trie.firstEntry());
+        assertNull(trie.lastEntry());
+        assertNull(trie.ceilingEntry("a"));
+        assertNull(trie.floorEntry("a"));
+        assertTrue(trie.headMap("a").isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testFirstKeyThrowsExceptionIfTrieIsEmpty() {
+        new LoudsStringTrie<String>(new HashMap<>()).firstKey();
+    }
+
+    @Test
+    public final void testNavigationWithRandomKeys() {
+        Random random = new Random(42);
+        TreeMap<String, Integer> sortedMap = new TreeMap<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int length = 1 + random.nextInt(6);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append((char) ('a' + random.nextInt(4)));
+            }
+
+            sortedMap.put(key.toString(), i);
+        }
+
+        LoudsStringTrie<Integer> trie = new LoudsStringTrie<>(sortedMap);
+
+        for (int i = 0; i < 1000; i++) {
+            int length = 1 + random.nextInt(7);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append((char) ('a' + random.nextInt(5)));
+            }
+
+            String string = key.toString();
+            assertEquals(sortedMap.ceilingEntry(string), trie.ceilingEntry(string));
+            assertEquals(sortedMap.higherEntry(string), trie.higherEntry(string));
+            assertEquals(sortedMap.floorEntry(string), trie.floorEntry(string));
+            assertEquals(sortedMap.lowerEntry(string), trie.lowerEntry(string));
+        }
+
+        assertEquals(sortedMap.firstEntry(), trie.firstEntry());
+        assertEquals(sortedMap.lastEntry(), trie.lastEntry());
+        assertEquals(sortedMap.subMap("ab", true, "c", false), trie.subMap("ab", true, "c", false));
+        assertEquals(new ArrayList<>(sortedMap.descendingKeySet()),
+                new ArrayList<>(trie.descendingKeySet()));
+    }
+
+    @Test
+    public final void testSubMap() {
+        LoudsStringTrie<String> trie = createTrie();
+        NavigableMap<String, String> subMap = trie.subMap("romanus", true, "rubicon", false);
+        assertTrue(subMap instanceof LoudsStringTrie);
+        assertEquals(Arrays.asList("romanus", "romulus", "rubens", "ruber"),
+                new ArrayList<>(subMap.keySet()));
+        assertEquals(Arrays.asList("romulus", "rubens", "ruber", "rubicon"),
+                new ArrayList<>(trie.subMap("romanus", false, "rubicon", true).keySet()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSubMapThrowsExceptionIfRangeIsInvalid() {
+        createTrie().subMap("rubicon", "romane");
+    }
+
+    @Test
+    public final void testHeadMap() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(Arrays.asList(null, "romane", "romanus"),
+                new ArrayList<>(trie.headMap("romulus").keySet()));
+        assertEquals(Arrays.asList(null, "romane", "romanus", "romulus"),
+                new ArrayList<>(trie.headMap("romulus", true).keySet()));
+        assertTrue(trie.headMap(null).isEmpty());
+    }
+
+    @Test
+    public final void testTailMap() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(Arrays.asList("rubicon", "rubicundus"),
+                new ArrayList<>(trie.tailMap("rubicon").keySet()));
+        assertEquals(Collections.singletonList("rubicundus"),
+                new ArrayList<>(trie.tailMap("rubicon", false).keySet()));
+        assertEquals(trie, trie.tailMap(null));
+    }
+
+    @Test
+    public final void testDescendingMap() {
+        LoudsStringTrie<String> trie = createTrie();
+        NavigableMap<String, String> descendingMap = trie.descendingMap();
+        assertEquals(Arrays.asList("rubicundus", "rubicon", "ruber", "rubens", "romulus",
+                "romanus", "romane", null), new ArrayList<>(descendingMap.keySet()));
+        assertEquals("empty", descendingMap.get(null));
+        assertEquals(new ArrayList<>(trie.keySet()), new ArrayList<>(trie.navigableKeySet()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testPollFirstEntryThrowsException() {
+        createTrie().pollFirstEntry();
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        LoudsStringTrie<String> trie = createTrie();
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("ROMANUS", trie.get(key, 1, 8));
+        assertEquals("empty", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 9));
+        assertTrue(trie.containsKey(key, 1, 8));
+        assertFalse(trie.containsKey(key, 1, 7));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetWithCharSequenceThrowsExceptionIfRegionIsInvalid() {
+        createTrie().get("abc", 1, 4);
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(6, trie.longestPrefixLength("romanesque", 0, 10));
+        assertEquals(5, trie.longestPrefixLength("xruberx", 1, 7));
+        assertEquals(0, trie.longestPrefixLength("roma", 0, 4));
+        assertEquals(0, trie.longestPrefixLength("x", 0, 1));
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        LoudsStringTrie<String> trie = createTrie();
+        assertEquals(8, trie.countWithPrefix(null));
+        assertEquals(7, trie.countWithPrefix("r"));
+        assertEquals(4, trie.countWithPrefix("rub"));
+        assertEquals(2, trie.countWithPrefix("rubic"));
+        assertEquals(1, trie.countWithPrefix("rubicon"));
+        assertEquals(0, trie.countWithPrefix("rubiconx"));
+        assertEquals(0, trie.countWithPrefix("s"));
+        assertTrue(trie.containsPrefix("roman"));
+        assertFalse(trie.containsPrefix("romanx"));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        LoudsStringTrie<String> trie = createTrie();
+        List<String> keys = new ArrayList<>();
+        trie.forEachWithPrefix("rube", (key, value) -> keys.add(key));
+        assertEquals(Arrays.asList("rubens", "ruber"), keys);
+        keys.clear();
+        trie.forEachWithPrefix("x", (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    public final void testSubTrie() {
+        LoudsStringTrie<String> trie = createTrie();
+        LoudsStringTrie<String> subTrie = trie.subTrie("roman");
+        assertEquals(2, subTrie.size());
+        assertEquals("ROMANE", subTrie.get("romane"));
+        assertEquals("ROMANUS", subTrie.get("romanus"));
+        assertTrue(trie.subTrie("ruber").isEmpty());
+        assertEquals(7, trie.subTrie(null).size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testSubTrieThrowsExceptionIfPrefixIsNotContained() {
+        createTrie().subTrie("x");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testPutThrowsException() {
+        createTrie().put("foo", "bar");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testRemoveThrowsException() {
+        createTrie().remove("romane");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testClearThrowsException() {
+        createTrie().clear();
+    }
+
+    @Test
+    public final void testGetRootNode() {
+        Node<String, String> rootNode = createTrie().getRootNode();
+        assertNotNull(rootNode);
+        assertNull(rootNode.getPredecessor());
+        assertEquals("empty", rootNode.getValue());
+        assertEquals(8, rootNode.getSuccessorValueCount());
+        assertEquals(1, rootNode.getSuccessorCount());
+        Node<String, String> node = rootNode.getSuccessor(0);
+        assertEquals(node, rootNode.getSuccessor("r"));
+        assertNull(node.getNodeValue());
+        assertEquals(2, node.getSuccessorCount());
+        assertEquals("o", node.getSuccessorKey(0));
+        assertEquals("u", node.getSuccessorKey(1));
+        assertEquals(1, node.indexOf("u"));
+        assertEquals(-1, node.indexOf("x"));
+        assertNull(node.getSuccessor("x"));
+        assertEquals("r", node.getPredecessor().getKey());
+        assertEquals(rootNode, node.getPredecessor().getValue());
+        node = node.getSuccessor(1);
+        assertEquals(4, node.getSuccessorValueCount());
+
+        for (char character : "bicon".toCharArray()) {
+            node = node.getSuccessor(String.valueOf(character));
+            assertNotNull(node);
+        }
+
+        assertEquals("RUBICON", node.getValue());
+        assertEquals(0, node.getSuccessorCount());
+        assertEquals(1, node.getSuccessorValueCount());
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGetRootNodeIsReadOnly() {
+        createTrie().getRootNode().removeSuccessor("r");
+    }
+
+    @Test
+    public final void testSerialization() throws IOException, ClassNotFoundException {
+        LoudsStringTrie<String> trie = createTrie();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(trie);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(trie, objectInputStream.readObject());
+        }
+    }
+
+    @Test
+    public final void testToString() {
+        LoudsStringTrie<String> trie =
+                new LoudsStringTrie<>(Collections.singletonMap("a", "b"));
+        assertEquals("LoudsStringTrie [a=b]", trie.toString());
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link OffHeapStringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class OffHeapStringTrieTest extends AbstractTrieTest<String, OffHeapStringTrie<String>> {
+
+    @Override
+    final OffHeapStringTrie<String> onCreateTrie() {
+        return new OffHeapStringTrie<>();
+    }
+
+    @Override
+    final String convertToSequence(@NotNull final String string) {
+        return string;
+    }
+
+    @Override
+    final Node<String, String> getRootNode(@NotNull final OffHeapStringTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    /**
+     * Adds "romane", "romanus", "romulus", "rubicon", "rubens", "ruber" and "rubicundus" to the
+     * trie.
+     */
+    @Test
+    public final void testPut() {
+        for (String string : new String[]{"romane", "romanus", "romulus", "rubicon", "rubens",
+                "ruber", "rubicundus"}) {
+            assertNull(trie.put(string, string));
+        }
+
+        assertEquals(7, trie.size());
+        assertEquals("rubens", trie.get("rubens"));
+        assertEquals("romane", trie.put("romane", "replaced"));
+        assertEquals("replaced", trie.get("romane"));
+        assertEquals(7, trie.size());
+        assertNull(trie.get("rom"));
+        assertNull(trie.get("rubicundusx"));
+        assertFalse(trie.containsKey("ru"));
+    }
+
+    @Test
+    public final void testConstructorWithMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("foo", "bar");
+        map.put(null, "empty");
+        OffHeapStringTrie<String> trie = new OffHeapStringTrie<>(map);
+        assertEquals(map, trie);
+    }
+
+    @Test
+    public final void testGetRootNode() {
+        for (String string : new String[]{"b", "ba", "a", "c", ""}) {
+            trie.put(string, string);
+        }
+
+        Node<String, String> rootNode = getRootNode(trie);
+        verifyRootNode(rootNode, "");
+        verifySuccessors(rootNode, "a", "b", "c");
+        assertEquals(5, rootNode.getSuccessorValueCount());
+        assertEquals("a", rootNode.getFirstSuccessorKey());
+        assertEquals("c", rootNode.getLastSuccessorKey());
+        assertEquals(1, rootNode.indexOf("b"));
+        assertEquals(-1, rootNode.indexOf("d"));
+        verifyLeaf(rootNode.getSuccessor(0), "a");
+        verifyLeaf(getSuccessor(rootNode, "c"), "c");
+        Node<String, String> bSuccessor = getSuccessor(rootNode, "b");
+        assertEquals("b", bSuccessor.getValue());
+        assertEquals(2, bSuccessor.getSuccessorValueCount());
+        verifySuccessors(bSuccessor, "a");
+        verifyLeaf(getSuccessor(bSuccessor, "a"), "ba");
+        assertEquals("b", bSuccessor.getPredecessor().getKey());
+        assertEquals(rootNode, bSuccessor.getPredecessor().getValue());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGetRootNodeIsReadOnly() {
+        trie.put("a", "a");
+        getRootNode(trie).addSuccessor("b");
+    }
+
+    @Test
+    public final void testPutAndRemoveEmptyKey() {
+        testPut();
+        assertNull(trie.put("", "empty"));
+        assertEquals("empty", trie.get(null));
+        assertEquals("empty", trie.get(""));
+        assertEquals(8, trie.size());
+        assertEquals("empty", trie.remove(null));
+        assertFalse(trie.containsKey(""));
+        assertEquals(7, trie.size());
+    }
+
+    @Test
+    public final void testRemove() {
+        testPut();
+        assertEquals("rubicon", trie.remove("rubicon"));
+        assertNull(trie.remove("rubicon"));
+        assertNull(trie.remove("rub"));
+        assertEquals(6, trie.size());
+        assertEquals("rubicundus", trie.get("rubicundus"));
+
+        for (String string : new String[]{"replaced", "romanus", "romulus", "rubens", "ruber",
+                "rubicundus"}) {
+            assertEquals(string, trie.remove(string.equals("replaced") ? "romane" : string));
+        }
+
+        assertTrue(trie.isEmpty());
+        assertNull(trie.getRootNode());
+    }
+
+    @Test
+    public final void testRandomOperations() {
+        Random random = new Random(42);
+        OffHeapStringTrie<String> trie = new OffHeapStringTrie<>();
+        Map<String, String> map = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int length = 1 + random.nextInt(6);
+            StringBuilder key = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                key.append((char) ('a' + random.nextInt(4)));
+            }
+
+            String string = key.toString();
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(map.remove(string), trie.remove(string));
+            } else {
+                assertEquals(map.put(string, string + i), trie.put(string, string + i));
+            }
+
+            assertEquals(map.size(), trie.size());
+        }
+
+        assertEquals(map, trie);
+        assertEquals(map.entrySet(), trie.entrySet());
+        assertEquals(new ArrayList<>(new TreeMap<>(map).keySet()),
+                new ArrayList<>(trie.keySet()));
+        int count = 0;
+
+        for (String key : map.keySet()) {
+            if (key.startsWith("ab")) {
+                count++;
+            }
+        }
+
+        assertEquals(count, trie.countWithPrefix("ab"));
+        trie.entrySet().removeIf(entry -> entry.getKey().startsWith("a"));
+        map.entrySet().removeIf(entry -> entry.getKey().startsWith("a"));
+        assertEquals(map, trie);
+    }
+
+    @Test
+    public final void testRecordsAreReused() {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 70000; j++) {
+                trie.put(Integer.toString(j), "value");
+            }
+
+            assertEquals(70000, trie.size());
+            assertEquals(11111, trie.countWithPrefix("1"));
+
+            for (int j = 0; j < 70000; j++) {
+                assertEquals("value", trie.remove(Integer.toString(j)));
+            }
+
+            assertTrue(trie.isEmpty());
+            assertEquals(0, trie.countWithPrefix("1"));
+        }
+    }
+
+    @Test
+    public final void testIterationOrder() {
+        testPut();
+        trie.put("", "empty");
+        List<String> keys = new ArrayList<>(trie.keySet());
+        assertEquals(Arrays.asList(null, "romane", "romanus", "romulus", "rubens", "ruber",
+                "rubicon", "rubicundus"), keys);
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        testPut();
+        trie.put("", "empty");
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("romanus", trie.get(key, 1, 8));
+        assertEquals("empty", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 9));
+        assertTrue(trie.containsKey(key, 1, 8));
+        assertFalse(trie.containsKey(key, 1, 7));
+        assertFalse(trie.containsKey("rx", 0, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetWithCharSequenceThrowsExceptionIfRegionIsInvalid() {
+        trie.get("abc", 2, 1);
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        testPut();
+        assertEquals(6, trie.longestPrefixLength("romanesque", 0, 10));
+        assertEquals(-1, trie.longestPrefixLength("roma", 0, 4));
+        assertEquals(5, trie.longestPrefixLength("xruberx", 1, 7));
+        trie.put("", "empty");
+        assertEquals(0, trie.longestPrefixLength("roma", 0, 4));
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPut();
+        assertEquals(7, trie.countWithPrefix(null));
+        assertEquals(7, trie.countWithPrefix("r"));
+        assertEquals(4, trie.countWithPrefix("rub"));
+        assertEquals(2, trie.countWithPrefix("rubic"));
+        assertEquals(1, trie.countWithPrefix("rubicon"));
+        assertEquals(0, trie.countWithPrefix("rubiconx"));
+        assertEquals(0, trie.countWithPrefix("x"));
+        assertTrue(trie.containsPrefix("roman"));
+        assertFalse(trie.containsPrefix("romanx"));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        testPut();
+        Set<String> keys = new HashSet<>();
+        trie.forEachWithPrefix("rub", (key, value) -> keys.add(key));
+        assertEquals(new HashSet<>(Arrays.asList("rubicon", "rubens", "ruber", "rubicundus")),
+                keys);
+        keys.clear();
+        trie.forEachWithPrefix("rubicu", (key, value) -> keys.add(key));
+        assertEquals(Collections.singleton("rubicundus"), keys);
+        keys.clear();
+        trie.forEachWithPrefix("x", (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    public final void testSubTrie() {
+        testPut();
+        OffHeapStringTrie<String> subTrie = trie.subTrie("rube");
+        assertEquals(2, subTrie.size());
+        assertEquals("rubens", subTrie.get("rubens"));
+        assertEquals("ruber", subTrie.get("ruber"));
+        assertTrue(trie.subTrie("rubicon").isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public final void testSubTrieThrowsExceptionIfPrefixIsNotContained() {
+        testPut();
+        trie.subTrie("x");
+    }
+
+    @Test
+    public final void testIteratorRemove() {
+        testPut();
+        Iterator<Map.Entry<String, String>> iterator = trie.entrySet().iterator();
+        Set<String> keys = new HashSet<>();
+
+        while (iterator.hasNext()) {
+            String key = iterator.next().getKey();
+            keys.add(key);
+
+            if (key.startsWith("rub")) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(7, keys.size());
+        assertEquals(Arrays.asList("romane", "romanus", "romulus"), new ArrayList<>(trie.keySet()));
+        assertEquals(3, trie.size());
+        assertEquals(0, trie.countWithPrefix("rub"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testIteratorThrowsExceptionIfTrieIsModified() {
+        testPut();
+        Iterator<Map.Entry<String, String>> iterator = trie.entrySet().iterator();
+        iterator.next();
+        trie.put("x", "x");
+        iterator.next();
+    }
+
+    @Test
+    public final void testSerialization() throws IOException, ClassNotFoundException {
+        testPut();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(trie);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(trie, objectInputStream.readObject());
+        }
+    }
+
+    @Test
+    public final void testToString() {
+        trie.put("a", "b");
+        assertEquals("OffHeapStringTrie [a=b]", trie.toString());
+    }
+
+}
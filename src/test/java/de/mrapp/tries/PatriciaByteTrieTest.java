@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.ByteSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link PatriciaByteTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class PatriciaByteTrieTest
+        extends AbstractPatriciaTrieTest<ByteSequence, PatriciaByteTrie<String>> {
+
+    @Override
+    final PatriciaByteTrie<String> onCreateTrie() {
+        return new PatriciaByteTrie<>();
+    }
+
+    @Override
+    final ByteSequence convertToSequence(@NotNull final String string) {
+        return new ByteSequence(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    final Node<ByteSequence, String> getRootNode(@NotNull final PatriciaByteTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<ByteSequence, String> map = new HashMap<>();
+        map.put(convertToSequence("foo"), "foo");
+        map.put(convertToSequence("bar"), "bar");
+        PatriciaByteTrie<String> trie = new PatriciaByteTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(convertToSequence("foo")));
+        assertEquals("bar", trie.get(convertToSequence("bar")));
+        assertNull(trie.comparator());
+    }
+
+    @Test
+    public final void testByteArrayMethods() {
+        byte[] key = {(byte) 192, (byte) 168, 0, 1};
+        byte[] otherKey = {(byte) 192, (byte) 168, 0, 2};
+        assertNull(trie.put(key, "foo"));
+        assertNull(trie.put(otherKey, "bar"));
+        assertEquals("foo", trie.get(new byte[]{(byte) 192, (byte) 168, 0, 1}));
+        assertTrue(trie.containsKey(otherKey));
+        assertFalse(trie.containsKey(new byte[]{(byte) 192, (byte) 168}));
+        assertTrue(trie.containsPrefix(new byte[]{(byte) 192, (byte) 168}));
+        assertEquals(2, trie.countWithPrefix(new byte[]{(byte) 192, (byte) 168, 0}));
+        SortedByteTrie<String> subTrie = trie.subTrie(new byte[]{(byte) 192, (byte) 168, 0});
+        assertEquals(2, subTrie.size());
+        assertEquals("bar", subTrie.get(otherKey));
+        assertEquals("foo", trie.remove(key));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testBytesAreSortedAsUnsignedValues() {
+        byte[] key1 = {1};
+        byte[] key2 = {(byte) 0x80, 2};
+        byte[] key3 = {(byte) 0x80, 3};
+        byte[] key4 = {(byte) 0xFF};
+        trie.put(key4, "4");
+        trie.put(key2, "2");
+        trie.put(key1, "1");
+        trie.put(key3, "3");
+        assertEquals(Arrays.asList("1", "2", "3", "4"), new ArrayList<>(trie.values()));
+        assertEquals(new ByteSequence(key1), trie.firstKey());
+        assertEquals(new ByteSequence(key4), trie.lastKey());
+        assertEquals(new ByteSequence(key3), trie.higherKey(new ByteSequence(key2)));
+    }
+
+    @Test
+    public void testToString() {
+        testPut3();
+        assertEquals("PatriciaByteTrie [726f6d=rom, 726f6d616e65=romane, 726f6d616e7573=romanus]",
+                trie.toString());
+    }
+
+}
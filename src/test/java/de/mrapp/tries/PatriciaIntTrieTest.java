@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.IntSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link PatriciaIntTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class PatriciaIntTrieTest
+        extends AbstractPatriciaTrieTest<IntSequence, PatriciaIntTrie<String>> {
+
+    @Override
+    final PatriciaIntTrie<String> onCreateTrie() {
+        return new PatriciaIntTrie<>();
+    }
+
+    @Override
+    final IntSequence convertToSequence(@NotNull final String string) {
+        return new IntSequence(string.chars().toArray());
+    }
+
+    @Override
+    final Node<IntSequence, String> getRootNode(@NotNull final PatriciaIntTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<IntSequence, String> map = new HashMap<>();
+        map.put(IntSequence.parse("1.3.6"), "foo");
+        map.put(IntSequence.parse("1.3.7"), "bar");
+        PatriciaIntTrie<String> trie = new PatriciaIntTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(IntSequence.parse("1.3.6")));
+        assertEquals("bar", trie.get(IntSequence.parse("1.3.7")));
+        assertNull(trie.comparator());
+    }
+
+    @Test
+    public final void testIntArrayMethods() {
+        int[] key = {1, 3, 6, 1, 2, 1, 1};
+        int[] otherKey = {1, 3, 6, 1, 2, 1, 2};
+        assertNull(trie.put(key, "sysDescr"));
+        assertNull(trie.put(otherKey, "sysObjectID"));
+        assertEquals("sysDescr", trie.get(new int[]{1, 3, 6, 1, 2, 1, 1}));
+        assertTrue(trie.containsKey(otherKey));
+        assertFalse(trie.containsKey(new int[]{1, 3, 6}));
+        assertTrue(trie.containsPrefix(new int[]{1, 3, 6}));
+        assertEquals(2, trie.countWithPrefix(new int[]{1, 3, 6, 1, 2, 1}));
+        SortedIntTrie<String> subTrie = trie.subTrie(new int[]{1, 3, 6});
+        assertEquals(2, subTrie.size());
+        assertEquals("sysObjectID", subTrie.get(otherKey));
+        assertEquals("sysDescr", trie.remove(key));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testElementsAreSortedAsPrimitiveValues() {
+        trie.put(IntSequence.parse("1.10"), "3");
+        trie.put(IntSequence.parse("1.9"), "2");
+        trie.put(IntSequence.parse("1.-1"), "1");
+        trie.put(IntSequence.parse("2"), "4");
+        assertEquals(Arrays.asList("1", "2", "3", "4"), new ArrayList<>(trie.values()));
+        assertEquals(IntSequence.parse("1.-1"), trie.firstKey());
+        assertEquals(IntSequence.parse("1.10"), trie.higherKey(IntSequence.parse("1.9")));
+    }
+
+    @Test
+    public void testToString() {
+        trie.put(IntSequence.parse("1.3.6"), "foo");
+        trie.put(IntSequence.parse("1.3.7"), "bar");
+        assertEquals("PatriciaIntTrie [1.3.6=foo, 1.3.7=bar]", trie.toString());
+    }
+
+}
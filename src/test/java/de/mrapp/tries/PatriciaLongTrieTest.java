@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import de.mrapp.tries.sequence.LongSequence;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link PatriciaLongTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class PatriciaLongTrieTest
+        extends AbstractPatriciaTrieTest<LongSequence, PatriciaLongTrie<String>> {
+
+    @Override
+    final PatriciaLongTrie<String> onCreateTrie() {
+        return new PatriciaLongTrie<>();
+    }
+
+    @Override
+    final LongSequence convertToSequence(@NotNull final String string) {
+        return new LongSequence(string.chars().asLongStream().toArray());
+    }
+
+    @Override
+    final Node<LongSequence, String> getRootNode(@NotNull final PatriciaLongTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<LongSequence, String> map = new HashMap<>();
+        map.put(LongSequence.parse("1.3.6"), "foo");
+        map.put(LongSequence.parse("1.3.7"), "bar");
+        PatriciaLongTrie<String> trie = new PatriciaLongTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get(LongSequence.parse("1.3.6")));
+        assertEquals("bar", trie.get(LongSequence.parse("1.3.7")));
+        assertNull(trie.comparator());
+    }
+
+    @Test
+    public final void testLongArrayMethods() {
+        long[] key = {1, 3, 6, 1, 2, 1, 1};
+        long[] otherKey = {1, 3, 6, 1, 2, 1, 2};
+        assertNull(trie.put(key, "sysDescr"));
+        assertNull(trie.put(otherKey, "sysObjectID"));
+        assertEquals("sysDescr", trie.get(new long[]{1, 3, 6, 1, 2, 1, 1}));
+        assertTrue(trie.containsKey(otherKey));
+        assertFalse(trie.containsKey(new long[]{1, 3, 6}));
+        assertTrue(trie.containsPrefix(new long[]{1, 3, 6}));
+        assertEquals(2, trie.countWithPrefix(new long[]{1, 3, 6, 1, 2, 1}));
+        SortedLongTrie<String> subTrie = trie.subTrie(new long[]{1, 3, 6});
+        assertEquals(2, subTrie.size());
+        assertEquals("sysObjectID", subTrie.get(otherKey));
+        assertEquals("sysDescr", trie.remove(key));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public final void testElementsAreSortedAsPrimitiveValues() {
+        trie.put(LongSequence.parse("1.10000000000"), "3");
+        trie.put(LongSequence.parse("1.9999999999"), "2");
+        trie.put(LongSequence.parse("1.-1"), "1");
+        trie.put(LongSequence.parse("2"), "4");
+        assertEquals(Arrays.asList("1", "2", "3", "4"), new ArrayList<>(trie.values()));
+        assertEquals(LongSequence.parse("1.-1"), trie.firstKey());
+        assertEquals(LongSequence.parse("1.10000000000"),
+                trie.higherKey(LongSequence.parse("1.9999999999")));
+    }
+
+    @Test
+    public void testToString() {
+        trie.put(LongSequence.parse("1.3.6"), "foo");
+        trie.put(LongSequence.parse("1.3.7"), "bar");
+        assertEquals("PatriciaLongTrie [1.3.6=foo, 1.3.7=bar]", trie.toString());
+    }
+
+}
@@ -16,10 +16,9 @@ package de.mrapp.tries;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.nio.CharBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.*;
@@ -334,6 +333,73 @@ public class PatriciaStringTrieTest extends AbstractPatriciaTrieTest<String, Pat
         assertNull(subTrie.getRootNode());
     }
 
+    @Test
+    public final void testForEachWithPrefix() {
+        testPutWithNullKey();
+        List<String> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        trie.forEachWithPrefix("ro", (key, value) -> {
+            keys.add(key);
+            values.add(value);
+        });
+        assertEquals(Arrays.asList("rom", "romane", "romanus", "romulus"), keys);
+        assertEquals(Arrays.asList("rom", "romane", "romanus", "romulus"), values);
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixEndsWithinEdge() {
+        testPutWithNullKey();
+        List<String> keys = new ArrayList<>();
+        trie.forEachWithPrefix("rubicu", (key, value) -> keys.add(key));
+        assertEquals(Arrays.asList("rubicun", "rubicundus"), keys);
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        testPutWithNullKey();
+        trie.forEachWithPrefix("romax", (key, value) -> fail());
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPutWithNullKey();
+        assertEquals(12, trie.countWithPrefix(null));
+        assertEquals(12, trie.countWithPrefix(""));
+        assertEquals(9, trie.countWithPrefix("r"));
+        assertEquals(4, trie.countWithPrefix("ro"));
+        assertEquals(4, trie.countWithPrefix("rom"));
+        assertEquals(2, trie.countWithPrefix("roma"));
+        assertEquals(3, trie.countWithPrefix("rubi"));
+        assertEquals(1, trie.countWithPrefix("rubicundus"));
+        assertEquals(0, trie.countWithPrefix("romax"));
+        assertEquals(0, trie.countWithPrefix("rx"));
+    }
+
+    @Test
+    public final void testCountWithPrefixAfterRemoval() {
+        testPutWithNullKey();
+        trie.remove("romulus");
+        assertEquals(11, trie.countWithPrefix(null));
+        assertEquals(3, trie.countWithPrefix("ro"));
+        assertEquals(0, trie.countWithPrefix("romu"));
+    }
+
+    @Test
+    public final void testCountWithPrefixIfTrieIsEmpty() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix("foo"));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        testPutWithNullKey();
+        assertTrue(trie.containsPrefix(null));
+        assertTrue(trie.containsPrefix("ro"));
+        assertTrue(trie.containsPrefix("rubicu"));
+        assertFalse(trie.containsPrefix("rubicx"));
+        assertFalse(trie.containsPrefix("x"));
+    }
+
     @Test
     public final void testToString() {
         PatriciaStringTrie<String> trie = new PatriciaStringTrie<>();
@@ -342,4 +408,89 @@ public class PatriciaStringTrieTest extends AbstractPatriciaTrieTest<String, Pat
         assertEquals("PatriciaStringTrie [key1=value1, key2=value2]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testGetWithCharSequence() {
+        testPutWithNullKey();
+        StringBuilder key = new StringBuilder("/romanus/");
+        assertEquals("romanus", trie.get(key, 1, 8));
+        assertEquals("rom", trie.get(key, 1, 4));
+        assertEquals("null", trie.get(key, 1, 1));
+        assertNull(trie.get(key, 1, 5));
+        assertNull(trie.get(key, 0, 8));
+        assertNull(trie.get(key, 1, 9));
+        assertEquals("rubicundus", trie.get(CharBuffer.wrap("rubicundus"), 0, 10));
+    }
+
+    @Test
+    public final void testContainsKeyWithCharSequence() {
+        testPutWithNullKey();
+        CharBuffer key = CharBuffer.wrap("/rubens/");
+        assertTrue(trie.containsKey(key, 1, 7));
+        assertTrue(trie.containsKey(key, 0, 0));
+        assertFalse(trie.containsKey(key, 1, 5));
+        assertFalse(trie.containsKey(key, 1, 8));
+    }
+
+    @Test
+    public final void testContainsKeyWithCharSequenceIfTrieIsEmpty() {
+        assertFalse(trie.containsKey("foo", 0, 3));
+        assertEquals(-1, trie.longestPrefixLength("foo", 0, 3));
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        testPutWithNullKey();
+        assertEquals(7, trie.longestPrefixLength("/romanus/", 1, 9));
+        assertEquals(3, trie.longestPrefixLength("/romax", 1, 6));
+        assertEquals(3, trie.longestPrefixLength("/roma", 1, 5));
+        assertEquals(10, trie.longestPrefixLength("rubicundus", 0, 10));
+        assertEquals(7, trie.longestPrefixLength("rubicundus", 0, 9));
+        assertEquals(0, trie.longestPrefixLength("x", 0, 1));
+        trie.remove(null);
+        assertEquals(-1, trie.longestPrefixLength("x", 0, 1));
+        assertEquals(-1, trie.longestPrefixLength("ro", 0, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetWithCharSequenceThrowsExceptionIfRegionIsInvalid() {
+        trie.get("foo", 2, 4);
+    }
+
+    @Test
+    public final void testDiff() {
+        trie.put("romane", "romane");
+        trie.put("romanus", "romanus");
+        trie.put("", "empty");
+        PatriciaStringTrie<String> other = new PatriciaStringTrie<>();
+        other.put("romanus", "changed");
+        other.put("rubens", "rubens");
+        Set<Difference<String, String>> expected = new HashSet<>();
+        expected.add(new Difference<>(Difference.Type.REMOVED, "romane", "romane", null));
+        expected.add(new Difference<>(Difference.Type.REMOVED, null, "empty", null));
+        expected.add(new Difference<>(Difference.Type.CHANGED, "romanus", "romanus",
+                "changed"));
+        expected.add(new Difference<>(Difference.Type.ADDED, "rubens", null, "rubens"));
+        assertEquals(expected, trie.diff(other).collect(Collectors.toSet()));
+        HashStringTrie<String> hashTrie = new HashStringTrie<>();
+        hashTrie.putAll(other);
+        assertEquals(expected, trie.diff(hashTrie).collect(Collectors.toSet()));
+        PatriciaUtf8StringTrie<String> utf8Trie = new PatriciaUtf8StringTrie<>();
+        utf8Trie.putAll(other);
+        assertEquals(expected, trie.diff(utf8Trie).collect(Collectors.toSet()));
+        assertEquals(0, trie.diff(trie).count());
+    }
+
+    @Test
+    public final void testRemovePrefix() {
+        trie.put("romane", "romane");
+        trie.put("romanus", "romanus");
+        trie.put("rubens", "rubens");
+        trie.put("", "empty");
+        assertEquals(2, trie.removePrefix("roman"));
+        assertEquals(2, trie.size());
+        assertEquals("rubens", trie.get("rubens"));
+        assertEquals(2, trie.removePrefix(null));
+        assertTrue(trie.isEmpty());
+    }
+
+}
@@ -18,10 +18,8 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.Ignore;
 import org.junit.Test;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -38,6 +36,11 @@ public class PatriciaTrieTest extends AbstractPatriciaTrieTest<StringSequence, P
         return new PatriciaTrie<>();
     }
 
+    @Override
+    final <K extends Sequence> PatriciaTrie<K, String> onCreateAbstractTrie() {
+        return new PatriciaTrie<>();
+    }
+
     @Override
     final StringSequence convertToSequence(@NotNull String string) {
         return new StringSequence(string);
@@ -327,10 +330,232 @@ public class PatriciaTrieTest extends AbstractPatriciaTrieTest<StringSequence, P
         assertNull(subTrie.getRootNode());
     }
 
+    @Test
+    public final void testForEachWithPrefix() {
+        testPutWithNullKey();
+        List<StringSequence> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        trie.forEachWithPrefix(new StringSequence("ro"), (key, value) -> {
+            keys.add(key);
+            values.add(value);
+        });
+        assertEquals(Arrays.asList(new StringSequence("rom"), new StringSequence("romane"),
+                new StringSequence("romanus"), new StringSequence("romulus")), keys);
+        assertEquals(Arrays.asList("rom", "romane", "romanus", "romulus"), values);
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixEndsWithinEdge() {
+        testPutWithNullKey();
+        List<StringSequence> keys = new ArrayList<>();
+        trie.forEachWithPrefix(new StringSequence("rubicu"), (key, value) -> keys.add(key));
+        assertEquals(Arrays.asList(new StringSequence("rubicun"),
+                new StringSequence("rubicundus")), keys);
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        testPutWithNullKey();
+        trie.forEachWithPrefix(new StringSequence("romax"), (key, value) -> fail());
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPutWithNullKey();
+        assertEquals(12, trie.countWithPrefix(null));
+        assertEquals(12, trie.countWithPrefix(new StringSequence("")));
+        assertEquals(9, trie.countWithPrefix(new StringSequence("r")));
+        assertEquals(4, trie.countWithPrefix(new StringSequence("ro")));
+        assertEquals(4, trie.countWithPrefix(new StringSequence("rom")));
+        assertEquals(2, trie.countWithPrefix(new StringSequence("roma")));
+        assertEquals(3, trie.countWithPrefix(new StringSequence("rubi")));
+        assertEquals(1, trie.countWithPrefix(new StringSequence("rubicundus")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("romax")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("rx")));
+    }
+
+    @Test
+    public final void testCountWithPrefixAfterRemoval() {
+        testPutWithNullKey();
+        trie.remove(new StringSequence("romulus"));
+        assertEquals(11, trie.countWithPrefix(null));
+        assertEquals(3, trie.countWithPrefix(new StringSequence("ro")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("romu")));
+    }
+
+    @Test
+    public final void testCountWithPrefixIfTrieIsEmpty() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        testPutWithNullKey();
+        assertTrue(trie.containsPrefix(null));
+        assertTrue(trie.containsPrefix(new StringSequence("ro")));
+        assertTrue(trie.containsPrefix(new StringSequence("rubicu")));
+        assertFalse(trie.containsPrefix(new StringSequence("rubicx")));
+        assertFalse(trie.containsPrefix(new StringSequence("x")));
+    }
+
     @Test
     public void testToString() {
         testPut3();
         assertEquals("PatriciaTrie [rom=rom, romane=romane, romanus=romanus]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testEdgesShareCanonicalSequences() {
+        trie.put(new StringSequence("ab"), "ab");
+        trie.put(new StringSequence("ac"), "ac");
+        Node<StringSequence, String> rootNode = getRootNode(trie);
+        StringSequence key = rootNode.iterator().next();
+        assertSame(StringSequence.valueOf('a'), key);
+        Node<StringSequence, String> successor = rootNode.getSuccessor(key);
+        assertNotNull(successor);
+        Iterator<StringSequence> iterator = successor.iterator();
+        assertSame(StringSequence.valueOf('b'), iterator.next());
+        assertSame(StringSequence.valueOf('c'), iterator.next());
+    }
+
+    @Test
+    public final void testMergeSplitsEdges() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("rubens"), "rubens");
+        PatriciaTrie<StringSequence, String> other = new PatriciaTrie<>();
+        other.put(new StringSequence("romanus"), "romanus");
+        other.put(new StringSequence("rom"), "rom");
+        other.put(new StringSequence("rubens"), "other");
+        other.put(new StringSequence("x"), "x");
+        trie.merge(other, (value, otherValue) -> value + otherValue);
+        assertEquals(5, trie.size());
+        assertEquals("rom", trie.get(new StringSequence("rom")));
+        assertEquals("romanus", trie.get(new StringSequence("romanus")));
+        assertEquals("romane", trie.get(new StringSequence("romane")));
+        assertEquals("rubensother", trie.get(new StringSequence("rubens")));
+        assertEquals("x", trie.get(new StringSequence("x")));
+        assertEquals(4, other.size());
+        Node<StringSequence, String> rootNode = getRootNode(trie);
+        verifySuccessors(rootNode, "r", "x");
+        Node<StringSequence, String> node = getSuccessor(rootNode, "r");
+        verifySuccessors(node, "om", "ubens");
+        node = getSuccessor(node, "om");
+        assertEquals("rom", node.getValue());
+        verifySuccessors(node, "an");
+        verifySuccessors(getSuccessor(node, "an"), "e", "us");
+        assertEquals(3, trie.countWithPrefix(new StringSequence("rom")));
+    }
+
+    @Test
+    public final void testMergeRemovesKeysIfFunctionReturnsNull() {
+        trie.put(new StringSequence("rom"), "rom");
+        trie.put(new StringSequence("romane"), "romane");
+        PatriciaTrie<StringSequence, String> other = new PatriciaTrie<>();
+        other.put(new StringSequence("rom"), "other");
+        trie.merge(other, (value, otherValue) -> null);
+        assertEquals(Collections.singletonMap(new StringSequence("romane"), "romane"), trie);
+        verifySuccessors(getRootNode(trie), "romane");
+    }
+
+    @Test
+    public final void testMergeIntoEmptyTrie() {
+        PatriciaTrie<StringSequence, String> other = new PatriciaTrie<>();
+        other.put(new StringSequence("romane"), "romane");
+        other.put(new StringSequence("romanus"), "romanus");
+        trie.union(other);
+        assertEquals(other, trie);
+        trie.remove(new StringSequence("romane"));
+        assertEquals(2, other.size());
+    }
+
+    @Test
+    public final void testIntersection() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("romanus"), "romanus");
+        trie.put(new StringSequence("rubens"), "rubens");
+        trie.put(null, "empty");
+        HashTrie<StringSequence, String> other = new HashTrie<>();
+        other.put(new StringSequence("romanus"), "other");
+        other.put(new StringSequence("roman"), "roman");
+        other.put(new StringSequence("rubensx"), "rubensx");
+        other.put(null, "other");
+        trie.intersection(other);
+        Map<StringSequence, String> expected = new HashMap<>();
+        expected.put(new StringSequence("romanus"), "romanus");
+        expected.put(null, "empty");
+        assertEquals(expected, trie);
+        trie.intersection(new PatriciaTrie<>());
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public final void testDiff() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("romanus"), "romanus");
+        trie.put(new StringSequence("rubens"), "rubens");
+        trie.put(null, "empty");
+        HashTrie<StringSequence, String> other = new HashTrie<>();
+        other.put(new StringSequence("romanus"), "changed");
+        other.put(new StringSequence("roman"), "roman");
+        other.put(new StringSequence("rubens"), "rubens");
+        other.put(new StringSequence("x"), "x");
+        Set<Difference<StringSequence, String>> expected = new HashSet<>();
+        expected.add(new Difference<>(Difference.Type.REMOVED, new StringSequence("romane"),
+                "romane", null));
+        expected.add(new Difference<>(Difference.Type.REMOVED, null, "empty", null));
+        expected.add(new Difference<>(Difference.Type.CHANGED, new StringSequence("romanus"),
+                "romanus", "changed"));
+        expected.add(new Difference<>(Difference.Type.ADDED, new StringSequence("roman"), null,
+                "roman"));
+        expected.add(new Difference<>(Difference.Type.ADDED, new StringSequence("x"), null,
+                "x"));
+        assertEquals(expected, trie.diff(other).collect(Collectors.toSet()));
+        assertEquals(0, trie.diff(trie).count());
+        assertEquals(0, trie.diff(new PatriciaTrie<>(trie)).count());
+        assertEquals(4, new PatriciaTrie<StringSequence, String>().diff(trie).count());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testDiffThrowsExceptionIfTrieIsModified() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("romanus"), "romanus");
+        Iterator<Difference<StringSequence, String>> iterator =
+                trie.diff(new PatriciaTrie<>()).iterator();
+        iterator.next();
+        trie.put(new StringSequence("x"), "x");
+        iterator.next();
+    }
+
+    @Test
+    public final void testRemovePrefix() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("romanus"), "romanus");
+        trie.put(new StringSequence("romulus"), "romulus");
+        trie.put(new StringSequence("rubens"), "rubens");
+        assertEquals(2, trie.removePrefix(new StringSequence("roma")));
+        assertEquals(2, trie.size());
+        Node<StringSequence, String> rootNode = getRootNode(trie);
+        verifySuccessors(rootNode, "r");
+        Node<StringSequence, String> node = getSuccessor(rootNode, "r");
+        verifySuccessors(node, "omulus", "ubens");
+        assertEquals(0, trie.removePrefix(new StringSequence("romx")));
+        assertEquals(1, trie.removePrefix(new StringSequence("rubens")));
+        verifySuccessors(getRootNode(trie), "romulus");
+        assertEquals(1, trie.removePrefix(new StringSequence("r")));
+        assertTrue(trie.isEmpty());
+        assertNull(getRootNode(trie));
+        assertEquals(0, trie.removePrefix(new StringSequence("r")));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public final void testRemovePrefixCausesIteratorToThrowException() {
+        trie.put(new StringSequence("romane"), "romane");
+        trie.put(new StringSequence("rubens"), "rubens");
+        Iterator<StringSequence> iterator = trie.keySet().iterator();
+        iterator.next();
+        trie.removePrefix(new StringSequence("rub"));
+        iterator.next();
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link PatriciaUtf8StringTrie}.
+ *
+ * @author Michael Rapp
+ */
+public class PatriciaUtf8StringTrieTest
+        extends AbstractPatriciaTrieTest<String, PatriciaUtf8StringTrie<String>> {
+
+    @Override
+    final PatriciaUtf8StringTrie<String> onCreateTrie() {
+        return new PatriciaUtf8StringTrie<>();
+    }
+
+    @Override
+    final String convertToSequence(@NotNull final String string) {
+        return string;
+    }
+
+    @Override
+    final Node<String, String> getRootNode(@NotNull final PatriciaUtf8StringTrie<String> trie) {
+        return trie.getRootNode();
+    }
+
+    @Test
+    public final void testDefaultConstructor() {
+        PatriciaUtf8StringTrie<String> trie = new PatriciaUtf8StringTrie<>();
+        assertNotNull(trie.comparator());
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testConstructorWithMapParameter() {
+        Map<String, String> map = new HashMap<>();
+        map.put("foo", "foo");
+        map.put("bar", "bar");
+        PatriciaUtf8StringTrie<String> trie = new PatriciaUtf8StringTrie<>(map);
+        assertEquals(2, trie.size());
+        assertEquals("foo", trie.get("foo"));
+        assertEquals("bar", trie.get("bar"));
+    }
+
+    @Test
+    public final void testMultiByteCharacters() {
+        trie.put("stra\u00dfe", "1");
+        trie.put("stra\u00e4t", "2");
+        trie.put("\u65e5\u672c", "3");
+        trie.put("\ud83d\ude00", "4");
+        assertEquals(4, trie.size());
+        assertEquals("1", trie.get("stra\u00dfe"));
+        assertEquals("2", trie.get("stra\u00e4t"));
+        assertEquals("3", trie.get("\u65e5\u672c"));
+        assertEquals("4", trie.get("\ud83d\ude00"));
+        assertNull(trie.get("stra"));
+        assertEquals(2, trie.countWithPrefix("stra"));
+        assertEquals(Arrays.asList("stra\u00dfe", "stra\u00e4t", "\u65e5\u672c", "\ud83d\ude00"),
+                new ArrayList<>(trie.keySet()));
+        assertEquals("stra\u00e4t", trie.higherKey("stra\u00dfe"));
+        assertEquals("2", trie.remove("stra\u00e4t"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public final void testKeysAreSortedByCodePoints() {
+        String supplementary = "\ud83d\ude00";
+        String privateUse = "\ue000";
+        trie.put(supplementary, "2");
+        trie.put(privateUse, "1");
+        assertEquals(Arrays.asList(privateUse, supplementary), new ArrayList<>(trie.keySet()));
+        assertTrue(supplementary.compareTo(privateUse) < 0);
+        assertTrue(trie.comparator().compare(supplementary, privateUse) > 0);
+        assertTrue(trie.comparator().compare("a", "ab") < 0);
+        assertEquals(0, trie.comparator().compare("ab", "ab"));
+        assertEquals(privateUse, trie.firstKey());
+        assertEquals(supplementary, trie.lastKey());
+        SortedMap<String, String> headMap = trie.headMap(supplementary);
+        assertEquals(1, headMap.size());
+        assertEquals(trie.comparator(), headMap.comparator());
+    }
+
+    @Test
+    public final void testAsByteTrie() {
+        trie.put("/index.html", "index");
+        trie.put("/caf\u00e9", "cafe");
+        SortedByteTrie<String> byteTrie = trie.asByteTrie();
+        assertEquals(2, byteTrie.size());
+        assertEquals("index", byteTrie.get("/index.html".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("cafe", byteTrie.get("/caf\u00e9".getBytes(StandardCharsets.UTF_8)));
+        assertNull(byteTrie.get("/caf\u00e9".getBytes(StandardCharsets.ISO_8859_1)));
+        byteTrie.put("/about".getBytes(StandardCharsets.UTF_8), "about");
+        assertEquals("about", trie.get("/about"));
+    }
+
+    @Test
+    public final void testSubTrie() {
+        trie.put("/caf\u00e9/menu", "menu");
+        trie.put("/caf\u00e9/hours", "hours");
+        trie.put("/about", "about");
+        SortedStringTrie<String> subTrie = trie.subTrie("/caf\u00e9");
+        assertEquals(2, subTrie.size());
+        assertEquals("menu", subTrie.get("/caf\u00e9/menu"));
+        assertNull(subTrie.get("/about"));
+    }
+
+    @Test
+    public final void testToString() {
+        PatriciaUtf8StringTrie<String> trie = new PatriciaUtf8StringTrie<>();
+        trie.put("key1", "value1");
+        trie.put("key2", "value2");
+        assertEquals("PatriciaUtf8StringTrie [key1=value1, key2=value2]", trie.toString());
+    }
+
+    @Test
+    public final void testGetWithCharSequence() {
+        trie.put("stra\u00dfe", "1");
+        trie.put("stra", "2");
+        CharBuffer key = CharBuffer.wrap("/stra\u00dfen/");
+        assertEquals("1", trie.get(key, 1, 7));
+        assertTrue(trie.containsKey(key, 1, 5));
+        assertFalse(trie.containsKey(key, 1, 6));
+        assertEquals(6, trie.longestPrefixLength(key, 1, 9));
+        assertEquals(-1, trie.longestPrefixLength(key, 0, 9));
+    }
+
+    @Test
+    public final void testRemovePrefix() {
+        List<String> keys = Arrays.asList("abab", "abb", "b", "bc", "bcc", "caa", "cabcc");
+        keys.forEach(key -> trie.put(key, key));
+        assertEquals(2, trie.removePrefix("ca"));
+        assertEquals(new TreeSet<>(Arrays.asList("abab", "abb", "b", "bc", "bcc")),
+                new TreeSet<>(trie.keySet()));
+        assertEquals("bcc", trie.get("bcc"));
+        assertNull(trie.get("caa"));
+        assertEquals(3, trie.removePrefix("b"));
+        assertEquals(new TreeSet<>(Arrays.asList("abab", "abb")), new TreeSet<>(trie.keySet()));
+        assertEquals(0, trie.removePrefix("c"));
+        assertEquals(2, trie.size());
+        keys.forEach(key -> trie.put(key, key));
+        assertEquals(7, trie.removePrefix(""));
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.keySet().isEmpty());
+        assertNull(trie.get("abab"));
+    }
+
+}
@@ -15,10 +15,12 @@ package de.mrapp.tries;
 
 import org.junit.Test;
 
+import java.util.AbstractMap;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.*;
@@ -242,4 +244,48 @@ public class SortedListStringTrieTest extends AbstractStringNonPatriciaSortedTri
         assertEquals("SortedListStringTrie [key1=value1, key2=value2]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testGetWithCharSequence() {
+        testPutWithNullKey();
+        StringBuilder key = new StringBuilder("/ten/");
+        assertEquals("ten", trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 3));
+        assertTrue(trie.containsKey(key, 1, 4));
+        assertEquals(3, trie.longestPrefixLength(key, 1, 5));
+    }
+
+    @Test
+    public final void testGetWithCharSequenceIfComparatorIsUsed() {
+        SortedListStringTrie<String> trie =
+                new SortedListStringTrie<>(Comparator.reverseOrder());
+        trie.put("ten", "ten");
+        trie.put("te", "te");
+        trie.put("a", "a");
+        StringBuilder key = new StringBuilder("/tent/");
+        assertEquals("ten", trie.get(key, 1, 4));
+        assertNull(trie.get(key, 1, 5));
+        assertTrue(trie.containsKey(key, 1, 3));
+        assertEquals(3, trie.longestPrefixLength(key, 1, 5));
+        assertEquals(-1, trie.longestPrefixLength(key, 0, 5));
+    }
+
+    @Test
+    public final void testSubMapEntrySetContainsAndRemove() {
+        trie.put("", "empty");
+        trie.put("a", "a");
+        trie.put("ab", "ab");
+        trie.put("b", "b");
+        Set<Map.Entry<String, String>> entries = trie.headMap("b").entrySet();
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>((String) null, "empty")));
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>("ab", "ab")));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>("b", "b")));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>("ab", "a")));
+        assertFalse(entries.remove(new AbstractMap.SimpleImmutableEntry<>("b", "b")));
+        assertTrue(entries.remove(new AbstractMap.SimpleImmutableEntry<>("a", "a")));
+        assertTrue(entries.remove(new AbstractMap.SimpleImmutableEntry<>((String) null, "empty")));
+        assertEquals(2, trie.size());
+        assertFalse(trie.containsKey("a"));
+        assertFalse(trie.containsKey(""));
+    }
+
+}
@@ -16,6 +16,7 @@ package de.mrapp.tries;
 import de.mrapp.tries.sequence.StringSequence;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,6 +38,11 @@ public class SortedListTrieTest
         return new SortedListTrie<>();
     }
 
+    @Override
+    final <K extends Sequence> SortedListTrie<K, String> onCreateAbstractTrie() {
+        return new SortedListTrie<>();
+    }
+
     @Test
     public void testConstructorWithComparatorParameter() {
         Comparator<? super StringSequence> comparator = mock(Comparator.class);
@@ -227,10 +233,102 @@ public class SortedListTrieTest
         assertNull(subTrie.getRootNode());
     }
 
+    @Test
+    public final void testForEachWithPrefix() {
+        testPutWithNullKey();
+        Map<StringSequence, String> map = new HashMap<>();
+        trie.forEachWithPrefix(new StringSequence("te"), map::put);
+        assertEquals(3, map.size());
+        assertEquals("tea", map.get(new StringSequence("tea")));
+        assertEquals("ted", map.get(new StringSequence("ted")));
+        assertEquals("ten", map.get(new StringSequence("ten")));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNull() {
+        testPutWithNullKey();
+        Map<StringSequence, String> map = new HashMap<>();
+        trie.forEachWithPrefix(null, map::put);
+        assertEquals(9, map.size());
+        assertEquals("null", map.get(null));
+        assertEquals("inn", map.get(new StringSequence("inn")));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        testPutWithNullKey();
+        trie.forEachWithPrefix(new StringSequence("x"), (key, value) -> fail());
+    }
+
+    @Test
+    public final void testCountWithPrefix() {
+        testPutWithNullKey();
+        assertEquals(9, trie.countWithPrefix(null));
+        assertEquals(9, trie.countWithPrefix(new StringSequence("")));
+        assertEquals(4, trie.countWithPrefix(new StringSequence("t")));
+        assertEquals(3, trie.countWithPrefix(new StringSequence("te")));
+        assertEquals(1, trie.countWithPrefix(new StringSequence("tea")));
+        assertEquals(2, trie.countWithPrefix(new StringSequence("in")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("teas")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("x")));
+    }
+
+    @Test
+    public final void testCountWithPrefixAfterRemoval() {
+        testPutWithNullKey();
+        trie.remove(new StringSequence("ted"));
+        assertEquals(8, trie.countWithPrefix(null));
+        assertEquals(2, trie.countWithPrefix(new StringSequence("te")));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("ted")));
+    }
+
+    @Test
+    public final void testCountWithPrefixIfTrieIsEmpty() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        testPutWithNullKey();
+        assertTrue(trie.containsPrefix(null));
+        assertTrue(trie.containsPrefix(new StringSequence("t")));
+        assertTrue(trie.containsPrefix(new StringSequence("inn")));
+        assertFalse(trie.containsPrefix(new StringSequence("inne")));
+        assertFalse(trie.containsPrefix(new StringSequence("x")));
+    }
+
     @Test
     public void testToString() {
         testPut3();
         assertEquals("SortedListTrie [tea=tea, ted=ted, to=to]", trie.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testEdgesShareCanonicalSequences() {
+        trie.put(new StringSequence("ee"), "ee");
+        Node<StringSequence, String> rootNode = getRootNode(trie);
+        StringSequence key = rootNode.iterator().next();
+        assertSame(StringSequence.valueOf('e'), key);
+        Node<StringSequence, String> successor = rootNode.getSuccessor(key);
+        assertNotNull(successor);
+        assertSame(StringSequence.valueOf('e'), successor.iterator().next());
+    }
+
+    @Test
+    public final void testValueIndexIsUpdatedWhenPollingEntries() {
+        trie.setValueIndexed(true);
+        trie.put(null, "empty");
+        trie.put(new StringSequence("a"), "a");
+        trie.put(new StringSequence("b"), "b");
+        trie.put(new StringSequence("c"), "a");
+        trie.pollFirstEntry();
+        assertFalse(trie.containsValue("empty"));
+        trie.pollFirstEntry();
+        assertEquals(Collections.singleton(new StringSequence("c")), trie.keysForValue("a"));
+        trie.pollLastEntry();
+        assertFalse(trie.containsValue("a"));
+        assertTrue(trie.containsValue("b"));
+    }
+
+}
@@ -101,6 +101,23 @@ public class EmptyTrieTest {
         assertNull(trie.getRootNode());
     }
 
+    @Test
+    public final void testCountWithPrefix() {
+        assertEquals(0, trie.countWithPrefix(null));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        assertFalse(trie.containsPrefix(null));
+        assertFalse(trie.containsPrefix(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        trie.forEachWithPrefix(null, (key, value) -> fail());
+    }
+
     @Test(expected = NoSuchElementException.class)
     public final void testSubTree() {
         trie.subTrie(new StringSequence("foo"));
@@ -128,6 +128,33 @@ public class SingletonTrieTest {
         assertFalse(rootNode.hasSuccessors());
     }
 
+    @Test
+    public final void testCountWithPrefix() {
+        assertEquals(1, trie.countWithPrefix(null));
+        assertEquals(1, trie.countWithPrefix(new StringSequence("fo")));
+        assertEquals(1, trie.countWithPrefix(key));
+        assertEquals(0, trie.countWithPrefix(new StringSequence("bar")));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        assertTrue(trie.containsPrefix(new StringSequence("f")));
+        assertFalse(trie.containsPrefix(new StringSequence("fooo")));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        Map<StringSequence, String> map = new HashMap<>();
+        trie.forEachWithPrefix(new StringSequence("fo"), map::put);
+        assertEquals(1, map.size());
+        assertEquals(value, map.get(key));
+    }
+
+    @Test
+    public final void testForEachWithPrefixIfPrefixIsNotContained() {
+        trie.forEachWithPrefix(new StringSequence("bar"), (k, v) -> fail());
+    }
+
     @Test
     public final void testSubTreeIfKeyIsContained() {
         Trie<StringSequence, String> subTrie = trie.subTrie(key);
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.PatriciaStringTrie;
+import de.mrapp.tries.SortedListStringTrie;
+import de.mrapp.tries.TernarySearchStringTrie;
+import de.mrapp.tries.sequence.StringSequence;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link SortedStringTrieLoader}.
+ *
+ * @author Michael Rapp
+ */
+public class SortedStringTrieLoaderTest {
+
+    private static final String[] KEYS = {"", "A", "B", "in", "inn", "rom", "romane", "romanus",
+            "romulus", "rubens", "ruber", "rubicon", "rubicun", "rubicundus", "tea", "ted", "ten",
+            "to", "über"};
+
+    private final SortedStringTrieLoader<String> loader =
+            new SortedStringTrieLoader<>(CharSequence::toString);
+
+    private Path createFile(final String content) throws IOException {
+        Path file = Files.createTempFile("tries", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private String createContent(final String... keys) {
+        StringBuilder content = new StringBuilder();
+
+        for (String key : keys) {
+            content.append(key).append('\t').append(key.toUpperCase()).append('\n');
+        }
+
+        return content.toString();
+    }
+
+    private Map<String, String> createMap(final String... keys) {
+        Map<String, String> map = new HashMap<>();
+
+        for (String key : keys) {
+            map.put(key, key.toUpperCase());
+        }
+
+        return map;
+    }
+
+    private void verifySuccessorValueCounts(final Node<StringSequence, ?> node) {
+        int count = node.isValueSet() ? 1 : 0;
+
+        for (StringSequence key : node) {
+            Node<StringSequence, ?> successor = node.getSuccessor(key);
+            assertNotNull(successor);
+            assertSame(node, successor.getPredecessor().getValue());
+            verifySuccessorValueCounts(successor);
+            count += successor.getSuccessorValueCount();
+        }
+
+        assertEquals(count, node.getSuccessorValueCount());
+    }
+
+    private void verifyTrie(final SortedStringTrieWrapper<String> loadedTrie,
+                            final SortedStringTrieWrapper<String> expectedTrie) {
+        assertEquals(expectedTrie, loadedTrie);
+        assertEquals(expectedTrie.size(), loadedTrie.size());
+        assertEquals(new ArrayList<>(expectedTrie.keySet()), new ArrayList<>(loadedTrie.keySet()));
+        Node<StringSequence, String> rootNode = ((AbstractTrie<?, StringSequence, String>)
+                loadedTrie.trie).rootNode;
+        Node<StringSequence, String> expectedRootNode = ((AbstractTrie<?, StringSequence, String>)
+                expectedTrie.trie).rootNode;
+        assertEquals(expectedRootNode, rootNode);
+        verifySuccessorValueCounts(rootNode);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfValueParserIsNull() {
+        new SortedStringTrieLoader<String>(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfSeparatorIsLineBreak() {
+        new SortedStringTrieLoader<String>(CharSequence::toString, '\n', StandardCharsets.UTF_8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfCharsetIsNull() {
+        new SortedStringTrieLoader<String>(CharSequence::toString, '\t', null);
+    }
+
+    @Test
+    public final void testLoadPatriciaStringTrie() throws IOException {
+        PatriciaStringTrie<String> trie = loader.loadPatriciaStringTrie(
+                createFile(createContent(KEYS)));
+        verifyTrie(trie, new PatriciaStringTrie<>(createMap(KEYS)));
+        assertEquals("ROMANUS", trie.get("romanus"));
+        assertEquals("", trie.get(""));
+        assertNull(trie.get("roman"));
+    }
+
+    @Test
+    public final void testLoadSortedListStringTrie() throws IOException {
+        SortedListStringTrie<String> trie = loader.loadSortedListStringTrie(
+                createFile(createContent(KEYS)));
+        verifyTrie(trie, new SortedListStringTrie<>(createMap(KEYS)));
+        assertEquals("TEA", trie.get("tea"));
+        assertNull(trie.get("te"));
+    }
+
+    @Test
+    public final void testLoadTernarySearchStringTrie() throws IOException {
+        TernarySearchStringTrie<String> trie = loader.loadTernarySearchStringTrie(
+                createFile(createContent(KEYS)));
+        verifyTrie(trie, new TernarySearchStringTrie<>(createMap(KEYS)));
+        assertEquals("TEA", trie.get("tea"));
+        assertNull(trie.get("te"));
+    }
+
+    @Test
+    public final void testLoadIfFileIsEmpty() throws IOException {
+        PatriciaStringTrie<String> trie = loader.loadPatriciaStringTrie(createFile(""));
+        assertTrue(trie.isEmpty());
+        assertNull(((AbstractTrie<?, ?, ?>) trie.trie).rootNode);
+    }
+
+    @Test
+    public final void testLoadIfKeyIsPrefixOfSubsequentKeys() throws IOException {
+        String[] keys = {"a", "ab", "abc", "abd", "b"};
+        PatriciaStringTrie<String> trie = loader.loadPatriciaStringTrie(
+                createFile(createContent(keys)));
+        verifyTrie(trie, new PatriciaStringTrie<>(createMap(keys)));
+    }
+
+    @Test
+    public final void testLoadIfLinesAreNotTerminatedByLineFeed() throws IOException {
+        PatriciaStringTrie<String> trie =
+                loader.loadPatriciaStringTrie(createFile("bar\t1\r\n\nfoo\r\nfoobar\t3"));
+        assertEquals(3, trie.size());
+        assertEquals("1", trie.get("bar"));
+        assertEquals("", trie.get("foo"));
+        assertEquals("3", trie.get("foobar"));
+    }
+
+    @Test
+    public final void testLoadIfKeyIsContainedMultipleTimes() throws IOException {
+        PatriciaStringTrie<String> trie =
+                loader.loadPatriciaStringTrie(createFile("bar\t1\nfoo\t2\nfoo\t3\n"));
+        assertEquals(2, trie.size());
+        assertEquals("3", trie.get("foo"));
+    }
+
+    @Test
+    public final void testLoadIfLinesExceedBufferSize() throws IOException {
+        List<String> keys = new ArrayList<>();
+        char[] padding = new char[100000];
+        Arrays.fill(padding, 'x');
+
+        for (int i = 0; i < 3; i++) {
+            keys.add(i + new String(padding));
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            keys.add(String.format("k%05dä", i));
+        }
+
+        String[] keyArray = keys.toArray(new String[0]);
+        PatriciaStringTrie<String> trie = loader.loadPatriciaStringTrie(
+                createFile(createContent(keyArray)));
+        verifyTrie(trie, new PatriciaStringTrie<>(createMap(keyArray)));
+    }
+
+    @Test
+    public final void testLoadFromChannel() throws IOException {
+        PatriciaStringTrie<Integer> trie = new PatriciaStringTrie<>();
+        new SortedStringTrieLoader<>(value -> Integer.parseInt(value.toString()), ';',
+                StandardCharsets.UTF_8).load(Channels.newChannel(
+                new java.io.ByteArrayInputStream("a;1\nb;2\n".getBytes(StandardCharsets.UTF_8))),
+                trie);
+        assertEquals(2, trie.size());
+        assertEquals(1, (int) trie.get("a"));
+        assertEquals(2, (int) trie.get("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testLoadThrowsExceptionIfKeysAreNotSorted() throws IOException {
+        loader.loadPatriciaStringTrie(createFile(createContent("foo", "bar")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testLoadThrowsExceptionIfKeyIsPrefixOfPreviousKey() throws IOException {
+        loader.loadPatriciaStringTrie(createFile(createContent("foo", "fo")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testLoadThrowsExceptionIfTrieIsNotEmpty() throws IOException {
+        PatriciaStringTrie<String> trie = new PatriciaStringTrie<>();
+        trie.put("foo", "bar");
+        loader.load(createFile(createContent(KEYS)), trie);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testLoadThrowsExceptionIfTrieUsesComparator() throws IOException {
+        loader.load(createFile(createContent(KEYS)),
+                new PatriciaStringTrie<>(Comparator.reverseOrder()));
+    }
+
+}
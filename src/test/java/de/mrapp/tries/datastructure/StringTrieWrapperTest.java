@@ -292,6 +292,38 @@ public class StringTrieWrapperTest {
                 new AbstractMap.SimpleImmutableEntry<>((StringSequence) null, value3)));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testEntrySetContainsDoesNotIterateEncapsulatedEntrySet() {
+        Set<Map.Entry<StringSequence, String>> entrySet = mock(Set.class);
+        when(trie.entrySet()).thenReturn(entrySet);
+        when(entrySet.contains(new AbstractMap.SimpleImmutableEntry<>(new StringSequence("key"),
+                "value"))).thenReturn(true);
+        Set<Map.Entry<String, String>> entries = trieWrapper.entrySet();
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>("key", "value")));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>("key", "foo")));
+        assertFalse(entries.contains("key"));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>(1, "value")));
+        assertFalse(entries.remove("key"));
+        verify(entrySet, never()).iterator();
+    }
+
+    @Test
+    public final void testEntrySetContainsWithBackingTrie() {
+        StringTrie<String> trieWrapper = new StringTrieWrapper<>(new HashTrie<>());
+        trieWrapper.put("tea", "tea");
+        trieWrapper.put("", "empty");
+        Set<Map.Entry<String, String>> entries = trieWrapper.entrySet();
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>("tea", "tea")));
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>((String) null, "empty")));
+        assertTrue(entries.contains(new AbstractMap.SimpleImmutableEntry<>("", "empty")));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>("te", null)));
+        assertFalse(entries.contains(new AbstractMap.SimpleImmutableEntry<>("tea", "foo")));
+        assertFalse(entries.remove(new AbstractMap.SimpleImmutableEntry<>("te", null)));
+        assertTrue(entries.remove(new AbstractMap.SimpleImmutableEntry<>("tea", "tea")));
+        assertEquals(1, trieWrapper.size());
+    }
+
     @Test
     public final void testEntrySetClear() {
         String key1 = "key1";
@@ -324,6 +356,30 @@ public class StringTrieWrapperTest {
     }
 
     @SuppressWarnings("unchecked")
+    @Test
+    public final void testCountWithPrefix() {
+        String prefix = "foo";
+        int count = 2;
+        when(trie.countWithPrefix(new StringSequence(prefix))).thenReturn(count);
+        assertEquals(count, trieWrapper.countWithPrefix(prefix));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        String prefix = "foo";
+        boolean containsPrefix = true;
+        when(trie.containsPrefix(new StringSequence(prefix))).thenReturn(containsPrefix);
+        assertEquals(containsPrefix, trieWrapper.containsPrefix(prefix));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        String prefix = "foo";
+        trieWrapper.forEachWithPrefix(prefix, (key, value) -> {
+        });
+        verify(trie, times(1)).forEachWithPrefix(eq(new StringSequence(prefix)), any());
+    }
+
     @Test
     public final void testSubTree() {
         String key = "key";
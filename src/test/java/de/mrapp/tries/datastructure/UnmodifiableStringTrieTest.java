@@ -18,9 +18,11 @@ import de.mrapp.tries.StringTrie;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -148,6 +150,31 @@ public class UnmodifiableStringTrieTest {
         assertEquals(rootNode, unmodifiableTrie.getRootNode());
     }
 
+    @Test
+    public final void testCountWithPrefix() {
+        String prefix = "foo";
+        int count = 2;
+        when(trie.countWithPrefix(prefix)).thenReturn(count);
+        assertEquals(count, unmodifiableTrie.countWithPrefix(prefix));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        String prefix = "foo";
+        boolean containsPrefix = true;
+        when(trie.containsPrefix(prefix)).thenReturn(containsPrefix);
+        assertEquals(containsPrefix, unmodifiableTrie.containsPrefix(prefix));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        String prefix = "foo";
+        BiConsumer<String, String> action = (key, value) -> {
+        };
+        unmodifiableTrie.forEachWithPrefix(prefix, action);
+        verify(trie).forEachWithPrefix(prefix, action);
+    }
+
     @Test
     public final void testSubTree() {
         String key = "foo";
@@ -173,4 +200,27 @@ public class UnmodifiableStringTrieTest {
         assertTrue(unmodifiableTrie.equals(trie));
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testGetWithCharSequence() {
+        CharSequence key = "foo";
+        String value = "bar";
+        when(trie.get(key, 0, 3)).thenReturn(value);
+        assertEquals(value, unmodifiableTrie.get(key, 0, 3));
+    }
+
+    @Test
+    public final void testContainsKeyWithCharSequence() {
+        CharSequence key = "foo";
+        when(trie.containsKey(key, 0, 3)).thenReturn(true);
+        assertTrue(unmodifiableTrie.containsKey(key, 0, 3));
+    }
+
+    @Test
+    public final void testLongestPrefixLength() {
+        CharSequence key = "foo";
+        int length = 2;
+        when(trie.longestPrefixLength(key, 0, 3)).thenReturn(length);
+        assertEquals(length, unmodifiableTrie.longestPrefixLength(key, 0, 3));
+    }
+
+}
@@ -19,9 +19,11 @@ import de.mrapp.tries.sequence.StringSequence;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -149,6 +151,31 @@ public class UnmodifiableTrieTest {
         assertEquals(rootNode, unmodifiableTrie.getRootNode());
     }
 
+    @Test
+    public final void testCountWithPrefix() {
+        StringSequence prefix = new StringSequence("foo");
+        int count = 2;
+        when(trie.countWithPrefix(prefix)).thenReturn(count);
+        assertEquals(count, unmodifiableTrie.countWithPrefix(prefix));
+    }
+
+    @Test
+    public final void testContainsPrefix() {
+        StringSequence prefix = new StringSequence("foo");
+        boolean containsPrefix = true;
+        when(trie.containsPrefix(prefix)).thenReturn(containsPrefix);
+        assertEquals(containsPrefix, unmodifiableTrie.containsPrefix(prefix));
+    }
+
+    @Test
+    public final void testForEachWithPrefix() {
+        StringSequence prefix = new StringSequence("foo");
+        BiConsumer<StringSequence, String> action = (key, value) -> {
+        };
+        unmodifiableTrie.forEachWithPrefix(prefix, action);
+        verify(trie).forEachWithPrefix(prefix, action);
+    }
+
     @Test
     public final void testSubTree() {
         StringSequence sequence = new StringSequence("foo");
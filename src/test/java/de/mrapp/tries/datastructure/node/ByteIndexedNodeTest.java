@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.NodeValue;
+import de.mrapp.tries.sequence.ByteSequence;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link ByteIndexedNode}.
+ *
+ * @author Michael Rapp
+ */
+public class ByteIndexedNodeTest {
+
+    /**
+     * Creates and returns a sequence, which consists of specific bytes.
+     *
+     * @param bytes The bytes, the sequence should consist of, as an {@link Integer} array
+     * @return The sequence, which has been created, as an instance of the class {@link
+     * ByteSequence}
+     */
+    private static ByteSequence sequence(final int... bytes) {
+        byte[] array = new byte[bytes.length];
+
+        for (int i = 0; i < bytes.length; i++) {
+            array[i] = (byte) bytes[i];
+        }
+
+        return new ByteSequence(array);
+    }
+
+    @Test
+    public final void testConstructor() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        assertEquals(0, node.getSuccessorCount());
+        assertEquals(0, node.getSuccessorValueCount());
+        assertNull(node.getPredecessor());
+        assertFalse(node.iterator().hasNext());
+        assertNull(node.getNodeValue());
+        assertFalse(node.isValueSet());
+    }
+
+    @Test
+    public final void testAddSuccessor() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        Node<ByteSequence, String> successor1 = node.addSuccessor(sequence(0xFF, 1));
+        Node<ByteSequence, String> successor2 = node.addSuccessor(sequence(0x00));
+        Node<ByteSequence, String> successor3 = node.addSuccessor(sequence(0x80));
+        assertEquals(3, node.getSuccessorCount());
+        assertEquals(successor1, node.getSuccessor(sequence(0xFF, 1)));
+        assertNull(node.getSuccessor(sequence(0xFF)));
+        assertEquals(sequence(0x00), node.getSuccessorKey(0));
+        assertEquals(sequence(0x80), node.getSuccessorKey(1));
+        assertEquals(sequence(0xFF, 1), node.getSuccessorKey(2));
+        assertSame(successor2, node.getSuccessor(0));
+        assertSame(successor3, node.getSuccessor(1));
+        Iterator<ByteSequence> iterator = node.iterator();
+        assertEquals(sequence(0x00), iterator.next());
+        assertEquals(sequence(0x80), iterator.next());
+        assertEquals(sequence(0xFF, 1), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public final void testAddSuccessorIncreasesSuccessorValueCount() {
+        Node<ByteSequence, String> successor = new ByteIndexedNode<>();
+        successor.setNodeValue(new NodeValue<>("value"));
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        assertSame(successor, node.addSuccessor(sequence(1), successor));
+        assertEquals(1, node.getSuccessorValueCount());
+        assertSame(node, successor.getPredecessor().getValue());
+    }
+
+    @Test
+    public final void testAddManySuccessors() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+
+        for (int i = 255; i >= 0; i--) {
+            node.addSuccessor(sequence(i));
+        }
+
+        assertEquals(256, node.getSuccessorCount());
+
+        for (int i = 0; i < 256; i++) {
+            assertEquals(sequence(i), node.getSuccessorKey(i));
+            assertEquals(i, node.indexOf(sequence(i)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddSuccessorThrowsExceptionIfFirstByteIsAlreadyUsed() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        node.addSuccessor(sequence(1, 2));
+        node.addSuccessor(sequence(1, 3));
+    }
+
+    @Test
+    public final void testIndexOfFirstElement() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        node.addSuccessor(sequence(1, 2));
+        node.addSuccessor(sequence(3));
+        assertEquals(0, node.indexOfFirstElement(sequence(1)));
+        assertEquals(1, node.indexOfFirstElement(sequence(3, 4)));
+        assertEquals(-1, node.indexOfFirstElement(sequence(2)));
+        assertEquals(-1, node.indexOfFirstElement(sequence()));
+        assertEquals(-1, node.indexOf(sequence(1)));
+    }
+
+    @Test
+    public final void testRemoveSuccessor() {
+        Node<ByteSequence, String> successor = new ByteIndexedNode<>();
+        successor.setNodeValue(new NodeValue<>("value"));
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        node.addSuccessor(sequence(1), successor);
+        node.addSuccessor(sequence(2));
+        node.removeSuccessor(sequence(1));
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(0, node.getSuccessorValueCount());
+        assertNull(successor.getPredecessor());
+        assertNull(node.getSuccessor(sequence(1)));
+        assertEquals(0, node.indexOf(sequence(2)));
+    }
+
+    @Test
+    public final void testRemoveSuccessorByIndex() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        node.addSuccessor(sequence(1));
+        node.addSuccessor(sequence(2));
+        node.removeSuccessor(0);
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(sequence(2), node.getSuccessorKey(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetSuccessorThrowsExceptionIfIndexIsInvalid() {
+        new ByteIndexedNode<String>().getSuccessor(0);
+    }
+
+    @Test
+    public final void testClone() {
+        ByteIndexedNode<String> node = new ByteIndexedNode<>();
+        node.setNodeValue(new NodeValue<>("value"));
+        node.addSuccessor(sequence(1)).setNodeValue(new NodeValue<>("value1"));
+        ByteIndexedNode<String> clone = node.clone();
+        assertEquals(node, clone);
+        assertEquals(node.hashCode(), clone.hashCode());
+        assertNotSame(node.getSuccessor(0), clone.getSuccessor(0));
+        assertSame(clone, clone.getSuccessor(0).getPredecessor().getValue());
+    }
+
+    @Test
+    public final void testEquals() {
+        ByteIndexedNode<String> node1 = new ByteIndexedNode<>();
+        ByteIndexedNode<String> node2 = new ByteIndexedNode<>();
+        assertFalse(node1.equals(null));
+        assertFalse(node1.equals(new Object()));
+        assertTrue(node1.equals(node2));
+        node1.addSuccessor(sequence(1));
+        assertFalse(node1.equals(node2));
+        node2.addSuccessor(sequence(1));
+        assertTrue(node1.equals(node2));
+        node1.setNodeValue(new NodeValue<>("value"));
+        assertFalse(node1.equals(node2));
+    }
+
+}
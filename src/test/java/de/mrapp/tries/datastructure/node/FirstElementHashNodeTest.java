@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.NodeValue;
+import de.mrapp.tries.sequence.StringSequence;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link FirstElementHashNode}.
+ *
+ * @author Michael Rapp
+ */
+public class FirstElementHashNodeTest {
+
+    @Test
+    public final void testConstructor() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        assertEquals(0, node.getSuccessorCount());
+        assertEquals(0, node.getSuccessorValueCount());
+        assertNull(node.getPredecessor());
+        assertFalse(node.iterator().hasNext());
+        assertNull(node.getNodeValue());
+    }
+
+    @Test
+    public final void testAddSuccessor() {
+        StringSequence key = new StringSequence("key");
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        Node<StringSequence, String> successor = node.addSuccessor(key);
+        assertNotNull(successor);
+        assertEquals(1, node.getSuccessorCount());
+        assertSame(successor, node.getSuccessor(key));
+        assertNull(node.getSuccessor(new StringSequence("k")));
+        assertEquals(0, node.indexOf(key));
+        assertEquals(0, node.indexOfFirstElement(new StringSequence("k")));
+        assertEquals(-1, node.indexOfFirstElement(new StringSequence("x")));
+        Iterator<StringSequence> iterator = node.iterator();
+        assertEquals(key, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddSuccessorThrowsExceptionIfFirstElementIsNotUnique() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        node.addSuccessor(new StringSequence("foo"));
+        node.addSuccessor(new StringSequence("fob"));
+    }
+
+    @Test
+    public final void testAddAndRemoveManySuccessors() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        int count = 200;
+
+        for (int i = 0; i < count; i++) {
+            node.addSuccessor(new StringSequence((char) (i + 32) + "suffix"));
+        }
+
+        assertEquals(count, node.getSuccessorCount());
+        Set<StringSequence> keys = new HashSet<>();
+
+        for (StringSequence key : node) {
+            assertTrue(keys.add(key));
+        }
+
+        assertEquals(count, keys.size());
+
+        for (int i = 0; i < count; i += 2) {
+            node.removeSuccessor(new StringSequence((char) (i + 32) + "suffix"));
+        }
+
+        assertEquals(count / 2, node.getSuccessorCount());
+
+        for (int i = 0; i < count; i++) {
+            StringSequence firstElement = new StringSequence(String.valueOf((char) (i + 32)));
+            int index = node.indexOfFirstElement(firstElement);
+            assertEquals(i % 2 != 0, index != -1);
+
+            if (index != -1) {
+                assertEquals(new StringSequence((char) (i + 32) + "suffix"),
+                        node.getSuccessorKey(index));
+            }
+        }
+
+        while (node.getSuccessorCount() > 0) {
+            node.removeSuccessor(node.getSuccessorCount() - 1);
+        }
+
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test
+    public final void testRemoveSuccessorByIndex() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        Node<StringSequence, String> successor = node.addSuccessor(new StringSequence("a"));
+        successor.setNodeValue(new NodeValue<>("value"));
+        node.addSuccessor(new StringSequence("b"));
+        assertEquals(1, node.getSuccessorValueCount());
+        node.removeSuccessor(0);
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(0, node.getSuccessorValueCount());
+        assertNull(successor.getPredecessor());
+        assertEquals(new StringSequence("b"), node.getSuccessorKey(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetSuccessorKeyThrowsExceptionIfIndexIsInvalid() {
+        new FirstElementHashNode<StringSequence, String>().getSuccessorKey(0);
+    }
+
+    @Test
+    public final void testClone() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        node.setNodeValue(new NodeValue<>("value"));
+        node.addSuccessor(new StringSequence("foo")).setNodeValue(new NodeValue<>("foo"));
+        FirstElementHashNode<StringSequence, String> clone = node.clone();
+        assertEquals(node, clone);
+        assertEquals(node.hashCode(), clone.hashCode());
+        assertNotSame(node.getSuccessor(new StringSequence("foo")),
+                clone.getSuccessor(new StringSequence("foo")));
+    }
+
+    @Test
+    public final void testToString() {
+        FirstElementHashNode<StringSequence, String> node = new FirstElementHashNode<>();
+        assertEquals("Node{value=null, successors=[]}", node.toString());
+        node.addSuccessor(new StringSequence("key"));
+        assertEquals("Node{value=null, successors=[key]}", node.toString());
+    }
+
+    @Test
+    public final void testEqualsAndHashCodeAreIndependentOfOrder() {
+        FirstElementHashNode<StringSequence, String> node1 = new FirstElementHashNode<>();
+        FirstElementHashNode<StringSequence, String> node2 = new FirstElementHashNode<>();
+        node1.addSuccessor(new StringSequence("a"));
+        node1.addSuccessor(new StringSequence("b"));
+        node2.addSuccessor(new StringSequence("b"));
+        assertNotEquals(node1, node2);
+        node2.addSuccessor(new StringSequence("a"));
+        assertEquals(node1, node2);
+        assertEquals(node1.hashCode(), node2.hashCode());
+        node2.getSuccessor(new StringSequence("a")).setNodeValue(new NodeValue<>("value"));
+        assertNotEquals(node1, node2);
+    }
+
+}
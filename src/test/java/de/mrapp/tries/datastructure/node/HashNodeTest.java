@@ -20,8 +20,10 @@ import de.mrapp.tries.sequence.StringSequence;
 import org.junit.Test;
 
 import java.util.AbstractMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 import static junit.framework.TestCase.assertFalse;
 import static org.junit.Assert.*;
@@ -86,6 +88,74 @@ public class HashNodeTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public final void testAddAndRemoveManySuccessors() {
+        HashNode<StringSequence, String> node = new HashNode<>();
+        int count = 100;
+
+        for (int i = 0; i < count; i++) {
+            node.addSuccessor(new StringSequence(Integer.toString(i)));
+        }
+
+        assertEquals(count, node.getSuccessorCount());
+        Set<StringSequence> keys = new HashSet<>();
+
+        for (StringSequence key : node) {
+            assertTrue(keys.add(key));
+        }
+
+        assertEquals(count, keys.size());
+
+        for (int i = 0; i < count; i += 2) {
+            node.removeSuccessor(new StringSequence(Integer.toString(i)));
+        }
+
+        assertEquals(count / 2, node.getSuccessorCount());
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 != 0,
+                    node.getSuccessor(new StringSequence(Integer.toString(i))) != null);
+        }
+
+        for (int i = 1; i < count; i += 2) {
+            node.removeSuccessor(new StringSequence(Integer.toString(i)));
+        }
+
+        assertEquals(0, node.getSuccessorCount());
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test
+    public final void testRemoveSuccessorWithCollidingHashCodes() {
+        HashNode<StringSequence, String> node = new HashNode<>();
+        String[] keys = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB", "C", "D"};
+
+        for (String key : keys) {
+            node.addSuccessor(new StringSequence(key));
+        }
+
+        node.removeSuccessor(new StringSequence("Aa"));
+        node.removeSuccessor(new StringSequence("AaBB"));
+        assertEquals(keys.length - 2, node.getSuccessorCount());
+        assertNull(node.getSuccessor(new StringSequence("Aa")));
+        assertNull(node.getSuccessor(new StringSequence("AaBB")));
+
+        for (String key : new String[]{"BB", "AaAa", "BBAa", "BBBB", "C", "D"}) {
+            assertNotNull(node.getSuccessor(new StringSequence(key)));
+        }
+    }
+
+    @Test
+    public final void testAddSuccessorReplacesSuccessorWithSameKey() {
+        HashNode<StringSequence, String> node = new HashNode<>();
+        StringSequence key = new StringSequence("a");
+        node.addSuccessor(key);
+        Node<StringSequence, String> successor = new HashNode<>();
+        node.addSuccessor(key, successor);
+        assertEquals(1, node.getSuccessorCount());
+        assertSame(successor, node.getSuccessor(key));
+    }
+
     @Test
     public final void testRemoveSuccessor() {
         StringSequence key = new StringSequence("key");
@@ -193,6 +263,66 @@ public class HashNodeTest {
         assertFalse(node.getSuccessor(key) == clone.getSuccessor(key));
     }
 
+    @Test
+    public final void testCloneDeepSubtree() {
+        int depth = 100000;
+        StringSequence key = new StringSequence("a");
+        HashNode<StringSequence, String> node = new HashNode<>();
+        node.setNodeValue(new NodeValue<>("leaf"));
+
+        for (int i = 0; i < depth; i++) {
+            HashNode<StringSequence, String> predecessor = new HashNode<>();
+
+            if (i % 2 == 0) {
+                predecessor.setNodeValue(new NodeValue<>(Integer.toString(i)));
+            }
+
+            predecessor.addSuccessor(key, node);
+            node = predecessor;
+        }
+
+        Node<StringSequence, String> clone = node.clone();
+        Node<StringSequence, String> currentNode = node;
+        Node<StringSequence, String> currentClone = clone;
+        assertNull(clone.getPredecessor());
+
+        while (currentNode != null) {
+            assertNotSame(currentNode, currentClone);
+            assertEquals(currentNode.getSuccessorValueCount(),
+                    currentClone.getSuccessorValueCount());
+            assertEquals(currentNode.getValue(), currentClone.getValue());
+            assertEquals(currentNode.getSuccessorCount(), currentClone.getSuccessorCount());
+            Node<StringSequence, String> successor = currentClone.getSuccessor(key);
+
+            if (successor != null) {
+                assertSame(currentClone, successor.getPredecessor().getValue());
+            }
+
+            currentNode = currentNode.getSuccessor(key);
+            currentClone = successor;
+        }
+
+        assertNull(currentClone);
+        assertEquals(depth / 2 + 1, clone.getSuccessorValueCount());
+    }
+
+    @Test
+    public final void testCloneNodeWithManySuccessors() {
+        HashNode<StringSequence, String> node = new HashNode<>();
+
+        for (int i = 0; i < 100; i++) {
+            node.addSuccessor(new StringSequence(Integer.toString(i)))
+                    .setNodeValue(new NodeValue<>(Integer.toString(i)));
+        }
+
+        Node<StringSequence, String> clone = node.clone();
+        assertEquals(node, clone);
+        assertEquals(100, clone.getSuccessorValueCount());
+        clone.addSuccessor(new StringSequence("100")).setNodeValue(new NodeValue<>("100"));
+        assertEquals(101, clone.getSuccessorValueCount());
+        assertEquals(100, node.getSuccessorValueCount());
+    }
+
     @Test
     public final void testToString() {
         String value = "value";
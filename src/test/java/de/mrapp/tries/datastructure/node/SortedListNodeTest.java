@@ -86,6 +86,51 @@ public class SortedListNodeTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public final void testAddSuccessorsInArbitraryOrder() {
+        SortedListNode<StringSequence, String> node = new SortedListNode<>(null);
+        String[] keys = {"d", "b", "f", "a", "e", "c"};
+
+        for (String key : keys) {
+            node.addSuccessor(new StringSequence(key));
+        }
+
+        assertEquals(keys.length, node.getSuccessorCount());
+        Iterator<StringSequence> iterator = node.iterator();
+
+        for (String key : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            assertEquals(new StringSequence(key), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+        node.removeSuccessor(new StringSequence("c"));
+        node.removeSuccessor(0);
+        assertEquals(4, node.getSuccessorCount());
+        assertEquals(new StringSequence("b"), node.getSuccessorKey(0));
+        assertEquals(new StringSequence("d"), node.getSuccessorKey(1));
+        assertEquals(new StringSequence("f"), node.getSuccessorKey(3));
+    }
+
+    @Test
+    public final void testAddSuccessorsWithComparator() {
+        SortedListNode<StringSequence, String> node =
+                new SortedListNode<>((o1, o2) -> o2.compareTo(o1));
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("b"));
+        assertEquals(new StringSequence("c"), node.getSuccessorKey(0));
+        assertEquals(new StringSequence("b"), node.getSuccessorKey(1));
+        assertEquals(new StringSequence("a"), node.getSuccessorKey(2));
+        assertEquals(1, node.indexOf(new StringSequence("b")));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetSuccessorKeyThrowsExceptionIfIndexIsInvalid() {
+        SortedListNode<StringSequence, String> node = new SortedListNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.getSuccessorKey(1);
+    }
+
     @Test
     public final void testRemoveSuccessor() {
         StringSequence key = new StringSequence("key");
@@ -255,6 +300,66 @@ public class SortedListNodeTest {
         assertFalse(node.getSuccessor(key) == clone.getSuccessor(key));
     }
 
+    @Test
+    public final void testCloneDeepSubtree() {
+        int depth = 100000;
+        StringSequence key = new StringSequence("a");
+        SortedListNode<StringSequence, String> node = new SortedListNode<>(null);
+        node.setNodeValue(new NodeValue<>("leaf"));
+
+        for (int i = 0; i < depth; i++) {
+            SortedListNode<StringSequence, String> predecessor = new SortedListNode<>(null);
+
+            if (i % 2 == 0) {
+                predecessor.setNodeValue(new NodeValue<>(Integer.toString(i)));
+            }
+
+            predecessor.addSuccessor(key, node);
+            node = predecessor;
+        }
+
+        Node<StringSequence, String> clone = node.clone();
+        Node<StringSequence, String> currentNode = node;
+        Node<StringSequence, String> currentClone = clone;
+        assertNull(clone.getPredecessor());
+
+        while (currentNode != null) {
+            assertNotSame(currentNode, currentClone);
+            assertEquals(currentNode.getSuccessorValueCount(),
+                    currentClone.getSuccessorValueCount());
+            assertEquals(currentNode.getValue(), currentClone.getValue());
+            assertEquals(currentNode.getSuccessorCount(), currentClone.getSuccessorCount());
+            Node<StringSequence, String> successor = currentClone.getSuccessor(key);
+
+            if (successor != null) {
+                assertSame(currentClone, successor.getPredecessor().getValue());
+            }
+
+            currentNode = currentNode.getSuccessor(key);
+            currentClone = successor;
+        }
+
+        assertNull(currentClone);
+        assertEquals(depth / 2 + 1, clone.getSuccessorValueCount());
+    }
+
+    @Test
+    public final void testCloneNodeWithManySuccessors() {
+        SortedListNode<StringSequence, String> node = new SortedListNode<>(null);
+
+        for (int i = 0; i < 100; i++) {
+            node.addSuccessor(new StringSequence(Integer.toString(i)))
+                    .setNodeValue(new NodeValue<>(Integer.toString(i)));
+        }
+
+        Node<StringSequence, String> clone = node.clone();
+        assertEquals(node, clone);
+        assertEquals(100, clone.getSuccessorValueCount());
+        clone.addSuccessor(new StringSequence("100")).setNodeValue(new NodeValue<>("100"));
+        assertEquals(101, clone.getSuccessorValueCount());
+        assertEquals(100, node.getSuccessorValueCount());
+    }
+
     @Test
     public final void testToString() {
         String value = "value";
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.datastructure.node;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.NodeValue;
+import de.mrapp.tries.sequence.StringSequence;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link TernarySearchNode}.
+ *
+ * @author Michael Rapp
+ */
+public class TernarySearchNodeTest {
+
+    @Test
+    public final void testConstructor() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        assertEquals(0, node.getSuccessorCount());
+        assertEquals(0, node.getSuccessorValueCount());
+        assertNull(node.getPredecessor());
+        assertFalse(node.iterator().hasNext());
+        assertNull(node.getNodeValue());
+        assertNull(node.getValue());
+        assertFalse(node.isValueSet());
+    }
+
+    @Test
+    public final void testSetNodeValue() {
+        String value = "value";
+        NodeValue<String> nodeValue = new NodeValue<>(value);
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.setNodeValue(nodeValue);
+        assertEquals(nodeValue, node.getNodeValue());
+        assertEquals(value, node.getValue());
+        assertTrue(node.isValueSet());
+    }
+
+    @Test
+    public final void testAddSuccessor1() {
+        StringSequence key = new StringSequence("key");
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        Node<StringSequence, String> successor = node.addSuccessor(key);
+        assertNotNull(successor);
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(successor, node.getSuccessor(key));
+        assertEquals(0, node.getSuccessorValueCount());
+        Iterator<StringSequence> iterator = node.iterator();
+        assertEquals(key, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public final void testAddSuccessor2() {
+        StringSequence key = new StringSequence("key");
+        Node<StringSequence, String> successor = new TernarySearchNode<>(null);
+        successor.setNodeValue(new NodeValue<>("value"));
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        Node<StringSequence, String> result = node.addSuccessor(key, successor);
+        assertEquals(successor, result);
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(successor, node.getSuccessor(key));
+        assertEquals(1, node.getSuccessorValueCount());
+        Iterator<StringSequence> iterator = node.iterator();
+        assertEquals(key, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public final void testAddSuccessorsInArbitraryOrder() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        String[] keys = {"d", "b", "f", "a", "e", "c"};
+
+        for (String key : keys) {
+            node.addSuccessor(new StringSequence(key));
+        }
+
+        assertEquals(keys.length, node.getSuccessorCount());
+        Iterator<StringSequence> iterator = node.iterator();
+
+        for (String key : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            assertEquals(new StringSequence(key), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+        node.removeSuccessor(new StringSequence("c"));
+        node.removeSuccessor(0);
+        assertEquals(4, node.getSuccessorCount());
+        assertEquals(new StringSequence("b"), node.getSuccessorKey(0));
+        assertEquals(new StringSequence("d"), node.getSuccessorKey(1));
+        assertEquals(new StringSequence("f"), node.getSuccessorKey(3));
+    }
+
+    @Test
+    public final void testAddSuccessorsWithComparator() {
+        TernarySearchNode<StringSequence, String> node =
+                new TernarySearchNode<>((o1, o2) -> o2.compareTo(o1));
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("b"));
+        assertEquals(new StringSequence("c"), node.getSuccessorKey(0));
+        assertEquals(new StringSequence("b"), node.getSuccessorKey(1));
+        assertEquals(new StringSequence("a"), node.getSuccessorKey(2));
+        assertEquals(1, node.indexOf(new StringSequence("b")));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testGetSuccessorKeyThrowsExceptionIfIndexIsInvalid() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.getSuccessorKey(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAddSuccessorThrowsExceptionIfSuccessorIsNotATernarySearchNode() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"), new SortedListNode<>(null));
+    }
+
+    @Test
+    public final void testAddAndRemoveManySuccessors() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        Random random = new Random(42);
+        TreeSet<String> keys = new TreeSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            String key = String.valueOf((char) (random.nextInt(500) + 1));
+
+            if (random.nextInt(3) == 0) {
+                node.removeSuccessor(new StringSequence(key));
+                keys.remove(key);
+            } else if (node.getSuccessor(new StringSequence(key)) == null) {
+                node.addSuccessor(new StringSequence(key));
+                keys.add(key);
+            }
+
+            assertEquals(keys.size(), node.getSuccessorCount());
+        }
+
+        int index = 0;
+
+        for (String key : keys) {
+            assertEquals(new StringSequence(key), node.getSuccessorKey(index));
+            assertEquals(index, node.indexOf(new StringSequence(key)));
+            index++;
+        }
+
+        Iterator<StringSequence> iterator = node.iterator();
+
+        for (String key : keys) {
+            assertEquals(new StringSequence(key), iterator.next());
+        }
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public final void testAddSuccessorsInSortedOrder() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+
+        for (char character = 1; character <= 4096; character++) {
+            node.addSuccessor(StringSequence.valueOf(character));
+        }
+
+        assertEquals(4096, node.getSuccessorCount());
+        assertEquals(StringSequence.valueOf((char) 1), node.getFirstSuccessorKey());
+        assertEquals(StringSequence.valueOf((char) 4096), node.getLastSuccessorKey());
+        assertEquals(2047, node.indexOf(StringSequence.valueOf((char) 2048)));
+        assertEquals(-1, node.indexOf(StringSequence.valueOf((char) 4097)));
+    }
+
+    @Test
+    public final void testRemoveSuccessor() {
+        StringSequence key = new StringSequence("key");
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(key);
+        node.removeSuccessor(key);
+        assertEquals(0, node.getSuccessorCount());
+        assertNull(node.getSuccessor(key));
+        assertEquals(0, node.getSuccessorValueCount());
+        Iterator<StringSequence> iterator = node.iterator();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public final void testIncreaseSuccessorValueCount() {
+        int by = 2;
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.increaseSuccessorValueCount(by);
+        assertEquals(by, node.getSuccessorValueCount());
+    }
+
+    @Test
+    public final void testDecreaseSuccessorValueCount() {
+        int by = 2;
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.increaseSuccessorValueCount(by);
+        node.decreaseSuccessorValueCount(by);
+        assertEquals(0, node.getSuccessorValueCount());
+    }
+
+    @Test
+    public final void testSetPredecessor() {
+        Node<StringSequence, String> predecessor = new TernarySearchNode<>(null);
+        Map.Entry<StringSequence, Node<StringSequence, String>> entry =
+                new AbstractMap.SimpleImmutableEntry<>(new StringSequence("foo"), predecessor);
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.increaseSuccessorValueCount(1);
+        node.setPredecessor(entry);
+        assertEquals(entry, node.getPredecessor());
+    }
+
+    @Test
+    public final void testGetSuccessorByIndex() {
+        Node<StringSequence, String> successor = new TernarySearchNode<>(null);
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"), successor);
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(successor, node.getSuccessor(2));
+    }
+
+    @Test
+    public final void testGetFirstSuccessor() {
+        Node<StringSequence, String> successor = new TernarySearchNode<>(null);
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"), successor);
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(successor, node.getFirstSuccessor());
+    }
+
+    @Test
+    public final void testGetLastSuccessor() {
+        Node<StringSequence, String> successor = new TernarySearchNode<>(null);
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"), successor);
+        assertEquals(successor, node.getLastSuccessor());
+    }
+
+    @Test
+    public final void testGetSuccessorKey() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(new StringSequence("c"), node.getSuccessorKey(2));
+    }
+
+    @Test
+    public final void testGetFirstSuccessorKey() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(new StringSequence("a"), node.getFirstSuccessorKey());
+    }
+
+    @Test
+    public final void testGetLastSuccessorKey() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(new StringSequence("f"), node.getLastSuccessorKey());
+    }
+
+    @Test
+    public final void testIndexOf() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("a"));
+        node.addSuccessor(new StringSequence("b"));
+        assertEquals(-1, node.indexOf(new StringSequence("c")));
+        node.addSuccessor(new StringSequence("c"));
+        node.addSuccessor(new StringSequence("d"));
+        node.addSuccessor(new StringSequence("e"));
+        node.addSuccessor(new StringSequence("f"));
+        assertEquals(2, node.indexOf(new StringSequence("c")));
+    }
+
+    @Test
+    public final void testIndexOfFirstElement() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.addSuccessor(new StringSequence("axx"));
+        node.addSuccessor(new StringSequence("bxx"));
+        assertEquals(-1, node.indexOfFirstElement(new StringSequence("cyy")));
+        node.addSuccessor(new StringSequence("cxx"));
+        node.addSuccessor(new StringSequence("dxx"));
+        node.addSuccessor(new StringSequence("exx"));
+        node.addSuccessor(new StringSequence("fxx"));
+        assertEquals(2, node.indexOfFirstElement(new StringSequence("cyy")));
+    }
+
+    @Test
+    public final void testRemoveSuccessorByIndex() {
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        Node<StringSequence, String> successor = node.addSuccessor(new StringSequence("a"));
+        successor.setNodeValue(new NodeValue<>("a"));
+        successor = node.addSuccessor(new StringSequence("b"));
+        successor.setNodeValue(new NodeValue<>("b"));
+        assertEquals(2, node.getSuccessorCount());
+        assertEquals(2, node.getSuccessorValueCount());
+        node.removeSuccessor(1);
+        assertEquals(1, node.getSuccessorCount());
+        assertEquals(1, node.getSuccessorValueCount());
+        assertEquals(new StringSequence("a"), node.getSuccessorKey(0));
+    }
+
+    @Test
+    public final void testClone() {
+        StringSequence key = new StringSequence("key");
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.setNodeValue(new NodeValue<>("value"));
+        node.addSuccessor(key);
+        Node<StringSequence, String> clone = node.clone();
+        assertTrue(node.equals(clone));
+        assertFalse(node == clone);
+        assertFalse(node.getSuccessor(key) == clone.getSuccessor(key));
+    }
+
+    @Test
+    public final void testToString() {
+        String value = "value";
+        StringSequence key = new StringSequence("key");
+        TernarySearchNode<StringSequence, String> node = new TernarySearchNode<>(null);
+        node.setNodeValue(new NodeValue<>(value));
+        node.addSuccessor(key);
+        assertEquals("Node{value=" + value + ", successors=[" + key + "]}", node.toString());
+    }
+
+    @Test
+    public final void testHashCode() {
+        TernarySearchNode<StringSequence, String> node1 = new TernarySearchNode<>(null);
+        TernarySearchNode<StringSequence, String> node2 = new TernarySearchNode<>(null);
+        assertEquals(node1.hashCode(), node1.hashCode());
+        assertEquals(node1.hashCode(), node2.hashCode());
+        node1.setNodeValue(new NodeValue<>("foo"));
+        assertNotEquals(node1.hashCode(), node2.hashCode());
+        node2.setNodeValue(new NodeValue<>("bar"));
+        assertNotEquals(node1.hashCode(), node2.hashCode());
+        node2.setNodeValue(new NodeValue<>("foo"));
+        assertEquals(node1.hashCode(), node2.hashCode());
+        node1.addSuccessor(new StringSequence("foo"));
+        assertNotEquals(node1.hashCode(), node2.hashCode());
+        node2.addSuccessor(new StringSequence("bar"));
+        assertNotEquals(node1.hashCode(), node2.hashCode());
+        node1.addSuccessor(new StringSequence("bar"));
+        node2.addSuccessor(new StringSequence("foo"));
+        assertEquals(node1.hashCode(), node2.hashCode());
+    }
+
+    @Test
+    public final void testEquals() {
+        TernarySearchNode<StringSequence, String> node1 = new TernarySearchNode<>(null);
+        TernarySearchNode<StringSequence, String> node2 = new TernarySearchNode<>(null);
+        assertFalse(node1.equals(null));
+        assertFalse(node1.equals(new Object()));
+        assertTrue(node1.equals(node1));
+        assertTrue(node1.equals(node2));
+        node1.setNodeValue(new NodeValue<>("foo"));
+        assertFalse(node1.equals(node2));
+        node2.setNodeValue(new NodeValue<>("bar"));
+        assertFalse(node1.equals(node2));
+        node2.setNodeValue(new NodeValue<>("foo"));
+        assertTrue(node1.equals(node2));
+        node1.addSuccessor(new StringSequence("foo"));
+        assertFalse(node1.equals(node2));
+        node2.addSuccessor(new StringSequence("bar"));
+        assertFalse(node1.equals(node2));
+        node1.addSuccessor(new StringSequence("bar"));
+        node2.addSuccessor(new StringSequence("foo"));
+        assertTrue(node1.equals(node2));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link ByteSequence}.
+ *
+ * @author Michael Rapp
+ */
+public class ByteSequenceTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfArrayIsNull() {
+        new ByteSequence(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfRangeIsInvalid() {
+        new ByteSequence(new byte[]{1, 2, 3}, 2, 2);
+    }
+
+    @Test
+    public final void testConvertToByteArray() {
+        assertNull(ByteSequence.convertToByteArray(null));
+        assertArrayEquals(new byte[]{1, 2},
+                ByteSequence.convertToByteArray(new ByteSequence(new byte[]{1, 2})));
+    }
+
+    @Test
+    public final void testConvertFromByteArray() {
+        assertNull(ByteSequence.convertFromByteArray(null));
+        assertEquals(new ByteSequence(new byte[]{1, 2}),
+                ByteSequence.convertFromByteArray(new byte[]{1, 2}));
+    }
+
+    @Test
+    public final void testByteAt() {
+        ByteSequence sequence = new ByteSequence(new byte[]{1, 2, 3, 4}, 1, 2);
+        assertEquals(2, sequence.byteAt(0));
+        assertEquals(3, sequence.byteAt(1));
+    }
+
+    @Test
+    public final void testToByteArray() {
+        assertArrayEquals(new byte[]{2, 3},
+                new ByteSequence(new byte[]{1, 2, 3, 4}, 1, 2).toByteArray());
+    }
+
+    @Test
+    public final void testDecode() {
+        byte[] bytes = {0, 'c', 'a', 'f', (byte) 0xc3, (byte) 0xa9, 0};
+        assertEquals("caf\u00e9",
+                new ByteSequence(bytes, 1, 5).decode(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public final void testSubsequence() {
+        ByteSequence sequence = new ByteSequence(new byte[]{1, 2, 3});
+        assertSame(sequence, sequence.subsequence(0, 3));
+        assertEquals(new ByteSequence(new byte[0]), sequence.subsequence(1, 1));
+        assertEquals(new ByteSequence(new byte[]{2}), sequence.subsequence(1, 2));
+        assertEquals(new ByteSequence(new byte[]{2, 3}), sequence.subsequence(1));
+    }
+
+    @Test
+    public final void testSubsequenceReturnsCanonicalSequence() {
+        ByteSequence sequence = new ByteSequence(new byte[]{1, 2, (byte) 0xFF});
+        assertSame(ByteSequence.valueOf((byte) 2), sequence.subsequence(1, 2));
+        assertSame(ByteSequence.valueOf((byte) 0xFF), sequence.subsequence(2));
+    }
+
+    @Test
+    public final void testGetCommonPrefixLength() {
+        ByteSequence sequence = new ByteSequence(new byte[]{0, 1, 2, 3}, 1, 2);
+        assertEquals(2, sequence.getCommonPrefixLength(new ByteSequence(new byte[]{1, 2, 4}), 0));
+        assertEquals(1, sequence.getCommonPrefixLength(new ByteSequence(new byte[]{9, 1, 9}), 1));
+        assertEquals(0, sequence.getCommonPrefixLength(new ByteSequence(new byte[]{2}), 0));
+    }
+
+    @Test
+    public final void testValueOf() {
+        assertSame(ByteSequence.valueOf((byte) -1), ByteSequence.valueOf((byte) 0xFF));
+        assertEquals(new ByteSequence(new byte[]{-1}), ByteSequence.valueOf((byte) -1));
+    }
+
+    @Test
+    public final void testIntern() {
+        ByteSequence sequence = new ByteSequence(new byte[]{1, 2});
+        assertSame(sequence, sequence.intern());
+        assertSame(ByteSequence.valueOf((byte) 7),
+                new ByteSequence(new byte[]{5, 7, 9}, 1, 1).intern());
+    }
+
+    @Test
+    public final void testInternCopiesRegion() {
+        byte[] bytes = new byte[]{5, 7, 9, 11};
+        ByteSequence sequence = new ByteSequence(bytes, 1, 2);
+        ByteSequence interned = sequence.intern();
+        assertNotSame(sequence, interned);
+        assertEquals(sequence, interned);
+        bytes[1] = 0;
+        assertEquals(new ByteSequence(new byte[]{7, 9}), interned);
+        assertSame(interned, interned.intern());
+    }
+
+    @Test
+    public final void testConcat() {
+        ByteSequence sequence = new ByteSequence(new byte[]{0, 1, 2, 0}, 1, 2);
+        assertEquals(new ByteSequence(new byte[]{1, 2, 3}),
+                sequence.concat(new ByteSequence(new byte[]{3})));
+    }
+
+    @Test
+    public final void testIsEmpty() {
+        assertTrue(new ByteSequence(new byte[0]).isEmpty());
+        assertFalse(new ByteSequence(new byte[]{1}).isEmpty());
+    }
+
+    @Test
+    public final void testLength() {
+        assertEquals(0, new ByteSequence(new byte[0]).length());
+        assertEquals(2, new ByteSequence(new byte[]{1, 2, 3}, 1, 2).length());
+    }
+
+    @Test
+    public final void testCompareTo() {
+        ByteSequence low = new ByteSequence(new byte[]{0x01});
+        ByteSequence high = new ByteSequence(new byte[]{(byte) 0xFF});
+        assertTrue(high.compareTo(low) > 0);
+        assertTrue(low.compareTo(high) < 0);
+        assertEquals(0, low.compareTo(new ByteSequence(new byte[]{0x01})));
+        assertTrue(low.compareTo(new ByteSequence(new byte[]{0x01, 0x00})) < 0);
+    }
+
+    @Test
+    public final void testToString() {
+        assertEquals("00ff10", new ByteSequence(new byte[]{0, (byte) 0xFF, 0x10}).toString());
+    }
+
+    @Test
+    public final void testHashCode() {
+        assertEquals(new ByteSequence(new byte[]{1, 2}).hashCode(),
+                new ByteSequence(new byte[]{0, 1, 2}, 1, 2).hashCode());
+        assertNotEquals(new ByteSequence(new byte[]{1, 2}).hashCode(),
+                new ByteSequence(new byte[]{2, 1}).hashCode());
+    }
+
+    @Test
+    public final void testEquals() {
+        ByteSequence sequence = new ByteSequence(new byte[]{1, 2});
+        assertFalse(sequence.equals(null));
+        assertFalse(sequence.equals(new Object()));
+        assertTrue(sequence.equals(sequence));
+        assertTrue(sequence.equals(new ByteSequence(new byte[]{0, 1, 2}, 1, 2)));
+        assertFalse(sequence.equals(new ByteSequence(new byte[]{1, 3})));
+        assertFalse(sequence.equals(new ByteSequence(new byte[]{1})));
+    }
+
+}
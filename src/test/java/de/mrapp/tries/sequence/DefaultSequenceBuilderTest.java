@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link DefaultSequenceBuilder}.
+ *
+ * @author Michael Rapp
+ */
+public class DefaultSequenceBuilderTest {
+
+    @Test
+    public final void testConstructor() {
+        DefaultSequenceBuilder<StringSequence> builder = new DefaultSequenceBuilder<>();
+        assertEquals(0, builder.length());
+        assertTrue(builder.isEmpty());
+        assertNull(builder.toSequence());
+    }
+
+    @Test
+    public final void testAppend() {
+        DefaultSequenceBuilder<StringSequence> builder = new DefaultSequenceBuilder<>();
+        builder.append(new StringSequence("foo")).append(new StringSequence(""))
+                .append(new StringSequence("bar"));
+        assertEquals(6, builder.length());
+        assertEquals(new StringSequence("foobar"), builder.toSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAppendThrowsExceptionIfSequenceIsNull() {
+        new DefaultSequenceBuilder<StringSequence>().append(null);
+    }
+
+    @Test
+    public final void testTruncate() {
+        DefaultSequenceBuilder<StringSequence> builder = new DefaultSequenceBuilder<>();
+        builder.append(new StringSequence("foo")).append(new StringSequence("bar"));
+        builder.truncate(3);
+        assertEquals(new StringSequence("foo"), builder.toSequence());
+        builder.append(new StringSequence("baz")).truncate(5);
+        assertEquals(new StringSequence("fooba"), builder.toSequence());
+        builder.truncate(0);
+        assertTrue(builder.isEmpty());
+        assertNull(builder.toSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testTruncateThrowsExceptionIfLengthIsNegative() {
+        new DefaultSequenceBuilder<StringSequence>().truncate(-1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testTruncateThrowsExceptionIfLengthIsGreaterThanCurrentLength() {
+        new DefaultSequenceBuilder<StringSequence>().append(new StringSequence("foo")).truncate(4);
+    }
+
+}
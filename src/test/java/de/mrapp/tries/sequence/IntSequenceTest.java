@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link IntSequence}.
+ *
+ * @author Michael Rapp
+ */
+public class IntSequenceTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfArrayIsNull() {
+        new IntSequence((int[]) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfRangeIsInvalid() {
+        new IntSequence(new int[]{1, 2, 3}, 2, 2);
+    }
+
+    @Test
+    public final void testConvertToIntArray() {
+        assertNull(IntSequence.convertToIntArray(null));
+        assertArrayEquals(new int[]{1, 2}, IntSequence.convertToIntArray(new IntSequence(1, 2)));
+    }
+
+    @Test
+    public final void testConvertFromIntArray() {
+        assertNull(IntSequence.convertFromIntArray(null));
+        assertEquals(new IntSequence(1, 2), IntSequence.convertFromIntArray(new int[]{1, 2}));
+    }
+
+    @Test
+    public final void testParse() {
+        assertEquals(new IntSequence(), IntSequence.parse(""));
+        assertEquals(new IntSequence(1), IntSequence.parse("1"));
+        assertEquals(new IntSequence(1, 3, 6, -1), IntSequence.parse("1.3.6.-1"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testParseThrowsExceptionIfElementIsInvalid() {
+        IntSequence.parse("1..2");
+    }
+
+    @Test
+    public final void testIntAt() {
+        IntSequence sequence = new IntSequence(new int[]{1, 2, 3, 4}, 1, 2);
+        assertEquals(2, sequence.intAt(0));
+        assertEquals(3, sequence.intAt(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testIntAtThrowsExceptionIfIndexIsInvalid() {
+        new IntSequence(new int[]{1, 2, 3, 4}, 1, 2).intAt(2);
+    }
+
+    @Test
+    public final void testSubsequence() {
+        IntSequence sequence = new IntSequence(1, 2, 3);
+        assertSame(sequence, sequence.subsequence(0, 3));
+        assertEquals(new IntSequence(), sequence.subsequence(1, 1));
+        assertEquals(new IntSequence(2), sequence.subsequence(1, 2));
+        assertEquals(new IntSequence(2, 3), sequence.subsequence(1));
+    }
+
+    @Test
+    public final void testGetCommonPrefixLength() {
+        IntSequence sequence = new IntSequence(new int[]{0, 1, 2, 3}, 1, 2);
+        assertEquals(2, sequence.getCommonPrefixLength(new IntSequence(1, 2, 4), 0));
+        assertEquals(1, sequence.getCommonPrefixLength(new IntSequence(9, 1, 9), 1));
+        assertEquals(0, sequence.getCommonPrefixLength(new IntSequence(2), 0));
+    }
+
+    @Test
+    public final void testConcat() {
+        IntSequence sequence = new IntSequence(new int[]{0, 1, 2, 0}, 1, 2);
+        assertEquals(new IntSequence(1, 2, 3), sequence.concat(new IntSequence(3)));
+    }
+
+    @Test
+    public final void testLength() {
+        assertEquals(0, new IntSequence().length());
+        assertEquals(2, new IntSequence(new int[]{1, 2, 3}, 1, 2).length());
+    }
+
+    @Test
+    public final void testCompareTo() {
+        assertTrue(new IntSequence(1, 10).compareTo(new IntSequence(1, 9)) > 0);
+        assertTrue(new IntSequence(-1).compareTo(new IntSequence(1)) < 0);
+        assertEquals(0, new IntSequence(1, 2).compareTo(new IntSequence(1, 2)));
+        assertTrue(new IntSequence(1).compareTo(new IntSequence(1, 0)) < 0);
+    }
+
+    @Test
+    public final void testToString() {
+        assertEquals("", new IntSequence().toString());
+        assertEquals("1.3.6.1", new IntSequence(1, 3, 6, 1).toString());
+    }
+
+    @Test
+    public final void testHashCode() {
+        assertEquals(new IntSequence(1, 2).hashCode(),
+                new IntSequence(new int[]{0, 1, 2}, 1, 2).hashCode());
+        assertNotEquals(new IntSequence(1, 2).hashCode(), new IntSequence(2, 1).hashCode());
+    }
+
+    @Test
+    public final void testEquals() {
+        IntSequence sequence = new IntSequence(1, 2);
+        assertFalse(sequence.equals(null));
+        assertFalse(sequence.equals(new Object()));
+        assertTrue(sequence.equals(sequence));
+        assertTrue(sequence.equals(new IntSequence(new int[]{0, 1, 2}, 1, 2)));
+        assertFalse(sequence.equals(new IntSequence(1, 3)));
+        assertFalse(sequence.equals(new IntSequence(1)));
+    }
+
+    @Test
+    public final void testHashCodeAt() {
+        assertEquals(new IntSequence(1, 2, 3).hashCodeAt(1), new IntSequence(4, 2).hashCodeAt(1));
+        assertNotEquals(new IntSequence(1, 2, 3).hashCodeAt(0),
+                new IntSequence(2, 2, 3).hashCodeAt(0));
+    }
+
+}
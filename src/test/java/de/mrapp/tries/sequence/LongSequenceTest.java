@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link LongSequence}.
+ *
+ * @author Michael Rapp
+ */
+public class LongSequenceTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfArrayIsNull() {
+        new LongSequence((long[]) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfRangeIsInvalid() {
+        new LongSequence(new long[]{1, 2, 3}, 2, 2);
+    }
+
+    @Test
+    public final void testConvertToLongArray() {
+        assertNull(LongSequence.convertToLongArray(null));
+        assertArrayEquals(new long[]{1, 2},
+                LongSequence.convertToLongArray(new LongSequence(1, 2)));
+    }
+
+    @Test
+    public final void testConvertFromLongArray() {
+        assertNull(LongSequence.convertFromLongArray(null));
+        assertEquals(new LongSequence(1, 2),
+                LongSequence.convertFromLongArray(new long[]{1, 2}));
+    }
+
+    @Test
+    public final void testParse() {
+        assertEquals(new LongSequence(), LongSequence.parse(""));
+        assertEquals(new LongSequence(1), LongSequence.parse("1"));
+        assertEquals(new LongSequence(1, 3, 6, -1), LongSequence.parse("1.3.6.-1"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testParseThrowsExceptionIfElementIsInvalid() {
+        LongSequence.parse("1..2");
+    }
+
+    @Test
+    public final void testLongAt() {
+        LongSequence sequence = new LongSequence(new long[]{1, 2, 3, 4}, 1, 2);
+        assertEquals(2, sequence.longAt(0));
+        assertEquals(3, sequence.longAt(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testLongAtThrowsExceptionIfIndexIsInvalid() {
+        new LongSequence(new long[]{1, 2, 3, 4}, 1, 2).longAt(2);
+    }
+
+    @Test
+    public final void testSubsequence() {
+        LongSequence sequence = new LongSequence(1, 2, 3);
+        assertSame(sequence, sequence.subsequence(0, 3));
+        assertEquals(new LongSequence(), sequence.subsequence(1, 1));
+        assertEquals(new LongSequence(2), sequence.subsequence(1, 2));
+        assertEquals(new LongSequence(2, 3), sequence.subsequence(1));
+    }
+
+    @Test
+    public final void testGetCommonPrefixLength() {
+        LongSequence sequence = new LongSequence(new long[]{0, 1, 2, 3}, 1, 2);
+        assertEquals(2, sequence.getCommonPrefixLength(new LongSequence(1, 2, 4), 0));
+        assertEquals(1, sequence.getCommonPrefixLength(new LongSequence(9, 1, 9), 1));
+        assertEquals(0, sequence.getCommonPrefixLength(new LongSequence(2), 0));
+    }
+
+    @Test
+    public final void testConcat() {
+        LongSequence sequence = new LongSequence(new long[]{0, 1, 2, 0}, 1, 2);
+        assertEquals(new LongSequence(1, 2, 3), sequence.concat(new LongSequence(3)));
+    }
+
+    @Test
+    public final void testLength() {
+        assertEquals(0, new LongSequence().length());
+        assertEquals(2, new LongSequence(new long[]{1, 2, 3}, 1, 2).length());
+    }
+
+    @Test
+    public final void testCompareTo() {
+        assertTrue(new LongSequence(1, 10).compareTo(new LongSequence(1, 9)) > 0);
+        assertTrue(new LongSequence(-1).compareTo(new LongSequence(1)) < 0);
+        assertEquals(0, new LongSequence(1, 2).compareTo(new LongSequence(1, 2)));
+        assertTrue(new LongSequence(Long.MAX_VALUE)
+                .compareTo(new LongSequence(Integer.MAX_VALUE)) > 0);
+        assertTrue(new LongSequence(1).compareTo(new LongSequence(1, 0)) < 0);
+    }
+
+    @Test
+    public final void testToString() {
+        assertEquals("", new LongSequence().toString());
+        assertEquals("1.3.6.1", new LongSequence(1, 3, 6, 1).toString());
+    }
+
+    @Test
+    public final void testHashCode() {
+        assertEquals(new LongSequence(1, 2).hashCode(),
+                new LongSequence(new long[]{0, 1, 2}, 1, 2).hashCode());
+        assertNotEquals(new LongSequence(1, 2).hashCode(),
+                new LongSequence(2, 1).hashCode());
+    }
+
+    @Test
+    public final void testEquals() {
+        LongSequence sequence = new LongSequence(1, 2);
+        assertFalse(sequence.equals(null));
+        assertFalse(sequence.equals(new Object()));
+        assertTrue(sequence.equals(sequence));
+        assertTrue(sequence.equals(new LongSequence(new long[]{0, 1, 2}, 1, 2)));
+        assertFalse(sequence.equals(new LongSequence(1, 3)));
+        assertFalse(sequence.equals(new LongSequence(1)));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.sequence;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link StringSequenceBuilder}.
+ *
+ * @author Michael Rapp
+ */
+public class StringSequenceBuilderTest {
+
+    @Test
+    public final void testConstructor() {
+        StringSequenceBuilder builder = new StringSequenceBuilder();
+        assertEquals(0, builder.length());
+        assertTrue(builder.isEmpty());
+        assertNull(builder.toSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfCapacityIsLessThanOne() {
+        new StringSequenceBuilder(0);
+    }
+
+    @Test
+    public final void testAppend() {
+        StringSequenceBuilder builder = new StringSequenceBuilder(2);
+        builder.append(new StringSequence("foo")).append(new StringSequence("bar"));
+        assertEquals(6, builder.length());
+        assertFalse(builder.isEmpty());
+        assertEquals(new StringSequence("foobar"), builder.toSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testAppendThrowsExceptionIfSequenceIsNull() {
+        new StringSequenceBuilder().append(null);
+    }
+
+    @Test
+    public final void testTruncate() {
+        StringSequenceBuilder builder = new StringSequenceBuilder();
+        builder.append(new StringSequence("foo")).append(new StringSequence("bar"));
+        builder.truncate(2).append(new StringSequence("x"));
+        assertEquals(3, builder.length());
+        assertEquals(new StringSequence("fox"), builder.toSequence());
+        builder.truncate(0);
+        assertTrue(builder.isEmpty());
+        assertNull(builder.toSequence());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testTruncateThrowsExceptionIfLengthIsNegative() {
+        new StringSequenceBuilder().truncate(-1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testTruncateThrowsExceptionIfLengthIsGreaterThanCurrentLength() {
+        new StringSequenceBuilder().append(new StringSequence("foo")).truncate(4);
+    }
+
+    @Test
+    public final void testToSequenceIsNotAffectedBySubsequentModifications() {
+        StringSequenceBuilder builder = new StringSequenceBuilder();
+        builder.append(new StringSequence("foo"));
+        StringSequence sequence = builder.toSequence();
+        builder.truncate(1).append(new StringSequence("bar"));
+        assertEquals(new StringSequence("foo"), sequence);
+        assertEquals(new StringSequence("fbar"), builder.toSequence());
+    }
+
+    @Test
+    public final void testCreateBuilder() {
+        assertTrue(new StringSequence("foo").createBuilder() instanceof StringSequenceBuilder);
+    }
+
+    @Test
+    public final void testToString() {
+        StringSequenceBuilder builder = new StringSequenceBuilder();
+        builder.append(new StringSequence("foo"));
+        assertEquals("foo", builder.toString());
+    }
+
+}
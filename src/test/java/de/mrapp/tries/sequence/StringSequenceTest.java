@@ -15,6 +15,11 @@ package de.mrapp.tries.sequence;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static org.junit.Assert.*;
 
 /**
@@ -53,6 +58,54 @@ public class StringSequenceTest {
         assertEquals(new StringSequence("23"), new StringSequence("123").subsequence(1, 3));
     }
 
+    @Test
+    public final void testSubsequenceReturnsCanonicalSequence() {
+        StringSequence sequence = new StringSequence("a\u4e2d");
+        assertSame(StringSequence.valueOf('a'), sequence.subsequence(0, 1));
+        assertEquals(new StringSequence("\u4e2d"), sequence.subsequence(1, 2));
+    }
+
+    @Test
+    public final void testGetCommonPrefixLength() {
+        StringSequence sequence = new StringSequence("foo");
+        assertEquals(3, sequence.getCommonPrefixLength(new StringSequence("foobar"), 0));
+        assertEquals(2, sequence.getCommonPrefixLength(new StringSequence("xfox"), 1));
+        assertEquals(1, sequence.getCommonPrefixLength(new StringSequence("xf"), 1));
+        assertEquals(0, sequence.getCommonPrefixLength(new StringSequence("foo"), 3));
+        assertEquals(0, sequence.getCommonPrefixLength(new StringSequence("bar"), 0));
+    }
+
+    @Test
+    public final void testValueOf() {
+        assertSame(StringSequence.valueOf('/'), StringSequence.valueOf('/'));
+        assertEquals(new StringSequence("/"), StringSequence.valueOf('/'));
+        assertSame(StringSequence.valueOf('\u00ff'), StringSequence.valueOf('\u00ff'));
+        assertEquals(new StringSequence("\u4e2d"), StringSequence.valueOf('\u4e2d'));
+    }
+
+    @Test
+    public final void testIntern() {
+        StringSequence sequence = new StringSequence("foo");
+        assertSame(sequence, sequence.intern());
+        assertSame(StringSequence.valueOf('e'), new StringSequence("e").intern());
+        StringSequence nonLatin = new StringSequence("\u4e2d");
+        assertSame(nonLatin, nonLatin.intern());
+    }
+
+    @Test
+    public final void testDeserializationReturnsCanonicalSequence() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new StringSequence("s"));
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertSame(StringSequence.valueOf('s'), objectInputStream.readObject());
+        }
+    }
+
     @Test
     public final void testIsEmpty() {
         assertTrue(new StringSequence("").isEmpty());
@@ -96,4 +149,19 @@ public class StringSequenceTest {
         assertFalse(new StringSequence("foo").equals(new StringSequence("")));
     }
 
-}
\ No newline at end of file
+    @Test
+    public final void testHashCodeAt() {
+        assertEquals(new StringSequence("foo").hashCodeAt(1),
+                new StringSequence("bor").hashCodeAt(1));
+        assertEquals(new StringSequence("foo").hashCodeAt(0),
+                new StringSequence("foo").subsequence(0, 1).hashCodeAt(0));
+        assertNotEquals(new StringSequence("foo").hashCodeAt(0),
+                new StringSequence("bar").hashCodeAt(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testHashCodeAtThrowsExceptionIfIndexIsInvalid() {
+        new StringSequence("foo").hashCodeAt(3);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.tries.structure;
+
+import de.mrapp.tries.Node;
+import de.mrapp.tries.datastructure.node.SortedListNode;
+import de.mrapp.tries.sequence.StringSequence;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the functionality of the class {@link Cursor}.
+ *
+ * @author Michael Rapp
+ */
+public class CursorTest {
+
+    @Test
+    public final void testConstructor() {
+        Node<StringSequence, String> node = new SortedListNode<>(null);
+        StringSequence sequence = new StringSequence("foo");
+        Cursor<StringSequence, String> cursor = new Cursor<>(node, sequence);
+        assertSame(node, cursor.getNode());
+        assertSame(sequence, cursor.getSequence());
+        assertEquals(0, cursor.getPosition());
+        assertNull(cursor.getEdge());
+        assertEquals(-1, cursor.getIndex());
+        assertEquals(0, cursor.getMatchedLength());
+        assertTrue(cursor.hasRemaining());
+        assertEquals(3, cursor.getRemainingLength());
+        assertEquals(sequence, cursor.getSuffix());
+    }
+
+    @Test
+    public final void testConstructorWithNullSequence() {
+        Cursor<StringSequence, String> cursor = new Cursor<>(new SortedListNode<>(null), null);
+        assertFalse(cursor.hasRemaining());
+        assertEquals(0, cursor.getRemainingLength());
+        assertNull(cursor.getSuffix());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionIfNodeIsNull() {
+        new Cursor<StringSequence, String>(null, new StringSequence("foo"));
+    }
+
+    @Test
+    public final void testAdvance() {
+        Node<StringSequence, String> node = new SortedListNode<>(null);
+        StringSequence edge = new StringSequence("fo");
+        Node<StringSequence, String> successor = node.addSuccessor(edge);
+        Cursor<StringSequence, String> cursor = new Cursor<>(node, new StringSequence("foo"));
+        cursor.advance(successor, edge, 0, 2);
+        assertSame(successor, cursor.getNode());
+        assertSame(edge, cursor.getEdge());
+        assertEquals(0, cursor.getIndex());
+        assertEquals(2, cursor.getMatchedLength());
+        assertEquals(2, cursor.getPosition());
+        assertEquals(1, cursor.getRemainingLength());
+        assertEquals(new StringSequence("o"), cursor.getSuffix());
+    }
+
+    @Test
+    public final void testReset() {
+        Node<StringSequence, String> node = new SortedListNode<>(null);
+        StringSequence edge = new StringSequence("f");
+        Node<StringSequence, String> successor = node.addSuccessor(edge);
+        Cursor<StringSequence, String> cursor = new Cursor<>(node, new StringSequence("foo"));
+        cursor.advance(successor, edge, 0, 1);
+        StringSequence sequence = new StringSequence("bar");
+        assertSame(cursor, cursor.reset(successor, sequence));
+        assertSame(successor, cursor.getNode());
+        assertSame(sequence, cursor.getSequence());
+        assertEquals(0, cursor.getPosition());
+        assertNull(cursor.getEdge());
+        assertEquals(-1, cursor.getIndex());
+        assertEquals(0, cursor.getMatchedLength());
+    }
+
+}
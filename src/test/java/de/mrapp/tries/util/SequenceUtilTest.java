@@ -13,7 +13,9 @@
  */
 package de.mrapp.tries.util;
 
+import de.mrapp.tries.SequenceBuilder;
 import de.mrapp.tries.sequence.StringSequence;
+import de.mrapp.tries.sequence.StringSequenceBuilder;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -82,6 +84,51 @@ public class SequenceUtilTest {
         assertEquals(sequence, SequenceUtil.concat(sequence, null));
     }
 
+    @Test
+    public final void testCreateBuilder() {
+        SequenceBuilder<StringSequence> builder =
+                SequenceUtil.createBuilder(new StringSequence("foo"));
+        assertTrue(builder instanceof StringSequenceBuilder);
+        assertTrue(builder.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testCreateBuilderThrowsException() {
+        SequenceUtil.createBuilder(null);
+    }
+
+    @Test
+    public final void testAppend() {
+        assertNull(SequenceUtil.append(null, null));
+        SequenceBuilder<StringSequence> builder =
+                SequenceUtil.append(null, new StringSequence("foo"));
+        assertNotNull(builder);
+        assertSame(builder, SequenceUtil.append(builder, null));
+        assertSame(builder, SequenceUtil.append(builder, new StringSequence("bar")));
+        assertEquals(new StringSequence("foobar"), builder.toSequence());
+    }
+
+    @Test
+    public final void testStartsWith() {
+        StringSequence sequence = new StringSequence("foo");
+        assertTrue(SequenceUtil.startsWith(sequence, new StringSequence("fo")));
+        assertTrue(SequenceUtil.startsWith(sequence, sequence));
+        assertFalse(SequenceUtil.startsWith(sequence, new StringSequence("oo")));
+        assertFalse(SequenceUtil.startsWith(sequence, new StringSequence("fooo")));
+    }
+
+    @Test
+    public final void testStartsWithIfPrefixIsEmpty() {
+        assertTrue(SequenceUtil.startsWith(new StringSequence("foo"), null));
+        assertTrue(SequenceUtil.startsWith(null, new StringSequence("")));
+    }
+
+    @Test
+    public final void testStartsWithIfSequenceIsEmpty() {
+        assertFalse(SequenceUtil.startsWith(null, new StringSequence("foo")));
+        assertFalse(SequenceUtil.startsWith(new StringSequence(""), new StringSequence("foo")));
+    }
+
     @Test
     public final void testCompareIfFirstKeyIsNullAndSecondKeyIsNotNull() {
         Comparator<? super StringSequence> sequenceComparator = SequenceUtil.comparator(null);